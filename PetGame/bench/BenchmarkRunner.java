@@ -0,0 +1,252 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Small benchmark harness that measures the average time of an operation and writes its results
+ * in the same JSON layout as JMH's {@code -rf json}, so the results can be compared with the usual JMH tools.
+ * <br><br>
+ * Each benchmark runs in warmup iterations that are thrown away and then measurement iterations.
+ * In every iteration the operation is run in batches between clock reads, so the cost of reading
+ * the clock does not count towards fast operations.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		BenchmarkRunner runner = new BenchmarkRunner(5, 5, 1000, null);
+ * 		runner.run("PetGameBenchmarks.configParse", bh -> bh.consume(GameConfig.parse(json)));
+ * 		runner.writeJson(Paths.get("bench-results.json"));
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public class BenchmarkRunner {
+	/**
+	 * An operation to measure. Results are passed to the {@link Blackhole} so the JIT can not remove the work.
+	 */
+	public interface Benchmark {
+		void run(Blackhole blackhole) throws Exception;
+	}
+
+	/**
+	 * Sink for benchmark results.
+	 */
+	public static final class Blackhole {
+		private volatile int sink;
+		private int mix;
+
+		public void consume(Object value) {
+			mix = mix * 31 + System.identityHashCode(value);
+		}
+
+		public void consume(int value) {
+			mix = mix * 31 + value;
+		}
+
+		public void consume(long value) {
+			mix = mix * 31 + (int) (value ^ (value >>> 32));
+		}
+
+		public void consume(boolean value) {
+			mix = mix * 31 + (value ? 1 : 0);
+		}
+
+		private void flush() {
+			sink = mix;
+		}
+	}
+
+	/** Target time for one batch of operations between clock reads */
+	private static final long BATCH_NANOS = 100_000L;
+
+	private final int warmupIterations;
+	private final int measurementIterations;
+	private final long iterationNanos;
+	private final Pattern filter;
+	private final List<Result> results = new ArrayList<>();
+
+	/**
+	 * Creates a harness.
+	 *
+	 * @param warmupIterations iterations run before measuring
+	 * @param measurementIterations iterations measured
+	 * @param iterationMillis length of each iteration
+	 * @param filter only benchmarks whose name contains a match are run, or null for all
+	 */
+	public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis, String filter) {
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+		this.iterationNanos = iterationMillis * 1_000_000L;
+		this.filter = (filter == null) ? null : Pattern.compile(filter);
+	}
+
+	/**
+	 * Checks if a benchmark is selected by the filter.
+	 *
+	 * @param name the benchmark's name
+	 * @return true if it should run
+	 */
+	public boolean selected(String name) {
+		return filter == null || filter.matcher(name).find();
+	}
+
+	/**
+	 * Runs a benchmark if it is selected and prints its score.
+	 *
+	 * @param name the benchmark's name
+	 * @param benchmark the operation to measure
+	 * @throws Exception if the operation fails
+	 */
+	public void run(String name, Benchmark benchmark) throws Exception {
+		if (!selected(name)) {
+			return;
+		}
+
+		Blackhole blackhole = new Blackhole();
+
+		//Find a batch size that takes about BATCH_NANOS
+		long batch = 1;
+		while (true) {
+			long start = System.nanoTime();
+			for (long i = 0; i < batch; i++) {
+				benchmark.run(blackhole);
+			}
+			if (System.nanoTime() - start >= BATCH_NANOS || batch >= (1L << 30)) {
+				break;
+			}
+			batch *= 2;
+		}
+
+		for (int i = 0; i < warmupIterations; i++) {
+			iteration(benchmark, blackhole, batch);
+		}
+
+		double[] scores = new double[measurementIterations];
+		for (int i = 0; i < measurementIterations; i++) {
+			scores[i] = iteration(benchmark, blackhole, batch);
+		}
+		blackhole.flush();
+
+		Result result = new Result(name, scores);
+		results.add(result);
+		System.out.printf(Locale.ROOT, "%-50s %14.1f +- %10.1f ns/op%n", name, result.mean, result.error);
+	}
+
+	/**
+	 * Runs batches of the operation for one iteration.
+	 *
+	 * @return the average time per operation in nanoseconds
+	 */
+	private double iteration(Benchmark benchmark, Blackhole blackhole, long batch) throws Exception {
+		long operations = 0;
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			for (long i = 0; i < batch; i++) {
+				benchmark.run(blackhole);
+			}
+			operations += batch;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < iterationNanos);
+
+		return (double) elapsed / operations;
+	}
+
+	/**
+	 * Writes every result as a JMH style JSON array.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file can not be written
+	 */
+	public void writeJson(Path file) throws IOException {
+		StringBuilder json = new StringBuilder("[\n");
+		for (int i = 0; i < results.size(); i++) {
+			Result result = results.get(i);
+			json.append("    {\n");
+			json.append("        \"jmhVersion\" : \"compatible\",\n");
+			json.append("        \"benchmark\" : \"").append(result.name).append("\",\n");
+			json.append("        \"mode\" : \"avgt\",\n");
+			json.append("        \"threads\" : 1,\n");
+			json.append("        \"forks\" : 1,\n");
+			json.append("        \"jdkVersion\" : \"").append(System.getProperty("java.version")).append("\",\n");
+			json.append("        \"warmupIterations\" : ").append(warmupIterations).append(",\n");
+			json.append("        \"warmupTime\" : \"").append(iterationNanos / 1_000_000L).append(" ms\",\n");
+			json.append("        \"measurementIterations\" : ").append(measurementIterations).append(",\n");
+			json.append("        \"measurementTime\" : \"").append(iterationNanos / 1_000_000L).append(" ms\",\n");
+			json.append("        \"primaryMetric\" : {\n");
+			json.append("            \"score\" : ").append(number(result.mean)).append(",\n");
+			json.append("            \"scoreError\" : ").append(number(result.error)).append(",\n");
+			json.append("            \"scoreConfidence\" : [").append(number(result.mean - result.error)).append(", ")
+					.append(number(result.mean + result.error)).append("],\n");
+			json.append("            \"scoreUnit\" : \"ns/op\",\n");
+			json.append("            \"rawData\" : [[");
+			for (int s = 0; s < result.scores.length; s++) {
+				json.append((s == 0) ? "" : ", ").append(number(result.scores[s]));
+			}
+			json.append("]]\n");
+			json.append("        },\n");
+			json.append("        \"secondaryMetrics\" : {}\n");
+			json.append("    }").append((i + 1 < results.size()) ? ",\n" : "\n");
+		}
+		json.append("]\n");
+
+		Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String number(double value) {
+		return Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "\"NaN\"";
+	}
+
+	/**
+	 * Scores of one benchmark with a 99.9% confidence interval, as JMH reports it.
+	 */
+	private static final class Result {
+		private final String name;
+		private final double[] scores;
+		private final double mean;
+		private final double error;
+
+		private Result(String name, double[] scores) {
+			this.name = name;
+			this.scores = scores;
+
+			double sum = 0;
+			for (double score : scores) {
+				sum += score;
+			}
+			mean = sum / scores.length;
+
+			if (scores.length < 2) {
+				error = Double.NaN;
+				return;
+			}
+			double squares = 0;
+			for (double score : scores) {
+				squares += (score - mean) * (score - mean);
+			}
+			double deviation = Math.sqrt(squares / (scores.length - 1));
+			error = studentT999(scores.length - 1) * deviation / Math.sqrt(scores.length);
+		}
+
+		/**
+		 * Two sided 99.9% quantile of Student's t distribution, from a table.
+		 * Between table rows the next smaller degree of freedom is used, so the error is never understated.
+		 */
+		private static double studentT999(int degrees) {
+			double[] table = {636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587};
+			if (degrees <= table.length) {
+				return table[degrees - 1];
+			}
+			if (degrees <= 20) {
+				return 4.437;
+			}
+			return (degrees <= 30) ? 3.850 : 3.646;
+		}
+	}
+}
@@ -0,0 +1,302 @@
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.SwingUtilities;
+
+/**
+ * Benchmarks for the game's hot paths: config parsing, saving and loading, inventory operations,
+ * stat updates, the household decay tick, journal appends and replays, and painting the main game screen.
+ * <br><br>
+ * Run from {@code PetGame/src} so the config file and images are found. Benchmarks that need a window
+ * are skipped when there is no display. Results are printed and written as JMH style JSON.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		java -cp ../bin PetGameBenchmarks --out bench-results.json Save
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//one line per benchmark with its average time in ns/op</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PetGameBenchmarks {
+	/** Items in the inventory string used by the inventory benchmarks */
+	private static final String INVENTORY =
+			"Apple,food,Restores 10 hunger\n"
+			+ "Carrot,food,Restores 5 hunger\n"
+			+ "Toy,gift,Increases happiness +10\n"
+			+ "Ball,gift,Increases happiness +9\n";
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args {@code --warmup N}, {@code --iterations N}, {@code --time MILLIS}, {@code --out FILE}
+	 *             and an optional pattern that benchmark names must contain
+	 * @throws Exception if a benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		int warmup = 5;
+		int iterations = 5;
+		long time = 1000;
+		Path out = Paths.get("bench-results.json");
+		String filter = null;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--warmup":
+					warmup = Integer.parseInt(args[++i]);
+					break;
+				case "--iterations":
+					iterations = Integer.parseInt(args[++i]);
+					break;
+				case "--time":
+					time = Long.parseLong(args[++i]);
+					break;
+				case "--out":
+					out = Paths.get(args[++i]);
+					break;
+				default:
+					filter = args[i];
+			}
+		}
+
+		BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, time, filter);
+		runHeadless(runner);
+
+		if (GraphicsEnvironment.isHeadless()) {
+			System.out.println("No display, skipping the inventory and painting benchmarks");
+		} else {
+			runWithDisplay(runner);
+		}
+
+		runner.writeJson(out);
+		System.out.println("Results written to " + out.toAbsolutePath());
+	}
+
+	/**
+	 * Benchmarks that do not need a window.
+	 */
+	private static void runHeadless(BenchmarkRunner runner) throws Exception {
+		//GameState json
+		GameState state = sampleState();
+		String stateJson = state.toJson();
+		runner.run("PetGameBenchmarks.gameStateToJson", bh -> bh.consume(state.toJson()));
+		runner.run("PetGameBenchmarks.gameStateFromJson", bh -> bh.consume(GameState.fromJson(stateJson)));
+
+		//Config parsing and the cooldown lookup the action screens do
+		String configJson = new String(Files.readAllBytes(Paths.get(GameConfig.CONFIG_FILE)), StandardCharsets.UTF_8);
+		runner.run("PetGameBenchmarks.configParse", bh -> bh.consume(GameConfig.parse(configJson)));
+		GameConfig config = GameConfig.get();
+		runner.run("PetGameBenchmarks.cooldownLookup", bh -> bh.consume(config.getCooldown(PetAction.SLEEP.getKey())));
+
+		//The play time check every action does, with the configuration's restrictions
+		PlaytimeGuard guard = PlaytimeGuard.get();
+		runner.run("PetGameBenchmarks.playtimeCheck", bh -> bh.consume(guard.isPlayAllowed()));
+
+		//Stat updates
+		PetSimulationEngine engine = PetSimulationEngine.getDefault();
+		int[] stats = {70, 100, 70, 70};
+		PetAction[] actions = PetAction.values();
+		int[] next = {0};
+		runner.run("PetGameBenchmarks.statUpdate", bh -> {
+			//Reset before the pet dies so every call does the same work
+			if (engine.isDead(stats)) {
+				stats[0] = 70; stats[1] = 100; stats[2] = 70; stats[3] = 70;
+			}
+			bh.consume(engine.apply(actions[next[0]++ & 3], stats));
+		});
+
+		//Decay tick over a large household
+		Household household = new Household();
+		for (int pet = 0; pet < 10_000; pet++) {
+			household.adopt("Pet " + pet, 1, 100, 100, 100, 100);
+		}
+		StatDecay decay = new StatDecay(new int[] {1, 0, 1, 1}, 1, 0);
+		long[] tick = {0};
+		//Once the stats reach 0 every column is still walked, so every call does the same work
+		runner.run("PetGameBenchmarks.householdTick10k", bh -> bh.consume(household.tick(decay, ++tick[0])));
+
+		//One animation frame of a stat bar: step it and paint it, on the event dispatch thread like the game
+		Exception[] failure = new Exception[1];
+		SwingUtilities.invokeAndWait(() -> {
+			long[] now = {0};
+			StatBar bar = new StatBar(Color.YELLOW, 70, new AnimationClock(() -> now[0]));
+			bar.setSize(bar.getPreferredSize());
+			BufferedImage image = new BufferedImage(bar.getWidth(), bar.getHeight(), BufferedImage.TYPE_INT_RGB);
+			Graphics2D g = image.createGraphics();
+			int[] frame = {0};
+			try {
+				runner.run("PetGameBenchmarks.statBarFrame", bh -> {
+					//A new value every 16 frames, so every frame is part of a slide
+					if (frame[0]++ % 16 == 0) {
+						bar.setValue((bar.getValue() == 70) ? 30 : 70);
+					}
+					now[0] += AnimationClock.FRAME_MILLIS * 1_000_000L;
+					bh.consume(bar.step(now[0]));
+					bar.paint(g);
+				});
+			} catch (Exception e) {
+				failure[0] = e;
+			}
+			//Let the last slide finish so the clock's timer stops and the program can exit
+			now[0] += StatBar.TRANSITION_MILLIS * 2_000_000L;
+			g.dispose();
+		});
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+
+		//Journal appends, with the flusher forcing the file in the background
+		Path journalDirectory = Files.createTempDirectory("bench-journal");
+		ActionJournal[] journal = {ActionJournal.open(journalDirectory, System.currentTimeMillis(), 0, GameConfig.DEFAULT_JOURNAL_FLUSH_MILLIS)};
+		long before = PetState.pack(0, 70, 100, 70, 70);
+		long after = PetState.pack(20, 70, 100, 70, 80);
+		try {
+			runner.run("PetGameBenchmarks.journalAppend", bh -> {
+				//Start a new file every million entries so the benchmark does not fill the disk
+				if (journal[0].size() == 1_000_000) {
+					journal[0].close();
+					Files.delete(journal[0].getFile());
+					journal[0] = ActionJournal.open(journalDirectory, System.currentTimeMillis(), 0, GameConfig.DEFAULT_JOURNAL_FLUSH_MILLIS);
+				}
+				journal[0].append(ActionJournal.ACTION, 0, before, after);
+			});
+		} finally {
+			journal[0].close();
+			Files.deleteIfExists(journal[0].getFile());
+		}
+
+		//Replaying a session of a million entries, and seeking anywhere in it once its snapshots are taken
+		ActionJournal session = ActionJournal.open(journalDirectory, System.currentTimeMillis(), 1, GameConfig.DEFAULT_JOURNAL_FLUSH_MILLIS);
+		try {
+			session.append(ActionJournal.START, 1, 0L, before);
+			for (int i = 1; i < 1_000_000; i++) {
+				session.append(ActionJournal.ACTION, i & 3, (i & 1) == 0 ? after : before, (i & 1) == 0 ? before : after);
+			}
+			session.close();
+			JournalReplayer replayer = new JournalReplayer(journalDirectory);
+			runner.run("PetGameBenchmarks.journalIndex1M", bh -> bh.consume(new JournalReplayer.Session(
+					new ActionJournal.Reader(session.getFile()), ItemCatalog.get()).size()));
+			JournalReplayer.Session indexed = replayer.session(0);
+			int[] point = {0};
+			runner.run("PetGameBenchmarks.journalSeek1M", bh -> {
+				point[0] = (point[0] + 387_419) % indexed.size();
+				bh.consume(indexed.stateAfter(point[0]));
+			});
+		} finally {
+			session.close();
+			Files.deleteIfExists(session.getFile());
+			Files.deleteIfExists(journalDirectory);
+		}
+
+		//Saving and loading
+		runner.run("PetGameBenchmarks.saveEncodeDecode", bh -> bh.consume(SaveFile.decode(SaveFile.encode(state))));
+		Path saveFile = Files.createTempFile("bench", ".dat");
+		try {
+			runner.run("PetGameBenchmarks.saveLoadRoundTrip", bh -> {
+				SaveFile.write(saveFile, state);
+				bh.consume(SaveFile.read(saveFile));
+			});
+			SaveFile.write(saveFile, state);
+			runner.run("PetGameBenchmarks.saveReadFull", bh -> bh.consume(SaveFile.read(saveFile)));
+			runner.run("PetGameBenchmarks.saveReadHeader", bh -> bh.consume(SaveFile.readHeader(saveFile)));
+		} finally {
+			Files.deleteIfExists(saveFile);
+		}
+
+		//Saving and loading a profile costs the same with 10 or 1,000 profiles in the store
+		for (int count : new int[] {10, 1_000}) {
+			Path storeDirectory = Files.createTempDirectory("bench-profiles");
+			Path storeFile = storeDirectory.resolve(ProfileStore.FILE);
+			ProfileStore store = new ProfileStore(storeFile, ProfileStore.COMPACT_MIN_BYTES);
+			try {
+				for (int i = 0; i < count; i++) {
+					store.save("Player " + i, state);
+				}
+				int[] player = {0};
+				runner.run("PetGameBenchmarks.profileSave" + count, bh -> {
+					player[0] = (player[0] + 7) % count;
+					bh.consume(store.save("Player " + player[0], state));
+				});
+				runner.run("PetGameBenchmarks.profileLoad" + count, bh -> {
+					player[0] = (player[0] + 7) % count;
+					bh.consume(store.load("Player " + player[0]));
+				});
+			} finally {
+				store.close();
+				Files.deleteIfExists(storeFile);
+				Files.deleteIfExists(storeDirectory.resolve(ProfileStore.FILE + ".tmp"));
+				Files.deleteIfExists(storeDirectory);
+			}
+		}
+	}
+
+	/**
+	 * Benchmarks that build Swing windows. They run on the event dispatch thread, like the game does.
+	 */
+	private static void runWithDisplay(BenchmarkRunner runner) throws Exception {
+		Exception[] failure = new Exception[1];
+		SwingUtilities.invokeAndWait(() -> {
+			try {
+				//Inventory operations, starting from the same inventory every time
+				InventoryScreen inventory = new InventoryScreen(null);
+				runner.run("PetGameBenchmarks.inventoryCustomAddItems", bh -> inventory.customAddItems(INVENTORY));
+				inventory.customAddItems(INVENTORY);
+				runner.run("PetGameBenchmarks.inventoryToString", bh -> bh.consume(inventory.inventoryToString()));
+				runner.run("PetGameBenchmarks.addFoodRandom", bh -> {
+					inventory.customAddItems(INVENTORY);
+					bh.consume(inventory.addFoodRandom());
+				});
+				runner.run("PetGameBenchmarks.addGiftRandom", bh -> {
+					inventory.customAddItems(INVENTORY);
+					bh.consume(inventory.addGiftRandom());
+				});
+				inventory.dispose();
+
+				//Painting the main game screen into an offscreen image
+				if (runner.selected("PetGameBenchmarks.gameplayPaint")) {
+					GameplayGUI gui = new GameplayGUI(0, 70, 100, 70, 70, 1, null);
+					gui.setVisible(false);
+					BufferedImage image = new BufferedImage(gui.getWidth(), gui.getHeight(), BufferedImage.TYPE_INT_RGB);
+					Graphics2D g = image.createGraphics();
+					runner.run("PetGameBenchmarks.gameplayPaint", bh -> gui.paint(g));
+					g.dispose();
+					gui.getInventory().dispose();
+					gui.dispose();
+				}
+			} catch (Exception e) {
+				failure[0] = e;
+			}
+		});
+
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+	}
+
+	private static GameState sampleState() {
+		GameState state = new GameState();
+		state.setScore(1240);
+		state.setHappiness(72);
+		state.setHealth(100);
+		state.setSleep(40);
+		state.setHunger(55);
+		state.setPetNumber(2);
+
+		List<GameState.ItemStack> items = new ArrayList<>();
+		items.add(new GameState.ItemStack("Apple", "food", "Restores 10 hunger", 3));
+		items.add(new GameState.ItemStack("Steak", "food", "Restores 20 hunger", 1));
+		items.add(new GameState.ItemStack("Teddy Bear", "gift", "Increases happiness +15", 2));
+		state.setInventory(items);
+		return state;
+	}
+}
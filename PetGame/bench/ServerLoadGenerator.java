@@ -0,0 +1,166 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process load generator for {@link PetGameServer}.
+ * <br><br>
+ * Starts a server, opens many sessions and then has a number of client threads send random feed, play,
+ * sleep, vet and item requests to random sessions as fast as they can. Prints the throughput and the
+ * latency percentiles of the action requests. The round trip is measured from sending a request to
+ * reading the response, and the action time is the server's own time from its {@code Server-Timing} header.
+ * Responses that say the action is still cooling down count as answered requests.<br><br>
+ *
+ * Run from {@code PetGame/src} so the config file is found.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		java -cp ../bin ServerLoadGenerator --sessions 20000 --requests 200000 --clients 32
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//sessions, requests per second and p50/p99/p99.9 round trip and action times in microseconds</code><br>
+ *
+ * @version 1.0.0
+ */
+public class ServerLoadGenerator {
+	private static final String[] OPERATIONS = {"feed", "play", "sleep", "vet", "use?item=Apple"};
+
+	/**
+	 * Runs the load test.
+	 *
+	 * @param args {@code --sessions N}, {@code --requests N}, {@code --clients N} and {@code --seed N}
+	 * @throws Exception if the server can not be started or a request fails
+	 */
+	public static void main(String[] args) throws Exception {
+		int sessionCount = 10_000;
+		int requests = 100_000;
+		int clients = 16;
+		long seed = 1;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--sessions":
+					sessionCount = Integer.parseInt(args[++i]);
+					break;
+				case "--requests":
+					requests = Integer.parseInt(args[++i]);
+					break;
+				case "--clients":
+					clients = Integer.parseInt(args[++i]);
+					break;
+				case "--seed":
+					seed = Long.parseLong(args[++i]);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+
+		Path saves = Files.createTempDirectory("pet-server");
+		PetGameServer server = new PetGameServer(0, GameConfig.get(), saves);
+		try {
+			String base = "http://127.0.0.1:" + server.getPort() + "/sessions";
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+			//Open the sessions
+			long start = System.nanoTime();
+			for (int i = 0; i < sessionCount; i++) {
+				send(client, base);
+			}
+			System.out.printf(Locale.ROOT, "Opened %d sessions in %d ms%n", server.getSessionCount(), (System.nanoTime() - start) / 1_000_000);
+
+			//Warm up, then measure
+			run(client, base, sessionCount, Math.min(requests, 20_000), clients, seed);
+			long[] latencies = new long[requests];
+			long[] serverTimes = new long[requests];
+			start = System.nanoTime();
+			run(client, base, sessionCount, requests, clients, seed + 1, latencies, serverTimes);
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			System.out.printf(Locale.ROOT, "%d action requests from %d clients in %.2f s (%.0f requests/s)%n",
+					requests, clients, seconds, requests / seconds);
+			print("round trip", latencies);
+			print("action", serverTimes);
+		} finally {
+			server.stop();
+		}
+	}
+
+	private static void run(HttpClient client, String base, int sessionCount, int requests, int clients, long seed) throws Exception {
+		run(client, base, sessionCount, requests, clients, seed, new long[requests], new long[requests]);
+	}
+
+	/**
+	 * Sends requests from several client threads, recording each request's round trip and server time in nanoseconds.
+	 */
+	private static void run(HttpClient client, String base, int sessionCount, int requests, int clients, long seed,
+			long[] latencies, long[] serverTimes) throws Exception {
+		AtomicLong next = new AtomicLong();
+		Exception[] failure = new Exception[1];
+		Thread[] threads = new Thread[clients];
+		SplittableRandom parent = new SplittableRandom(seed);
+
+		for (int c = 0; c < clients; c++) {
+			SplittableRandom random = parent.split();
+			threads[c] = new Thread(() -> {
+				try {
+					for (long i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+						String uri = base + "/" + (1 + random.nextInt(sessionCount)) + "/" + OPERATIONS[random.nextInt(OPERATIONS.length)];
+						long sent = System.nanoTime();
+						HttpResponse<String> response = send(client, uri);
+						latencies[(int) i] = System.nanoTime() - sent;
+						serverTimes[(int) i] = serverNanos(response);
+					}
+				} catch (Exception e) {
+					synchronized (failure) {
+						failure[0] = e;
+					}
+				}
+			}, "load-client-" + c);
+			threads[c].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+	}
+
+	private static HttpResponse<String> send(HttpClient client, String uri) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).POST(HttpRequest.BodyPublishers.noBody()).build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() >= 500) {
+			throw new IllegalStateException(uri + " failed: " + response.body());
+		}
+		return response;
+	}
+
+	/**
+	 * Reads the server's time from a {@code Server-Timing: app;dur=MILLIS} header.
+	 */
+	private static long serverNanos(HttpResponse<String> response) {
+		String timing = response.headers().firstValue("Server-Timing").orElse("");
+		int equals = timing.indexOf("dur=");
+		return (equals < 0) ? 0 : (long) (Double.parseDouble(timing.substring(equals + 4)) * 1_000_000);
+	}
+
+	private static void print(String name, long[] nanos) {
+		Arrays.sort(nanos);
+		System.out.printf(Locale.ROOT, "%-10s p50 %d us, p99 %d us, p99.9 %d us, max %d us%n", name,
+				percentile(nanos, 0.50), percentile(nanos, 0.99), percentile(nanos, 0.999), nanos[nanos.length - 1] / 1000);
+	}
+
+	private static long percentile(long[] sorted, double fraction) {
+		int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+		return sorted[Math.max(0, index)] / 1000;
+	}
+}
@@ -0,0 +1,708 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Append-only record of everything that happens to the pet during one game session.
+ * <br><br>
+ * Each session writes its own file, {@code session<start time>.journal}, in the directory named by
+ * {@code gameSession.actionHistory} in {@code json/jsonFile.json}. Journals of sessions that started more
+ * than {@code keepDays} days ago are deleted when a session starts. Every entry is 16 bytes: the time since
+ * the session started, what happened, and how much each stat and the score changed. The first entry
+ * of a session is a {@link #START} whose changes are counted from zero, so adding up the changes of
+ * every entry gives the pet's state at that point. The inventory is written out in full as
+ * {@link #HOLDING} entries whenever it is replaced, and every reward draw is recorded along with the
+ * seed of the session's {@link RewardRandom}, so {@link JournalReplayer} can rebuild the whole game.<br><br>
+ *
+ * Entries are written straight into a memory mapped window over the end of the file, so an append is a
+ * few stores with no system call. The window moves on 64 KiB at a time as it fills, and the file grows
+ * with it; the journal ends at the first empty entry. A background thread forces written entries to
+ * the disk every {@code flushMillis}, so any number of appends share one flush.<br><br>
+ *
+ * <b>File layout</b> (big-endian):
+ * <pre>
+ * header  int magic "PJNL", short version, short entry size, long session start millis, long reward seed,
+ *         8 bytes reserved
+ * entry   int millis since start, byte kind, byte 0, short argument,
+ *         byte happiness, byte health, byte sleep, byte hunger changes, int score change or quantity
+ * </pre>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		ActionJournal journal = ActionJournal.open(GameConfig.get(), System.currentTimeMillis(), seed);
+ * 		journal.update(ActionJournal.SCORE, 0, petState, state -> PetState.withScore(state, PetState.score(state) + 10));
+ * 		journal.close();
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//journal/session1718000000000.journal ends with the feed and its stat changes</code><br>
+ *
+ * @version 1.0.0
+ */
+public class ActionJournal {
+	/** A session started; the changes are the starting stats and score, and the argument is the pet number */
+	public static final byte START = 1;
+	/** Feed, play, sleep or vet; the argument is the {@link PetAction} ordinal */
+	public static final byte ACTION = 2;
+	/** An inventory item was used; the argument is the {@link ItemCatalog} id */
+	public static final byte ITEM = 3;
+	/** A food reward was drawn; the argument is the {@link ItemCatalog} id given, or -1 if none was */
+	public static final byte FOOD_REWARD = 4;
+	/** The game was saved; the argument is the profile's number */
+	public static final byte SAVE = 5;
+	/** The stats ran down on a decay tick */
+	public static final byte DECAY = 6;
+	/** Score was added outside of an action */
+	public static final byte SCORE = 7;
+	/** The stats were set directly */
+	public static final byte STATS = 8;
+	/** A gift reward was drawn; the argument is the {@link ItemCatalog} id given, or -1 if none was */
+	public static final byte GIFT_REWARD = 9;
+	/** The player holds some of an item; the argument is the {@link ItemCatalog} id and the value is the quantity */
+	public static final byte HOLDING = 10;
+
+	/** Size of one entry in bytes */
+	public static final int ENTRY_BYTES = 16;
+	/** Milliseconds in a day, for how long journals are kept */
+	private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+	/** Size of the file header in bytes */
+	public static final int HEADER_BYTES = 32;
+
+	private static final int MAGIC = 0x504A4E4C; //"PJNL"
+	private static final short VERSION = 2;
+	/** Entries in each mapped window */
+	private static final int WINDOW_ENTRIES = 4096;
+	private static final long WINDOW_BYTES = (long) WINDOW_ENTRIES * ENTRY_BYTES;
+
+	private final Path file;
+	private final long startMillis;
+	private final long seed;
+	private final FileChannel channel;
+	private final ScheduledExecutorService flusher;
+
+	//Guarded by this
+	private MappedByteBuffer window;
+	private int windowIndex;
+	private int windowEntries;
+	//A full window that still has to be forced to the disk
+	private MappedByteBuffer retired;
+	private boolean dirty;
+	private long count;
+	//Entry times never go back, even if the clock does
+	private int lastOffset;
+
+	/**
+	 * Creates a journal that throws every entry away, for when the journal is turned off or can not be opened.
+	 */
+	private ActionJournal() {
+		file = null;
+		startMillis = 0;
+		seed = 0;
+		channel = null;
+		flusher = null;
+	}
+
+	private ActionJournal(Path file, long startMillis, long seed, int flushMillis) throws IOException {
+		this.file = file;
+		this.startMillis = startMillis;
+		this.seed = seed;
+		channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			header.putInt(MAGIC).putShort(VERSION).putShort((short) ENTRY_BYTES).putLong(startMillis).putLong(seed);
+			header.rewind();
+			channel.write(header, 0);
+			window = map(0);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+
+		flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "action-journal");
+			thread.setDaemon(true);
+			return thread;
+		});
+		flusher.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Opens a new journal for a session in the configured directory, first deleting the journals of sessions
+	 * that started more than {@link GameConfig#getJournalKeepDays()} days ago.
+	 *
+	 * @param config the game configuration
+	 * @param startMillis when the session started, from {@link System#currentTimeMillis()}
+	 * @param seed the seed of the session's {@link RewardRandom}
+	 * @return the journal, or one that keeps nothing if the configuration turns it off
+	 * @throws IOException if the file can not be created
+	 */
+	public static ActionJournal open(GameConfig config, long startMillis, long seed) throws IOException {
+		if (config.getJournalDirectory() == null) {
+			return disabled();
+		}
+
+		Path directory = Paths.get(config.getJournalDirectory());
+		if (config.getJournalKeepDays() > 0) {
+			prune(directory, startMillis - config.getJournalKeepDays() * MILLIS_PER_DAY);
+		}
+		return open(directory, startMillis, seed, config.getJournalFlushMillis());
+	}
+
+	/**
+	 * Deletes the session journals in a directory that started before a time, by the start time in their names.
+	 * Files whose names are not a time are left, as is a journal that can not be deleted, for example
+	 * because another game has it open.
+	 *
+	 * @param directory the journal directory; nothing happens if it does not exist
+	 * @param beforeMillis journals of sessions that started before this time are deleted
+	 * @return the number of journals deleted
+	 * @throws IOException if the directory can not be listed
+	 */
+	public static int prune(Path directory, long beforeMillis) throws IOException {
+		if (!Files.isDirectory(directory)) {
+			return 0;
+		}
+
+		int deleted = 0;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "session*.journal")) {
+			for (Path file : files) {
+				long stamp = stamp(file);
+				if (stamp == Long.MIN_VALUE || stamp >= beforeMillis) {
+					continue;
+				}
+				try {
+					Files.delete(file);
+					deleted++;
+				} catch (IOException e) {
+					System.err.println("Could not delete old journal " + file.getFileName() + ": " + e.getMessage());
+				}
+			}
+		}
+		return deleted;
+	}
+
+	/**
+	 * Opens a new journal for a session.
+	 *
+	 * @param directory the directory to write the journal in, created if needed
+	 * @param startMillis when the session started, from {@link System#currentTimeMillis()}
+	 * @param seed the seed of the session's {@link RewardRandom}
+	 * @param flushMillis how often written entries are forced to the disk
+	 * @return the journal
+	 * @throws IOException if the file can not be created
+	 */
+	public static ActionJournal open(Path directory, long startMillis, long seed, int flushMillis) throws IOException {
+		Files.createDirectories(directory);
+		//Two sessions started in the same millisecond get the next free name
+		long stamp = startMillis;
+		while (Files.exists(directory.resolve(fileName(stamp)))) {
+			stamp++;
+		}
+		return new ActionJournal(directory.resolve(fileName(stamp)), startMillis, seed, Math.max(1, flushMillis));
+	}
+
+	/**
+	 * Getter for a journal that keeps nothing.
+	 *
+	 * @return a journal whose appends do nothing
+	 */
+	public static ActionJournal disabled() {
+		return new ActionJournal();
+	}
+
+	/**
+	 * Getter for the journal's file.
+	 *
+	 * @return the file, or null if the journal keeps nothing
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Getter for the number of entries appended.
+	 *
+	 * @return the number of entries
+	 */
+	public synchronized long size() {
+		return count;
+	}
+
+	/**
+	 * Appends an entry that did not change the pet, like a reward or a save.
+	 *
+	 * @param kind what happened, one of the kind constants
+	 * @param argument the action, item or profile, depending on the kind
+	 * @param state the pet's {@link PetState} at the time
+	 */
+	public void append(byte kind, int argument, long state) {
+		append(kind, argument, state, state);
+	}
+
+	/**
+	 * Appends an entry with the stat and score changes between two {@link PetState} snapshots.
+	 * Does nothing once the journal is closed.
+	 *
+	 * @param kind what happened, one of the kind constants
+	 * @param argument the action, item or profile, depending on the kind
+	 * @param before the pet's state before
+	 * @param after the pet's state after
+	 */
+	public synchronized void append(byte kind, int argument, long before, long after) {
+		int at = nextEntry();
+		if (at < 0) {
+			return;
+		}
+
+		window.putShort(at + 6, (short) argument);
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			window.put(at + 8 + stat, (byte) (PetState.stat(after, stat) - PetState.stat(before, stat)));
+		}
+		window.putInt(at + 12, PetState.score(after) - PetState.score(before));
+		commit(at, kind);
+	}
+
+	/**
+	 * Changes the pet's state and appends the entry for the change as one step. The decay thread and the
+	 * Event Dispatch Thread both change the pet, and the entries only add up to the right state if they are
+	 * in the same order as the changes, so every change that is journaled should be made through here.
+	 * A {@link #DECAY} that changes nothing is not recorded.
+	 *
+	 * @param kind what happened, one of the kind constants
+	 * @param argument the action, item or profile, depending on the kind
+	 * @param state the pet's state
+	 * @param change works out the new packed state from the current one; may be called more than once
+	 * @return the new packed state
+	 */
+	public synchronized long update(byte kind, int argument, PetState state, LongUnaryOperator change) {
+		long before;
+		long after;
+		do {
+			before = state.get();
+			after = change.applyAsLong(before);
+		} while (!state.compareAndSet(before, after));
+
+		if (kind != DECAY || after != before) {
+			append(kind, argument, before, after);
+		}
+		return after;
+	}
+
+	/**
+	 * Appends a {@link #HOLDING} entry with how many of an item the player has.
+	 *
+	 * @param itemId the {@link ItemCatalog} id
+	 * @param quantity how many are held
+	 */
+	public synchronized void appendHolding(int itemId, int quantity) {
+		int at = nextEntry();
+		if (at < 0) {
+			return;
+		}
+
+		window.putShort(at + 6, (short) itemId);
+		window.putInt(at + 8, 0);
+		window.putInt(at + 12, quantity);
+		commit(at, HOLDING);
+	}
+
+	/**
+	 * Finds the place for the next entry and writes its time.
+	 *
+	 * @return the entry's position in the window, or -1 if the journal keeps nothing
+	 */
+	private int nextEntry() {
+		if (window == null) {
+			return -1;
+		}
+		if (windowEntries == WINDOW_ENTRIES && !nextWindow()) {
+			return -1;
+		}
+
+		int at = windowEntries * ENTRY_BYTES;
+		lastOffset = Math.max(lastOffset, (int) (System.currentTimeMillis() - startMillis));
+		window.putInt(at, lastOffset);
+		return at;
+	}
+
+	private void commit(int at, byte kind) {
+		//Kind goes last, so an entry is never seen half written
+		window.put(at + 4, kind);
+
+		windowEntries++;
+		count++;
+		dirty = true;
+	}
+
+	/**
+	 * Forces every entry appended so far to the disk. Called by the background thread.
+	 */
+	public void flush() {
+		MappedByteBuffer current;
+		MappedByteBuffer full;
+		synchronized (this) {
+			if (!dirty && retired == null) {
+				return;
+			}
+			current = window;
+			full = retired;
+			retired = null;
+			dirty = false;
+		}
+
+		//Outside the lock, so appends carry on while the disk catches up
+		if (full != null) {
+			full.force();
+		}
+		if (current != null) {
+			current.force();
+		}
+	}
+
+	/**
+	 * Flushes the journal and stops writing to it. Safe to call more than once.
+	 */
+	public void close() {
+		if (flusher == null) {
+			return;
+		}
+
+		flusher.shutdownNow();
+		flush();
+		synchronized (this) {
+			window = null;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Reads every entry in a journal file.
+	 *
+	 * @param file the journal file
+	 * @return the entries in the order they were appended
+	 * @throws IOException if the file can not be read or is not a journal
+	 */
+	public static List<Entry> read(Path file) throws IOException {
+		Reader reader = new Reader(file);
+		List<Entry> entries = new ArrayList<>();
+		for (int i = 0; i < reader.size(); i++) {
+			int[] changes = new int[PetSimulationEngine.STAT_COUNT];
+			for (int stat = 0; stat < changes.length; stat++) {
+				changes[stat] = reader.getChange(i, stat);
+			}
+			entries.add(new Entry(reader.getTimeMillis(i), reader.getKind(i), reader.getArgument(i), changes, reader.getValue(i)));
+		}
+		return entries;
+	}
+
+	/**
+	 * Reads when a journal's session started, without reading its entries.
+	 *
+	 * @param file the journal file
+	 * @return the start time, or -1 if the file is not a journal
+	 * @throws IOException if the file can not be read
+	 */
+	public static long readStartMillis(Path file) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			channel.read(header, 0);
+		}
+		if (header.position() < HEADER_BYTES || header.getInt(0) != MAGIC || header.getShort(4) != VERSION) {
+			return -1;
+		}
+		return header.getLong(8);
+	}
+
+	/**
+	 * Getter for a readable name of an entry kind.
+	 *
+	 * @param kind one of the kind constants
+	 * @return the name, in lower case
+	 */
+	public static String kindName(byte kind) {
+		switch (kind) {
+			case START: return "start";
+			case ACTION: return "action";
+			case ITEM: return "item";
+			case FOOD_REWARD: return "food reward";
+			case SAVE: return "save";
+			case DECAY: return "decay";
+			case SCORE: return "score";
+			case STATS: return "stats";
+			case GIFT_REWARD: return "gift reward";
+			case HOLDING: return "holding";
+			default: return "unknown " + kind;
+		}
+	}
+
+	/**
+	 * Maps the next window, handing the full one to the flusher.
+	 *
+	 * @return false if the file could not grow, after which the journal keeps nothing more
+	 */
+	private boolean nextWindow() {
+		try {
+			MappedByteBuffer next = map(windowIndex + 1);
+			retired = window;
+			window = next;
+			windowIndex++;
+			windowEntries = 0;
+			return true;
+		} catch (IOException e) {
+			e.printStackTrace();
+			window = null;
+			return false;
+		}
+	}
+
+	private MappedByteBuffer map(int index) throws IOException {
+		//Writing the zeros first puts the pages in the file cache, so appends do not fault on new disk blocks
+		ByteBuffer zeros = ByteBuffer.allocateDirect((int) WINDOW_BYTES);
+		channel.write(zeros, HEADER_BYTES + index * WINDOW_BYTES);
+		return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + index * WINDOW_BYTES, WINDOW_BYTES);
+	}
+
+	private static String fileName(long stamp) {
+		return "session" + stamp + ".journal";
+	}
+
+	/**
+	 * Reads the start time from a journal's name, or {@link Long#MIN_VALUE} if the name is not a time.
+	 */
+	private static long stamp(Path file) {
+		String name = file.getFileName().toString();
+		try {
+			return Long.parseLong(name.substring("session".length(), name.length() - ".journal".length()));
+		} catch (NumberFormatException e) {
+			return Long.MIN_VALUE;
+		}
+	}
+
+	/**
+	 * Reads a journal file in place, without copying its entries.
+	 * <p>The file is mapped read-only, so only the entries that are looked at are read from the disk.
+	 */
+	public static final class Reader {
+		private final ByteBuffer buffer;
+		private final long startMillis;
+		private final long seed;
+		private final int size;
+
+		/**
+		 * Opens a journal file for reading.
+		 *
+		 * @param file the journal file
+		 * @throws IOException if the file can not be read or is not a journal
+		 */
+		public Reader(Path file) throws IOException {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+				throw new IOException(file + " is not an action journal");
+			}
+			short version = buffer.getShort(4);
+			if (version != VERSION || buffer.getShort(6) != ENTRY_BYTES) {
+				throw new IOException(file + " has unsupported journal version " + version);
+			}
+			startMillis = buffer.getLong(8);
+			seed = buffer.getLong(16);
+
+			//Entries are never empty, and everything after the last one is, so the end can be found by halving
+			int low = 0;
+			int high = (buffer.limit() - HEADER_BYTES) / ENTRY_BYTES;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (buffer.get(position(middle) + 4) != 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			size = low;
+		}
+
+		/**
+		 * Getter for when the session started.
+		 *
+		 * @return the start time in milliseconds since the epoch
+		 */
+		public long getStartMillis() {
+			return startMillis;
+		}
+
+		/**
+		 * Getter for the seed of the session's {@link RewardRandom}.
+		 *
+		 * @return the seed
+		 */
+		public long getSeed() {
+			return seed;
+		}
+
+		/**
+		 * Getter for the number of entries in the file.
+		 *
+		 * @return the number of entries
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Getter for when an entry was appended.
+		 *
+		 * @param entry the entry's index
+		 * @return the time in milliseconds since the epoch
+		 */
+		public long getTimeMillis(int entry) {
+			return startMillis + buffer.getInt(position(entry));
+		}
+
+		/**
+		 * Getter for what an entry records.
+		 *
+		 * @param entry the entry's index
+		 * @return one of the kind constants
+		 */
+		public byte getKind(int entry) {
+			return buffer.get(position(entry) + 4);
+		}
+
+		/**
+		 * Getter for an entry's argument.
+		 *
+		 * @param entry the entry's index
+		 * @return the action, item or profile, depending on the kind
+		 */
+		public int getArgument(int entry) {
+			return buffer.getShort(position(entry) + 6);
+		}
+
+		/**
+		 * Getter for how much an entry changed one stat.
+		 *
+		 * @param entry the entry's index
+		 * @param stat the stat, one of the {@link PetSimulationEngine} stat indexes
+		 * @return the change
+		 */
+		public int getChange(int entry, int stat) {
+			return buffer.get(position(entry) + 8 + stat);
+		}
+
+		/**
+		 * Getter for an entry's score change, or for a {@link #HOLDING} entry the quantity held.
+		 *
+		 * @param entry the entry's index
+		 * @return the score change or quantity
+		 */
+		public int getValue(int entry) {
+			return buffer.getInt(position(entry) + 12);
+		}
+
+		private static int position(int entry) {
+			return HEADER_BYTES + entry * ENTRY_BYTES;
+		}
+	}
+
+	/**
+	 * One entry read back from a journal.
+	 */
+	public static final class Entry {
+		private final long timeMillis;
+		private final byte kind;
+		private final int argument;
+		private final int[] changes;
+		private final int scoreChange;
+
+		/**
+		 * Creates an entry.
+		 *
+		 * @param timeMillis when it was appended, in milliseconds since the epoch
+		 * @param kind one of the kind constants
+		 * @param argument the action, item or profile, depending on the kind
+		 * @param changes the change to each stat, by {@link PetSimulationEngine} stat index
+		 * @param scoreChange the score change, or for a {@link #HOLDING} entry the quantity held
+		 */
+		public Entry(long timeMillis, byte kind, int argument, int[] changes, int scoreChange) {
+			this.timeMillis = timeMillis;
+			this.kind = kind;
+			this.argument = argument;
+			this.changes = changes;
+			this.scoreChange = scoreChange;
+		}
+
+		/**
+		 * Getter for when the entry was appended.
+		 *
+		 * @return the time in milliseconds since the epoch
+		 */
+		public long getTimeMillis() {
+			return timeMillis;
+		}
+
+		/**
+		 * Getter for what the entry records.
+		 *
+		 * @return one of the kind constants
+		 */
+		public byte getKind() {
+			return kind;
+		}
+
+		/**
+		 * Getter for the entry's argument.
+		 *
+		 * @return the action, item or profile, depending on the kind
+		 */
+		public int getArgument() {
+			return argument;
+		}
+
+		/**
+		 * Getter for how much the entry changed one stat.
+		 *
+		 * @param stat the stat, one of the {@link PetSimulationEngine} stat indexes
+		 * @return the change
+		 */
+		public int getChange(int stat) {
+			return changes[stat];
+		}
+
+		/**
+		 * Getter for how much the entry changed the score.
+		 *
+		 * @return the score change
+		 */
+		public int getScoreChange() {
+			return scoreChange;
+		}
+
+		/**
+		 * Getter for the quantity a {@link #HOLDING} entry records, stored where the score change would be.
+		 *
+		 * @return the quantity held
+		 */
+		public int getQuantity() {
+			return scoreChange;
+		}
+	}
+}
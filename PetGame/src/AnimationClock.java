@@ -0,0 +1,120 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import javax.swing.Timer;
+
+/**
+ * One timer that drives every running animation on the screen.
+ * <br><br>
+ * Animations are stepped together once a frame, so any number of them cost one timer event a frame,
+ * and the timer only runs while at least one animation is running. Everything happens on the Event
+ * Dispatch Thread.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		AnimationClock.get().start(now -> {
+ * 			//move things on to the time now
+ * 			return stillRunning;
+ * 		});
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//the animation is stepped every frame until it returns false</code><br>
+ *
+ * @version 1.0.0
+ */
+public class AnimationClock {
+	/** Time between frames, for about 60 frames a second */
+	public static final int FRAME_MILLIS = 16;
+
+	/**
+	 * Something that changes over time.
+	 */
+	public interface Animation {
+		/**
+		 * Moves the animation on to a time.
+		 *
+		 * @param nowNanos the clock's time in nanoseconds
+		 * @return true if the animation is still running
+		 */
+		boolean step(long nowNanos);
+	}
+
+	private static AnimationClock shared;
+
+	private final LongSupplier clock;
+	private final List<Animation> animations = new ArrayList<>();
+	private final Timer timer;
+
+	/**
+	 * Getter for the clock the game's screens share. Only use it on the Event Dispatch Thread.
+	 *
+	 * @return the shared clock
+	 */
+	public static AnimationClock get() {
+		if (shared == null) {
+			shared = new AnimationClock(System::nanoTime);
+		}
+		return shared;
+	}
+
+	/**
+	 * Creates a clock.
+	 *
+	 * @param clock source of monotonic time in nanoseconds
+	 */
+	public AnimationClock(LongSupplier clock) {
+		this.clock = clock;
+		timer = new Timer(FRAME_MILLIS, e -> tick(clock.getAsLong()));
+		timer.setRepeats(true);
+	}
+
+	/**
+	 * Getter for the clock's time, for animations to start from.
+	 *
+	 * @return the time in nanoseconds
+	 */
+	public long now() {
+		return clock.getAsLong();
+	}
+
+	/**
+	 * Starts stepping an animation every frame. Starting one that is already running does nothing.
+	 *
+	 * @param animation the animation
+	 */
+	public void start(Animation animation) {
+		if (!animations.contains(animation)) {
+			animations.add(animation);
+		}
+		if (!timer.isRunning()) {
+			timer.start();
+		}
+	}
+
+	/**
+	 * Checks if any animation is running.
+	 *
+	 * @return true while the timer is needed
+	 */
+	public boolean isRunning() {
+		return !animations.isEmpty();
+	}
+
+	/**
+	 * Steps every animation once and drops the ones that have finished.
+	 *
+	 * @param nowNanos the clock's time
+	 */
+	void tick(long nowNanos) {
+		for (int i = animations.size() - 1; i >= 0; i--) {
+			if (!animations.get(i).step(nowNanos)) {
+				animations.remove(i);
+			}
+		}
+		if (animations.isEmpty()) {
+			timer.stop();
+		}
+	}
+}
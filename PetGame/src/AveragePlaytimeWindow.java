@@ -14,7 +14,7 @@ public class AveragePlaytimeWindow extends JFrame {
         
         // Set up the frame
         setTitle("Set Average Playtime");
-        setSize(450, 300);
+        setSize(450, 450);
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         getContentPane().setBackground(new Color(240, 255, 240)); // Light green background
         setLayout(new BorderLayout(10, 10));
@@ -47,6 +47,17 @@ public class AveragePlaytimeWindow extends JFrame {
         gbc.gridx = 0;
         gbc.gridy = 0;
         contentPanel.add(playtimeComboBox, gbc);
+
+        // Time actually played, read from the tracker's running totals
+        PlaytimeTracker tracker = PlaytimeTracker.get();
+        JPanel statsPanel = new JPanel(new GridLayout(4, 2, 10, 5));
+        statsPanel.setBackground(new Color(240, 255, 240));
+        addStat(statsPanel, "Played Today:", tracker.getTodayMillis());
+        addStat(statsPanel, "This Week:", tracker.getWeekMillis());
+        addStat(statsPanel, "Last 30 Days:", tracker.getRollingMillis());
+        addStat(statsPanel, "Average a Day:", tracker.getAverageDailyMillis());
+        gbc.gridy = 1;
+        contentPanel.add(statsPanel, gbc);
         add(contentPanel, BorderLayout.CENTER);
 
         // Confirm button panel
@@ -66,6 +77,15 @@ public class AveragePlaytimeWindow extends JFrame {
         setLocationRelativeTo(parent);
     }
 
+    private void addStat(JPanel panel, String name, long millis) {
+        JLabel nameLabel = new JLabel(name, JLabel.RIGHT);
+        nameLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
+        JLabel valueLabel = new JLabel(ParentalControlScreen.formatMinutes(millis / 60_000), JLabel.LEFT);
+        valueLabel.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        panel.add(nameLabel);
+        panel.add(valueLabel);
+    }
+
     private void styleComboBox(JComboBox<String> comboBox) {
         comboBox.setFont(new Font("SansSerif", Font.PLAIN, 14));
         comboBox.setBackground(Color.WHITE);
@@ -0,0 +1,677 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Command line tool for balancing the pet's action rules.
+ * <br><br>
+ * Simulates many pet lifetimes with the {@link PetSimulationEngine} rules, in parallel on a fork/join pool.
+ * In each lifetime a simulated player performs actions as their cooldowns allow, or waits, following a
+ * {@link Policy}, until the pet dies or the time limit is reached. Between actions the stats run down with
+ * the same {@link StatDecay} rules as the game, one point every so many seconds, and health is lost while
+ * another stat is at 0. The tool reports how many pets survive
+ * over time, how long the others lived and how much score was earned.<br><br>
+ *
+ * Any setting can be given a comma separated list of values, and every combination is simulated, so a
+ * grid of rules can be compared in one run. Cooldowns and decay rates default to the config file's.
+ * Lifetimes start with the stats of a new game.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		java BalanceSimulator --lifetimes 200000 --policy greedy,random --penalty 5,10 --delta play.health=-10,-5 --decay hunger=30,60
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//one line per combination with survival, time to death and score percentiles</code><br>
+ *
+ * @version 1.0.0
+ */
+public class BalanceSimulator {
+	/** Stats a new game starts with, in {@link PetSimulationEngine} order */
+	static final int[] STARTING_STATS = {70, 100, 70, 70};
+
+	/** Lifetimes simulated by one fork/join task before it stops splitting */
+	private static final int LEAF_SIZE = 4096;
+
+	/** Number of points printed on a survival curve */
+	private static final int CURVE_POINTS = 10;
+
+	/** Decay settings that can be changed with {@code --decay}, the three stats that run down and then the health penalty */
+	private static final String[] DECAY_KEYS = {"happiness", "sleep", "hunger", "healthPenalty"};
+
+	/**
+	 * How the simulated player picks their next action.
+	 */
+	public enum Policy {
+		/** Any action that is off cooldown, or waiting a second, chosen at random */
+		RANDOM,
+		/** The action that leaves the lowest stat as high as possible, or waiting a second if every action would lower it */
+		GREEDY,
+		/** Feed, play, sleep and vet in turn, waiting for each one's cooldown */
+		ROUND_ROBIN;
+
+		/**
+		 * Finds a policy by its command line name, for example {@code round-robin}.
+		 *
+		 * @param name the policy's name
+		 * @return the policy
+		 */
+		static Policy parse(String name) {
+			return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+		}
+	}
+
+	/**
+	 * One combination of rules and player policy to simulate.
+	 */
+	static final class Scenario {
+		final PetSimulationEngine engine;
+		final StatDecay decay;
+		final int[] cooldowns;
+		final Policy policy;
+		final int horizon;
+		final String label;
+
+		/**
+		 * Creates a scenario where the stats only change through actions.
+		 *
+		 * @param engine the rules
+		 * @param cooldowns cooldown in seconds for each action, indexed by {@link PetAction#ordinal()}
+		 * @param policy how the player picks actions
+		 * @param horizon seconds after which a living pet counts as having survived
+		 * @param label name printed in the report
+		 */
+		Scenario(PetSimulationEngine engine, int[] cooldowns, Policy policy, int horizon, String label) {
+			this(engine, new StatDecay(new int[PetSimulationEngine.STAT_COUNT], 0, 0), cooldowns, policy, horizon, label);
+		}
+
+		/**
+		 * Creates a scenario.
+		 *
+		 * @param engine the rules
+		 * @param decay how the stats run down between actions
+		 * @param cooldowns cooldown in seconds for each action, indexed by {@link PetAction#ordinal()}
+		 * @param policy how the player picks actions
+		 * @param horizon seconds after which a living pet counts as having survived
+		 * @param label name printed in the report
+		 */
+		Scenario(PetSimulationEngine engine, StatDecay decay, int[] cooldowns, Policy policy, int horizon, String label) {
+			this.engine = engine;
+			this.decay = decay;
+			this.cooldowns = cooldowns.clone();
+			this.policy = policy;
+			this.horizon = horizon;
+			this.label = label;
+
+			//A cooldown of 0 would let a player act forever without time passing
+			for (int i = 0; i < this.cooldowns.length; i++) {
+				this.cooldowns[i] = Math.max(1, this.cooldowns[i]);
+			}
+		}
+
+		/**
+		 * Most actions a player can perform before the time limit.
+		 */
+		int maxActions() {
+			int total = 0;
+			for (int cooldown : cooldowns) {
+				total += horizon / cooldown + 1;
+			}
+			return total;
+		}
+	}
+
+	/**
+	 * Results of simulating a scenario, kept as histograms so that results from different
+	 * threads can be added together.
+	 */
+	static final class Report {
+		private final Scenario scenario;
+		private long lifetimes;
+		private long deaths;
+		private long scoreSum;
+		//Deaths by the second they happened in
+		private final long[] deathsAt;
+		//Lifetimes by the number of actions performed
+		private final long[] actionCounts;
+
+		Report(Scenario scenario) {
+			this.scenario = scenario;
+			this.deathsAt = new long[scenario.horizon + 1];
+			this.actionCounts = new long[scenario.maxActions() + 1];
+		}
+
+		void add(Report other) {
+			lifetimes += other.lifetimes;
+			deaths += other.deaths;
+			scoreSum += other.scoreSum;
+			for (int i = 0; i < deathsAt.length; i++) {
+				deathsAt[i] += other.deathsAt[i];
+			}
+			for (int i = 0; i < actionCounts.length; i++) {
+				actionCounts[i] += other.actionCounts[i];
+			}
+		}
+
+		long getLifetimes() {
+			return lifetimes;
+		}
+
+		long getDeaths() {
+			return deaths;
+		}
+
+		/**
+		 * Fraction of pets still alive after a number of seconds.
+		 */
+		double survivalAt(int seconds) {
+			long died = 0;
+			for (int i = 0; i <= seconds && i < deathsAt.length; i++) {
+				died += deathsAt[i];
+			}
+			return (lifetimes == 0) ? 0 : 1.0 - (double) died / lifetimes;
+		}
+
+		/**
+		 * Time to death that a fraction of the pets that died were under, or -1 if none died.
+		 */
+		int deathTimePercentile(double fraction) {
+			return percentile(deathsAt, deaths, fraction);
+		}
+
+		/**
+		 * Score that a fraction of all lifetimes were under.
+		 */
+		int scorePercentile(double fraction) {
+			return percentile(actionCounts, lifetimes, fraction) * scenario.engine.getActionScore();
+		}
+
+		double meanScore() {
+			return (lifetimes == 0) ? 0 : (double) scoreSum / lifetimes;
+		}
+
+		private static int percentile(long[] histogram, long total, double fraction) {
+			if (total == 0) {
+				return -1;
+			}
+
+			long target = (long) Math.ceil(fraction * total);
+			long seen = 0;
+			for (int i = 0; i < histogram.length; i++) {
+				seen += histogram[i];
+				if (seen >= Math.max(1, target)) {
+					return i;
+				}
+			}
+			return histogram.length - 1;
+		}
+	}
+
+	/**
+	 * Simulates a range of lifetimes, splitting it in half until it is small enough to run directly.
+	 * Each half gets its own split of the random generator, so results only depend on the seed.
+	 */
+	private static final class LifetimeTask extends RecursiveTask<Report> {
+		private static final long serialVersionUID = 1L;
+
+		private final Scenario scenario;
+		private final long count;
+		private final SplittableRandom random;
+
+		LifetimeTask(Scenario scenario, long count, SplittableRandom random) {
+			this.scenario = scenario;
+			this.count = count;
+			this.random = random;
+		}
+
+		@Override
+		protected Report compute() {
+			if (count <= LEAF_SIZE) {
+				return simulate(scenario, count, random);
+			}
+
+			long half = count / 2;
+			LifetimeTask left = new LifetimeTask(scenario, half, random.split());
+			LifetimeTask right = new LifetimeTask(scenario, count - half, random.split());
+			left.fork();
+			Report report = right.compute();
+			report.add(left.join());
+			return report;
+		}
+	}
+
+	/**
+	 * Simulates a scenario on a fork/join pool.
+	 *
+	 * @param scenario the rules and policy
+	 * @param lifetimes number of pets to simulate
+	 * @param seed seed for the random generator
+	 * @param pool the pool to run on
+	 * @return the combined results
+	 */
+	static Report run(Scenario scenario, long lifetimes, long seed, ForkJoinPool pool) {
+		return pool.invoke(new LifetimeTask(scenario, lifetimes, new SplittableRandom(seed)));
+	}
+
+	/**
+	 * Simulates lifetimes one after another on the calling thread.
+	 */
+	private static Report simulate(Scenario scenario, long count, SplittableRandom random) {
+		Report report = new Report(scenario);
+		PetAction[] actions = PetAction.values();
+		int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+		int[] scratch = new int[PetSimulationEngine.STAT_COUNT];
+		long[] readyAt = new long[actions.length];
+		int[] ready = new int[actions.length];
+
+		for (long n = 0; n < count; n++) {
+			System.arraycopy(STARTING_STATS, 0, stats, 0, stats.length);
+			Arrays.fill(readyAt, 0);
+			long now = 0;
+			long decayed = 0;
+			int performed = 0;
+			int next = 0;
+
+			while (true) {
+				//Run the stats down for the time since the last step, as the game's decay tick does
+				long until = Math.min(now, scenario.horizon);
+				if (until > decayed) {
+					long died = runDown(scenario.decay, decayed, until, stats, scratch);
+					decayed = until;
+					if (died >= 0) {
+						report.deathsAt[(int) died]++;
+						report.deaths++;
+						break;
+					}
+				}
+				if (now > scenario.horizon) {
+					break;
+				}
+
+				//Find the actions that are off cooldown, and when the next one comes off
+				int readyCount = 0;
+				long soonest = Long.MAX_VALUE;
+				for (int i = 0; i < actions.length; i++) {
+					if (readyAt[i] <= now) {
+						ready[readyCount++] = i;
+					} else {
+						soonest = Math.min(soonest, readyAt[i]);
+					}
+				}
+				//A player who chooses to wait acts again a second later at the latest
+				if (readyCount > 0) {
+					soonest = Math.min(soonest, now + 1);
+				}
+
+				int choice = -1;
+				switch (scenario.policy) {
+					case RANDOM:
+						//Waiting is one more choice
+						int pick = random.nextInt(readyCount + 1);
+						if (pick < readyCount) {
+							choice = ready[pick];
+						}
+						break;
+					case GREEDY:
+						choice = bestAction(scenario.engine, actions, ready, readyCount, stats, scratch);
+						break;
+					case ROUND_ROBIN:
+						if (readyAt[next] <= now) {
+							choice = next;
+							next = (next + 1) % actions.length;
+						} else {
+							soonest = readyAt[next];
+						}
+						break;
+				}
+
+				//Wait for the next cooldown to finish or the next second
+				if (choice < 0) {
+					now = Math.min(soonest, scenario.horizon + 1L);
+					continue;
+				}
+
+				scenario.engine.apply(actions[choice], stats);
+				performed++;
+				readyAt[choice] = now + scenario.cooldowns[choice];
+
+				if (scenario.engine.isDead(stats)) {
+					report.deathsAt[(int) now]++;
+					report.deaths++;
+					break;
+				}
+			}
+
+			//Pets that are still alive here survived until the time limit
+			report.lifetimes++;
+			report.actionCounts[Math.min(performed, report.actionCounts.length - 1)]++;
+			report.scoreSum += (long) performed * scenario.engine.getActionScore();
+		}
+		return report;
+	}
+
+	/**
+	 * Runs the stats down from one second to a later one. The whole stretch is worked out at once, and only
+	 * if the pet dies in it are the seconds gone through again to find the one it died on.
+	 *
+	 * @return the second the pet died on, or -1 if it is still alive
+	 */
+	private static long runDown(StatDecay decay, long from, long to, int[] stats, int[] scratch) {
+		System.arraycopy(stats, 0, scratch, 0, stats.length);
+		decay.fastForward(from, to - from, stats);
+		if (stats[PetSimulationEngine.HEALTH] > 0) {
+			return -1;
+		}
+
+		System.arraycopy(scratch, 0, stats, 0, stats.length);
+		for (long tick = from + 1; tick <= to; tick++) {
+			decay.tick(tick, stats);
+			if (stats[PetSimulationEngine.HEALTH] <= 0) {
+				return tick;
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * Picks the ready action that leaves the lowest stat highest, breaking ties by the total of the stats.
+	 * Returns -1, to wait, if every ready action would lower the lowest stat.
+	 */
+	private static int bestAction(PetSimulationEngine engine, PetAction[] actions, int[] ready, int readyCount, int[] stats, int[] scratch) {
+		int best = -1;
+		int bestLowest = Integer.MAX_VALUE;
+		for (int value : stats) {
+			bestLowest = Math.min(bestLowest, value);
+		}
+		int bestTotal = -1;
+		for (int r = 0; r < readyCount; r++) {
+			System.arraycopy(stats, 0, scratch, 0, stats.length);
+			engine.apply(actions[ready[r]], scratch);
+
+			int lowest = Integer.MAX_VALUE;
+			int total = 0;
+			for (int value : scratch) {
+				lowest = Math.min(lowest, value);
+				total += value;
+			}
+			if (lowest > bestLowest || (lowest == bestLowest && total > bestTotal)) {
+				best = ready[r];
+				bestLowest = lowest;
+				bestTotal = total;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Builds every combination of the settings given on the command line.
+	 *
+	 * @param args the command line arguments
+	 * @return the scenarios to simulate
+	 * @throws IllegalArgumentException if an argument is not understood
+	 */
+	static List<Scenario> parseScenarios(String[] args) {
+		PetSimulationEngine base = PetSimulationEngine.getDefault();
+		PetAction[] actions = PetAction.values();
+
+		List<Policy> policies = new ArrayList<>();
+		List<Integer> penalties = new ArrayList<>();
+		List<Integer> cooldownOverrides = new ArrayList<>();
+		List<int[]> deltaTargets = new ArrayList<>();
+		List<List<Integer>> deltaValues = new ArrayList<>();
+		List<Integer> decayTargets = new ArrayList<>();
+		List<List<Integer>> decayValues = new ArrayList<>();
+		int horizon = 3600;
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.equals("--details")) {
+				continue;
+			}
+			if (i + 1 >= args.length) {
+				throw new IllegalArgumentException("Missing value for " + arg);
+			}
+
+			String value = args[++i];
+			switch (arg) {
+				case "--lifetimes":
+				case "--seed":
+					//Read by main
+					break;
+				case "--policy":
+					for (String name : value.split(",")) {
+						policies.add(Policy.parse(name));
+					}
+					break;
+				case "--penalty":
+					penalties.addAll(parseInts(value));
+					break;
+				case "--cooldown":
+					cooldownOverrides.addAll(parseInts(value));
+					break;
+				case "--horizon":
+					horizon = Integer.parseInt(value.trim());
+					break;
+				case "--delta":
+					//For example play.health=-10,-5
+					int equals = value.indexOf('=');
+					int dot = value.indexOf('.');
+					if (equals < 0 || dot < 0 || dot > equals) {
+						throw new IllegalArgumentException("Expected action.stat=values but got " + value);
+					}
+					PetAction action = PetAction.valueOf(value.substring(0, dot).trim().toUpperCase(Locale.ROOT));
+					int stat = statIndex(value.substring(dot + 1, equals));
+					deltaTargets.add(new int[] {action.ordinal(), stat});
+					deltaValues.add(parseInts(value.substring(equals + 1)));
+					break;
+				case "--decay":
+					//For example hunger=30,60 or healthPenalty=0,60, in seconds per point with 0 for none
+					int split = value.indexOf('=');
+					int key = (split < 0) ? -1 : decayKey(value.substring(0, split));
+					if (key < 0) {
+						throw new IllegalArgumentException("Expected happiness, sleep, hunger or healthPenalty=values but got " + value);
+					}
+					decayTargets.add(key);
+					decayValues.add(parseInts(value.substring(split + 1)));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + arg);
+			}
+		}
+
+		if (policies.isEmpty()) {
+			for (Policy policy : Policy.values()) {
+				policies.add(policy);
+			}
+		}
+		if (penalties.isEmpty()) {
+			penalties.add(base.getZeroStatPenalty());
+		}
+		//A cooldown of 0 stands for the cooldowns in the config file
+		if (cooldownOverrides.isEmpty()) {
+			cooldownOverrides.add(0);
+		}
+
+		//Count the combinations of delta and decay values, like an odometer
+		int deltaCombinations = 1;
+		for (List<Integer> values : deltaValues) {
+			deltaCombinations *= values.size();
+		}
+		for (List<Integer> values : decayValues) {
+			deltaCombinations *= values.size();
+		}
+
+		List<Scenario> scenarios = new ArrayList<>();
+		for (Policy policy : policies) {
+			for (int penalty : penalties) {
+				for (int cooldownOverride : cooldownOverrides) {
+					for (int combination = 0; combination < deltaCombinations; combination++) {
+						int[][] deltas = new int[actions.length][PetSimulationEngine.STAT_COUNT];
+						for (PetAction action : actions) {
+							for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+								deltas[action.ordinal()][stat] = base.getDelta(action, stat);
+							}
+						}
+
+						StringBuilder label = new StringBuilder(policy.name().toLowerCase(Locale.ROOT).replace('_', '-'));
+						label.append(" penalty=").append(penalty);
+						label.append(" cooldown=").append(cooldownOverride == 0 ? "config" : cooldownOverride + "s");
+
+						int remaining = combination;
+						for (int d = 0; d < deltaTargets.size(); d++) {
+							List<Integer> values = deltaValues.get(d);
+							int value = values.get(remaining % values.size());
+							remaining /= values.size();
+
+							int[] target = deltaTargets.get(d);
+							deltas[target[0]][target[1]] = value;
+							label.append(' ').append(actions[target[0]].name().toLowerCase(Locale.ROOT))
+									.append('.').append(PetSimulationEngine.statName(target[1])).append('=').append(value);
+						}
+
+						//Decay rates, in DECAY_KEYS order
+						int[] rates = new int[DECAY_KEYS.length];
+						for (int k = 0; k < rates.length; k++) {
+							rates[k] = Math.max(0, GameConfig.get().getDecaySeconds(DECAY_KEYS[k]));
+						}
+						for (int d = 0; d < decayTargets.size(); d++) {
+							List<Integer> values = decayValues.get(d);
+							int value = values.get(remaining % values.size());
+							remaining /= values.size();
+
+							rates[decayTargets.get(d)] = Math.max(0, value);
+							label.append(" decay.").append(DECAY_KEYS[decayTargets.get(d)]).append('=').append(value);
+						}
+						int[] secondsPerPoint = new int[PetSimulationEngine.STAT_COUNT];
+						for (int k = 0; k < DECAY_KEYS.length - 1; k++) {
+							secondsPerPoint[PetSimulationEngine.statIndex(DECAY_KEYS[k])] = rates[k];
+						}
+
+						int[] cooldowns = new int[actions.length];
+						for (PetAction action : actions) {
+							cooldowns[action.ordinal()] = (cooldownOverride == 0) ? GameConfig.get().getCooldown(action.getKey()) : cooldownOverride;
+						}
+
+						PetSimulationEngine engine = new PetSimulationEngine(deltas, penalty, base.getActionScore());
+						StatDecay decay = new StatDecay(secondsPerPoint, rates[DECAY_KEYS.length - 1], penalty);
+						scenarios.add(new Scenario(engine, decay, cooldowns, policy, horizon, label.toString()));
+					}
+				}
+			}
+		}
+		return scenarios;
+	}
+
+	private static List<Integer> parseInts(String list) {
+		List<Integer> values = new ArrayList<>();
+		for (String part : list.split(",")) {
+			values.add(Integer.parseInt(part.trim()));
+		}
+		return values;
+	}
+
+	private static int statIndex(String name) {
+		int stat = PetSimulationEngine.statIndex(name);
+		if (stat < 0) {
+			throw new IllegalArgumentException("Unknown stat " + name);
+		}
+		return stat;
+	}
+
+	private static int decayKey(String name) {
+		for (int k = 0; k < DECAY_KEYS.length; k++) {
+			if (DECAY_KEYS[k].equalsIgnoreCase(name.trim())) {
+				return k;
+			}
+		}
+		return -1;
+	}
+
+	private static String option(String[] args, String name, String fallback) {
+		for (int i = 0; i < args.length - 1; i++) {
+			if (args[i].equals(name)) {
+				return args[i + 1];
+			}
+		}
+		return fallback;
+	}
+
+	/**
+	 * Prints the survival curve and the time to death and score distributions of a scenario.
+	 */
+	private static void printDetails(Report report, Scenario scenario) {
+		System.out.println();
+		System.out.println("== " + scenario.label);
+		System.out.printf(Locale.ROOT, "lifetimes %d, died %d (%.2f%%)%n", report.getLifetimes(), report.getDeaths(),
+				100.0 * report.getDeaths() / Math.max(1, report.getLifetimes()));
+
+		System.out.println("survival curve:");
+		for (int point = 1; point <= CURVE_POINTS; point++) {
+			int seconds = scenario.horizon * point / CURVE_POINTS;
+			double alive = report.survivalAt(seconds);
+			System.out.printf(Locale.ROOT, "  %6ds %6.2f%% %s%n", seconds, 100 * alive, "#".repeat((int) Math.round(alive * 40)));
+		}
+
+		if (report.getDeaths() > 0) {
+			System.out.printf(Locale.ROOT, "time to death: p10 %ds  p50 %ds  p90 %ds  p99 %ds%n",
+					report.deathTimePercentile(0.10), report.deathTimePercentile(0.50),
+					report.deathTimePercentile(0.90), report.deathTimePercentile(0.99));
+		}
+		System.out.printf(Locale.ROOT, "score: mean %.1f  p10 %d  p50 %d  p90 %d  max %d%n", report.meanScore(),
+				report.scorePercentile(0.10), report.scorePercentile(0.50), report.scorePercentile(0.90), report.scorePercentile(1.0));
+	}
+
+	/**
+	 * Runs the balancing tool.
+	 *
+	 * @param args options, see the usage message
+	 */
+	public static void main(String[] args) {
+		List<Scenario> scenarios;
+		long lifetimes;
+		long seed;
+		try {
+			scenarios = parseScenarios(args);
+			lifetimes = Long.parseLong(option(args, "--lifetimes", "100000"));
+			seed = Long.parseLong(option(args, "--seed", "42"));
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: java BalanceSimulator [--lifetimes N] [--seed N] [--horizon SECONDS] [--details]");
+			System.err.println("       [--policy random,greedy,round-robin] [--penalty N,...] [--cooldown SECONDS,...]");
+			System.err.println("       [--delta action.stat=N,...]... [--decay stat=SECONDS,...]...");
+			System.err.println("Actions are feed, play, sleep and vet. Stats are happiness, health, sleep and hunger.");
+			System.err.println("Decay is set for happiness, sleep, hunger or healthPenalty, in seconds per point with 0 for none.");
+			System.exit(1);
+			return;
+		}
+		boolean details = List.of(args).contains("--details");
+
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		System.out.printf(Locale.ROOT, "%d scenarios x %d lifetimes on %d threads%n", scenarios.size(), lifetimes, pool.getParallelism());
+		System.out.printf(Locale.ROOT, "%-60s %9s %9s %9s %9s%n", "scenario", "survived", "ttd p50", "ttd p90", "score p50");
+
+		long start = System.nanoTime();
+		List<Report> reports = new ArrayList<>();
+		for (Scenario scenario : scenarios) {
+			Report report = run(scenario, lifetimes, seed, pool);
+			reports.add(report);
+
+			int median = report.deathTimePercentile(0.50);
+			int p90 = report.deathTimePercentile(0.90);
+			System.out.printf(Locale.ROOT, "%-60s %8.2f%% %9s %9s %9d%n", scenario.label, 100 * report.survivalAt(scenario.horizon),
+					(median < 0) ? "-" : median + "s", (p90 < 0) ? "-" : p90 + "s", report.scorePercentile(0.50));
+		}
+		System.out.printf(Locale.ROOT, "done in %.2fs%n", (System.nanoTime() - start) / 1e9);
+
+		if (details) {
+			for (int i = 0; i < scenarios.size(); i++) {
+				printDetails(reports.get(i), scenarios.get(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,226 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import javax.swing.AbstractButton;
+import javax.swing.Timer;
+
+/**
+ * Tracks the cooldown of every {@link PetAction} for one game on a single shared timer.
+ * <br><br>
+ * Each action has a deadline. Buttons bound to an action show the seconds left next to their text,
+ * and action buttons are disabled until the cooldown is over, so nothing has to block the screen
+ * while the pet rests. The timer only runs while at least one action is cooling down.<br><br>
+ *
+ * Remaining cooldowns can be copied out with {@link #getRemainingMillis()} and put back with
+ * {@link #restore(long[])}, so they survive saving and loading.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		cooldowns.bind(PetAction.FEED, feedButton, "Feed!", true);
+ * 		cooldowns.start(PetAction.FEED, 5);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//feedButton reads "Feed! (5s)" and is disabled for 5 seconds</code><br>
+ *
+ * @version 1.0.0
+ */
+public class CooldownScheduler {
+	/** How often bound buttons are refreshed while a cooldown is running */
+	private static final int TICK_MILLIS = 250;
+
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+
+	private final LongSupplier clock;
+	private final long[] deadlines = new long[PetAction.values().length];
+	private final boolean[] active = new boolean[PetAction.values().length];
+	private final List<List<Binding>> bindings = new ArrayList<>();
+	private final Timer timer;
+
+	/**
+	 * Creates a scheduler that uses {@link System#nanoTime()} as its clock.
+	 */
+	public CooldownScheduler() {
+		this(System::nanoTime);
+	}
+
+	/**
+	 * Creates a scheduler with a custom clock.
+	 *
+	 * @param clock source of monotonic time in nanoseconds
+	 */
+	public CooldownScheduler(LongSupplier clock) {
+		this.clock = clock;
+		for (int i = 0; i < deadlines.length; i++) {
+			bindings.add(new ArrayList<>());
+		}
+
+		timer = new Timer(TICK_MILLIS, e -> tick());
+		timer.setRepeats(true);
+	}
+
+	/**
+	 * Starts an action's cooldown.
+	 *
+	 * @param action the action that was just performed
+	 * @param seconds length of the cooldown
+	 */
+	public void start(PetAction action, int seconds) {
+		startMillis(action, seconds * 1000L);
+	}
+
+	/**
+	 * Checks if an action can be performed.
+	 *
+	 * @param action the action
+	 * @return true if the action is not cooling down
+	 */
+	public boolean isReady(PetAction action) {
+		return remainingNanos(action.ordinal()) <= 0;
+	}
+
+	/**
+	 * Getter for the whole seconds left on an action's cooldown, rounded up.
+	 *
+	 * @param action the action
+	 * @return seconds left, or 0 if the action is ready
+	 */
+	public int getRemainingSeconds(PetAction action) {
+		long nanos = remainingNanos(action.ordinal());
+		return (nanos <= 0) ? 0 : (int) ((nanos + 999_999_999L) / 1_000_000_000L);
+	}
+
+	/**
+	 * Copies the time left on every action's cooldown, for saving.
+	 *
+	 * @return milliseconds left indexed by {@link PetAction#ordinal()}
+	 */
+	public long[] getRemainingMillis() {
+		long[] remaining = new long[deadlines.length];
+		for (int i = 0; i < deadlines.length; i++) {
+			remaining[i] = Math.max(0, remainingNanos(i) / NANOS_PER_MILLI);
+		}
+		return remaining;
+	}
+
+	/**
+	 * Restarts cooldowns from saved remaining times.
+	 *
+	 * @param remainingMillis milliseconds left indexed by {@link PetAction#ordinal()}, may be shorter than the number of actions
+	 */
+	public void restore(long[] remainingMillis) {
+		PetAction[] actions = PetAction.values();
+		for (int i = 0; i < actions.length && i < remainingMillis.length; i++) {
+			if (remainingMillis[i] > 0) {
+				startMillis(actions[i], remainingMillis[i]);
+			}
+		}
+	}
+
+	/**
+	 * Binds a button to an action so it shows the time left on the action's cooldown.
+	 *
+	 * @param action the action
+	 * @param button the button to update
+	 * @param text the button's text when the action is ready
+	 * @param disableWhileCooling true to disable the button until the cooldown is over
+	 */
+	public void bind(PetAction action, AbstractButton button, String text, boolean disableWhileCooling) {
+		Binding binding = new Binding(button, text, disableWhileCooling);
+		bindings.get(action.ordinal()).add(binding);
+		render(action.ordinal(), binding);
+	}
+
+	/**
+	 * Stops updating a button, for example when its screen is closed.
+	 *
+	 * @param button the bound button
+	 */
+	public void unbind(AbstractButton button) {
+		for (List<Binding> list : bindings) {
+			list.removeIf(binding -> binding.button == button);
+		}
+	}
+
+	/**
+	 * Stops the timer. Called when the game screen is closed.
+	 */
+	public void stop() {
+		timer.stop();
+	}
+
+	/**
+	 * Refreshes every bound button and stops the timer once all actions are ready.
+	 */
+	void tick() {
+		boolean anyActive = false;
+		for (int i = 0; i < deadlines.length; i++) {
+			if (!active[i]) {
+				continue;
+			}
+			if (remainingNanos(i) <= 0) {
+				active[i] = false;
+			} else {
+				anyActive = true;
+			}
+
+			for (Binding binding : bindings.get(i)) {
+				render(i, binding);
+			}
+		}
+
+		if (!anyActive) {
+			timer.stop();
+		}
+	}
+
+	private void startMillis(PetAction action, long millis) {
+		int index = action.ordinal();
+		deadlines[index] = clock.getAsLong() + millis * NANOS_PER_MILLI;
+		active[index] = millis > 0;
+
+		for (Binding binding : bindings.get(index)) {
+			render(index, binding);
+		}
+		if (active[index] && !timer.isRunning()) {
+			timer.start();
+		}
+	}
+
+	private long remainingNanos(int index) {
+		return active[index] ? deadlines[index] - clock.getAsLong() : 0;
+	}
+
+	private void render(int index, Binding binding) {
+		long nanos = remainingNanos(index);
+		if (nanos > 0) {
+			int seconds = (int) ((nanos + 999_999_999L) / 1_000_000_000L);
+			binding.button.setText(binding.text + " (" + seconds + "s)");
+			if (binding.disableWhileCooling) {
+				binding.button.setEnabled(false);
+			}
+		} else {
+			binding.button.setText(binding.text);
+			//Buttons the cooldown never disables may have been disabled for another reason, such as a play time restriction
+			if (binding.disableWhileCooling) {
+				binding.button.setEnabled(true);
+			}
+		}
+	}
+
+	/**
+	 * A button showing an action's cooldown.
+	 */
+	private static final class Binding {
+		private final AbstractButton button;
+		private final String text;
+		private final boolean disableWhileCooling;
+
+		private Binding(AbstractButton button, String text, boolean disableWhileCooling) {
+			this.button = button;
+			this.text = text;
+			this.disableWhileCooling = disableWhileCooling;
+		}
+	}
+}
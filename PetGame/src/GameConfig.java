@@ -0,0 +1,464 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed, read-only view of {@code json/jsonFile.json}.
+ * <br><br>
+ * The file is read and parsed once, the first time {@link #get()} is called, and the same
+ * configuration is then shared by every screen. If the file can not be read the game falls back
+ * to the same defaults the screens used before: a 5 second cooldown for each action, the built in
+ * starting inventory and the three default pets, and stats do not decay over time.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		int feedCooldown = GameConfig.get().getCooldown("feed");
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public final class GameConfig {
+	/** Location of the configuration file, relative to the working directory */
+	public static final String CONFIG_FILE = "json/jsonFile.json";
+
+	/** Cooldown used for any action the file does not list */
+	public static final int DEFAULT_COOLDOWN = 5;
+
+	/** How often the action journal is flushed when the file does not say */
+	public static final int DEFAULT_JOURNAL_FLUSH_MILLIS = 200;
+
+	/** How many days of session journals are kept when the file does not say, about six months */
+	public static final int DEFAULT_JOURNAL_KEEP_DAYS = 180;
+
+	private final boolean loadedFromFile;
+	private final Map<String, Integer> cooldowns;
+	private final Map<String, Integer> decaySeconds;
+	private final String journalDirectory;
+	private final int journalFlushMillis;
+	private final int journalKeepDays;
+	private final List<InventoryEntry> startingInventory;
+	private final List<ItemEntry> items;
+	private final List<PetProfile> pets;
+	private final String parentPassword;
+	private final List<RestrictionEntry> playTimeRestrictions;
+	private final int totalPlayTime;
+	private final int averagePlayTime;
+	private final int resetPlayTime;
+	private final boolean petRevival;
+
+	private GameConfig(boolean loadedFromFile, Map<String, Integer> cooldowns, Map<String, Integer> decaySeconds, String journalDirectory,
+			int journalFlushMillis, int journalKeepDays, List<InventoryEntry> startingInventory, List<ItemEntry> items, List<PetProfile> pets, String parentPassword,
+			List<RestrictionEntry> playTimeRestrictions, int totalPlayTime, int averagePlayTime, int resetPlayTime,
+			boolean petRevival) {
+		this.loadedFromFile = loadedFromFile;
+		this.cooldowns = Collections.unmodifiableMap(cooldowns);
+		this.decaySeconds = Collections.unmodifiableMap(decaySeconds);
+		this.journalDirectory = journalDirectory;
+		this.journalFlushMillis = journalFlushMillis;
+		this.journalKeepDays = journalKeepDays;
+		this.startingInventory = Collections.unmodifiableList(startingInventory);
+		this.items = Collections.unmodifiableList(items);
+		this.pets = Collections.unmodifiableList(pets);
+		this.parentPassword = parentPassword;
+		this.playTimeRestrictions = Collections.unmodifiableList(playTimeRestrictions);
+		this.totalPlayTime = totalPlayTime;
+		this.averagePlayTime = averagePlayTime;
+		this.resetPlayTime = resetPlayTime;
+		this.petRevival = petRevival;
+	}
+
+	/**
+	 * Holder so the file is only read the first time the configuration is needed.
+	 */
+	private static class Holder {
+		static final GameConfig INSTANCE = load(CONFIG_FILE);
+	}
+
+	/**
+	 * Getter for the shared game configuration.
+	 *
+	 * @return the configuration parsed from {@link #CONFIG_FILE}
+	 */
+	public static GameConfig get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Reads and parses a configuration file, falling back to the defaults if it can not be read.
+	 *
+	 * @param filePath path of the JSON file
+	 * @return the parsed configuration, or {@link #defaults()} on error
+	 */
+	public static GameConfig load(String filePath) {
+		try {
+			return parse(new String(Files.readAllBytes(Paths.get(filePath)), StandardCharsets.UTF_8));
+		} catch (IOException | IllegalArgumentException e) {
+			e.printStackTrace();
+			return defaults();
+		}
+	}
+
+	/**
+	 * Getter for the configuration used when the file is missing.
+	 *
+	 * @return the default configuration
+	 */
+	public static GameConfig defaults() {
+		List<PetProfile> pets = new ArrayList<>();
+		pets.add(new PetProfile("Luka", "Default description for Luka"));
+		pets.add(new PetProfile("Anthony", "Default description for Anthony"));
+		pets.add(new PetProfile("Sam", "Default description for Sam"));
+
+		return new GameConfig(false, new HashMap<>(), new HashMap<>(), null, DEFAULT_JOURNAL_FLUSH_MILLIS, DEFAULT_JOURNAL_KEEP_DAYS, new ArrayList<>(), new ArrayList<>(), pets, null, new ArrayList<>(), 0, 0, 0, false);
+	}
+
+	/**
+	 * Parses the configuration from JSON text.
+	 *
+	 * @param json contents of the configuration file
+	 * @return the parsed configuration
+	 * @throws IllegalArgumentException if the text is not valid JSON
+	 */
+	public static GameConfig parse(String json) {
+		Map<String, Object> root = JsonParser.parseObject(json);
+		Map<String, Object> session = object(root, "gameSession");
+		Map<String, Object> parental = object(root, "parentalControls");
+		Map<String, Object> statistics = object(parental, "statistics");
+
+		//Cooldown for each action
+		Map<String, Integer> cooldowns = new HashMap<>();
+		Map<String, Object> actions = object(session, "availableActions");
+		for (Map.Entry<String, Object> action : actions.entrySet()) {
+			if (action.getValue() instanceof Map) {
+				cooldowns.put(action.getKey(), integer(object(actions, action.getKey()), "cooldown", DEFAULT_COOLDOWN));
+			}
+		}
+
+		//Seconds for each stat to lose a point
+		Map<String, Integer> decaySeconds = new HashMap<>();
+		Map<String, Object> decay = object(session, "statDecay");
+		for (String key : decay.keySet()) {
+			decaySeconds.put(key, integer(decay, key, 0));
+		}
+
+		//Where the action journal is kept, if anywhere
+		Map<String, Object> history = object(session, "actionHistory");
+		String journalDirectory = string(history, "directory", null);
+		int journalFlushMillis = integer(history, "flushMillis", DEFAULT_JOURNAL_FLUSH_MILLIS);
+		int journalKeepDays = Math.max(0, integer(history, "keepDays", DEFAULT_JOURNAL_KEEP_DAYS));
+
+		//Starting inventory
+		List<InventoryEntry> inventory = new ArrayList<>();
+		for (Map<String, Object> item : objects(session, "inventory")) {
+			inventory.add(new InventoryEntry(string(item, "itemId", null), string(item, "itemName", "Unknown"), integer(item, "quantity", 1)));
+		}
+
+		//Every kind of item in the game
+		List<ItemEntry> items = new ArrayList<>();
+		for (Map<String, Object> item : objects(root, "items")) {
+			items.add(new ItemEntry(string(item, "itemId", null), string(item, "itemName", "Unknown"),
+					string(item, "type", ItemCatalog.FOOD), string(item, "stat", null),
+					integer(item, "amount", 0), string(item, "effect", "")));
+		}
+
+		//Pets to choose from in the tutorial
+		List<PetProfile> pets = new ArrayList<>();
+		for (Map<String, Object> pet : objects(root, "pets")) {
+			pets.add(new PetProfile(string(pet, "petName", "Unknown"), string(pet, "petDescription", "Unknown")));
+		}
+
+		//Times of the week the game can not be played; the old form only gives the hour the restriction starts
+		List<RestrictionEntry> restrictions = new ArrayList<>();
+		for (Map<String, Object> restriction : objects(parental, "playTimeRestrictions")) {
+			restrictions.add(new RestrictionEntry(string(restriction, "day", null),
+					string(restriction, "start", string(restriction, "time", null)), string(restriction, "end", null)));
+		}
+
+		Object revival = object(parental, "actions").get("petRevival");
+
+		return new GameConfig(true, cooldowns, decaySeconds, journalDirectory, journalFlushMillis, journalKeepDays, inventory, items, pets,
+				string(parental, "parentPassword", null),
+				restrictions,
+				integer(statistics, "totalPlayTime", 0),
+				integer(statistics, "averagePlayTime", 0),
+				integer(statistics, "resetPlayTime", 0),
+				Boolean.TRUE.equals(revival) || "true".equals(revival));
+	}
+
+	/**
+	 * Getter for whether the configuration came from the file rather than the defaults.
+	 *
+	 * @return true if the file was read successfully
+	 */
+	public boolean isLoadedFromFile() {
+		return loadedFromFile;
+	}
+
+	/**
+	 * Getter for the cooldown of an action.
+	 *
+	 * @param actionKey the action's key in {@code availableActions}
+	 * @return the cooldown in seconds, or {@link #DEFAULT_COOLDOWN} if the action is not listed
+	 */
+	public int getCooldown(String actionKey) {
+		return cooldowns.getOrDefault(actionKey, DEFAULT_COOLDOWN);
+	}
+
+	/**
+	 * Getter for how fast a stat runs down while the game is open.
+	 *
+	 * @param key a stat's name, or {@code healthPenalty} for how often health is lost while another stat is at 0
+	 * @return seconds per point, or 0 if the file does not list it
+	 */
+	public int getDecaySeconds(String key) {
+		return decaySeconds.getOrDefault(key, 0);
+	}
+
+	/**
+	 * Getter for where each session's {@link ActionJournal} is written.
+	 *
+	 * @return the directory from {@code actionHistory}, or null if the journal is off
+	 */
+	public String getJournalDirectory() {
+		return journalDirectory;
+	}
+
+	/**
+	 * Getter for how often the action journal is forced to the disk.
+	 *
+	 * @return milliseconds between flushes
+	 */
+	public int getJournalFlushMillis() {
+		return journalFlushMillis;
+	}
+
+	/**
+	 * Getter for how many days session journals are kept. Older ones are deleted when a session starts.
+	 *
+	 * @return the number of days to keep journals for, or 0 to keep them all
+	 */
+	public int getJournalKeepDays() {
+		return journalKeepDays;
+	}
+
+	/**
+	 * Getter for the items a new game starts with.
+	 *
+	 * @return the starting inventory, empty if the file has none
+	 */
+	public List<InventoryEntry> getStartingInventory() {
+		return startingInventory;
+	}
+
+	/**
+	 * Getter for every kind of item, used to build the {@link ItemCatalog}.
+	 *
+	 * @return the item list, empty if the file has none
+	 */
+	public List<ItemEntry> getItems() {
+		return items;
+	}
+
+	/**
+	 * Getter for the pets offered in the tutorial.
+	 *
+	 * @return the pets in file order
+	 */
+	public List<PetProfile> getPets() {
+		return pets;
+	}
+
+	/**
+	 * Getter for the pet at a position in the pets list.
+	 *
+	 * @param index 0-based position
+	 * @return the pet, or a pet named "Unknown" if there is no pet at that position
+	 */
+	public PetProfile getPet(int index) {
+		return (index >= 0 && index < pets.size()) ? pets.get(index) : new PetProfile("Unknown", "Unknown");
+	}
+
+	/**
+	 * Getter for the parental control password.
+	 *
+	 * @return the password, or null if none is set
+	 */
+	public String getParentPassword() {
+		return parentPassword;
+	}
+
+	/**
+	 * Getter for the times of the week the game can not be played, compiled by {@link PlaytimeRestrictions}.
+	 *
+	 * @return the restrictions in file order, empty if there are none
+	 */
+	public List<RestrictionEntry> getPlayTimeRestrictions() {
+		return playTimeRestrictions;
+	}
+
+	/**
+	 * Getter for the total playtime statistic.
+	 *
+	 * @return total playtime in minutes
+	 */
+	public int getTotalPlayTime() {
+		return totalPlayTime;
+	}
+
+	/**
+	 * Getter for the average playtime statistic.
+	 *
+	 * @return average playtime in minutes
+	 */
+	public int getAveragePlayTime() {
+		return averagePlayTime;
+	}
+
+	/**
+	 * Getter for the time the playtime statistics reset.
+	 *
+	 * @return minutes since midnight
+	 */
+	public int getResetPlayTime() {
+		return resetPlayTime;
+	}
+
+	/**
+	 * Getter for whether parents may revive a pet.
+	 *
+	 * @return true if pet revival is enabled
+	 */
+	public boolean isPetRevival() {
+		return petRevival;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> object(Map<String, Object> parent, String key) {
+		Object value = parent.get(key);
+		return (value instanceof Map) ? (Map<String, Object>) value : Collections.emptyMap();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> objects(Map<String, Object> parent, String key) {
+		List<Map<String, Object>> result = new ArrayList<>();
+		Object value = parent.get(key);
+		if (value instanceof List) {
+			for (Object element : (List<Object>) value) {
+				if (element instanceof Map) {
+					result.add((Map<String, Object>) element);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static String string(Map<String, Object> parent, String key, String fallback) {
+		Object value = parent.get(key);
+		return (value != null) ? value.toString() : fallback;
+	}
+
+	private static int integer(Map<String, Object> parent, String key, int fallback) {
+		Object value = parent.get(key);
+		if (value instanceof Number) {
+			return ((Number) value).intValue();
+		}
+		if (value instanceof String) {
+			try {
+				return Integer.parseInt(((String) value).trim());
+			} catch (NumberFormatException e) {
+				return fallback;
+			}
+		}
+		return fallback;
+	}
+
+	/**
+	 * An item listed in the configuration's starting inventory.
+	 */
+	public static final class InventoryEntry {
+		private final String itemId;
+		private final String itemName;
+		private final int quantity;
+
+		public InventoryEntry(String itemId, String itemName, int quantity) {
+			this.itemId = itemId;
+			this.itemName = itemName;
+			this.quantity = quantity;
+		}
+
+		public String getItemId() { return itemId; }
+		public String getItemName() { return itemName; }
+		public int getQuantity() { return quantity; }
+	}
+
+	/**
+	 * An item listed in the configuration's item catalog.
+	 */
+	public static final class ItemEntry {
+		private final String itemId;
+		private final String itemName;
+		private final String type;
+		private final String stat;
+		private final int amount;
+		private final String effect;
+
+		public ItemEntry(String itemId, String itemName, String type, String stat, int amount, String effect) {
+			this.itemId = itemId;
+			this.itemName = itemName;
+			this.type = type;
+			this.stat = stat;
+			this.amount = amount;
+			this.effect = effect;
+		}
+
+		public String getItemId() { return itemId; }
+		public String getItemName() { return itemName; }
+		public String getType() { return type; }
+		public String getStat() { return stat; }
+		public int getAmount() { return amount; }
+		public String getEffect() { return effect; }
+	}
+
+	/**
+	 * A time the game can not be played, listed in the configuration's {@code playTimeRestrictions}.
+	 */
+	public static final class RestrictionEntry {
+		private final String day;
+		private final String start;
+		private final String end;
+
+		public RestrictionEntry(String day, String start, String end) {
+			this.day = day;
+			this.start = start;
+			this.end = end;
+		}
+
+		public String getDay() { return day; }
+		public String getStart() { return start; }
+		public String getEnd() { return end; }
+	}
+
+	/**
+	 * A pet offered in the tutorial's pet picker.
+	 */
+	public static final class PetProfile {
+		private final String name;
+		private final String description;
+
+		public PetProfile(String name, String description) {
+			this.name = name;
+			this.description = description;
+		}
+
+		public String getName() { return name; }
+		public String getDescription() { return description; }
+	}
+}
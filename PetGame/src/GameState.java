@@ -1,10 +1,21 @@
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Snapshot of a game that can be saved and loaded: the pet's stats, the score,
+ * which pet was chosen, the items in the inventory and the time left on each action's cooldown.
+ */
 public class GameState {
     private int health;
     private int hunger;
     private int sleep;
     private int happiness;
+    private int score;
+    private int petNumber;
+    private List<ItemStack> inventory = new ArrayList<>();
+    private long[] cooldownMillis = new long[0];
+    private long savedAtMillis;
 
     //getter n setter
     public int getHealth() { return health; }
@@ -19,6 +30,23 @@ public class GameState {
     public int getHappiness() { return happiness; }
     public void setHappiness(int happiness) { this.happiness = happiness; }
 
+    public int getScore() { return score; }
+    public void setScore(int score) { this.score = score; }
+
+    public int getPetNumber() { return petNumber; }
+    public void setPetNumber(int petNumber) { this.petNumber = petNumber; }
+
+    public List<ItemStack> getInventory() { return inventory; }
+    public void setInventory(List<ItemStack> inventory) { this.inventory = inventory; }
+
+    //milliseconds left on each action's cooldown, indexed by PetAction order
+    public long[] getCooldownMillis() { return cooldownMillis; }
+    public void setCooldownMillis(long[] cooldownMillis) { this.cooldownMillis = cooldownMillis; }
+
+    //wall clock time the game was saved, from System.currentTimeMillis(), 0 if unknown
+    public long getSavedAtMillis() { return savedAtMillis; }
+    public void setSavedAtMillis(long savedAtMillis) { this.savedAtMillis = savedAtMillis; }
+
     //convert gamestate to json 
     public String toJson() {
         return "{"
@@ -55,4 +83,26 @@ public class GameState {
 
         return gameState;
     }
+
+    /**
+     * A stack of identical inventory items and how many of them the player has.
+     */
+    public static final class ItemStack {
+        private final String name;
+        private final String type;
+        private final String effect;
+        private final int quantity;
+
+        public ItemStack(String name, String type, String effect, int quantity) {
+            this.name = name;
+            this.type = type;
+            this.effect = effect;
+            this.quantity = quantity;
+        }
+
+        public String getName() { return name; }
+        public String getType() { return type; }
+        public String getEffect() { return effect; }
+        public int getQuantity() { return quantity; }
+    }
 }
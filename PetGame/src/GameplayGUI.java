@@ -3,13 +3,13 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.*;
 import javax.swing.border.LineBorder;
@@ -20,7 +20,8 @@ import javax.swing.border.LineBorder;
  * Players can perform actions such as feeding, playing, sleeping, and visiting the vet.
  * The interface also tracks the pet's stats, including hunger, happiness, health, 
  * sleep, and score. Game progress can be saved to a file, and inventory items 
- * can be used within the GUI.<br><br>
+ * can be used within the GUI. While the screen is open the stats run down in real time following the
+ * {@link StatDecay} rules.<br><br>
  *
  * <b>Example Use:</b>
  * <pre>
@@ -37,14 +38,52 @@ import javax.swing.border.LineBorder;
  */
 public class GameplayGUI extends JFrame{
 	//Create Instance Varibales
-	private int score, health, sleep, hunger, happiness, petNumber;
+	private int petNumber;
 	private String inventoryItems;
 	private InventoryScreen inventory;
 	private JLabel happinessValueLabel, sleepValueLabel, healthValueLabel, hungerValueLabel, scoreLabel;
+	private StatBar happinessBar, sleepBar, healthBar, hungerBar;
 
-	    // ------------------- FIELD FOR COOLDOWNS -------------------
-    private Map<String, Integer> actionCooldowns = new HashMap<>();
-    // ---------------------------------------------------------------
+	//Score and stats in one atomic long, so the decay tick and the screens never lose each other's updates
+	private final PetState petState;
+
+	//Reused when applying engine rules on the Event Dispatch Thread so actions do not allocate
+	private final int[] statsBuffer = new int[PetSimulationEngine.STAT_COUNT];
+
+	//Tracks every action's cooldown on one timer
+	private final CooldownScheduler cooldowns = new CooldownScheduler();
+
+	//Runs the stats down once a second on a background thread
+	private final StatDecay decay = StatDecay.fromConfig(GameConfig.get());
+	private final int[] decayBuffer = new int[PetSimulationEngine.STAT_COUNT];
+	private long decayTicks;
+	//Whether the last decay tick changed anything, only used on the decay thread
+	private boolean decayChanged;
+	private ScheduledExecutorService decayScheduler;
+
+	//Decides rewards; seeded so the journal can replay the same rewards
+	private final RewardRandom rewardRandom = new RewardRandom(ThreadLocalRandom.current().nextLong());
+
+	//Records every change to the pet in this session's journal file
+	private final ActionJournal journal;
+
+	//Set while a stats refresh is waiting on the Event Dispatch Thread, so ticks never queue more than one
+	private final AtomicBoolean statsRefreshPending = new AtomicBoolean();
+	private final Runnable refreshStats = this::refreshStats;
+
+	//Buttons that are disabled while a play time restriction is on
+	private JButton[] playButtons;
+	private boolean playLocked;
+
+	//Set once the death message has been shown, so it is never shown twice
+	private boolean petDied;
+
+	//Profile this game was loaded from or last saved to, offered first when saving
+	private String profile;
+
+	//Counts the time this screen is open and playable for the parental statistics
+	private PlaytimeTracker.Session playtime;
+	private final PlaytimeGuard.Listener playtimeListener = allowed -> SwingUtilities.invokeLater(() -> setPlayAllowed(allowed));
 
 	/**
 	 * GameplayGUI constructor. Creates a new main game screen.
@@ -59,22 +98,22 @@ public class GameplayGUI extends JFrame{
 	 */
 	public GameplayGUI(int inputScore, int inputHappiness, int inputHealth, int inputSleep, int inputHunger, int petNumber, String inventoryItems) {
 		//Get the values
-		this.sleep = inputSleep;
-		this.happiness = inputHappiness;
-		this.hunger = inputHunger;
-		this.health = inputHealth;
-		this.score = inputScore;
+		this.petState = new PetState(inputScore, inputHappiness, inputHealth, inputSleep, inputHunger);
 		this.petNumber = petNumber;
 		this.inventoryItems = inventoryItems;
 
+		//Open this session's journal; the game carries on without one if it can not be made
+		ActionJournal opened;
+		try {
+			opened = ActionJournal.open(GameConfig.get(), System.currentTimeMillis(), rewardRandom.getState());
+		} catch (IOException e) {
+			System.err.println("Could not open the action journal: " + e.getMessage());
+			opened = ActionJournal.disabled();
+		}
+		journal = opened;
 
-
-
-		// -------- Loading action cooldowns from the JSON on startup --------
-		loadActionCooldownsFromJson();
-		// ---------------------------------------------------------------------
-
-
+		//Counted from zero, so the journal's changes add up to the pet's state
+		journal.append(ActionJournal.START, petNumber, 0L, petState.get());
 
 		//Fill the inventory
 		inventory = new InventoryScreen(GameplayGUI.this);
@@ -83,6 +122,19 @@ public class GameplayGUI extends JFrame{
 			inventory.customAddItems(inventoryItems);
 		}
 
+		//Uses and rewards are journaled as they happen; anything that replaces the whole inventory is written out in full
+		recordHoldings();
+		inventory.getItems().addListener(new Inventory.Listener() {
+			@Override
+			public void quantityChanged(int id, int oldQuantity, int newQuantity) {
+			}
+
+			@Override
+			public void inventoryReplaced() {
+				recordHoldings();
+			}
+		});
+
 		//Create the screen
 		setTitle("Home");
 		setSize(1200, 800);
@@ -95,19 +147,25 @@ public class GameplayGUI extends JFrame{
 		getContentPane().setBackground(new Color(204, 255, 255));
 
 		//Create the icons
-		JLabel catIcon = new JLabel(new ImageIcon("img/pet" + String.valueOf(petNumber) + ".png"));
+		JLabel catIcon = new JLabel(ImageAssets.icon("img/pet" + String.valueOf(petNumber) + ".png"));
 
 		//Create the labels
-		scoreLabel = new JLabel("Score: " + String.valueOf(score));
+		scoreLabel = new JLabel("Score: " + String.valueOf(getScore()));
 		JLabel happinessTextLabel = new JLabel("Happiness:");
 		JLabel sleepTextLabel = new JLabel("Sleep:");
 		JLabel healthTextLabel = new JLabel("Health:");
 		JLabel hungerTextLabel = new JLabel("Hunger:");
 
-		happinessValueLabel = new JLabel(String.valueOf(happiness) + "/100");
-		sleepValueLabel = new JLabel(String.valueOf(sleep) + "/100");
-		healthValueLabel = new JLabel(String.valueOf(health) + "/100");
-		hungerValueLabel = new JLabel(String.valueOf(hunger) + "/100");
+		happinessValueLabel = new JLabel(String.valueOf(getHapp()) + "/100");
+		sleepValueLabel = new JLabel(String.valueOf(getSleep()) + "/100");
+		healthValueLabel = new JLabel(String.valueOf(getH()) + "/100");
+		hungerValueLabel = new JLabel(String.valueOf(getHunger()) + "/100");
+
+		//Create the stat bars
+		happinessBar = new StatBar(Color.YELLOW, getHapp());
+		healthBar = new StatBar(Color.GREEN, getH());
+		sleepBar = new StatBar(Color.BLUE, getSleep());
+		hungerBar = new StatBar(Color.RED, getHunger());
 
 		//Create the buttons
 		JButton exitButton = createButton("Exit", 980, 10, 200, 60);
@@ -162,6 +220,11 @@ public class GameplayGUI extends JFrame{
 		hungerValueLabel.setFont(new Font("SansSerif", Font.BOLD, 25));
 		hungerValueLabel.setBounds(1060, 650, 200, 60);
 
+		//Stat bars, centred on their labels
+		happinessBar.setBounds(248, 588, 204, 44);
+		healthBar.setBounds(248, 658, 204, 44);
+		sleepBar.setBounds(848, 588, 204, 44);
+		hungerBar.setBounds(848, 658, 204, 44);
 
 		//Add the icon
 		add(catIcon);
@@ -177,6 +240,12 @@ public class GameplayGUI extends JFrame{
 		add(healthValueLabel);
 		add(hungerValueLabel);
 
+		//Add the bars
+		add(happinessBar);
+		add(healthBar);
+		add(sleepBar);
+		add(hungerBar);
+
 		//Add the buttons
 		add(exitButton);
 		add(playButton);
@@ -186,6 +255,14 @@ public class GameplayGUI extends JFrame{
 		add(sleepButton);
 		add(feedButton);
 
+		//Show the time left on each action's cooldown next to its button
+		cooldowns.bind(PetAction.SLEEP, sleepButton, "Go To Sleep", false);
+		cooldowns.bind(PetAction.FEED, feedButton, "Feed", false);
+		cooldowns.bind(PetAction.PLAY, playButton, "Play Games", false);
+		cooldowns.bind(PetAction.VET, vetButton, "Take To Vet", false);
+
+		playButtons = new JButton[] {sleepButton, feedButton, playButton, vetButton, inventoryButton};
+
 		//Create Action Listeners
 
 		//Exit button
@@ -202,7 +279,7 @@ public class GameplayGUI extends JFrame{
 
 				//Exit to home screen if yes
 				if (choice == JOptionPane.YES_OPTION) {
-					new startingScreen();
+					startingScreen.open();
 					dispose();
 				}
 			}
@@ -212,27 +289,20 @@ public class GameplayGUI extends JFrame{
 		saveButton.addActionListener(new ActionListener() {
 			@Override
 			public void actionPerformed(ActionEvent e) {
-				//Prompt for a file to save to
-				String[] options = {"Save File 1", "Save File 2", "Save File 3", "Back"};
-
-				int choice = JOptionPane.showOptionDialog(
+				//Prompt for a profile to save to, starting with the one this game came from
+				Object name = JOptionPane.showInputDialog(
 						null, 
-						"Choose A File To Save To:", 
-						"Save To File", 
-						JOptionPane.DEFAULT_OPTION, 
+						"Enter A Profile Name To Save To:", 
+						"Save To Profile", 
 						JOptionPane.INFORMATION_MESSAGE, 
 						null, 
-						options, 
-						options[3]
+						null, 
+						profile
 						);
 
-				//Get the choise and save to file
-				if (choice == 0) {
-					saveToFile("save1.txt");
-				} else if (choice == 1) {
-					saveToFile("save2.txt");
-				} else if (choice == 2) {
-					saveToFile("save3.txt");
+				//Save to the profile unless the dialog was cancelled
+				if (name != null && !name.toString().isBlank()) {
+					saveToProfile(name.toString().strip());
 				}
 			}
 		});
@@ -242,7 +312,7 @@ public class GameplayGUI extends JFrame{
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				//New sleep screen
-				new sleep(GameplayGUI.this);
+				sleep.open(GameplayGUI.this);
 
 			}
 		});
@@ -252,7 +322,7 @@ public class GameplayGUI extends JFrame{
 			@Override
 			public void actionPerformed(ActionEvent e) {            	
 				//New mini game screen
-				new miniGame(GameplayGUI.this);
+				miniGame.open(GameplayGUI.this);
 			}
 		});
 
@@ -261,7 +331,7 @@ public class GameplayGUI extends JFrame{
 			@Override
 			public void actionPerformed(ActionEvent e) {  
 				//New vet screen          	
-				new vet(GameplayGUI.this);
+				vet.open(GameplayGUI.this);
 			}
 		});
 
@@ -270,7 +340,7 @@ public class GameplayGUI extends JFrame{
 			@Override
 			public void actionPerformed(ActionEvent e) {            	
 				//New feed screen
-				new feed(GameplayGUI.this);
+				feed.open(GameplayGUI.this);
 			}
 		});
 
@@ -282,6 +352,41 @@ public class GameplayGUI extends JFrame{
 
 		//Set visibility
 		setVisible(true);
+
+		//Start the stats running down and the playtime counting
+		startDecay();
+		playtime = PlaytimeTracker.get().startSession();
+
+		//Play time restrictions lock the game when they start and unlock it when they end
+		PlaytimeGuard.get().addListener(playtimeListener);
+		if (!PlaytimeGuard.get().isPlayAllowed()) {
+			setPlayAllowed(false);
+		}
+	}
+
+	/**
+	 * GameplayGUI constructor. Creates a main game screen for a saved game.
+	 * 
+	 * @param state the saved game to continue, including the inventory's quantities
+	 */
+	public GameplayGUI(GameState state) {
+		this(state, null);
+	}
+
+	/**
+	 * GameplayGUI constructor. Creates a main game screen for a game loaded from a profile.
+	 * 
+	 * @param state the saved game to continue, including the inventory's quantities
+	 * @param profile name of the profile the game was loaded from, offered first when saving, or null
+	 */
+	public GameplayGUI(GameState state, String profile) {
+		this(state.getScore(), state.getHappiness(), state.getHealth(), state.getSleep(), state.getHunger(), state.getPetNumber(), null);
+		this.profile = profile;
+		inventory.setItemStacks(state.getInventory());
+		cooldowns.restore(state.getCooldownMillis());
+
+		//The pet may have died while the game was closed
+		SwingUtilities.invokeLater(this::checkStats);
 	}
 
 	/**
@@ -293,19 +398,28 @@ public class GameplayGUI extends JFrame{
  	 * @param hunger the updated hunger level (0-100)
  	 */
 	public void updateStats(int happiness, int health, int sleep, int hunger) {
-		//Change the stats
-		this.happiness = happiness;
-		this.health = health;
-		this.sleep = sleep;
-		this.hunger = hunger;
-
-		//Update the text labels for each stat
-		happinessValueLabel.setText(happiness + "/100");
-		healthValueLabel.setText(health + "/100");
-		sleepValueLabel.setText(sleep + "/100");
-		hungerValueLabel.setText(hunger + "/100");
+		//Change the stats, keeping any score added meanwhile
+		long after = journal.update(ActionJournal.STATS, 0, petState,
+				before -> PetState.pack(PetState.score(before), happiness, health, sleep, hunger));
+		showStats(after);
+	}
 
-		repaint();
+	/**
+ 	 * Updates the text labels and bars to a snapshot of the stats. Each label and bar repaints only itself.
+ 	 *
+ 	 * @param snapshot the packed state from {@link PetState}
+ 	 */
+	private void showStats(long snapshot) {
+		happinessValueLabel.setText(PetState.stat(snapshot, PetSimulationEngine.HAPPINESS) + "/100");
+		healthValueLabel.setText(PetState.stat(snapshot, PetSimulationEngine.HEALTH) + "/100");
+		sleepValueLabel.setText(PetState.stat(snapshot, PetSimulationEngine.SLEEP) + "/100");
+		hungerValueLabel.setText(PetState.stat(snapshot, PetSimulationEngine.HUNGER) + "/100");
+		scoreLabel.setText("Score: " + PetState.score(snapshot));
+
+		happinessBar.setValue(PetState.stat(snapshot, PetSimulationEngine.HAPPINESS));
+		healthBar.setValue(PetState.stat(snapshot, PetSimulationEngine.HEALTH));
+		sleepBar.setValue(PetState.stat(snapshot, PetSimulationEngine.SLEEP));
+		hungerBar.setValue(PetState.stat(snapshot, PetSimulationEngine.HUNGER));
 	}
 
 	/**
@@ -314,7 +428,7 @@ public class GameplayGUI extends JFrame{
 	 *@return the pet's sleep level (0-100)
  	 */
 	public int getSleep(){
-		return sleep;
+		return PetState.stat(petState.get(), PetSimulationEngine.SLEEP);
 	}
 
 	/**
@@ -323,7 +437,7 @@ public class GameplayGUI extends JFrame{
 	 *@return the pet's happiness level (0-100)
  	 */	
 	public int getHapp(){
-		return happiness;
+		return PetState.stat(petState.get(), PetSimulationEngine.HAPPINESS);
 	}
 
 	/**
@@ -332,7 +446,7 @@ public class GameplayGUI extends JFrame{
 	 *@return the pet's health level (0-100)
  	 */
 	public int getH(){
-		return health;
+		return PetState.stat(petState.get(), PetSimulationEngine.HEALTH);
 	}
 
 	/**
@@ -341,7 +455,7 @@ public class GameplayGUI extends JFrame{
 	 *@return the players score
  	 */	
 	public int getScore(){
-		return score;
+		return PetState.score(petState.get());
 	}
 
 	/**
@@ -350,7 +464,7 @@ public class GameplayGUI extends JFrame{
 	 *@return the pet's hunger level (0-100)
  	 */	
 	public int getHunger(){
-		return hunger;
+		return PetState.stat(petState.get(), PetSimulationEngine.HUNGER);
 	}
 
 	/**
@@ -369,70 +483,299 @@ public class GameplayGUI extends JFrame{
  	 */
 	public void addToScore(int scoreToAdd) {
 		//Add to the score
-		this.score = this.score + scoreToAdd;
-		scoreLabel.setText("Score: " + score);
+		long after = journal.update(ActionJournal.SCORE, 0, petState,
+				before -> PetState.withScore(before, PetState.score(before) + scoreToAdd));
+		showStats(after);
+	}
+
+	/**
+ 	 * Performs an action on the pet using the {@link PetSimulationEngine} rules,
+ 	 * then updates the stats and score and starts the action's cooldown.
+ 	 *
+ 	 * @param action the action to perform
+ 	 * @return false if the action is still cooling down or play is restricted right now, and nothing was done
+ 	 */
+	public boolean performAction(PetAction action) {
+		if (!cooldowns.isReady(action) || !PlaytimeGuard.get().isPlayAllowed()) {
+			return false;
+		}
+
+		//Apply the rules to the current stats, journaled in the same step so decay can not come between
+		long after = journal.update(ActionJournal.ACTION, action.ordinal(), petState, before -> {
+			int[] stats = PetState.unpack(before, statsBuffer);
+			int scoreGained = PetSimulationEngine.getDefault().apply(action, stats);
+			return PetState.pack(PetState.score(before) + scoreGained, stats);
+		});
+		showStats(after);
+
+		cooldowns.start(action, getActionCooldown(action.getKey()));
+		return true;
+	}
+
+	/**
+ 	 * Getter for the action cooldowns, so action screens can show them on their buttons.
+ 	 *
+ 	 * @return the game's cooldown scheduler
+ 	 */
+	public CooldownScheduler getCooldowns() {
+		return cooldowns;
+	}
+
+	/**
+ 	 * Uses an inventory item on the pet and updates the stats.
+ 	 *
+ 	 * @param item the item, already taken from the inventory
+ 	 */
+	public void useItem(ItemCatalog.ItemDefinition item) {
+		applyItem(item.getId(), item.getStat(), item.getAmount());
+	}
+
+	/**
+ 	 * Raises a stat as if an item had been used and updates the stats.
+ 	 *
+ 	 * @param stat index of the stat the item raises, from {@link PetSimulationEngine}
+ 	 * @param amount amount the item raises the stat by
+ 	 */
+	public void applyItem(int stat, int amount) {
+		applyItem(-1, stat, amount);
+	}
+
+	private void applyItem(int itemId, int stat, int amount) {
+		long after = journal.update(ActionJournal.ITEM, itemId, petState, before -> {
+			int[] stats = PetState.unpack(before, statsBuffer);
+			PetSimulationEngine.getDefault().applyItem(stat, amount, stats);
+			return PetState.pack(PetState.score(before), stats);
+		});
+		showStats(after);
+	}
 
-		repaint();
+	/**
+ 	 * Records a reward draw in the session's journal, including draws that gave nothing,
+ 	 * since each one uses up random numbers.
+ 	 *
+ 	 * @param type {@link ItemCatalog#FOOD} or {@link ItemCatalog#GIFT}
+ 	 * @param itemName the item's name, or an empty string if no item was given
+ 	 */
+	public void recordReward(String type, String itemName) {
+		byte kind = ItemCatalog.FOOD.equals(type) ? ActionJournal.FOOD_REWARD : ActionJournal.GIFT_REWARD;
+		journal.append(kind, itemName.isEmpty() ? -1 : ItemCatalog.get().find(itemName), petState.get());
 	}
 
 	/**
- 	 * Checks if the pet has died.
+ 	 * Getter for the random numbers rewards are drawn from.
+ 	 *
+ 	 * @return the session's reward random numbers
+ 	 */
+	public RewardRandom getRewardRandom() {
+		return rewardRandom;
+	}
+
+	/**
+ 	 * Writes every item the player has to the journal, after the inventory has been replaced.
+ 	 */
+	private void recordHoldings() {
+		Inventory items = inventory.getItems();
+		for (int id = 0; id < items.getCatalog().size(); id++) {
+			journal.appendHolding(id, items.getQuantity(id));
+		}
+	}
+
+	/**
+ 	 * Starts the background tick that runs the stats down, unless the config turns decay off.
+ 	 */
+	private void startDecay() {
+		if (decay.isIdle()) {
+			return;
+		}
+
+		decayScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "stat-decay");
+			thread.setDaemon(true);
+			return thread;
+		});
+		decayScheduler.scheduleAtFixedRate(this::decayTick, StatDecay.TICK_MILLIS, StatDecay.TICK_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+ 	 * Stops the decay tick. Safe to call more than once.
+ 	 */
+	private void stopDecay() {
+		if (decayScheduler != null) {
+			decayScheduler.shutdownNow();
+		}
+	}
+
+	/**
+ 	 * Runs one decay tick on the background thread. Only the stats are changed here; the labels are
+ 	 * refreshed later on the Event Dispatch Thread, and only if something changed.
+ 	 */
+	private void decayTick() {
+		long tick = ++decayTicks;
+		journal.update(ActionJournal.DECAY, 0, petState, before -> {
+			decayChanged = decay.tick(tick, PetState.unpack(before, decayBuffer));
+			return decayChanged ? PetState.pack(PetState.score(before), decayBuffer) : before;
+		});
+		if (!decayChanged) {
+			return;
+		}
+
+		//Changes made before the waiting refresh runs are shown by that same refresh
+		if (statsRefreshPending.compareAndSet(false, true)) {
+			SwingUtilities.invokeLater(refreshStats);
+		}
+	}
+
+	/**
+ 	 * Shows the latest stats after decay ticks and checks if the pet has died.
+ 	 */
+	private void refreshStats() {
+		statsRefreshPending.set(false);
+		if (!isDisplayable()) {
+			return;
+		}
+
+		showStats(petState.get());
+		checkStats();
+	}
+
+	/**
+ 	 * Locks or unlocks the game as a play time restriction starts or ends. While it is locked the actions
+ 	 * and inventory can not be used and the stats stop running down.
+ 	 *
+ 	 * @param allowed true if the game can be played
+ 	 */
+	private void setPlayAllowed(boolean allowed) {
+		if (!isDisplayable() || allowed != playLocked) {
+			return;
+		}
+
+		playLocked = !allowed;
+		for (JButton button : playButtons) {
+			button.setEnabled(allowed);
+		}
+		if (allowed) {
+			startDecay();
+			playtime = PlaytimeTracker.get().startSession();
+		} else {
+			stopDecay();
+			playtime.stop();
+			inventory.setVisible(false);
+
+			//Not modal, so locking the game never holds up whoever locked it, like the constructor
+			JDialog notice = new JOptionPane("Play Time Is Over For Now.\nYour Pet Will Wait For You Until Play Time Starts Again.",
+					JOptionPane.INFORMATION_MESSAGE).createDialog(this, "Play Time");
+			notice.setModal(false);
+			notice.setVisible(true);
+		}
+	}
+
+	/**
+ 	 * Checks if the pet has died. The death message is only shown the first time.
  	 */
 	public void checkStats() {
-		//Check if pet has died
-		if (health == 0){
+		//Check if pet has died, the message is modal so another check can run while it is open
+		if (!petDied && getH() == 0){
+			petDied = true;
+			//Stop decay first so no more ticks queue up behind the message
+			stopDecay();
 			JOptionPane.showMessageDialog(null, "Your Pet Has Died\nYou may continue with this pet from your last save.");
 			dispose();
-			new startingScreen();
+			startingScreen.open();
 		}
 	}
 
 	/**
- 	 * Saves the game data to the specified file. If the file already contains a saved game,
+ 	 * Saves the game to a profile. If another game is already saved on the profile,
  	 * the user is prompted to confirm whether they want to overwrite it.
 	 *
- 	 * @param file name of file to save to
+ 	 * @param name the profile's name
  	 */
-	private void saveToFile(String file) {
-		File f = new File(file);
-
-	    //Check if the file exists and is not empty
-	    if (f.exists() && f.length() > 0) {
-			//Confirm overwrite message
-	        int choice = JOptionPane.showConfirmDialog(
-	            null,
-	            "The file has a game saved on it.\nDo you want to overwrite it?",
-	            "Confirm Save",
-	            JOptionPane.YES_NO_OPTION
-	        );
-
-	        if (choice != JOptionPane.YES_OPTION) {
-	            JOptionPane.showMessageDialog(null, "Game not Saved.");
-	            return;
-	        }
-	    }
-		
-		try (FileWriter writer = new FileWriter(file)) {
-			//Write all the stats to the file
-			writer.write(score + "\n");
-			writer.write(happiness + "\n");
-			writer.write(health + "\n");
-			writer.write(sleep + "\n");
-			writer.write(hunger + "\n");
-			writer.write(petNumber + "\n");
-			writer.write(inventory.inventoryToString());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		
-		//Print confirmation message
-		if (file.equals("save1.txt")) {
-			JOptionPane.showMessageDialog(null, "Game Saved to Save File 1");
-		} else if (file.equals("save2.txt")) {
-			JOptionPane.showMessageDialog(null, "Game Saved to Save File 2");
-		} else if (file.equals("save3.txt")) {
-			JOptionPane.showMessageDialog(null, "Game Saved to Save File 3");
+	private void saveToProfile(String name) {
+		try {
+			ProfileStore.checkName(name);
+		} catch (IllegalArgumentException e) {
+			JOptionPane.showMessageDialog(null, e.getMessage() + ".", "Save Error", JOptionPane.ERROR_MESSAGE);
+			return;
 		}
+
+		//Look the profile up off the EDT, as the store may have to be opened or be busy with another save
+		String current = profile;
+		new SwingWorker<Boolean, Void>() {
+			@Override
+			protected Boolean doInBackground() throws IOException {
+				return !name.equals(current) && ProfileStore.get().profile(name) != null;
+			}
+
+			@Override
+			protected void done() {
+				boolean taken;
+				try {
+					taken = get();
+				} catch (InterruptedException | ExecutionException e) {
+					JOptionPane.showMessageDialog(null, "Error saving game!", "Save Error", JOptionPane.ERROR_MESSAGE);
+					return;
+				}
+
+				//Check if another game is already saved on the profile
+				if (taken) {
+					//Confirm overwrite message
+					int choice = JOptionPane.showConfirmDialog(
+						null,
+						"The profile has a game saved on it.\nDo you want to overwrite it?",
+						"Confirm Save",
+						JOptionPane.YES_NO_OPTION
+					);
+
+					if (choice != JOptionPane.YES_OPTION) {
+						JOptionPane.showMessageDialog(null, "Game not Saved.");
+						return;
+					}
+				}
+				writeProfile(name);
+			}
+		}.execute();
+	}
+
+	/**
+ 	 * Snapshots the game and lets the save writer do the disk work off the EDT. The save is only
+ 	 * journaled once it has been written, with the number the store gave the profile.
+	 *
+ 	 * @param name the profile's name
+ 	 */
+	private void writeProfile(String name) {
+		GameState snapshot = toGameState();
+		SaveWriter.get().saveProfile(name, snapshot, (saved, error) -> {
+			//Print confirmation message
+			if (error == null) {
+				profile = name;
+				journal.append(ActionJournal.SAVE, saved.getNumber(), PetState.pack(snapshot.getScore(), snapshot.getHappiness(),
+						snapshot.getHealth(), snapshot.getSleep(), snapshot.getHunger()));
+				JOptionPane.showMessageDialog(null, "Game Saved to Profile " + name);
+			} else {
+				JOptionPane.showMessageDialog(null, "Error saving game!", "Save Error", JOptionPane.ERROR_MESSAGE);
+			}
+		});
+	}
+
+	/**
+ 	 * Takes a snapshot of the game that can be saved.
+ 	 *
+ 	 * @return the current stats, score, pet and inventory, stamped with the current time
+ 	 */
+	public GameState toGameState() {
+		//One snapshot so the saved stats all come from the same moment
+		long snapshot = petState.get();
+		GameState state = new GameState();
+		state.setScore(PetState.score(snapshot));
+		state.setHappiness(PetState.stat(snapshot, PetSimulationEngine.HAPPINESS));
+		state.setHealth(PetState.stat(snapshot, PetSimulationEngine.HEALTH));
+		state.setSleep(PetState.stat(snapshot, PetSimulationEngine.SLEEP));
+		state.setHunger(PetState.stat(snapshot, PetSimulationEngine.HUNGER));
+		state.setPetNumber(getPetNumber());
+		state.setInventory(inventory.toItemStacks());
+		state.setCooldownMillis(cooldowns.getRemainingMillis());
+		state.setSavedAtMillis(System.currentTimeMillis());
+		return state;
 	}
 
 	/**
@@ -483,200 +826,27 @@ public class GameplayGUI extends JFrame{
 	}
 
 	/**
- 	 * Paints the bars for the stats with specific colors for each stats as well as outlines and backgrounds. 
-	 * 
- 	 * @param g the Graphics object to paint with
+ 	 * Closes the game screen, stops the cooldown timer, the decay tick and the playtime count and closes the journal.
  	 */
 	@Override
-	public void paint(Graphics g) {
-		super.paint(g);
-
-		//Draw Background black bars filled with white bars to show the total with an outline
-		g.setColor(Color.BLACK);
-		g.fillRect(248, 623, 204, 44);
-
-		g.setColor(Color.WHITE);
-		g.fillRect(250, 625, 200, 40);
-
-		g.setColor(Color.BLACK);
-		g.fillRect(248, 688, 204, 44);
-
-		g.setColor(Color.WHITE);
-		g.fillRect(250, 690, 200, 40);
-
-		g.setColor(Color.BLACK);
-		g.fillRect(848, 623, 204, 44);
-
-		g.setColor(Color.WHITE);
-		g.fillRect(850, 625, 200, 40);
-
-		g.setColor(Color.BLACK);
-		g.fillRect(848, 688, 204, 44);
-
-		g.setColor(Color.WHITE);
-		g.fillRect(850, 690, 200, 40);
-
-		//Draw bars for the stats
-		g.setColor(Color.YELLOW);
-		g.fillRect(250, 625, happiness * 2, 40);
-
-		g.setColor(Color.GREEN);
-		g.fillRect(250, 690, health * 2, 40);
-
-		g.setColor(Color.BLUE);
-		g.fillRect(850, 625, sleep * 2, 40);
-
-		g.setColor(Color.RED);
-		g.fillRect(850, 690, hunger * 2, 40);
+	public void dispose() {
+		PlaytimeGuard.get().removeListener(playtimeListener);
+		if (playtime != null) {
+			playtime.stop();
+		}
+		cooldowns.stop();
+		stopDecay();
+		journal.close();
+		super.dispose();
 	}
 
-
-    //-----------------------------Json part--------------------------------------
     /**
-     * Reading the json/jsonFile.json to find availableActions block
-     * and storing each action's cooldown in a map for quick access
-     */
-    private void loadActionCooldownsFromJson() {
-        String json = readFile("json/jsonFile.json");  
-        if (json == null) {
-            // If file not found or error, fallback to 10 for everything
-            actionCooldowns.put("feed", 5);
-            actionCooldowns.put("goToSleep", 5);
-            actionCooldowns.put("play", 5);
-            actionCooldowns.put("takeToVet", 5);
-            return;
-        }
-
-        // We'll parse out the "availableActions": { ... }
-        String searchKey = "\"availableActions\":";
-        int startIndex = json.indexOf(searchKey);
-        if (startIndex == -1) {
-            // if missing, fallback
-            actionCooldowns.put("feed", 5);
-            actionCooldowns.put("goToSleep", 5);
-            actionCooldowns.put("play", 5);
-            actionCooldowns.put("takeToVet", 5);
-            return;
-        }
-
-        // We'll find the next '{' and the matching '}'
-        int braceOpen = json.indexOf("{", startIndex);
-        int braceClose = findMatchingBrace(json, braceOpen);
-        if (braceOpen == -1 || braceClose == -1) {
-            // in this case, again fallback
-            actionCooldowns.put("feed", 5);
-            actionCooldowns.put("goToSleep", 5);
-            actionCooldowns.put("play", 5);
-            actionCooldowns.put("takeToVet", 5);
-            return;
-        }
-        
-        String actionsBlock = json.substring(braceOpen, braceClose + 1);
-
-        // We will look for each known action and parse cooldown
-        // feed
-        int feedCd = parseCooldown(actionsBlock, "feed");
-        actionCooldowns.put("feed", feedCd);
-
-        // goToSleep
-        int sleepCd = parseCooldown(actionsBlock, "goToSleep");
-        actionCooldowns.put("goToSleep", sleepCd);
-
-        // play
-        int playCd = parseCooldown(actionsBlock, "play");
-        actionCooldowns.put("play", playCd);
-
-        // takeToVet
-        int vetCd = parseCooldown(actionsBlock, "takeToVet");
-        actionCooldowns.put("takeToVet", vetCd);
-    }
-
-    /**
-     * Returning then the cooldown in seconds for a given action name, or 5 if not found
+     * Returning the cooldown in seconds for a given action name, or 5 if not found
+     *
+     * @param actionName the action's key in the availableActions block of the JSON
+     * @return the cooldown in seconds
      */
     public int getActionCooldown(String actionName) {
-        // If the map doesn't have it, default to 5
-        return actionCooldowns.getOrDefault(actionName, 5);
-    }
-
-    /**
-     * Reading the entire contents of a file into a String
-     */
-    private String readFile(String filePath) {
-        StringBuilder sb = new StringBuilder();
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while((line = br.readLine()) != null) {
-                sb.append(line);
-            }
-        } 
-        
-        catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
-        return sb.toString();
-    }
-
-    /**
-     * Finding the matching closing brace for an opening '{' in a JSON substring
-     */
-    private int findMatchingBrace(String json, int openIndex) {
-        if (openIndex == -1 || openIndex >= json.length()) return -1;
-        int balance = 0;
-        
-        for (int i = openIndex; i < json.length(); i++) {
-            char c = json.charAt(i);
-            if (c == '{') balance++;
-            if (c == '}') balance--;
-
-            if (balance == 0) {
-                return i;
-            }
-        }
-        return -1;
+        return GameConfig.get().getCooldown(actionName);
     }
-
-    /**
-     * Parsing the cooldown value for a given action from a block of JSON
-     * Returning 5 if not found or if there's an error
-     */
-    private int parseCooldown(String block, String actionKey) {
-        String key = "\"" + actionKey + "\":";
-        int index = block.indexOf(key);
-
-        if (index == -1) return 5;
-        
-        // finding the cooldown part
-        String cdKey = "\"cooldown\":";
-        int cdIndex = block.indexOf(cdKey, index);
-
-        if (cdIndex == -1) return 5;
-        
-        // Now we can read the number after cdKey
-        int numberStart = cdIndex + cdKey.length();
-
-        // We'll then parse until we hit a comma or bracket
-        int comma = block.indexOf(",", numberStart);
-        int brace = block.indexOf("}", numberStart);
-        
-        if (comma == -1) comma = Integer.MAX_VALUE;
-        if (brace == -1) brace = Integer.MAX_VALUE;
-        
-        int endPos = Math.min(comma, brace);
-        if (endPos == Integer.MAX_VALUE) return 5;
-        
-        String valStr = block.substring(numberStart, endPos).trim();
-        
-        try {
-            return Integer.parseInt(valStr);
-        } 
-        
-        catch (NumberFormatException e) {
-            return 5;
-        }
-    }
-    // -------------------------------------------------------------------------
-
-
 }
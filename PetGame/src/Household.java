@@ -0,0 +1,400 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Every pet in a household, kept as one array per field rather than one object per pet.
+ * <br><br>
+ * Each stat is a {@code byte} array indexed by pet, so a decay tick walks one contiguous array for
+ * each stat that is due to lose a point, which keeps even a household of thousands of pets to a few
+ * microseconds a tick. The rules are the same {@link StatDecay} and {@link PetSimulationEngine} rules
+ * the single pet game uses, so a household pet lives exactly like the pet on the main game screen.<br><br>
+ *
+ * The household is shared between the tick thread and the Event Dispatch Thread, so every method
+ * holds the household's lock.<br><br>
+ *
+ * A profile's household is saved to {@code household<profile number>.dat}, column by column as it is kept:
+ * <pre>
+ * magic       4 bytes  "VPHH"
+ * version     1 byte
+ * size        4 bytes  number of pets
+ * names       for each pet, 2 byte length then UTF-8
+ * petNumbers  1 byte per pet
+ * scores      4 bytes per pet
+ * stats       1 byte per pet, one column for each stat in {@link PetSimulationEngine} order
+ * checksum    4 bytes  CRC32 of everything before it
+ * </pre>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		Household household = new Household();
+ * 		int luka = household.adopt("Luka", 1, 70, 100, 70, 70);
+ * 		household.perform(luka, PetAction.FEED);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//Luka's hunger is 80 and score is 20</code><br>
+ *
+ * @version 1.0.0
+ */
+public class Household {
+	/** "VPHH" in ASCII */
+	public static final int MAGIC = 0x56504848;
+
+	/** Version written by this class */
+	public static final int VERSION = 1;
+
+	/** Most pets a saved household may hold */
+	public static final int MAX_PETS = 1_000_000;
+
+	private static final int INITIAL_CAPACITY = 16;
+	//Magic, version, size and checksum
+	private static final int FILE_OVERHEAD = 4 + 1 + 4 + 4;
+
+	private int size;
+	private String[] names = new String[INITIAL_CAPACITY];
+	private byte[] petNumbers = new byte[INITIAL_CAPACITY];
+	private int[] scores = new int[INITIAL_CAPACITY];
+	//One column per stat, indexed by pet
+	private final byte[][] stats = new byte[PetSimulationEngine.STAT_COUNT][INITIAL_CAPACITY];
+
+	//Reused when applying engine rules to one pet
+	private final int[] buffer = new int[PetSimulationEngine.STAT_COUNT];
+
+	/**
+	 * Adds a pet to the household.
+	 *
+	 * @param name the pet's name
+	 * @param petNumber the pet's image number
+	 * @param happiness the pet's happiness (0-100)
+	 * @param health the pet's health (0-100)
+	 * @param sleep the pet's sleep (0-100)
+	 * @param hunger the pet's hunger (0-100)
+	 * @return the pet's index
+	 */
+	public synchronized int adopt(String name, int petNumber, int happiness, int health, int sleep, int hunger) {
+		if (size == names.length) {
+			grow();
+		}
+
+		int pet = size++;
+		names[pet] = name;
+		petNumbers[pet] = (byte) petNumber;
+		scores[pet] = 0;
+		stats[PetSimulationEngine.HAPPINESS][pet] = clamp(happiness);
+		stats[PetSimulationEngine.HEALTH][pet] = clamp(health);
+		stats[PetSimulationEngine.SLEEP][pet] = clamp(sleep);
+		stats[PetSimulationEngine.HUNGER][pet] = clamp(hunger);
+		return pet;
+	}
+
+	/**
+	 * Getter for the number of pets.
+	 *
+	 * @return the number of pets, alive or not
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Getter for a pet's name.
+	 *
+	 * @param pet the pet's index
+	 * @return the name
+	 */
+	public synchronized String getName(int pet) {
+		return names[pet];
+	}
+
+	/**
+	 * Getter for a pet's image number.
+	 *
+	 * @param pet the pet's index
+	 * @return the image number, used as {@code img/pet<number>.png}
+	 */
+	public synchronized int getPetNumber(int pet) {
+		return petNumbers[pet];
+	}
+
+	/**
+	 * Getter for the score a pet has earned.
+	 *
+	 * @param pet the pet's index
+	 * @return the score
+	 */
+	public synchronized int getScore(int pet) {
+		return scores[pet];
+	}
+
+	/**
+	 * Getter for one of a pet's stats.
+	 *
+	 * @param pet the pet's index
+	 * @param stat index of the stat, from {@link PetSimulationEngine}
+	 * @return the stat's value (0-100)
+	 */
+	public synchronized int getStat(int pet, int stat) {
+		return stats[stat][pet];
+	}
+
+	/**
+	 * Copies all of a pet's stats at once, so they come from the same tick.
+	 *
+	 * @param pet the pet's index
+	 * @param into array filled in {@link PetSimulationEngine} order
+	 * @return the same array
+	 */
+	public synchronized int[] getStats(int pet, int[] into) {
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			into[stat] = stats[stat][pet];
+		}
+		return into;
+	}
+
+	/**
+	 * Counts the pets that are still alive.
+	 *
+	 * @return the number of pets with health above 0
+	 */
+	public synchronized int countAlive() {
+		byte[] health = stats[PetSimulationEngine.HEALTH];
+		int alive = 0;
+		for (int pet = 0; pet < size; pet++) {
+			if (health[pet] > 0) {
+				alive++;
+			}
+		}
+		return alive;
+	}
+
+	/**
+	 * Performs an action on one pet using the default engine's rules. Pets that have died do nothing.
+	 *
+	 * @param pet the pet's index
+	 * @param action the action to perform
+	 * @return false if the pet has died
+	 */
+	public synchronized boolean perform(int pet, PetAction action) {
+		if (stats[PetSimulationEngine.HEALTH][pet] <= 0) {
+			return false;
+		}
+
+		getStats(pet, buffer);
+		scores[pet] += PetSimulationEngine.getDefault().apply(action, buffer);
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			stats[stat][pet] = (byte) buffer[stat];
+		}
+		return true;
+	}
+
+	/**
+	 * Runs one decay tick on every pet, one stat column at a time.
+	 * Gives the same result as {@link StatDecay#tick(long, int[])} on each pet.
+	 *
+	 * @param decay the decay rules
+	 * @param tick number of the tick, counting from 1
+	 * @return true if any pet changed
+	 */
+	public synchronized boolean tick(StatDecay decay, long tick) {
+		boolean changed = false;
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			int seconds = decay.getSecondsPerPoint(stat);
+			if (seconds > 0 && tick % seconds == 0) {
+				changed |= decrement(stats[stat]);
+			}
+		}
+
+		int penaltySeconds = decay.getPenaltySeconds();
+		if (penaltySeconds > 0 && tick % penaltySeconds == 0) {
+			changed |= applyPenalty(decay.getPenalty());
+		}
+		return changed;
+	}
+
+	private boolean decrement(byte[] column) {
+		boolean changed = false;
+		for (int pet = 0; pet < size; pet++) {
+			if (column[pet] > 0) {
+				column[pet]--;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Takes health from every living pet that has run out of hunger, sleep or happiness.
+	 */
+	private boolean applyPenalty(int penalty) {
+		byte[] health = stats[PetSimulationEngine.HEALTH];
+		byte[] hunger = stats[PetSimulationEngine.HUNGER];
+		byte[] sleep = stats[PetSimulationEngine.SLEEP];
+		byte[] happiness = stats[PetSimulationEngine.HAPPINESS];
+
+		boolean changed = false;
+		for (int pet = 0; pet < size; pet++) {
+			if (health[pet] > 0 && (hunger[pet] == 0 || sleep[pet] == 0 || happiness[pet] == 0)) {
+				health[pet] = (byte) Math.max(0, health[pet] - penalty);
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Getter for the file a profile's household is saved to.
+	 *
+	 * @param profileNumber the profile's number in the {@link ProfileStore}
+	 * @return the household file
+	 */
+	public static Path file(int profileNumber) {
+		return Paths.get("household" + profileNumber + ".dat");
+	}
+
+	/**
+	 * Writes the household to a file. The file is replaced in one step so a failed save
+	 * never leaves half a file behind.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file can not be written
+	 */
+	public void write(Path file) throws IOException {
+		byte[] data = encode();
+		Path absolute = file.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		Files.write(temp, data);
+		Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads a household from a file.
+	 *
+	 * @param file the file to read
+	 * @return the saved household
+	 * @throws IOException if the file can not be read or is corrupt
+	 */
+	public static Household read(Path file) throws IOException {
+		return decode(Files.readAllBytes(file));
+	}
+
+	/**
+	 * Encodes the household one column at a time.
+	 *
+	 * @return the encoded bytes
+	 */
+	public synchronized byte[] encode() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(FILE_OVERHEAD + size * (12 + 5 + PetSimulationEngine.STAT_COUNT));
+		ByteBuffer header = ByteBuffer.allocate(4 + 1 + 4).putInt(MAGIC).put((byte) VERSION).putInt(size);
+		out.write(header.array(), 0, header.position());
+
+		for (int pet = 0; pet < size; pet++) {
+			byte[] name = names[pet].getBytes(StandardCharsets.UTF_8);
+			int length = Math.min(name.length, 0xFFFF);
+			out.write(length >>> 8);
+			out.write(length);
+			out.write(name, 0, length);
+		}
+		out.write(petNumbers, 0, size);
+		ByteBuffer scoreColumn = ByteBuffer.allocate(size * 4);
+		scoreColumn.asIntBuffer().put(scores, 0, size);
+		out.write(scoreColumn.array(), 0, scoreColumn.capacity());
+		for (byte[] column : stats) {
+			out.write(column, 0, size);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out.toByteArray());
+		ByteBuffer checksum = ByteBuffer.allocate(4).putInt((int) crc.getValue());
+		out.write(checksum.array(), 0, 4);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decodes a household saved by {@link #encode()}.
+	 *
+	 * @param data the encoded bytes
+	 * @return the saved household
+	 * @throws IOException if the data is not a valid household
+	 */
+	public static Household decode(byte[] data) throws IOException {
+		if (data.length < FILE_OVERHEAD) {
+			throw new IOException("Household file is too short");
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		if (buffer.getInt() != MAGIC) {
+			throw new IOException("Not a household file");
+		}
+		int version = buffer.get();
+		if (version != VERSION) {
+			throw new IOException("Unsupported household version " + version);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, data.length - 4);
+		if ((int) crc.getValue() != buffer.getInt(data.length - 4)) {
+			throw new IOException("Household file is corrupt");
+		}
+
+		int size = buffer.getInt();
+		if (size < 0 || size > MAX_PETS) {
+			throw new IOException("Household file has " + size + " pets");
+		}
+
+		Household household = new Household();
+		household.names = new String[Math.max(INITIAL_CAPACITY, size)];
+		household.petNumbers = new byte[household.names.length];
+		household.scores = new int[household.names.length];
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			household.stats[stat] = new byte[household.names.length];
+		}
+
+		try {
+			for (int pet = 0; pet < size; pet++) {
+				byte[] name = new byte[buffer.getShort() & 0xFFFF];
+				buffer.get(name);
+				household.names[pet] = new String(name, StandardCharsets.UTF_8);
+			}
+			buffer.get(household.petNumbers, 0, size);
+			buffer.asIntBuffer().get(household.scores, 0, size);
+			buffer.position(buffer.position() + size * 4);
+			for (byte[] column : household.stats) {
+				buffer.get(column, 0, size);
+				for (int pet = 0; pet < size; pet++) {
+					column[pet] = clamp(column[pet]);
+				}
+			}
+		} catch (RuntimeException e) {
+			throw new IOException("Household file is corrupt", e);
+		}
+		if (buffer.position() != data.length - 4) {
+			throw new IOException("Household file is corrupt");
+		}
+
+		household.size = size;
+		return household;
+	}
+
+	private void grow() {
+		int capacity = names.length * 2;
+		names = Arrays.copyOf(names, capacity);
+		petNumbers = Arrays.copyOf(petNumbers, capacity);
+		scores = Arrays.copyOf(scores, capacity);
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			stats[stat] = Arrays.copyOf(stats[stat], capacity);
+		}
+	}
+
+	private static byte clamp(int value) {
+		return (byte) Math.max(0, Math.min(PetSimulationEngine.MAX_STAT, value));
+	}
+}
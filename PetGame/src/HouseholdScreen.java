@@ -0,0 +1,378 @@
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.*;
+import javax.swing.border.LineBorder;
+
+/**
+ * Dashboard for a household of pets that all live at the same time.
+ * <br><br>
+ * The household belongs to a profile and is saved to {@link Household#file(int)} when the screen closes.
+ * A new household starts with the pets from the config file, and more can be adopted. Every pet runs
+ * down on the same one second tick as the main game, on one background thread. The pets are shown
+ * in a list that only draws the rows on screen, so it stays quick with thousands of pets. Selected
+ * pets can be fed, played with, put to sleep or taken to the vet together.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		new HouseholdScreen("Maya", 1);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//Household screen listing every pet with its stat bars</code><br>
+ *
+ * @version 1.0.0
+ */
+public class HouseholdScreen extends JFrame {
+	/** Height of each pet's row */
+	private static final int ROW_HEIGHT = 44;
+	/** Most pets that can be adopted at once */
+	private static final int MAX_ADOPT = 10_000;
+	/** Stats every new pet starts with, in {@link PetSimulationEngine} order */
+	private static final int[] STARTING_STATS = {70, 100, 70, 70};
+
+	private final Household household;
+	private final Path file;
+	//Cleared if the saved household could not be read or moved aside, so it is never written over
+	private boolean saveOnClose = true;
+	private final StatDecay decay = StatDecay.fromConfig(GameConfig.get());
+	private final PetListModel model;
+	private final JList<Integer> petList;
+	private final JLabel summaryLabel = new JLabel("", JLabel.CENTER);
+
+	private final ScheduledExecutorService scheduler;
+	private long ticks;
+
+	//Set while a refresh is waiting on the Event Dispatch Thread, so ticks never queue more than one
+	private final AtomicBoolean refreshPending = new AtomicBoolean();
+	private final Runnable refresh = this::refresh;
+
+	/**
+	 * Creates the household screen for a profile, with the pets it saved last time
+	 * or one of each pet in the config file.
+	 *
+	 * @param profile the profile's name
+	 * @param profileNumber the profile's number in the {@link ProfileStore}
+	 */
+	public HouseholdScreen(String profile, int profileNumber) {
+		super("Household - " + profile);
+		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		//Save before the window closes the program
+		addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosing(WindowEvent e) {
+				dispose();
+			}
+		});
+		setSize(900, 700);
+		setLocationRelativeTo(null);
+		getContentPane().setBackground(new Color(204, 255, 255));
+		setLayout(new BorderLayout(10, 10));
+
+		file = Household.file(profileNumber);
+		household = load(file);
+		model = new PetListModel(household);
+		petList = new JList<>(model);
+		if (household.size() == 0) {
+			adopt(GameConfig.get().getPets().size());
+		}
+
+		//Heading and summary
+		JPanel topPanel = new JPanel(new GridLayout(3, 1));
+		topPanel.setOpaque(false);
+		JLabel headingLabel = new JLabel("YOUR HOUSEHOLD", JLabel.CENTER);
+		headingLabel.setFont(new Font("Barlow", Font.BOLD, 24));
+		summaryLabel.setFont(new Font("SansSerif", Font.PLAIN, 16));
+		topPanel.add(headingLabel);
+		topPanel.add(summaryLabel);
+		JLabel legendLabel = new JLabel("Bars: Happiness, Health, Sleep, Hunger", JLabel.CENTER);
+		legendLabel.setFont(new Font("SansSerif", Font.PLAIN, 14));
+		topPanel.add(legendLabel);
+		add(topPanel, BorderLayout.NORTH);
+
+		//Pet list, fixed row sizes so only the rows on screen are ever measured or drawn
+		petList.setCellRenderer(new PetRenderer(household));
+		petList.setFixedCellHeight(ROW_HEIGHT);
+		petList.setFixedCellWidth(100);
+		petList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+		JScrollPane scrollPane = new JScrollPane(petList);
+		scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 20, 0, 20));
+		scrollPane.setOpaque(false);
+		scrollPane.getViewport().setBackground(Color.WHITE);
+		add(scrollPane, BorderLayout.CENTER);
+
+		//Buttons
+		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
+		buttonPanel.setOpaque(false);
+
+		JButton adoptButton = createButton("Adopt");
+		adoptButton.addActionListener(e -> {
+			String input = JOptionPane.showInputDialog(this, "How many pets? (1-" + MAX_ADOPT + ")", "1");
+			if (input == null) {
+				return;
+			}
+			try {
+				adopt(Math.max(1, Math.min(MAX_ADOPT, Integer.parseInt(input.trim()))));
+			} catch (NumberFormatException ex) {
+				JOptionPane.showMessageDialog(this, "Please enter a number.", "Adopt", JOptionPane.ERROR_MESSAGE);
+			}
+		});
+		buttonPanel.add(adoptButton);
+
+		buttonPanel.add(createActionButton("Feed", PetAction.FEED));
+		buttonPanel.add(createActionButton("Play", PetAction.PLAY));
+		buttonPanel.add(createActionButton("Sleep", PetAction.SLEEP));
+		buttonPanel.add(createActionButton("Vet", PetAction.VET));
+
+		JButton backButton = createButton("Back");
+		backButton.addActionListener(e -> {
+			startingScreen.open();
+			dispose();
+		});
+		buttonPanel.add(backButton);
+		add(buttonPanel, BorderLayout.SOUTH);
+
+		refresh();
+
+		//One thread ticks every pet
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "household-decay");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (!decay.isIdle()) {
+			scheduler.scheduleAtFixedRate(this::tick, StatDecay.TICK_MILLIS, StatDecay.TICK_MILLIS, TimeUnit.MILLISECONDS);
+		}
+
+		setVisible(true);
+	}
+
+	/**
+	 * Getter for the household's pets.
+	 *
+	 * @return the household
+	 */
+	public Household getHousehold() {
+		return household;
+	}
+
+	/**
+	 * Reads a profile's saved household, or starts an empty one if it has none. A file that can not be
+	 * read is moved to {@code household<N>.dat.damaged} first, so saving the new household never
+	 * writes over it.
+	 *
+	 * @param file the household file
+	 * @return the household
+	 */
+	private Household load(Path file) {
+		if (Files.exists(file)) {
+			try {
+				return Household.read(file);
+			} catch (IOException e) {
+				System.err.println("Could not load the household: " + e.getMessage());
+				Path damaged = file.resolveSibling(file.getFileName() + ".damaged");
+				try {
+					Files.move(file, damaged, StandardCopyOption.REPLACE_EXISTING);
+					System.err.println("The unreadable household was kept in " + damaged);
+				} catch (IOException moveError) {
+					System.err.println("Could not keep the unreadable household, it will not be saved over: " + moveError.getMessage());
+					saveOnClose = false;
+				}
+			}
+		}
+		return new Household();
+	}
+
+	/**
+	 * Adopts pets, taking names and pictures from the config file's pets in turn.
+	 *
+	 * @param count how many pets to adopt
+	 */
+	private void adopt(int count) {
+		GameConfig config = GameConfig.get();
+		int oldSize = household.size();
+		for (int i = 0; i < count; i++) {
+			int pet = household.size();
+			int profile = pet % Math.max(1, config.getPets().size());
+			String name = config.getPet(profile).getName() + ((pet < config.getPets().size()) ? "" : " " + (pet + 1));
+			household.adopt(name, profile + 1, STARTING_STATS[PetSimulationEngine.HAPPINESS],
+					STARTING_STATS[PetSimulationEngine.HEALTH], STARTING_STATS[PetSimulationEngine.SLEEP],
+					STARTING_STATS[PetSimulationEngine.HUNGER]);
+		}
+		model.added(oldSize, household.size());
+		refresh();
+	}
+
+	/**
+	 * Runs one decay tick on the background thread and asks for a refresh if any pet changed.
+	 */
+	private void tick() {
+		if (household.tick(decay, ++ticks) && refreshPending.compareAndSet(false, true)) {
+			SwingUtilities.invokeLater(refresh);
+		}
+	}
+
+	/**
+	 * Repaints the rows on screen and updates the summary.
+	 */
+	private void refresh() {
+		refreshPending.set(false);
+		model.changed();
+		int size = household.size();
+		summaryLabel.setText(size + " pets, " + household.countAlive() + " alive");
+	}
+
+	/**
+	 * Creates a button that performs an action on every selected pet.
+	 */
+	private JButton createActionButton(String text, PetAction action) {
+		JButton button = createButton(text);
+		button.addActionListener(e -> {
+			int[] selected = petList.getSelectedIndices();
+			if (selected.length == 0) {
+				JOptionPane.showMessageDialog(this, "Select a pet first.");
+				return;
+			}
+			for (int pet : selected) {
+				household.perform(pet, action);
+			}
+			refresh();
+		});
+		return button;
+	}
+
+	private JButton createButton(String text) {
+		JButton button = new JButton(text);
+		button.setPreferredSize(new Dimension(110, 45));
+		button.setBackground(Color.WHITE);
+		button.setForeground(Color.BLACK);
+		button.setFocusPainted(false);
+		button.setFont(new Font("SansSerif", Font.BOLD, 16));
+		button.setBorder(new LineBorder(Color.BLACK, 2));
+		return button;
+	}
+
+	/**
+	 * Closes the screen, stops the tick and saves the household.
+	 */
+	@Override
+	public void dispose() {
+		if (!isDisplayable()) {
+			return;
+		}
+		scheduler.shutdownNow();
+		if (saveOnClose) {
+			try {
+				household.write(file);
+			} catch (IOException e) {
+				System.err.println("Could not save the household: " + e.getMessage());
+			}
+		}
+		super.dispose();
+	}
+
+	/**
+	 * List model of pet indexes. The list only asks it for the rows it draws.
+	 */
+	static class PetListModel extends AbstractListModel<Integer> {
+		private final Household household;
+		private int size;
+
+		PetListModel(Household household) {
+			this.household = household;
+			this.size = household.size();
+		}
+
+		@Override
+		public int getSize() {
+			return size;
+		}
+
+		@Override
+		public Integer getElementAt(int index) {
+			return index;
+		}
+
+		/**
+		 * Reports pets added to the household since it was last told.
+		 */
+		void added(int from, int to) {
+			size = to;
+			if (to > from) {
+				fireIntervalAdded(this, from, to - 1);
+			}
+		}
+
+		/**
+		 * Reports that any pet may have changed, which repaints only the rows on screen.
+		 */
+		void changed() {
+			if (size > 0) {
+				fireContentsChanged(this, 0, size - 1);
+			}
+		}
+	}
+
+	/**
+	 * Draws a pet's row straight onto the list: name, score and a bar for each stat.
+	 * One renderer is reused for every row.
+	 */
+	static class PetRenderer extends JComponent implements ListCellRenderer<Integer> {
+		private static final Color[] BAR_COLORS = {Color.YELLOW, Color.GREEN, Color.BLUE, Color.RED};
+		private static final Color SELECTED = new Color(200, 240, 200);
+		private static final Font NAME_FONT = new Font("SansSerif", Font.BOLD, 14);
+
+		private final Household household;
+		private final int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+		private String name = "";
+		private String score = "";
+		private boolean selected;
+
+		PetRenderer(Household household) {
+			this.household = household;
+			setOpaque(true);
+		}
+
+		@Override
+		public Component getListCellRendererComponent(JList<? extends Integer> list, Integer pet, int index,
+				boolean isSelected, boolean cellHasFocus) {
+			household.getStats(pet, stats);
+			name = household.getName(pet);
+			score = (stats[PetSimulationEngine.HEALTH] > 0) ? "Score: " + household.getScore(pet) : "Died";
+			selected = isSelected;
+			return this;
+		}
+
+		@Override
+		protected void paintComponent(Graphics g) {
+			g.setColor(selected ? SELECTED : Color.WHITE);
+			g.fillRect(0, 0, getWidth(), getHeight());
+			g.setColor(Color.LIGHT_GRAY);
+			g.drawLine(0, getHeight() - 1, getWidth(), getHeight() - 1);
+
+			g.setColor(Color.BLACK);
+			g.setFont(NAME_FONT);
+			g.drawString(name, 10, 20);
+			g.drawString(score, 10, 38);
+
+			//Stat bars, 100 pixels for a full stat
+			int x = Math.max(200, getWidth() - 4 * 120);
+			for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+				g.setColor(Color.BLACK);
+				g.drawRect(x, 12, 101, 20);
+				g.setColor(BAR_COLORS[stat]);
+				g.fillRect(x + 1, 13, stats[stat], 19);
+				x += 120;
+			}
+		}
+	}
+}
@@ -0,0 +1,158 @@
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * Process wide cache for the game's images.
+ * <br><br>
+ * Each file under {@code img/} is decoded only once, into an image in the screen's native pixel
+ * format so Swing can draw it without converting it each time. Scaled copies are cached by size as well,
+ * so opening the feed, play, sleep or vet screen again reuses the images decoded the first time.
+ * The returned icons are shared and must not be modified.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		JLabel pet = new JLabel(ImageAssets.icon("img/pet1.png"));
+ * 		JLabel bar = new JLabel(ImageAssets.scaled("img/happyBar.jpg", 320, 60));
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public final class ImageAssets {
+	private static final ConcurrentMap<String, ImageIcon> ICONS = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, ImageIcon> SCALED = new ConcurrentHashMap<>();
+
+	private ImageAssets() {
+	}
+
+	/**
+	 * Getter for the icon of an image file, decoding it the first time it is asked for.
+	 *
+	 * @param path path of the image, relative to the working directory
+	 * @return the shared icon
+	 */
+	public static ImageIcon icon(String path) {
+		return ICONS.computeIfAbsent(path, ImageAssets::decode);
+	}
+
+	/**
+	 * Getter for an icon of an image file scaled to a fixed size.
+	 *
+	 * @param path path of the image, relative to the working directory
+	 * @param width width to scale to
+	 * @param height height to scale to
+	 * @return the shared scaled icon
+	 */
+	public static ImageIcon scaled(String path, int width, int height) {
+		return SCALED.computeIfAbsent(path + "@" + width + "x" + height, key -> scale(icon(path), width, height));
+	}
+
+	/**
+	 * Decodes images ahead of time so later calls to {@link #icon(String)} return immediately.
+	 *
+	 * @param paths paths of the images to decode
+	 */
+	public static void preload(String... paths) {
+		for (String path : paths) {
+			icon(path);
+		}
+	}
+
+	/**
+	 * Reads an image file into a screen compatible image.
+	 * Animated GIFs and files ImageIO can not read are left to {@link ImageIcon}.
+	 *
+	 * @param path path of the image
+	 * @return the decoded icon
+	 */
+	private static ImageIcon decode(String path) {
+		if (path.toLowerCase().endsWith(".gif")) {
+			return new ImageIcon(path);
+		}
+
+		try {
+			BufferedImage image = ImageIO.read(new File(path));
+			if (image == null) {
+				return new ImageIcon(path);
+			}
+			return new ImageIcon(toCompatible(image));
+		} catch (IOException e) {
+			//Missing files give an empty icon, the same as new ImageIcon(path) did
+			return new ImageIcon(path);
+		}
+	}
+
+	/**
+	 * Scales an icon once with smooth scaling and stores the result in a compatible image.
+	 *
+	 * @param source the icon to scale
+	 * @param width width to scale to
+	 * @param height height to scale to
+	 * @return the scaled icon
+	 */
+	private static ImageIcon scale(ImageIcon source, int width, int height) {
+		if (source.getIconWidth() <= 0 || source.getIconHeight() <= 0) {
+			return source;
+		}
+
+		//ImageIcon waits for the scaled image to be fully produced
+		Image scaled = new ImageIcon(source.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH)).getImage();
+		BufferedImage target = createImage(width, height, Transparency.TRANSLUCENT);
+		Graphics2D g = target.createGraphics();
+		g.drawImage(scaled, 0, 0, null);
+		g.dispose();
+
+		return new ImageIcon(target);
+	}
+
+	/**
+	 * Copies an image into the pixel format of the default screen.
+	 *
+	 * @param image the decoded image
+	 * @return a compatible copy, or the image itself when there is no screen
+	 */
+	private static BufferedImage toCompatible(BufferedImage image) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return image;
+		}
+
+		BufferedImage compatible = createImage(image.getWidth(), image.getHeight(), image.getTransparency());
+		if (compatible.getColorModel().equals(image.getColorModel())) {
+			return image;
+		}
+
+		Graphics2D g = compatible.createGraphics();
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+		return compatible;
+	}
+
+	/**
+	 * Creates an empty image in the best format for the default screen.
+	 *
+	 * @param width image width
+	 * @param height image height
+	 * @param transparency one of the {@link Transparency} constants
+	 * @return the new image
+	 */
+	private static BufferedImage createImage(int width, int height, int transparency) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+				.getDefaultScreenDevice().getDefaultConfiguration();
+		return config.createCompatibleImage(width, height, transparency);
+	}
+}
@@ -0,0 +1,333 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The player's items, stored as a quantity for each {@link ItemCatalog} id.
+ * <br><br>
+ * Item names, types and effects live in the catalog, so the inventory only keeps an array of counts
+ * and every lookup is an array index. It has no Swing dependency; {@link InventoryScreen} shows it
+ * and can be tested without a window through this class.<br><br>
+ *
+ * {@link Listener}s are told about every quantity that changes, so views can update just that row.
+ * Changes that replace the whole inventory, like loading a save, are reported once at the end.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		Inventory inventory = new Inventory(ItemCatalog.get());
+ * 		inventory.add(ItemCatalog.get().find("Apple"), 2);
+ * 		ItemCatalog.ItemDefinition used = inventory.use(ItemCatalog.get().find("Apple"));
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//one Apple is left and used.getAmount() is 10</code><br>
+ *
+ * @version 1.0.0
+ */
+public class Inventory {
+	/** Chance of each missing item being the one given as a reward */
+	private static final double REWARD_CHANCE = 0.5;
+
+	private final ItemCatalog catalog;
+	private final DoubleSupplier random;
+	private int[] quantities;
+	private final List<Listener> listeners = new ArrayList<>();
+	//Above 0 while the whole inventory is being replaced
+	private int batchDepth;
+
+	/**
+	 * Receives changes to an inventory.
+	 */
+	public interface Listener {
+		/**
+		 * Called after one item's quantity has changed.
+		 *
+		 * @param id the item's id
+		 * @param oldQuantity the quantity before the change
+		 * @param newQuantity the quantity after the change
+		 */
+		void quantityChanged(int id, int oldQuantity, int newQuantity);
+
+		/**
+		 * Called after any number of quantities changed at once.
+		 */
+		void inventoryReplaced();
+	}
+
+	/**
+	 * Creates an empty inventory that uses {@link Math#random()} for rewards.
+	 *
+	 * @param catalog the items that can be held
+	 */
+	public Inventory(ItemCatalog catalog) {
+		this(catalog, Math::random);
+	}
+
+	/**
+	 * Creates an empty inventory.
+	 *
+	 * @param catalog the items that can be held
+	 * @param random source of numbers in [0, 1) for rewards
+	 */
+	public Inventory(ItemCatalog catalog, DoubleSupplier random) {
+		this.catalog = catalog;
+		this.random = random;
+		this.quantities = new int[catalog.size()];
+	}
+
+	/**
+	 * Adds a listener for changes.
+	 *
+	 * @param listener the listener
+	 */
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener added with {@link #addListener(Listener)}.
+	 *
+	 * @param listener the listener
+	 */
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Getter for the catalog this inventory's ids come from.
+	 *
+	 * @return the catalog
+	 */
+	public ItemCatalog getCatalog() {
+		return catalog;
+	}
+
+	/**
+	 * Getter for how many of an item the player has.
+	 *
+	 * @param id the item's id
+	 * @return the quantity, 0 if none
+	 */
+	public int getQuantity(int id) {
+		return (id < quantities.length) ? quantities[id] : 0;
+	}
+
+	/**
+	 * Adds some of an item.
+	 *
+	 * @param id the item's id
+	 * @param amount how many to add
+	 */
+	public void add(int id, int amount) {
+		if (id >= quantities.length) {
+			//The catalog has grown since this inventory was made
+			quantities = Arrays.copyOf(quantities, Math.max(id + 1, catalog.size()));
+		}
+		int old = quantities[id];
+		quantities[id] = Math.max(0, old + amount);
+		fireChanged(id, old);
+	}
+
+	/**
+	 * Uses one of an item.
+	 *
+	 * @param id the item's id
+	 * @return the item that was used, or null if the player has none
+	 */
+	public ItemCatalog.ItemDefinition use(int id) {
+		if (getQuantity(id) <= 0) {
+			return null;
+		}
+		quantities[id]--;
+		fireChanged(id, quantities[id] + 1);
+		return catalog.get(id);
+	}
+
+	/**
+	 * Getter for the ids of the items of a type the player has, in catalog order.
+	 *
+	 * @param type {@link ItemCatalog#FOOD} or {@link ItemCatalog#GIFT}
+	 * @return the ids of items with a quantity above 0
+	 */
+	public int[] heldIds(String type) {
+		int[] ids = catalog.idsOfType(type);
+		int[] held = new int[ids.length];
+		int count = 0;
+		for (int id : ids) {
+			if (getQuantity(id) > 0) {
+				held[count++] = id;
+			}
+		}
+		return Arrays.copyOf(held, count);
+	}
+
+	/**
+	 * Checks if the player has no items of a type.
+	 *
+	 * @param type {@link ItemCatalog#FOOD} or {@link ItemCatalog#GIFT}
+	 * @return true if there are none
+	 */
+	public boolean isEmpty(String type) {
+		for (int id : catalog.idsOfType(type)) {
+			if (getQuantity(id) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes every item.
+	 */
+	public void clear() {
+		beginBatch();
+		Arrays.fill(quantities, 0);
+		endBatch();
+	}
+
+	/**
+	 * Gives the player one of every item in the catalog.
+	 */
+	public void fillDefault() {
+		beginBatch();
+		clear();
+		for (int id = 0; id < catalog.size(); id++) {
+			add(id, 1);
+		}
+		endBatch();
+	}
+
+	/**
+	 * Replaces the items with the configuration's starting inventory.
+	 * Items are found by their config id, then by name; unknown items whose id contains {@code TOY} are gifts.
+	 *
+	 * @param config the game configuration
+	 */
+	public void fillFromConfig(GameConfig config) {
+		beginBatch();
+		clear();
+		for (GameConfig.InventoryEntry entry : config.getStartingInventory()) {
+			int id = catalog.findByItemId(entry.getItemId());
+			if (id < 0) {
+				String type = (entry.getItemId() != null && entry.getItemId().contains("TOY")) ? ItemCatalog.GIFT : ItemCatalog.FOOD;
+				id = catalog.intern(entry.getItemName(), type, "Some effect");
+			}
+			add(id, entry.getQuantity());
+		}
+		endBatch();
+	}
+
+	/**
+	 * Gives the player one item of a type that they do not have yet. Each missing item, in catalog order,
+	 * has an even chance of being picked, so sometimes nothing is given.
+	 *
+	 * @param type {@link ItemCatalog#FOOD} or {@link ItemCatalog#GIFT}
+	 * @return the name of the item given, or an empty string if none was given
+	 */
+	public String addRandom(String type) {
+		for (int id : catalog.idsOfType(type)) {
+			if (getQuantity(id) == 0 && random.getAsDouble() < REWARD_CHANCE) {
+				add(id, 1);
+				return catalog.get(id).getName();
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * Writes the inventory as one {@code name,type,effect} line per item held, food first.
+	 *
+	 * @return the inventory string
+	 */
+	public String toItemString() {
+		StringBuilder sb = new StringBuilder();
+		appendLines(sb, ItemCatalog.FOOD);
+		appendLines(sb, ItemCatalog.GIFT);
+		return sb.toString();
+	}
+
+	private void appendLines(StringBuilder sb, String type) {
+		for (int id : catalog.idsOfType(type)) {
+			ItemCatalog.ItemDefinition item = catalog.get(id);
+			for (int i = getQuantity(id); i > 0; i--) {
+				sb.append(item.getName()).append(",");
+				sb.append(item.getType()).append(",");
+				sb.append(item.getEffect()).append("\n");
+			}
+		}
+	}
+
+	/**
+	 * Replaces the inventory with the items in an inventory string. Repeated lines add to the quantity.
+	 *
+	 * @param itemList lines in the format {@code name,type,effect}
+	 */
+	public void setFromItemString(String itemList) {
+		beginBatch();
+		try {
+			clear();
+			for (String line : itemList.split("\n")) {
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				String[] parts = line.split(",");
+				add(catalog.intern(parts[0], parts[1], parts[2]), 1);
+			}
+		} finally {
+			//A badly formed line throws part way through, listeners still need to hear about it
+			endBatch();
+		}
+	}
+
+	/**
+	 * Copies the inventory into item stacks for saving.
+	 *
+	 * @return the food stacks followed by the gift stacks
+	 */
+	public List<GameState.ItemStack> toItemStacks() {
+		List<GameState.ItemStack> stacks = new ArrayList<>();
+		for (String type : new String[] {ItemCatalog.FOOD, ItemCatalog.GIFT}) {
+			for (int id : heldIds(type)) {
+				ItemCatalog.ItemDefinition item = catalog.get(id);
+				stacks.add(new GameState.ItemStack(item.getName(), item.getType(), item.getEffect(), quantities[id]));
+			}
+		}
+		return stacks;
+	}
+
+	/**
+	 * Replaces the inventory with saved item stacks.
+	 *
+	 * @param stacks the saved items and their quantities
+	 */
+	public void setItemStacks(List<GameState.ItemStack> stacks) {
+		beginBatch();
+		clear();
+		for (GameState.ItemStack stack : stacks) {
+			add(catalog.intern(stack.getName(), stack.getType(), stack.getEffect()), stack.getQuantity());
+		}
+		endBatch();
+	}
+
+	private void fireChanged(int id, int oldQuantity) {
+		if (batchDepth == 0 && oldQuantity != quantities[id]) {
+			for (Listener listener : listeners) {
+				listener.quantityChanged(id, oldQuantity, quantities[id]);
+			}
+		}
+	}
+
+	private void beginBatch() {
+		batchDepth++;
+	}
+
+	private void endBatch() {
+		if (--batchDepth == 0) {
+			for (Listener listener : listeners) {
+				listener.inventoryReplaced();
+			}
+		}
+	}
+}
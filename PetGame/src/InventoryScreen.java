@@ -1,12 +1,8 @@
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.*;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.List;
 import javax.swing.*;
 
 /**
@@ -22,11 +18,8 @@ import javax.swing.*;
  *   <li>Random item generation functionality</li>
  * </ul>
  * 
- * <p>The class maintains two separate inventories:
- * <ul>
- *   <li>foodItems - List of available food items</li>
- *   <li>giftItems - List of available gift items</li>
- * </ul>
+ * <p>The items themselves are kept in an {@link Inventory}, as quantities of
+ * {@link ItemCatalog} items. This screen only shows them.
  * 
  * Author: Dilraj Deogan
  * 
@@ -34,22 +27,16 @@ import javax.swing.*;
 
 public class InventoryScreen extends JFrame {
 
-	/** List of currently available food items */
-	private ArrayList<Item> foodItems = new ArrayList<>();
-
-	 /** List of currently available gift items */
-	private ArrayList<Item> giftItems = new ArrayList<>();
+	/** Quantities of every item the player has, with rewards drawn from the game's seeded random numbers */
+	private final Inventory items;
 
-	 /** Complete set of all possible food items */
-	private Set<Item> foodItemsTotal = new HashSet<>();
+	/** Height of every row in the item lists, fixed so long lists never measure their rows */
+	private static final int ROW_HEIGHT = 58;
 
-	/** Complete set of all possible gift items */
-	private Set<Item> giftItemsTotal = new HashSet<>();
-
-	 /** Panel for displaying food items */
-	private JPanel foodPanel;
-	/** Panel for displaying gift items */
-	private JPanel giftPanel;
+	 /** List displaying food items */
+	private JList<Integer> foodList;
+	/** List displaying gift items */
+	private JList<Integer> giftList;
 	/** Label for food items section */
 	private JLabel foodLabel;
 	/** Label for gift items section */
@@ -79,23 +66,7 @@ public class InventoryScreen extends JFrame {
 		getContentPane().setBackground(new Color(240, 255, 240));
 		setLayout(new BorderLayout(10, 10));
 		this.logic = logic;
-
-
-			foodItemsTotal.add(new Item("Apple", "food", "Restores 10 hunger"));
-			foodItemsTotal.add(new Item("Carrot", "food", "Restores 5 hunger"));
-			foodItemsTotal.add(new Item("Bone", "food", "Restores 15 hunger"));
-			foodItemsTotal.add(new Item("Fish", "food", "Restores 12 hunger"));
-			foodItemsTotal.add(new Item("Chicken", "food", "Restores 13 hunger"));
-			foodItemsTotal.add(new Item("Steak", "food", "Restores 20 hunger"));
-
-			giftItemsTotal.add(new Item("Toy", "gift", "Increases happiness +10"));
-			giftItemsTotal.add(new Item("Teddy Bear", "gift", "Increases happiness +15"));
-			giftItemsTotal.add(new Item("Ball", "gift", "Increases happiness +9"));
-			giftItemsTotal.add(new Item("Frisbee", "gift", "Increases happiness +12"));
-
-
-
-
+		this.items = new Inventory(ItemCatalog.get(), logic.getRewardRandom());
 
 		// ------------- NEW: Load from JSON or fallback -------------
 		boolean loaded = loadInventoryFromJson();
@@ -121,11 +92,9 @@ public class InventoryScreen extends JFrame {
 		tabbedPane.setFont(new Font("SansSerif", Font.BOLD, 14));
 		tabbedPane.setBackground(new Color(240, 255, 240));
 
-		// Food panel
-		foodPanel = new JPanel();
-		foodPanel.setLayout(new BoxLayout(foodPanel, BoxLayout.Y_AXIS));
-		foodPanel.setBackground(new Color(240, 255, 240));
-		foodPanel.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
+		// Food list, rows are drawn by one shared renderer and only changed rows are repainted
+		ItemCellRenderer renderer = new ItemCellRenderer(items);
+		foodList = createItemList(ItemCatalog.FOOD, renderer);
 
 		foodLabel = new JLabel("Food Items", JLabel.CENTER);
 		foodLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
@@ -135,18 +104,15 @@ public class InventoryScreen extends JFrame {
 		foodContainer.setBackground(new Color(240, 255, 240));
 		foodContainer.add(foodLabel, BorderLayout.NORTH);
 
-		JScrollPane foodScrollPane = new JScrollPane(foodPanel);
+		JScrollPane foodScrollPane = new JScrollPane(foodList);
 		foodScrollPane.setBorder(BorderFactory.createEmptyBorder());
 		foodScrollPane.getViewport().setBackground(new Color(255, 255, 255, 200));
 		foodContainer.add(foodScrollPane, BorderLayout.CENTER);
 
 		tabbedPane.addTab("Food", foodContainer);
 
-		// Gift panel
-		giftPanel = new JPanel();
-		giftPanel.setLayout(new BoxLayout(giftPanel, BoxLayout.Y_AXIS));
-		giftPanel.setBackground(new Color(240, 255, 240));
-		giftPanel.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
+		// Gift list
+		giftList = createItemList(ItemCatalog.GIFT, renderer);
 
 		giftLabel = new JLabel("Gift Items", JLabel.CENTER);
 		giftLabel.setFont(new Font("SansSerif", Font.BOLD, 16));
@@ -156,7 +122,7 @@ public class InventoryScreen extends JFrame {
 		giftContainer.setBackground(new Color(240, 255, 240));
 		giftContainer.add(giftLabel, BorderLayout.NORTH);
 
-		JScrollPane giftScrollPane = new JScrollPane(giftPanel);
+		JScrollPane giftScrollPane = new JScrollPane(giftList);
 		giftScrollPane.setBorder(BorderFactory.createEmptyBorder());
 		giftScrollPane.getViewport().setBackground(new Color(255, 255, 255, 200));
 		giftContainer.add(giftScrollPane, BorderLayout.CENTER);
@@ -195,234 +161,49 @@ public class InventoryScreen extends JFrame {
 		buttonPanel.add(closeButton);
 
 		add(buttonPanel, BorderLayout.SOUTH);
-
-		// Since, we already tried loading from JSON above, then if that failed we do populateInventory()
-		updateInventoryUI();
 	}
 
 	/**
      * Populates the inventory with default items as a fallback when JSON loading fails.
-     * Creates default food and gift items with initial quantities.
+     * Gives one of every item in the catalog.
      */
 	private void populateInventory() {
-		foodItems.clear();
-		giftItems.clear();
-
-		foodItems.add(new Item("Apple", "food", "Restores 10 hunger", 1));
-		foodItems.add(new Item("Carrot", "food", "Restores 5 hunger", 1));
-		foodItems.add(new Item("Bone", "food", "Restores 15 hunger", 1));
-		foodItems.add(new Item("Fish", "food", "Restores 12 hunger", 1));
-		foodItems.add(new Item("Chicken", "food", "Restores 13 hunger", 1));
-		foodItems.add(new Item("Steak", "food", "Restores 20 hunger", 1));
-
-		giftItems.add(new Item("Toy", "gift", "Increases happiness +10", 1));
-		giftItems.add(new Item("Teddy Bear", "gift", "Increases happiness +15", 1));
-		giftItems.add(new Item("Ball", "gift", "Increases happiness +9", 1));
-		giftItems.add(new Item("Frisbee", "gift", "Increases happiness +12", 1));
+		items.fillDefault();
 	}
 
 	 /**
-     * Attempts to load inventory data from a JSON file.
+     * Attempts to load the starting inventory from the shared {@link GameConfig}.
      * 
      * @return true if loading was successful, false otherwise
      */
 	private boolean loadInventoryFromJson() {
-		String json = readJsonFile("json/jsonFile.json"); 
-		if (json == null) {
-			return false;
-		}
-		String inventoryKey = "\"inventory\":";
-		int invIndex = json.indexOf(inventoryKey);
-		if (invIndex == -1) {
+		GameConfig config = GameConfig.get();
+		if (!config.isLoadedFromFile()) {
 			return false;
 		}
-		// find the '['
-		int startArray = json.indexOf("[", invIndex);
-		int endArray = json.indexOf("]", startArray);
-		if (startArray == -1 || endArray == -1) {
-			return false;
-		}
-		String inventoryContent = json.substring(startArray+1, endArray);
-
-		foodItems.clear();
-		giftItems.clear();
-
-		int fromIndex = 0;
-		while (true) {
-			String searchKey = "\"itemId\":";
-			int keyPos = inventoryContent.indexOf(searchKey, fromIndex);
-			if (keyPos == -1) {
-				break; 
-			}
-
-			String itemId = extractValue(inventoryContent, "itemId", keyPos);
-			String itemName = extractValue(inventoryContent, "itemName", keyPos);
-			String qtyStr   = extractValue(inventoryContent, "quantity", keyPos);
-
-			int quantity = 1;
-			try {
-				quantity = (qtyStr != null) ? Integer.parseInt(qtyStr) : 1;
-			} catch (NumberFormatException e) {
-				quantity = 1;
-			}
-
-			
-			String effect = "Some effect";
-			if (itemName != null) {
-				if (itemName.equalsIgnoreCase("Apple"))       effect = "Restores 10 hunger";
-				else if (itemName.equalsIgnoreCase("Carrot")) effect = "Restores 5 hunger";
-				else if (itemName.equalsIgnoreCase("Bone"))   effect = "Restores 15 hunger";
-				else if (itemName.equalsIgnoreCase("Fish"))   effect = "Restores 12 hunger";
-				else if (itemName.equalsIgnoreCase("Chicken"))effect = "Restores 13 hunger";
-				else if (itemName.equalsIgnoreCase("Steak"))  effect = "Restores 20 hunger";
-				else if (itemName.equalsIgnoreCase("Toy"))    effect = "Increases happiness +10";
-				else if (itemName.equalsIgnoreCase("Teddy Bear")) effect = "Increases happiness +15";
-				else if (itemName.equalsIgnoreCase("Ball"))   effect = "Increases happiness +9";
-				else if (itemName.equalsIgnoreCase("Frisbee"))effect = "Increases happiness +12";
-			}
-
-			String type = "food"; 
-			if (itemId != null && itemId.contains("TOY")) {
-				type = "gift";
-			}
-
-			Item newItem = new Item(
-				(itemName != null)? itemName : "Unknown",
-				type,
-				effect,
-				quantity
-			);
-
-			if ("food".equals(type)) {
-				foodItems.add(newItem);
-			} 
-			
-			else {
-				giftItems.add(newItem);
-			}
 
-			fromIndex = keyPos + searchKey.length();
-		}
+		items.fillFromConfig(config);
 
 		return true;
 	}
 
 	/**
-     * Extracts a value from JSON string given a key and starting position.
+     * Creates a list showing the held items of one type.
+     * The list's model listens to the inventory, so it never needs to be rebuilt.
      *
-     * @param json The JSON string to search
-     * @param key The key to look for
-     * @param pos The starting position for search
-     * @return The extracted value or null if not found
+     * @param type {@link ItemCatalog#FOOD} or {@link ItemCatalog#GIFT}
+     * @param renderer the renderer shared by both lists
+     * @return the configured list
      */
-	private String extractValue(String json, String key, int pos) {
-		String searchKey = "\"" + key + "\":";
-		int keyIndex = json.indexOf(searchKey, pos);
-		if (keyIndex == -1) return null;
-
-		int colonIndex = keyIndex + searchKey.length();
-		int quoteIndex = json.indexOf("\"", colonIndex);
-		if (quoteIndex == -1) {
-			int comma = json.indexOf(",", colonIndex);
-			int brace = json.indexOf("}", colonIndex);
-			
-			if (comma == -1) comma = Integer.MAX_VALUE;
-			
-			if (brace == -1) brace = Integer.MAX_VALUE;
-			int endPos = Math.min(comma, brace);
-			
-			if (endPos == Integer.MAX_VALUE) return null;
-			String val = json.substring(colonIndex, endPos).trim();
-			return val;
-		}
-
-		int secondQuote = json.indexOf("\"", quoteIndex + 1);
-		if (secondQuote == -1) return null;
-
-		return json.substring(quoteIndex+1, secondQuote);
-	}
-
-	/**
-     * Reads the contents of a JSON file into a string.
-     *
-     * @param filePath Path to the JSON file
-     * @return The file contents as a string, or null if reading fails
-     */
-	private String readJsonFile(String filePath) {
-		StringBuilder sb = new StringBuilder();
-		try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-			String line;
-			
-			while ((line = br.readLine()) != null) {
-				sb.append(line);
-			}
-		} 
-		
-		catch (IOException e) {
-			e.printStackTrace();
-			return null;
-		}
-		return sb.toString();
-	}
-
-	/**
-     * Updates the inventory UI to reflect current item states.
-     * Refreshes both food and gift panels with current items.
-     */
-	private void updateInventoryUI() {
-		foodPanel.removeAll();
-		giftPanel.removeAll();
-
-		for (Item food : foodItems) {
-			JPanel itemPanel = createItemPanel(food);
-			foodPanel.add(itemPanel);
-			foodPanel.add(Box.createRigidArea(new Dimension(0, 5)));
-		}
-
-		for (Item gift : giftItems) {
-			JPanel itemPanel = createItemPanel(gift);
-			giftPanel.add(itemPanel);
-			giftPanel.add(Box.createRigidArea(new Dimension(0, 5)));
-		}
-
-		foodPanel.revalidate();
-		giftPanel.revalidate();
-		foodPanel.repaint();
-		giftPanel.repaint();
-	}
-
-	 /**
-     * Creates a panel to display an individual inventory item.
-     *
-     * @param item The item to display
-     * @return A configured JPanel displaying the item
-     */
-	private JPanel createItemPanel(Item item) {
-		JPanel panel = new JPanel(new BorderLayout());
-		panel.setBackground(new Color(255, 255, 255, 200));
-		panel.setBorder(BorderFactory.createCompoundBorder(
-				BorderFactory.createLineBorder(new Color(200, 230, 200), 1),
-				BorderFactory.createEmptyBorder(8, 10, 8, 10)
-		));
-
-		// Display "Apple (x2)" if quantity=2
-		String displayName = item.getName() + " (x" + item.getQuantity() + ")";
-
-		JLabel nameLabel = new JLabel(displayName);
-		nameLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
-
-		JLabel effectLabel = new JLabel(item.getEffect());
-		effectLabel.setFont(new Font("SansSerif", Font.PLAIN, 12));
-		effectLabel.setForeground(Color.GRAY);
-
-		JPanel textPanel = new JPanel(new GridLayout(2, 1));
-		textPanel.setOpaque(false);
-		textPanel.add(nameLabel);
-		textPanel.add(effectLabel);
-
-		panel.add(textPanel, BorderLayout.CENTER);
-
-		return panel;
+	private JList<Integer> createItemList(String type, ItemCellRenderer renderer) {
+		JList<Integer> list = new JList<>(new ItemListModel(items, type));
+		list.setCellRenderer(renderer);
+		list.setFixedCellHeight(ROW_HEIGHT);
+		list.setFixedCellWidth(100);
+		list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		list.setBackground(new Color(240, 255, 240));
+		list.setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
+		return list;
 	}
 
 	/**
@@ -431,7 +212,7 @@ public class InventoryScreen extends JFrame {
      * updates pet stats accordingly, and refreshes the inventory.
      */
 	private void useFood() {
-		if (foodItems.isEmpty()) {
+		if (items.isEmpty(ItemCatalog.FOOD)) {
 			showStyledMessageDialog("No food items available!", "Inventory Empty", JOptionPane.WARNING_MESSAGE);
 			return;
 		}
@@ -452,12 +233,13 @@ public class InventoryScreen extends JFrame {
 		itemsPanel.setLayout(new BoxLayout(itemsPanel, BoxLayout.Y_AXIS));
 		itemsPanel.setBackground(new Color(240, 255, 240));
 
-		for (Item food : new ArrayList<>(foodItems)) { 
+		for (int id : items.heldIds(ItemCatalog.FOOD)) {
+			ItemCatalog.ItemDefinition food = items.getCatalog().get(id);
 			RoundedPanel itemPanel = new RoundedPanel(15, new Color(255, 255, 255, 220));
 			itemPanel.setLayout(new BorderLayout(10, 10));
 			itemPanel.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
 
-			String displayName = food.getName() + " (x" + food.getQuantity() + ")";
+			String displayName = food.getName() + " (x" + items.getQuantity(id) + ")";
 			JLabel name = new JLabel(displayName);
 			name.setFont(new Font("SansSerif", Font.BOLD, 14));
 
@@ -473,48 +255,13 @@ public class InventoryScreen extends JFrame {
 			RoundedButton useBtn = new RoundedButton("Use");
 			useBtn.setPreferredSize(new Dimension(80, 30));
 
-			int hungerVal = 0;
-			switch (food.getName()) {
-				case "Apple":
-					hungerVal = 10;
-					break;
-				case "Carrot":
-					hungerVal = 5;
-					break;
-				case "Bone":
-					hungerVal = 15;
-					break;
-				case "Fish":
-					hungerVal = 12;
-					break;
-				case "Chicken":
-					hungerVal = 13;
-					break;
-				case "Steak":
-					hungerVal = 20;
-					break;
-				default:
-					hungerVal = 0;
-			}
-			int totalHungerVal = hungerVal; 
-
 			useBtn.addActionListener(e -> {
-				// Decrement quantity
-				food.setQuantity(food.getQuantity() - 1);
-
-				if (food.getQuantity() <= 0) {
-					foodItems.remove(food);
-				}
-				updateInventoryUI();
+				// Decrement quantity, the item leaves the list once none are left
+				items.use(id);
 				dialog.dispose();
 				showStyledMessageDialog("Used " + food.getName(), "Success", JOptionPane.INFORMATION_MESSAGE);
 
-				int newHunger = (logic.getHunger() + totalHungerVal > 100) ? 100 : logic.getHunger() + totalHungerVal;
-				int newSleep = logic.getSleep();
-				int newHapp = logic.getHapp();
-				int newh = logic.getH();
-
-				logic.updateStats(newHapp, newh, newSleep, newHunger);
+				logic.useItem(food);
 				logic.checkStats();
 			});
 
@@ -550,7 +297,7 @@ public class InventoryScreen extends JFrame {
      * updates pet stats accordingly, and refreshes the inventory.
      */
 	private void useGift() {
-		if (giftItems.isEmpty()) {
+		if (items.isEmpty(ItemCatalog.GIFT)) {
 			showStyledMessageDialog("No gift items available!", "Inventory Empty", JOptionPane.WARNING_MESSAGE);
 			return;
 		}
@@ -571,12 +318,13 @@ public class InventoryScreen extends JFrame {
 		itemsPanel.setLayout(new BoxLayout(itemsPanel, BoxLayout.Y_AXIS));
 		itemsPanel.setBackground(new Color(240, 255, 240));
 
-		for (Item gift : new ArrayList<>(giftItems)) {
+		for (int id : items.heldIds(ItemCatalog.GIFT)) {
+			ItemCatalog.ItemDefinition gift = items.getCatalog().get(id);
 			RoundedPanel itemPanel = new RoundedPanel(15, new Color(255, 255, 255, 220));
 			itemPanel.setLayout(new BorderLayout(10, 10));
 			itemPanel.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
 
-			String displayName = gift.getName() + " (x" + gift.getQuantity() + ")";
+			String displayName = gift.getName() + " (x" + items.getQuantity(id) + ")";
 			JLabel name = new JLabel(displayName);
 			name.setFont(new Font("SansSerif", Font.BOLD, 14));
 
@@ -591,41 +339,13 @@ public class InventoryScreen extends JFrame {
 
 			RoundedButton giveBtn = new RoundedButton("Give");
 			giveBtn.setPreferredSize(new Dimension(80, 30));
-			int happyVal = 0;
-			switch (gift.getName()) {
-				case "Toy":
-					happyVal = 10;
-					break;
-				case "Teddy Bear":
-					happyVal = 15;
-					break;
-				case "Ball":
-					happyVal = 9;
-					break;
-				case "Frisbee":
-					happyVal = 12;
-					break;
-				default:
-					happyVal = 0;
-			}
-
-			int totalHappyVal = happyVal; 
 
 			giveBtn.addActionListener(e -> {
-				gift.setQuantity(gift.getQuantity() - 1);
-				if (gift.getQuantity() <= 0) {
-					giftItems.remove(gift);
-				}
-				updateInventoryUI();
+				items.use(id);
 				dialog.dispose();
 				showStyledMessageDialog("Gave " + gift.getName(), "Success", JOptionPane.INFORMATION_MESSAGE);
 
-				int newHunger = logic.getHunger();
-				int newSleep = logic.getSleep();
-				int newHapp = (logic.getHapp() + totalHappyVal > 100) ? 100 : totalHappyVal + logic.getHapp();
-				int newh = logic.getH();
-
-				logic.updateStats(newHapp, newh, newSleep, newHunger);
+				logic.useItem(gift);
 				logic.checkStats();
 			});
 
@@ -687,20 +407,7 @@ public class InventoryScreen extends JFrame {
      * @return String containing all inventory items
      */
 	public String inventoryToString() {
-		StringBuilder sb = new StringBuilder();
-
-		for (Item item : foodItems) {
-			sb.append(item.getName()).append(",");
-			sb.append(item.getType()).append(",");
-			sb.append(item.getEffect()).append("\n");
-		}
-
-		for (Item item : giftItems) {
-			sb.append(item.getName()).append(",");
-			sb.append(item.getType()).append(",");
-			sb.append(item.getEffect()).append("\n");
-		}
-		return sb.toString();
+		return items.toItemString();
 	}
 
 	  /**
@@ -709,22 +416,25 @@ public class InventoryScreen extends JFrame {
      * @param itemList String containing items in format "name,type,effect\n"
      */
 	public void customAddItems(String itemList) {
-		foodItems.clear();
-		giftItems.clear();
-
-		String[] items = itemList.split("\n");
+		items.setFromItemString(itemList);
+	}
 
-		for (String item : items) {
-			String[] indivisualItems = item.split(",");
-			if (indivisualItems[1].equals("food")) {
-				foodItems.add(new Item(indivisualItems[0], indivisualItems[1], indivisualItems[2]));
-			}
-			else {
-				giftItems.add(new Item(indivisualItems[0], indivisualItems[1], indivisualItems[2]));
-			}
-		}
+	/**
+     * Copies the inventory into item stacks for saving, keeping each item's quantity.
+     *
+     * @return the food stacks followed by the gift stacks
+     */
+	public List<GameState.ItemStack> toItemStacks() {
+		return items.toItemStacks();
+	}
 
-		updateInventoryUI();
+	/**
+     * Replaces the inventory with saved item stacks.
+     *
+     * @param stacks the saved items and their quantities
+     */
+	public void setItemStacks(List<GameState.ItemStack> stacks) {
+		items.setItemStacks(stacks);
 	}
 
  	/**
@@ -733,47 +443,149 @@ public class InventoryScreen extends JFrame {
      * @return Name of the added item, or empty string if none was added
      */
 	public String addFoodRandom() {
-		boolean found = false;
-
-		for (Item item : foodItemsTotal) {
-			for (Item food : foodItems) {
-				if (item.isSame(food)) {
-					found = true;
-				}
-			}
-			if (!found && Math.random() < 0.5) {
-				foodItems.add(item);
-				updateInventoryUI();
-				return item.getName();
-			}
-			found = false;
-		}
-		return "";
+		String item = items.addRandom(ItemCatalog.FOOD);
+		logic.recordReward(ItemCatalog.FOOD, item);
+		return item;
 	}
-		
+
 	/**
      * Randomly adds a gift item to the inventory.
      *
      * @return Name of the added item, or empty string if none was added
      */
 	public String addGiftRandom() {
+		String item = items.addRandom(ItemCatalog.GIFT);
+		logic.recordReward(ItemCatalog.GIFT, item);
+		return item;
+	}
+
+	/**
+     * Getter for the items shown by this screen.
+     *
+     * @return the inventory model
+     */
+	public Inventory getItems() {
+		return items;
+	}
+
+	/**
+     * List model of the held items of one type, in catalog order.
+     * <p>It listens to the {@link Inventory} and only reports the rows that changed, so using an item
+     * repaints one row instead of rebuilding the list.
+     */
+	static class ItemListModel extends AbstractListModel<Integer> implements Inventory.Listener {
+		private final Inventory inventory;
+		private final String type;
+		/** Held item ids, sorted so a row can be found with a binary search */
+		private int[] rows = new int[0];
+		private int size;
+
+		ItemListModel(Inventory inventory, String type) {
+			this.inventory = inventory;
+			this.type = type;
+			rebuild();
+			inventory.addListener(this);
+		}
+
+		@Override
+		public int getSize() {
+			return size;
+		}
+
+		@Override
+		public Integer getElementAt(int index) {
+			return rows[index];
+		}
+
+		@Override
+		public void quantityChanged(int id, int oldQuantity, int newQuantity) {
+			if (!type.equals(inventory.getCatalog().get(id).getType())) {
+				return;
+			}
 
-	boolean found = false;
-	
-	for (Item item : giftItemsTotal) {
-		for (Item gift : giftItems) {
-	if (item.isSame(gift)) {
-		found = true;
+			int row = Arrays.binarySearch(rows, 0, size, id);
+			if (row >= 0 && newQuantity > 0) {
+				// Only the quantity shown in this row changed
+				fireContentsChanged(this, row, row);
+			}
+			else if (row >= 0) {
+				System.arraycopy(rows, row + 1, rows, row, size - row - 1);
+				size--;
+				fireIntervalRemoved(this, row, row);
+			}
+			else if (newQuantity > 0) {
+				int insert = -row - 1;
+				if (size == rows.length) {
+					rows = Arrays.copyOf(rows, Math.max(8, size * 2));
+				}
+				System.arraycopy(rows, insert, rows, insert + 1, size - insert);
+				rows[insert] = id;
+				size++;
+				fireIntervalAdded(this, insert, insert);
+			}
 		}
+
+		@Override
+		public void inventoryReplaced() {
+			int oldSize = size;
+			rebuild();
+			if (oldSize > 0) {
+				fireIntervalRemoved(this, 0, oldSize - 1);
+			}
+			if (size > 0) {
+				fireIntervalAdded(this, 0, size - 1);
+			}
 		}
-	if (!found && Math.random() < 0.5) {
-		giftItems.add(item);
-		updateInventoryUI();
-		return item.getName();
+
+		private void rebuild() {
+			rows = inventory.heldIds(type);
+			size = rows.length;
 		}
-		found = false;
 	}
-		return "";
+
+	/**
+     * Draws an item row: the name and quantity above the effect.
+     * <p>One renderer component is reused for every row, so no components are created per item.
+     */
+	static class ItemCellRenderer extends JPanel implements ListCellRenderer<Integer> {
+		private final Inventory inventory;
+		private final JLabel nameLabel = new JLabel();
+		private final JLabel effectLabel = new JLabel();
+		private final Color background = new Color(255, 255, 255, 200);
+		private final Color selectedBackground = new Color(200, 240, 200);
+
+		ItemCellRenderer(Inventory inventory) {
+			super(new BorderLayout());
+			this.inventory = inventory;
+			setBorder(BorderFactory.createCompoundBorder(
+					BorderFactory.createMatteBorder(0, 0, 5, 0, new Color(240, 255, 240)),
+					BorderFactory.createCompoundBorder(
+							BorderFactory.createLineBorder(new Color(200, 230, 200), 1),
+							BorderFactory.createEmptyBorder(8, 10, 8, 10))
+			));
+
+			nameLabel.setFont(new Font("SansSerif", Font.BOLD, 14));
+			effectLabel.setFont(new Font("SansSerif", Font.PLAIN, 12));
+			effectLabel.setForeground(Color.GRAY);
+
+			JPanel textPanel = new JPanel(new GridLayout(2, 1));
+			textPanel.setOpaque(false);
+			textPanel.add(nameLabel);
+			textPanel.add(effectLabel);
+			add(textPanel, BorderLayout.CENTER);
+		}
+
+		@Override
+		public Component getListCellRendererComponent(JList<? extends Integer> list, Integer id, int index,
+				boolean isSelected, boolean cellHasFocus) {
+			ItemCatalog.ItemDefinition item = inventory.getCatalog().get(id);
+
+			// Display "Apple (x2)" if quantity=2
+			nameLabel.setText(item.getName() + " (x" + inventory.getQuantity(id) + ")");
+			effectLabel.setText(item.getEffect());
+			setBackground(isSelected ? selectedBackground : background);
+			return this;
+		}
 	}
 
 	/**
@@ -876,39 +688,4 @@ public class InventoryScreen extends JFrame {
 			g2.dispose();
 		}
 	}
-
-	 /**
-     * Represents an inventory item with name, type, effect and quantity.
-     */
-	public class Item {
-		private String name;
-		private String type;
-		private String effect;
-		private int quantity; 
-
-		public Item(String name, String type, String effect) {
-			this(name, type, effect, 1);
-		}
-
-		public Item(String name, String type, String effect, int quantity) {
-			this.name = name;
-			this.type = type;
-			this.effect = effect;
-			this.quantity = quantity;
-		}
-
-		public String getName() { return name; }
-		public String getType() { return type; }
-		public String getEffect() { return effect; }
-
-
-
-		public boolean isSame(Item item) {
-			return (this.getName().equals(item.getName()) && this.getType().equals(item.getType()) && this.getEffect().equals(item.getEffect()));
-		}
-			
-
-		public int getQuantity() { return quantity; }
-		public void setQuantity(int q) { this.quantity = q; }
-	}
 }
@@ -0,0 +1,237 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Every kind of item the game knows about, each stored once and given a small integer id.
+ * <br><br>
+ * Ids are dense, starting at 0, so inventories can keep quantities in an array indexed by id and
+ * look up an item's name, type and effect without searching. The catalog is built from the
+ * {@code items} section of {@code json/jsonFile.json}, so new items only need a config change, and
+ * falls back to the game's original ten items if the section is missing.<br><br>
+ *
+ * Items that are not in the catalog, for example from a custom inventory string, are added the first
+ * time they are seen with no effect on the pet's stats.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		ItemCatalog catalog = ItemCatalog.get();
+ * 		ItemCatalog.ItemDefinition apple = catalog.get(catalog.find("Apple"));
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//apple.getAmount() is 10 and apple.getStat() is PetSimulationEngine.HUNGER</code><br>
+ *
+ * @version 1.0.0
+ */
+public final class ItemCatalog {
+	/** Type of items that raise hunger */
+	public static final String FOOD = "food";
+	/** Type of items that raise happiness */
+	public static final String GIFT = "gift";
+
+	//Replaced rather than changed when an item is added, so lookups do not need a lock
+	private volatile ItemDefinition[] items = new ItemDefinition[0];
+	private volatile int[] foodIds = new int[0];
+	private volatile int[] giftIds = new int[0];
+	private final Map<String, Integer> idsByName = new HashMap<>();
+	private final Map<String, Integer> idsByItemId = new HashMap<>();
+
+	/**
+	 * Holder so the catalog is only built the first time it is needed.
+	 */
+	private static class Holder {
+		static final ItemCatalog INSTANCE = fromConfig(GameConfig.get());
+	}
+
+	/**
+	 * Getter for the shared catalog built from {@link GameConfig}.
+	 *
+	 * @return the shared catalog
+	 */
+	public static ItemCatalog get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Builds a catalog from the configuration's item list, or from the defaults if it has none.
+	 *
+	 * @param config the game configuration
+	 * @return a new catalog
+	 */
+	public static ItemCatalog fromConfig(GameConfig config) {
+		if (config.getItems().isEmpty()) {
+			return defaults();
+		}
+
+		ItemCatalog catalog = new ItemCatalog();
+		for (GameConfig.ItemEntry entry : config.getItems()) {
+			int stat = PetSimulationEngine.statIndex(entry.getStat());
+			if (stat < 0) {
+				stat = GIFT.equals(entry.getType()) ? PetSimulationEngine.HAPPINESS : PetSimulationEngine.HUNGER;
+			}
+			catalog.add(entry.getItemId(), entry.getItemName(), entry.getType(), entry.getEffect(), stat, entry.getAmount());
+		}
+		return catalog;
+	}
+
+	/**
+	 * Builds a catalog of the game's original items.
+	 *
+	 * @return a new catalog
+	 */
+	public static ItemCatalog defaults() {
+		ItemCatalog catalog = new ItemCatalog();
+		catalog.add("FOOD1", "Apple", FOOD, "Restores 10 hunger", PetSimulationEngine.HUNGER, 10);
+		catalog.add("FOOD2", "Carrot", FOOD, "Restores 5 hunger", PetSimulationEngine.HUNGER, 5);
+		catalog.add("FOOD3", "Bone", FOOD, "Restores 15 hunger", PetSimulationEngine.HUNGER, 15);
+		catalog.add("FOOD4", "Fish", FOOD, "Restores 12 hunger", PetSimulationEngine.HUNGER, 12);
+		catalog.add("FOOD5", "Chicken", FOOD, "Restores 13 hunger", PetSimulationEngine.HUNGER, 13);
+		catalog.add("FOOD6", "Steak", FOOD, "Restores 20 hunger", PetSimulationEngine.HUNGER, 20);
+		catalog.add("TOY1", "Toy", GIFT, "Increases happiness +10", PetSimulationEngine.HAPPINESS, 10);
+		catalog.add("TOY2", "Teddy Bear", GIFT, "Increases happiness +15", PetSimulationEngine.HAPPINESS, 15);
+		catalog.add("TOY3", "Ball", GIFT, "Increases happiness +9", PetSimulationEngine.HAPPINESS, 9);
+		catalog.add("TOY4", "Frisbee", GIFT, "Increases happiness +12", PetSimulationEngine.HAPPINESS, 12);
+		return catalog;
+	}
+
+	/**
+	 * Getter for an item.
+	 *
+	 * @param id the item's id
+	 * @return the item
+	 */
+	public ItemDefinition get(int id) {
+		return items[id];
+	}
+
+	/**
+	 * Getter for the number of items, which is also one more than the highest id.
+	 *
+	 * @return the number of items
+	 */
+	public int size() {
+		return items.length;
+	}
+
+	/**
+	 * Finds an item by its name, ignoring case.
+	 *
+	 * @param name the item's name
+	 * @return the item's id, or -1 if there is no such item
+	 */
+	public synchronized int find(String name) {
+		Integer id = idsByName.get(key(name));
+		return (id == null) ? -1 : id;
+	}
+
+	/**
+	 * Finds an item by the id it has in the config file, for example {@code FOOD1}.
+	 *
+	 * @param itemId the config file id
+	 * @return the item's id, or -1 if there is no such item
+	 */
+	public synchronized int findByItemId(String itemId) {
+		Integer id = (itemId == null) ? null : idsByItemId.get(itemId);
+		return (id == null) ? -1 : id;
+	}
+
+	/**
+	 * Getter for the ids of every item of a type, in catalog order.
+	 *
+	 * @param type {@link #FOOD} or {@link #GIFT}
+	 * @return the ids, which must not be changed
+	 */
+	public int[] idsOfType(String type) {
+		return FOOD.equals(type) ? foodIds : giftIds;
+	}
+
+	/**
+	 * Finds an item by name, adding it with no effect on the stats if it is not in the catalog.
+	 *
+	 * @param name the item's name
+	 * @param type {@link #FOOD} for food, anything else is a gift
+	 * @param effect the effect text shown for a new item
+	 * @return the item's id
+	 */
+	public synchronized int intern(String name, String type, String effect) {
+		int id = find(name);
+		if (id >= 0) {
+			return id;
+		}
+
+		String itemType = FOOD.equals(type) ? FOOD : GIFT;
+		int stat = FOOD.equals(itemType) ? PetSimulationEngine.HUNGER : PetSimulationEngine.HAPPINESS;
+		return add(null, name, itemType, effect, stat, 0);
+	}
+
+	/**
+	 * Adds an item, replacing the arrays so readers never see a half added item.
+	 */
+	private synchronized int add(String itemId, String name, String type, String effect, int stat, int amount) {
+		String itemType = FOOD.equals(type) ? FOOD : GIFT;
+		int id = items.length;
+		ItemDefinition item = new ItemDefinition(id, itemId, name, itemType, effect, stat, amount);
+
+		ItemDefinition[] grown = Arrays.copyOf(items, id + 1);
+		grown[id] = item;
+		if (FOOD.equals(itemType)) {
+			foodIds = append(foodIds, id);
+		} else {
+			giftIds = append(giftIds, id);
+		}
+		items = grown;
+
+		idsByName.putIfAbsent(key(name), id);
+		if (itemId != null) {
+			idsByItemId.putIfAbsent(itemId, id);
+		}
+		return id;
+	}
+
+	private static int[] append(int[] ids, int id) {
+		int[] grown = Arrays.copyOf(ids, ids.length + 1);
+		grown[ids.length] = id;
+		return grown;
+	}
+
+	private static String key(String name) {
+		return name.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * One kind of item. Definitions are shared by every inventory that holds the item.
+	 */
+	public static final class ItemDefinition {
+		private final int id;
+		private final String itemId;
+		private final String name;
+		private final String type;
+		private final String effect;
+		private final int stat;
+		private final int amount;
+
+		private ItemDefinition(int id, String itemId, String name, String type, String effect, int stat, int amount) {
+			this.id = id;
+			this.itemId = itemId;
+			this.name = name;
+			this.type = type;
+			this.effect = effect;
+			this.stat = stat;
+			this.amount = amount;
+		}
+
+		public int getId() { return id; }
+		public String getItemId() { return itemId; }
+		public String getName() { return name; }
+		public String getType() { return type; }
+		public String getEffect() { return effect; }
+		/** Index of the stat the item raises, from {@link PetSimulationEngine} */
+		public int getStat() { return stat; }
+		/** Amount the item raises its stat by */
+		public int getAmount() { return amount; }
+		public boolean isFood() { return FOOD.equals(type); }
+	}
+}
@@ -0,0 +1,462 @@
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rebuilds the game at any moment from the {@link ActionJournal} files, for finding out why a pet died
+ * and for getting a game back after a crash.
+ * <br><br>
+ * Only the session that covers the moment is read. The first time a session is used it is replayed once
+ * from start to end, keeping a snapshot of the pet, the inventory and the {@link RewardRandom} state every
+ * {@link #SNAPSHOT_INTERVAL} entries. After that any moment is found by starting from the nearest snapshot
+ * before it and replaying at most that many entries, so seeking costs the same in a session of any
+ * length. Rewards are drawn again from the journal's seed and checked against what the game recorded;
+ * any that differ are counted and the journal's record is kept.<br><br>
+ *
+ * Run it from {@code PetGame/src} to print the game at a moment, the entries that led up to it, or to
+ * write it to a profile:
+ * <pre>
+ * java JournalReplayer --at 2024-06-01T18:30 --events 20
+ * java JournalReplayer --restore "Save File 1"
+ * </pre>
+ * Journals are only kept for {@code keepDays} days, 180 by default, so moments before that can not be rebuilt.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		JournalReplayer replayer = new JournalReplayer(Paths.get("journal"));
+ * 		GameState beforeCrash = replayer.latest();
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//the stats, score and items as of the last entry written before the crash</code><br>
+ *
+ * @version 1.0.0
+ */
+public class JournalReplayer {
+	/** Entries between snapshots */
+	public static final int SNAPSHOT_INTERVAL = 1024;
+
+	private final ItemCatalog catalog;
+	//Journal files in the order their sessions started
+	private final Path[] files;
+	private final long[] startMillis;
+
+	//The session used last, kept so seeking around in it does not replay it again
+	private int cachedIndex = -1;
+	private Session cachedSession;
+
+	/**
+	 * Finds every journal in a directory. Only their headers are read.
+	 *
+	 * @param directory the journal directory
+	 * @throws IOException if the directory can not be read
+	 */
+	public JournalReplayer(Path directory) throws IOException {
+		this(directory, ItemCatalog.get());
+	}
+
+	/**
+	 * Finds every journal in a directory, reading item ids with a catalog.
+	 *
+	 * @param directory the journal directory
+	 * @param catalog the catalog the game used
+	 * @throws IOException if the directory can not be read
+	 */
+	public JournalReplayer(Path directory, ItemCatalog catalog) throws IOException {
+		this.catalog = catalog;
+
+		List<Path> found = new ArrayList<>();
+		List<Long> starts = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.journal")) {
+			for (Path file : stream) {
+				long start = ActionJournal.readStartMillis(file);
+				if (start >= 0) {
+					found.add(file);
+					starts.add(start);
+				}
+			}
+		}
+
+		Integer[] order = new Integer[found.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(starts.get(a), starts.get(b)));
+		files = new Path[order.length];
+		startMillis = new long[order.length];
+		for (int i = 0; i < order.length; i++) {
+			files[i] = found.get(order[i]);
+			startMillis[i] = starts.get(order[i]);
+		}
+	}
+
+	/**
+	 * Prints or restores the game at a moment.
+	 *
+	 * @param args {@code --dir DIR}, {@code --at DATE-TIME}, {@code --events N} and {@code --restore PROFILE}
+	 * @throws IOException if the journals can not be read or the save can not be written
+	 */
+	public static void main(String[] args) throws IOException {
+		Path directory = Paths.get(GameConfig.get().getJournalDirectory() != null ? GameConfig.get().getJournalDirectory() : "journal");
+		LocalDateTime at = null;
+		int events = 0;
+		String restoreProfile = null;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--dir":
+					directory = Paths.get(args[++i]);
+					break;
+				case "--at":
+					at = LocalDateTime.parse(args[++i]);
+					break;
+				case "--events":
+					events = Integer.parseInt(args[++i]);
+					break;
+				case "--restore":
+					restoreProfile = args[++i];
+					break;
+				default:
+					System.err.println("Unknown option " + args[i]);
+					System.err.println("Usage: java JournalReplayer [--dir DIR] [--at 2024-06-01T18:30] [--events N] [--restore PROFILE]");
+					System.err.println("Journals older than keepDays (" + GameConfig.get().getJournalKeepDays() + " days) have been deleted.");
+					System.exit(1);
+			}
+		}
+
+		JournalReplayer replayer = new JournalReplayer(directory);
+		if (replayer.getSessionCount() == 0) {
+			System.out.println("No journals in " + directory.toAbsolutePath());
+			return;
+		}
+
+		long time = (at == null) ? Long.MAX_VALUE : at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		int index = replayer.sessionAt(time);
+		if (index < 0) {
+			System.out.println("The first journal starts after " + at);
+			return;
+		}
+		Session session = replayer.session(index);
+		int entries = session.entriesUntil(time);
+		GameState state = session.stateAfter(entries);
+
+		System.out.println("Session " + replayer.files[index].getFileName() + ", started " + format(replayer.startMillis[index]));
+		ActionJournal.Reader reader = session.getReader();
+		for (int entry = Math.max(0, entries - events); entry < entries; entry++) {
+			StringBuilder line = new StringBuilder(format(reader.getTimeMillis(entry))).append("  ")
+					.append(ActionJournal.kindName(reader.getKind(entry))).append(' ').append(reader.getArgument(entry));
+			for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+				line.append("  ").append(PetSimulationEngine.statName(stat)).append(' ').append(reader.getChange(entry, stat));
+			}
+			System.out.println(line.append("  value ").append(reader.getValue(entry)));
+		}
+		System.out.println("After " + entries + " of " + session.size() + " entries, at " + format(state.getSavedAtMillis()) + ":");
+		System.out.println("  score " + state.getScore() + ", happiness " + state.getHappiness() + ", health " + state.getHealth()
+				+ ", sleep " + state.getSleep() + ", hunger " + state.getHunger() + ", pet " + state.getPetNumber());
+		for (GameState.ItemStack item : state.getInventory()) {
+			System.out.println("  " + item.getName() + " x" + item.getQuantity());
+		}
+		if (session.getMismatches() > 0) {
+			System.out.println("  Rewards that did not match the journal's seed: " + session.getMismatches());
+		}
+
+		if (restoreProfile != null) {
+			ProfileStore.get().save(restoreProfile, state);
+			System.out.println("Written to profile " + restoreProfile);
+		}
+	}
+
+	/**
+	 * Getter for the number of sessions found.
+	 *
+	 * @return the number of journal files
+	 */
+	public int getSessionCount() {
+		return files.length;
+	}
+
+	/**
+	 * Finds the session that was being played at a moment.
+	 *
+	 * @param timeMillis the moment, from {@link System#currentTimeMillis()}
+	 * @return the index of the last session that started by then, or -1 if none had
+	 */
+	public int sessionAt(long timeMillis) {
+		int low = 0;
+		int high = startMillis.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (startMillis[middle] <= timeMillis) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Getter for a session, replaying it to take its snapshots if it was not the last one used.
+	 *
+	 * @param index the session's index, in the order the sessions started
+	 * @return the session
+	 * @throws IOException if the journal can not be read
+	 */
+	public synchronized Session session(int index) throws IOException {
+		if (index != cachedIndex) {
+			cachedSession = new Session(new ActionJournal.Reader(files[index]), catalog);
+			cachedIndex = index;
+		}
+		return cachedSession;
+	}
+
+	/**
+	 * Rebuilds the game as it was at a moment.
+	 *
+	 * @param timeMillis the moment, from {@link System#currentTimeMillis()}
+	 * @return the game, with the time of the last entry by then as its save time
+	 * @throws IOException if the journal can not be read
+	 * @throws IllegalArgumentException if no session had started by then
+	 */
+	public GameState stateAt(long timeMillis) throws IOException {
+		int index = sessionAt(timeMillis);
+		if (index < 0) {
+			throw new IllegalArgumentException("No journal covers " + format(timeMillis));
+		}
+		Session session = session(index);
+		return session.stateAfter(session.entriesUntil(timeMillis));
+	}
+
+	/**
+	 * Rebuilds the game as of the last entry of the last session, to recover from a crash.
+	 *
+	 * @return the game, with the last entry's time as its save time, so loading it catches up from then
+	 * @throws IOException if the journal can not be read
+	 * @throws IllegalArgumentException if there are no journals
+	 */
+	public GameState latest() throws IOException {
+		if (files.length == 0) {
+			throw new IllegalArgumentException("There are no journals");
+		}
+		Session session = session(files.length - 1);
+		return session.stateAfter(session.size());
+	}
+
+	private static String format(long millis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()).toString();
+	}
+
+	/**
+	 * One session's journal with its snapshots.
+	 */
+	public static final class Session {
+		private final ActionJournal.Reader reader;
+		private final ItemCatalog catalog;
+		private int mismatches;
+
+		//Snapshot k is the game after k * SNAPSHOT_INTERVAL entries
+		private final long[] petStates;
+		private final int[] petNumbers;
+		private final long[] randomStates;
+		private final int[][] quantities;
+
+		Session(ActionJournal.Reader reader, ItemCatalog catalog) {
+			this.reader = reader;
+			this.catalog = catalog;
+
+			int snapshots = reader.size() / SNAPSHOT_INTERVAL + 1;
+			petStates = new long[snapshots];
+			petNumbers = new int[snapshots];
+			randomStates = new long[snapshots];
+			quantities = new int[snapshots][];
+
+			Replay replay = new Replay(catalog, reader.getSeed());
+			for (int entry = 0; ; entry++) {
+				if (entry % SNAPSHOT_INTERVAL == 0) {
+					int snapshot = entry / SNAPSHOT_INTERVAL;
+					petStates[snapshot] = replay.pet;
+					petNumbers[snapshot] = replay.petNumber;
+					randomStates[snapshot] = replay.random.getState();
+					quantities[snapshot] = replay.quantities();
+				}
+				if (entry == reader.size()) {
+					break;
+				}
+				mismatches += replay.apply(reader, entry);
+			}
+		}
+
+		/**
+		 * Getter for the number of entries in the session.
+		 *
+		 * @return the number of entries
+		 */
+		public int size() {
+			return reader.size();
+		}
+
+		/**
+		 * Getter for the session's journal.
+		 *
+		 * @return the reader over the journal file
+		 */
+		public ActionJournal.Reader getReader() {
+			return reader;
+		}
+
+		/**
+		 * Getter for the number of rewards that came out differently from what the journal recorded.
+		 *
+		 * @return 0 if the replay matched the game
+		 */
+		public int getMismatches() {
+			return mismatches;
+		}
+
+		/**
+		 * Counts the entries written by a moment.
+		 *
+		 * @param timeMillis the moment, from {@link System#currentTimeMillis()}
+		 * @return the number of entries at or before the moment
+		 */
+		public int entriesUntil(long timeMillis) {
+			int low = 0;
+			int high = reader.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (reader.getTimeMillis(middle) <= timeMillis) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Rebuilds the game after a number of entries, starting from the nearest snapshot.
+		 *
+		 * @param entries how many entries to apply
+		 * @return the game, with the last entry's time as its save time, so loading it catches up from then
+		 */
+		public GameState stateAfter(int entries) {
+			int snapshot = entries / SNAPSHOT_INTERVAL;
+			Replay replay = new Replay(catalog, randomStates[snapshot]);
+			replay.pet = petStates[snapshot];
+			replay.petNumber = petNumbers[snapshot];
+			int[] held = quantities[snapshot];
+			for (int id = 0; id < held.length; id++) {
+				replay.inventory.add(id, held[id]);
+			}
+
+			for (int entry = snapshot * SNAPSHOT_INTERVAL; entry < entries; entry++) {
+				replay.apply(reader, entry);
+			}
+			return replay.toGameState((entries == 0) ? reader.getStartMillis() : reader.getTimeMillis(entries - 1));
+		}
+	}
+
+	/**
+	 * The game part way through a replay.
+	 */
+	private static final class Replay {
+		private final ItemCatalog catalog;
+		private final RewardRandom random;
+		private final Inventory inventory;
+		private final int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+		private long pet;
+		private int petNumber;
+
+		Replay(ItemCatalog catalog, long randomState) {
+			this.catalog = catalog;
+			this.random = new RewardRandom(randomState);
+			this.inventory = new Inventory(catalog, random);
+		}
+
+		/**
+		 * Applies one entry.
+		 *
+		 * @return 1 if it was a reward that came out differently, otherwise 0
+		 */
+		int apply(ActionJournal.Reader reader, int entry) {
+			byte kind = reader.getKind(entry);
+			int argument = reader.getArgument(entry);
+			switch (kind) {
+				case ActionJournal.START:
+					pet = 0;
+					petNumber = argument;
+					break;
+				case ActionJournal.HOLDING:
+					if (argument >= 0 && argument < catalog.size()) {
+						inventory.add(argument, reader.getValue(entry) - inventory.getQuantity(argument));
+					}
+					return 0;
+				case ActionJournal.ITEM:
+					if (argument >= 0 && argument < catalog.size()) {
+						inventory.use(argument);
+					}
+					break;
+				case ActionJournal.FOOD_REWARD:
+				case ActionJournal.GIFT_REWARD:
+					return reward(kind == ActionJournal.FOOD_REWARD ? ItemCatalog.FOOD : ItemCatalog.GIFT, argument);
+				default:
+					break;
+			}
+
+			for (int stat = 0; stat < stats.length; stat++) {
+				stats[stat] = PetState.stat(pet, stat) + reader.getChange(entry, stat);
+			}
+			pet = PetState.pack(PetState.score(pet) + reader.getValue(entry), stats);
+			return 0;
+		}
+
+		/**
+		 * Draws a reward again and keeps the journal's result if it differs.
+		 */
+		private int reward(String type, int recorded) {
+			String name = inventory.addRandom(type);
+			int drawn = name.isEmpty() ? -1 : catalog.find(name);
+			if (drawn == recorded) {
+				return 0;
+			}
+
+			if (drawn >= 0) {
+				inventory.add(drawn, -1);
+			}
+			if (recorded >= 0 && recorded < catalog.size()) {
+				inventory.add(recorded, 1);
+			}
+			return 1;
+		}
+
+		int[] quantities() {
+			int[] held = new int[catalog.size()];
+			for (int id = 0; id < held.length; id++) {
+				held[id] = inventory.getQuantity(id);
+			}
+			return held;
+		}
+
+		GameState toGameState(long timeMillis) {
+			GameState state = new GameState();
+			state.setScore(PetState.score(pet));
+			state.setHappiness(PetState.stat(pet, PetSimulationEngine.HAPPINESS));
+			state.setHealth(PetState.stat(pet, PetSimulationEngine.HEALTH));
+			state.setSleep(PetState.stat(pet, PetSimulationEngine.SLEEP));
+			state.setHunger(PetState.stat(pet, PetSimulationEngine.HUNGER));
+			state.setPetNumber(petNumber);
+			state.setInventory(inventory.toItemStacks());
+			state.setCooldownMillis(new long[PetAction.values().length]);
+			state.setSavedAtMillis(timeMillis);
+			return state;
+		}
+	}
+}
@@ -0,0 +1,236 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small JSON parser used to read the game's configuration file.
+ * <br><br>
+ * Objects are returned as a {@link Map} keeping the key order of the file, arrays as a {@link List},
+ * whole numbers as {@link Long}, other numbers as {@link Double}, and {@code true}/{@code false}/{@code null}
+ * as {@link Boolean} and {@code null}.
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		Map<String, Object> root = JsonParser.parseObject("{\"feed\": {\"cooldown\": 5}}");
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public class JsonParser {
+	private final String json;
+	private int pos;
+
+	private JsonParser(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * Parses a JSON document.
+	 *
+	 * @param json the JSON text
+	 * @return the parsed value
+	 * @throws IllegalArgumentException if the text is not valid JSON
+	 */
+	public static Object parse(String json) {
+		JsonParser parser = new JsonParser(json);
+		Object value = parser.readValue();
+		parser.skipWhitespace();
+		if (parser.pos != json.length()) {
+			throw parser.error("Unexpected text after the JSON value");
+		}
+		return value;
+	}
+
+	/**
+	 * Parses a JSON document whose top level value is an object.
+	 *
+	 * @param json the JSON text
+	 * @return the parsed object
+	 * @throws IllegalArgumentException if the text is not a valid JSON object
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> parseObject(String json) {
+		Object value = parse(json);
+		if (!(value instanceof Map)) {
+			throw new IllegalArgumentException("Expected a JSON object");
+		}
+		return (Map<String, Object>) value;
+	}
+
+	private Object readValue() {
+		skipWhitespace();
+		if (pos >= json.length()) {
+			throw error("Unexpected end of JSON");
+		}
+
+		char c = json.charAt(pos);
+		switch (c) {
+			case '{':
+				return readObject();
+			case '[':
+				return readArray();
+			case '"':
+				return readString();
+			case 't':
+				expectWord("true");
+				return Boolean.TRUE;
+			case 'f':
+				expectWord("false");
+				return Boolean.FALSE;
+			case 'n':
+				expectWord("null");
+				return null;
+			default:
+				return readNumber();
+		}
+	}
+
+	private Map<String, Object> readObject() {
+		Map<String, Object> object = new LinkedHashMap<>();
+		pos++;
+		skipWhitespace();
+		if (peek() == '}') {
+			pos++;
+			return object;
+		}
+
+		while (true) {
+			skipWhitespace();
+			if (peek() != '"') {
+				throw error("Expected a key");
+			}
+			String key = readString();
+			skipWhitespace();
+			expect(':');
+			object.put(key, readValue());
+			skipWhitespace();
+
+			char c = next();
+			if (c == '}') {
+				return object;
+			}
+			if (c != ',') {
+				throw error("Expected ',' or '}'");
+			}
+		}
+	}
+
+	private List<Object> readArray() {
+		List<Object> array = new ArrayList<>();
+		pos++;
+		skipWhitespace();
+		if (peek() == ']') {
+			pos++;
+			return array;
+		}
+
+		while (true) {
+			array.add(readValue());
+			skipWhitespace();
+
+			char c = next();
+			if (c == ']') {
+				return array;
+			}
+			if (c != ',') {
+				throw error("Expected ',' or ']'");
+			}
+		}
+	}
+
+	private String readString() {
+		pos++;
+		StringBuilder sb = new StringBuilder();
+		while (true) {
+			char c = next();
+			if (c == '"') {
+				return sb.toString();
+			}
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+
+			//Escaped character
+			char escaped = next();
+			switch (escaped) {
+				case 'n': sb.append('\n'); break;
+				case 't': sb.append('\t'); break;
+				case 'r': sb.append('\r'); break;
+				case 'b': sb.append('\b'); break;
+				case 'f': sb.append('\f'); break;
+				case 'u':
+					if (pos + 4 > json.length()) {
+						throw error("Bad unicode escape");
+					}
+					sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+					pos += 4;
+					break;
+				default: sb.append(escaped);
+			}
+		}
+	}
+
+	private Number readNumber() {
+		int start = pos;
+		boolean whole = true;
+		while (pos < json.length()) {
+			char c = json.charAt(pos);
+			if (c == '.' || c == 'e' || c == 'E') {
+				whole = false;
+			} else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+				break;
+			}
+			pos++;
+		}
+		if (start == pos) {
+			throw error("Unexpected character '" + json.charAt(pos) + "'");
+		}
+
+		String number = json.substring(start, pos);
+		try {
+			return whole ? (Number) Long.parseLong(number) : (Number) Double.parseDouble(number);
+		} catch (NumberFormatException e) {
+			throw error("Bad number " + number);
+		}
+	}
+
+	private void expectWord(String word) {
+		if (!json.startsWith(word, pos)) {
+			throw error("Expected " + word);
+		}
+		pos += word.length();
+	}
+
+	private void expect(char expected) {
+		if (next() != expected) {
+			throw error("Expected '" + expected + "'");
+		}
+	}
+
+	private char peek() {
+		if (pos >= json.length()) {
+			throw error("Unexpected end of JSON");
+		}
+		return json.charAt(pos);
+	}
+
+	private char next() {
+		char c = peek();
+		pos++;
+		return c;
+	}
+
+	private void skipWhitespace() {
+		while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+			pos++;
+		}
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(message + " at position " + pos);
+	}
+}
@@ -1,6 +1,9 @@
+import javax.swing.SwingUtilities;
+
 /**
  * Main class to initialize and start the application.
- * It creates an instance of the startingScreen class, which displays the initial screen for the application.
+ * It starts loading the game's files in the background and opens the startingScreen,
+ * which displays the initial screen for the application.
  * 
  * @version 1.0.0
  * @author Aryan Baria
@@ -8,12 +11,19 @@
 public class Main {
 
 	/**
-     * main method to run the program by creating a new startingScreen object. 
+     * main method to run the program by opening the startingScreen on the Event Dispatch Thread. 
      *
-     * @param args Unused
+     * @param args {@code --startup-report} prints the startup timeline once the game is interactive
      */
 	public static void main(String[] args) {	
-		//Create a new startingScreen.
-		startingScreen start = new startingScreen();
+		//Load the config, images and save slots while the first screen opens
+		StartupLoader loader = StartupLoader.get();
+		loader.start();
+		if (args.length > 0 && args[0].equals("--startup-report")) {
+			loader.whenInteractive().thenRun(() -> System.out.println(loader.report()));
+		}
+
+		//Open the startingScreen.
+		SwingUtilities.invokeLater(startingScreen::open);
 	}
 }
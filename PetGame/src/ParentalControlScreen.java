@@ -2,9 +2,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 import java.awt.geom.Rectangle2D; 
 
 /**
@@ -53,7 +50,7 @@ public class ParentalControlScreen extends JFrame {
     /** Total accumulated playtime in minutes */
     private int totalPlaytime = 0;
     
-    /** Average playtime in minutes */
+    /** Average playtime a day over the last 30 days, in minutes */
     private int avgPlaytime = 0;
     
     /** Parental control password */
@@ -103,7 +100,7 @@ public class ParentalControlScreen extends JFrame {
         petPanel.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 100), 2, true));
         
         // Placeholder pet sprite
-        petSpriteLabel = new JLabel(new ImageIcon("img/park4.png"), JLabel.CENTER);
+        petSpriteLabel = new JLabel(ImageAssets.icon("img/park4.png"), JLabel.CENTER);
         petPanel.add(petSpriteLabel, BorderLayout.CENTER);
         
         petStatusLabel = new JLabel("Pet Status: Happy!", JLabel.CENTER);
@@ -122,6 +119,10 @@ public class ParentalControlScreen extends JFrame {
         statusLabel = new JLabel("", JLabel.CENTER);
         statusLabel.setFont(font);
         centerPanel.add(statusLabel, BorderLayout.CENTER);
+
+        playtimeStatsLabel = new JLabel("", JLabel.CENTER);
+        playtimeStatsLabel.setFont(font);
+        centerPanel.add(playtimeStatsLabel, BorderLayout.SOUTH);
         add(centerPanel, BorderLayout.CENTER);
         
         // Bottom panel for buttons
@@ -152,104 +153,29 @@ public class ParentalControlScreen extends JFrame {
     }
 
     /**
-     * Loads parental settings from the JSON configuration file.
-     * <p>Extracts the following values from the JSON file:
+     * Loads parental settings from the shared {@link GameConfig}.
+     * <p>Reads the following values:
      * <ul>
      *   <li>Parent password</li>
-     *   <li>Total playtime</li>
-     *   <li>Average playtime</li>
      *   <li>Playtime reset time</li>
      *   <li>Pet revival setting</li>
      * </ul>
-     * Updates the status label with the loaded password information.
+     * The playtime statistics come from the {@link PlaytimeTracker}.
+     * Updates the status label if the settings could not be loaded.
      */
     private void loadParentalSettings() {
-        String json = readFile("json/jsonFile.json");  
-        if (json != null) {
-            parentPassword = extractValue(json, "parentPassword");
-            String totalPT = extractValue(json, "totalPlayTime");
-            String avgPT = extractValue(json, "averagePlayTime");
-            String resetPT = extractValue(json, "resetPlayTime");
-            String petRevivalStr = extractValue(json, "petRevival");
-
-            try {
-                if (totalPT != null) {
-                    totalPlaytime = Integer.parseInt(totalPT);
-                }
-                
-                if (avgPT != null) {
-                    avgPlaytime = Integer.parseInt(avgPT);
-                }
-
-                if (resetPT != null) {
-                    resetPlayTime = Integer.parseInt(resetPT);
-                }
-                
-                if (petRevivalStr != null) {
-                    petRevival = Boolean.parseBoolean(petRevivalStr);
-                }
-                
-            } catch (NumberFormatException e) {
-                e.printStackTrace();
-            }
+        GameConfig config = GameConfig.get();
+        if (config.isLoadedFromFile()) {
+            parentPassword = config.getParentPassword();
+            resetPlayTime = config.getResetPlayTime();
+            petRevival = config.isPetRevival();
 
-            String displayedPass = (parentPassword != null) ? parentPassword : "N/A";
             statusLabel.setText("<html><div style='text-align: center; color: green;'>" + 
                                   "</div></html>");
         } else {
             statusLabel.setText("Failed to load parental settings.");
         }
-    }
-    
-    /**
-     * Reads the entire contents of a file into a String.
-     *
-     * @param filePath the path to the file to be read
-     * @return the file content as a String, or null if an error occurs
-     */
-    private String readFile(String filePath) {
-        StringBuilder sb = new StringBuilder();
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            
-            while((line = br.readLine()) != null) {
-                sb.append(line);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
-        
-        return sb.toString();
-    }
-    
-    /**
-     * Extracts the value for a given key from a JSON string.
-     *
-     * @param json the JSON string to parse
-     * @param key the key whose value should be extracted
-     * @return the extracted value as a String, or null if the key is not found
-     */
-    private String extractValue(String json, String key) {
-        String searchKey = "\"" + key + "\":";
-        int keyIndex = json.indexOf(searchKey);
-
-        if (keyIndex == -1) {
-            return null;
-        }
-
-        int firstQuote = json.indexOf("\"", keyIndex + searchKey.length());
-        if (firstQuote == -1) {
-            return null;
-        }
-
-        int secondQuote = json.indexOf("\"", firstQuote + 1);
-        if (secondQuote == -1) {
-            return null;
-        }
-
-        return json.substring(firstQuote + 1, secondQuote);
+        updatePlaytimeStats(0);
     }
 
     /**
@@ -371,7 +297,7 @@ public class ParentalControlScreen extends JFrame {
         } else if (source == averagePlaytimeButton) {
             openAveragePlaytimeWindow();
         } else if (source == backButton) {
-            new startingScreen();
+            startingScreen.open();
             dispose();
         }
     }
@@ -401,13 +327,30 @@ public class ParentalControlScreen extends JFrame {
     }
     
     /**
-     * Updates the playtime statistics with new playtime data.
+     * Adds playtime to the {@link PlaytimeTracker} and shows the updated statistics.
      *
-     * @param playtimeInMinutes the amount of playtime to add (in minutes)
+     * @param playtimeInMinutes the amount of playtime to add (in minutes), or 0 to just refresh the statistics
      */
     public void updatePlaytimeStats(int playtimeInMinutes) {
-        totalPlaytime += playtimeInMinutes;
-        avgPlaytime = totalPlaytime / 1;
+        PlaytimeTracker tracker = PlaytimeTracker.get();
+        if (playtimeInMinutes > 0) {
+            tracker.addMillis(playtimeInMinutes * 60_000L);
+        }
+        totalPlaytime = (int) (tracker.getTotalMillis() / 60_000);
+        avgPlaytime = (int) (tracker.getAverageDailyMillis() / 60_000);
+        playtimeStatsLabel.setText("Played Today: " + formatMinutes(tracker.getTodayMillis() / 60_000)
+                + "   This Week: " + formatMinutes(tracker.getWeekMillis() / 60_000)
+                + "   Average: " + formatMinutes(avgPlaytime) + " a day");
+    }
+
+    /**
+     * Formats a number of minutes for the statistics, such as "1 h 5 min".
+     *
+     * @param minutes the minutes
+     * @return the formatted time
+     */
+    public static String formatMinutes(long minutes) {
+        return (minutes < 60) ? minutes + " min" : (minutes / 60) + " h " + (minutes % 60) + " min";
     }
 
     /**
@@ -492,7 +435,7 @@ public class ParentalControlScreen extends JFrame {
 
         overlayBackButton.addActionListener(e -> {
             // allowing to go back to startingScreen (no password needed)
-            new startingScreen();
+            startingScreen.open();
             dispose();
         });
 
@@ -0,0 +1,40 @@
+/**
+ * The four care actions a player can perform on their pet from the main game screen.
+ * <br><br>
+ * Each action carries the key it uses in the {@code availableActions} block of
+ * {@code json/jsonFile.json}, so cooldowns and other per-action settings can be looked up from it.
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		int cooldown = gui.getActionCooldown(PetAction.FEED.getKey());
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public enum PetAction {
+	/** Feeding the pet from the feed screen. */
+	FEED("feed"),
+	/** Playing games with the pet from the mini game screen. */
+	PLAY("play"),
+	/** Putting the pet to bed from the sleep screen. */
+	SLEEP("goToSleep"),
+	/** Taking the pet to the vet from the vet screen. */
+	VET("takeToVet");
+
+	private final String key;
+
+	PetAction(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * Getter for the action's key in the JSON configuration.
+	 *
+	 * @return the action's JSON key
+	 */
+	public String getKey() {
+		return key;
+	}
+}
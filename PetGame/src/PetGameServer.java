@@ -0,0 +1,348 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless game server that hosts many {@link PetSession}s over a small HTTP API on the loopback address.
+ * <br><br>
+ * Every session is separate, with its own pet, inventory and cooldowns. Requests are handled on a
+ * virtual thread each when the JDK has them (21 and later), and on a fixed pool of platform threads
+ * otherwise. Sessions are only touched by their own requests, so requests for different sessions never
+ * wait on each other. Every response has a {@code Server-Timing} header with the time the server spent
+ * on the request, in milliseconds.<br><br>
+ *
+ * <b>API</b> (all responses are JSON):
+ * <pre>
+ * POST   /sessions                      new session, optional ?pet=1-3
+ * GET    /sessions/{id}                 stats, score and cooldowns
+ * POST   /sessions/{id}/feed            also play, sleep and vet; 429 while cooling down
+ * GET    /sessions/{id}/inventory       items and quantities
+ * POST   /sessions/{id}/use?item=Apple  use one item
+ * POST   /sessions/{id}/save            write the session to {@code server-saves/session{id}.dat}
+ * DELETE /sessions/{id}                 end the session
+ * </pre>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		java PetGameServer --port 8080
+ * 		curl -X POST localhost:8080/sessions
+ * 		curl -X POST localhost:8080/sessions/1/feed
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//{"session": 1, "petNumber": 1, "score": 20, "happiness": 72, ...}</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PetGameServer {
+	/** Port used when none is given */
+	public static final int DEFAULT_PORT = 8080;
+	/** Most sessions open at once */
+	public static final int MAX_SESSIONS = 100_000;
+
+	private static final String SESSIONS = "/sessions";
+	private static final String START_ATTRIBUTE = "startNanos";
+
+	static {
+		//Without this the response is held back by Nagle's algorithm and every request waits on a delayed ACK.
+		//The JDK reads it once, when the first server is created.
+		if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final GameConfig config;
+	private final Path saveDirectory;
+	private final ConcurrentMap<Long, PetSession> sessions = new ConcurrentHashMap<>();
+	private final AtomicLong nextId = new AtomicLong(1);
+
+	/**
+	 * Creates and starts a server on the loopback address.
+	 *
+	 * @param port the port, or 0 for any free port
+	 * @param config the game configuration sessions are created from
+	 * @param saveDirectory where sessions are saved
+	 * @throws IOException if the port can not be opened
+	 */
+	public PetGameServer(int port, GameConfig config, Path saveDirectory) throws IOException {
+		this.config = config;
+		this.saveDirectory = saveDirectory;
+		this.executor = requestExecutor();
+
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+		server.createContext(SESSIONS, this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/**
+	 * Starts a server from the command line.
+	 *
+	 * @param args {@code --port N} and {@code --saves DIR}
+	 * @throws IOException if the port can not be opened
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = DEFAULT_PORT;
+		Path saves = Paths.get("server-saves");
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--port":
+					port = Integer.parseInt(args[++i]);
+					break;
+				case "--saves":
+					saves = Paths.get(args[++i]);
+					break;
+				default:
+					System.err.println("Unknown option " + args[i]);
+					System.err.println("Usage: java PetGameServer [--port N] [--saves DIR]");
+					System.exit(1);
+			}
+		}
+
+		PetGameServer server = new PetGameServer(port, GameConfig.get(), saves);
+		System.out.println("Pet game server listening on http://localhost:" + server.getPort() + SESSIONS);
+	}
+
+	/**
+	 * Getter for the port the server is listening on.
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Getter for the number of open sessions.
+	 *
+	 * @return the number of sessions
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Stops the server and ends every session.
+	 */
+	public void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+		sessions.clear();
+	}
+
+	/**
+	 * Creates the executor requests run on: a virtual thread per request when the JDK has them,
+	 * otherwise a fixed pool of daemon threads. Looked up by reflection so the game still builds on JDK 17.
+	 */
+	static ExecutorService requestExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), runnable -> {
+				Thread thread = new Thread(runnable, "pet-server");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Routes a request to its session and operation.
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		exchange.setAttribute(START_ATTRIBUTE, System.nanoTime());
+		try {
+			String method = exchange.getRequestMethod();
+			String rest = exchange.getRequestURI().getPath().substring(SESSIONS.length());
+			if (!rest.isEmpty() && !rest.startsWith("/")) {
+				send(exchange, 404, error("Unknown path"));
+				return;
+			}
+			String[] path = rest.split("/");
+			//path[0] is always the empty string before the first slash
+			if (path.length <= 1) {
+				if ("POST".equals(method)) {
+					createSession(exchange);
+				} else {
+					send(exchange, 405, error("Use POST to create a session"));
+				}
+				return;
+			}
+
+			PetSession session = findSession(path[1]);
+			if (session == null) {
+				send(exchange, 404, error("No such session"));
+				return;
+			}
+
+			String operation = (path.length > 2) ? path[2] : "";
+			switch (method + " " + operation) {
+				case "GET ":
+					send(exchange, 200, session.appendJson(new StringBuilder()).toString());
+					break;
+				case "DELETE ":
+					sessions.remove(session.getId());
+					send(exchange, 200, "{\"deleted\": " + session.getId() + "}");
+					break;
+				case "POST feed":
+					perform(exchange, session, PetAction.FEED);
+					break;
+				case "POST play":
+					perform(exchange, session, PetAction.PLAY);
+					break;
+				case "POST sleep":
+					perform(exchange, session, PetAction.SLEEP);
+					break;
+				case "POST vet":
+					perform(exchange, session, PetAction.VET);
+					break;
+				case "GET inventory":
+					send(exchange, 200, inventoryJson(session));
+					break;
+				case "POST use":
+					useItem(exchange, session);
+					break;
+				case "POST save":
+					save(exchange, session);
+					break;
+				default:
+					send(exchange, 404, error("Unknown operation"));
+			}
+		} catch (RuntimeException e) {
+			send(exchange, 500, error(e.toString()));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void createSession(HttpExchange exchange) throws IOException {
+		if (sessions.size() >= MAX_SESSIONS) {
+			send(exchange, 503, error("Too many sessions"));
+			return;
+		}
+
+		String pet = query(exchange, "pet");
+		int petNumber = 1;
+		try {
+			petNumber = (pet == null) ? 1 : Math.max(1, Math.min(3, Integer.parseInt(pet)));
+		} catch (NumberFormatException e) {
+			send(exchange, 400, error("pet must be 1, 2 or 3"));
+			return;
+		}
+
+		long id = nextId.getAndIncrement();
+		PetSession session = new PetSession(id, petNumber, config, System::nanoTime);
+		sessions.put(id, session);
+		send(exchange, 201, session.appendJson(new StringBuilder()).toString());
+	}
+
+	private void perform(HttpExchange exchange, PetSession session, PetAction action) throws IOException {
+		if (session.perform(action)) {
+			send(exchange, 200, session.appendJson(new StringBuilder()).toString());
+		} else if (session.isDead()) {
+			send(exchange, 409, error("Your pet has died"));
+		} else {
+			send(exchange, 429, "{\"error\": \"Cooling down\", \"remainingMillis\": " + session.getRemainingMillis(action) + "}");
+		}
+	}
+
+	private void useItem(HttpExchange exchange, PetSession session) throws IOException {
+		String item = query(exchange, "item");
+		if (item == null) {
+			send(exchange, 400, error("Missing item"));
+			return;
+		}
+
+		if (session.useItem(item) == null) {
+			send(exchange, 409, error("No " + item + " to use"));
+		} else {
+			send(exchange, 200, session.appendJson(new StringBuilder()).toString());
+		}
+	}
+
+	private void save(HttpExchange exchange, PetSession session) throws IOException {
+		Files.createDirectories(saveDirectory);
+		Path file = saveDirectory.resolve("session" + session.getId() + ".dat");
+		SaveFile.write(file, session.toGameState());
+		send(exchange, 200, "{\"saved\": \"" + file.getFileName() + "\"}");
+	}
+
+	private static String inventoryJson(PetSession session) {
+		StringBuilder json = new StringBuilder("{\"items\": [");
+		synchronized (session) {
+			Inventory inventory = session.getInventory();
+			boolean first = true;
+			for (String type : new String[] {ItemCatalog.FOOD, ItemCatalog.GIFT}) {
+				for (int id : inventory.heldIds(type)) {
+					ItemCatalog.ItemDefinition item = inventory.getCatalog().get(id);
+					json.append(first ? "" : ", ")
+							.append("{\"name\": \"").append(escape(item.getName()))
+							.append("\", \"type\": \"").append(item.getType())
+							.append("\", \"quantity\": ").append(inventory.getQuantity(id)).append("}");
+					first = false;
+				}
+			}
+		}
+		return json.append("]}").toString();
+	}
+
+	private PetSession findSession(String id) {
+		try {
+			return sessions.get(Long.parseLong(id));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static String query(HttpExchange exchange, String name) {
+		String query = exchange.getRequestURI().getRawQuery();
+		if (query == null) {
+			return null;
+		}
+		for (String pair : query.split("&")) {
+			int equals = pair.indexOf('=');
+			if (equals > 0 && pair.substring(0, equals).equals(name)) {
+				return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+			}
+		}
+		return null;
+	}
+
+	private static String error(String message) {
+		return "{\"error\": \"" + escape(message) + "\"}";
+	}
+
+	private static String escape(String text) {
+		return text.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static void send(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		Object start = exchange.getAttribute(START_ATTRIBUTE);
+		if (start instanceof Long) {
+			long micros = (System.nanoTime() - (Long) start) / 1000;
+			exchange.getResponseHeaders().set("Server-Timing", "app;dur=" + (micros / 1000.0));
+		}
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
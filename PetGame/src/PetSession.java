@@ -0,0 +1,219 @@
+import java.util.function.LongSupplier;
+
+/**
+ * One player's game without any windows, as hosted by {@link PetGameServer}.
+ * <br><br>
+ * A session has its own stats, inventory and cooldowns and follows the same {@link PetSimulationEngine}
+ * and {@link StatDecay} rules as the main game screen. There is no tick thread per session: each time a
+ * session is used it first catches up on decay with {@link StatDecay#fastForward(long, long, int[])},
+ * which costs the same however long the session has been idle, so a server can hold many idle sessions
+ * for free.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		PetSession session = new PetSession(1, 1, GameConfig.get(), System::nanoTime);
+ * 		boolean fed = session.perform(PetAction.FEED);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//fed is true and feeding is cooling down</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PetSession {
+	/** Stats every new session starts with, in {@link PetSimulationEngine} order */
+	private static final int[] STARTING_STATS = {70, 100, 70, 70};
+
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+
+	private final long id;
+	private final int petNumber;
+	private final GameConfig config;
+	private final StatDecay decay;
+	private final LongSupplier clock;
+	private final long createdNanos;
+
+	//Score and stats packed by PetState. Guarded by this, like the rest of the session
+	private long state;
+	private final Inventory inventory;
+	private final long[] readyAtNanos = new long[PetAction.values().length];
+	private final int[] buffer = new int[PetSimulationEngine.STAT_COUNT];
+	//Decay ticks already applied since the session was created
+	private long decayedTicks;
+
+	/**
+	 * Creates a session with the starting stats and the configuration's starting inventory.
+	 *
+	 * @param id the session's id
+	 * @param petNumber the pet's image number
+	 * @param config the game configuration for cooldowns, decay rates and items
+	 * @param clock source of monotonic time in nanoseconds
+	 */
+	public PetSession(long id, int petNumber, GameConfig config, LongSupplier clock) {
+		this.id = id;
+		this.petNumber = petNumber;
+		this.config = config;
+		this.decay = StatDecay.fromConfig(config);
+		this.clock = clock;
+		this.createdNanos = clock.getAsLong();
+
+		state = PetState.pack(0, STARTING_STATS[PetSimulationEngine.HAPPINESS], STARTING_STATS[PetSimulationEngine.HEALTH],
+				STARTING_STATS[PetSimulationEngine.SLEEP], STARTING_STATS[PetSimulationEngine.HUNGER]);
+
+		inventory = new Inventory(ItemCatalog.get());
+		if (config.isLoadedFromFile()) {
+			inventory.fillFromConfig(config);
+		} else {
+			inventory.fillDefault();
+		}
+		for (int i = 0; i < readyAtNanos.length; i++) {
+			readyAtNanos[i] = createdNanos;
+		}
+	}
+
+	/**
+	 * Getter for the session's id.
+	 *
+	 * @return the id
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * Getter for the session's inventory. Only use it while holding the session's lock.
+	 *
+	 * @return the inventory
+	 */
+	public Inventory getInventory() {
+		return inventory;
+	}
+
+	/**
+	 * Performs an action if it is not cooling down and the pet is alive.
+	 *
+	 * @param action the action to perform
+	 * @return false if nothing was done
+	 */
+	public synchronized boolean perform(PetAction action) {
+		long now = catchUp();
+		if (now - readyAtNanos[action.ordinal()] < 0 || isDead()) {
+			return false;
+		}
+
+		int[] stats = PetState.unpack(state, buffer);
+		int scoreGained = PetSimulationEngine.getDefault().apply(action, stats);
+		state = PetState.pack(PetState.score(state) + scoreGained, stats);
+
+		readyAtNanos[action.ordinal()] = now + config.getCooldown(action.getKey()) * 1000L * NANOS_PER_MILLI;
+		return true;
+	}
+
+	/**
+	 * Getter for the time left on an action's cooldown.
+	 *
+	 * @param action the action
+	 * @return milliseconds left, 0 if the action is ready
+	 */
+	public synchronized long getRemainingMillis(PetAction action) {
+		return Math.max(0, (readyAtNanos[action.ordinal()] - clock.getAsLong()) / NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Uses one of an inventory item on the pet.
+	 *
+	 * @param itemName the item's name, in any case
+	 * @return the item used, or null if the session has none or the pet has died
+	 */
+	public synchronized ItemCatalog.ItemDefinition useItem(String itemName) {
+		catchUp();
+		int id = inventory.getCatalog().find(itemName);
+		if (id < 0 || isDead()) {
+			return null;
+		}
+
+		ItemCatalog.ItemDefinition item = inventory.use(id);
+		if (item != null) {
+			int[] stats = PetState.unpack(state, buffer);
+			PetSimulationEngine.getDefault().applyItem(item.getStat(), item.getAmount(), stats);
+			state = PetState.pack(PetState.score(state), stats);
+		}
+		return item;
+	}
+
+	/**
+	 * Takes a snapshot of the session that can be saved.
+	 *
+	 * @return the current stats, score, pet, inventory and cooldowns
+	 */
+	public synchronized GameState toGameState() {
+		catchUp();
+		long snapshot = state;
+		GameState saved = new GameState();
+		saved.setScore(PetState.score(snapshot));
+		saved.setHappiness(PetState.stat(snapshot, PetSimulationEngine.HAPPINESS));
+		saved.setHealth(PetState.stat(snapshot, PetSimulationEngine.HEALTH));
+		saved.setSleep(PetState.stat(snapshot, PetSimulationEngine.SLEEP));
+		saved.setHunger(PetState.stat(snapshot, PetSimulationEngine.HUNGER));
+		saved.setPetNumber(petNumber);
+		saved.setInventory(inventory.toItemStacks());
+
+		long[] cooldowns = new long[readyAtNanos.length];
+		for (PetAction action : PetAction.values()) {
+			cooldowns[action.ordinal()] = getRemainingMillis(action);
+		}
+		saved.setCooldownMillis(cooldowns);
+		saved.setSavedAtMillis(System.currentTimeMillis());
+		return saved;
+	}
+
+	/**
+	 * Writes the session's stats, score and cooldowns as a JSON object.
+	 *
+	 * @param json the builder to append to
+	 * @return the same builder
+	 */
+	public synchronized StringBuilder appendJson(StringBuilder json) {
+		catchUp();
+		long snapshot = state;
+		json.append("{\"session\": ").append(id)
+				.append(", \"petNumber\": ").append(petNumber)
+				.append(", \"score\": ").append(PetState.score(snapshot));
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			json.append(", \"").append(PetSimulationEngine.statName(stat)).append("\": ").append(PetState.stat(snapshot, stat));
+		}
+		json.append(", \"cooldowns\": {");
+		for (PetAction action : PetAction.values()) {
+			json.append((action.ordinal() == 0) ? "\"" : ", \"").append(action.getKey()).append("\": ").append(getRemainingMillis(action));
+		}
+		return json.append("}}");
+	}
+
+	/**
+	 * Checks if the pet has died.
+	 *
+	 * @return true if the pet's health has reached 0
+	 */
+	public synchronized boolean isDead() {
+		catchUp();
+		return PetState.stat(state, PetSimulationEngine.HEALTH) <= 0;
+	}
+
+	/**
+	 * Applies the decay for the time since the session was last used.
+	 *
+	 * @return the current time in nanoseconds
+	 */
+	private long catchUp() {
+		long now = clock.getAsLong();
+		long ticks = (now - createdNanos) / (StatDecay.TICK_MILLIS * NANOS_PER_MILLI);
+		if (ticks > decayedTicks) {
+			int[] stats = PetState.unpack(state, buffer);
+			decay.fastForward(decayedTicks, ticks - decayedTicks, stats);
+			state = PetState.pack(PetState.score(state), stats);
+			decayedTicks = ticks;
+		}
+		return now;
+	}
+}
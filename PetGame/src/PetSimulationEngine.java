@@ -0,0 +1,198 @@
+/**
+ * Headless rules engine for the pet's stats.
+ * <br><br>
+ * The engine holds the stat changes for every {@link PetAction} and applies them to a stats array,
+ * clamping every stat to 0-100 and taking health away when hunger, sleep or happiness has run out.
+ * It has no Swing dependency and does not allocate while applying actions, so the same rules used by
+ * the feed, mini game, sleep and vet screens can be run in tests and batch simulations without a window.<br><br>
+ *
+ * Stats arrays are indexed with {@link #HAPPINESS}, {@link #HEALTH}, {@link #SLEEP} and {@link #HUNGER},
+ * the same order {@link GameplayGUI#updateStats(int, int, int, int)} takes them in.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		int[] stats = {70, 100, 70, 70};
+ * 		int score = PetSimulationEngine.getDefault().apply(PetAction.FEED, stats);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//stats is now {72, 100, 69, 80} and score is 20</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PetSimulationEngine {
+	/** Index of happiness in a stats array */
+	public static final int HAPPINESS = 0;
+	/** Index of health in a stats array */
+	public static final int HEALTH = 1;
+	/** Index of sleep in a stats array */
+	public static final int SLEEP = 2;
+	/** Index of hunger in a stats array */
+	public static final int HUNGER = 3;
+	/** Number of stats in a stats array */
+	public static final int STAT_COUNT = 4;
+
+	/** Highest value any stat can reach */
+	public static final int MAX_STAT = 100;
+
+	/** Names of the stats as they are written in config files, by stat index */
+	private static final String[] STAT_NAMES = {"happiness", "health", "sleep", "hunger"};
+
+	/** Engine with the rules the game screens have always used */
+	private static final PetSimulationEngine DEFAULT = new PetSimulationEngine(new int[][] {
+		//Happiness, health, sleep, hunger
+		{ 2,   8,  -1,  10},	//Feed
+		{15, -10, -10, -10},	//Play
+		{-5,  -8,  10, -10},	//Sleep
+		{-3,  10,  -5,  -5}		//Vet
+	}, 10, 20);
+
+	private final int[][] deltas;
+	private final int zeroStatPenalty;
+	private final int actionScore;
+
+	/**
+	 * Creates an engine with custom rules.
+	 *
+	 * @param deltas stat changes indexed by {@link PetAction#ordinal()} and then stat index
+	 * @param zeroStatPenalty health lost when hunger, sleep or happiness is at 0 after an action
+	 * @param actionScore score given for every action
+	 */
+	public PetSimulationEngine(int[][] deltas, int zeroStatPenalty, int actionScore) {
+		if (deltas.length != PetAction.values().length) {
+			throw new IllegalArgumentException("Expected deltas for " + PetAction.values().length + " actions");
+		}
+
+		//Copy the rules so they can not be changed from outside
+		this.deltas = new int[deltas.length][];
+		for (int i = 0; i < deltas.length; i++) {
+			if (deltas[i].length != STAT_COUNT) {
+				throw new IllegalArgumentException("Expected " + STAT_COUNT + " stat deltas for " + PetAction.values()[i]);
+			}
+			this.deltas[i] = deltas[i].clone();
+		}
+		this.zeroStatPenalty = zeroStatPenalty;
+		this.actionScore = actionScore;
+	}
+
+	/**
+	 * Getter for the engine with the game's default rules.
+	 *
+	 * @return the shared default engine
+	 */
+	public static PetSimulationEngine getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Applies an action to the stats in place.
+	 *
+	 * @param action the action to perform
+	 * @param stats the pet's stats, changed by this call
+	 * @return the score earned by the action
+	 */
+	public int apply(PetAction action, int[] stats) {
+		int[] delta = deltas[action.ordinal()];
+		for (int i = 0; i < STAT_COUNT; i++) {
+			stats[i] = clamp(stats[i] + delta[i]);
+		}
+
+		//Take away health if any of the other stats has run out
+		if (stats[HUNGER] <= 0 || stats[SLEEP] <= 0 || stats[HAPPINESS] <= 0) {
+			stats[HEALTH] = clamp(stats[HEALTH] - zeroStatPenalty);
+		}
+
+		return actionScore;
+	}
+
+	/**
+	 * Applies an inventory item to the stats in place. Items only raise the one stat they affect.
+	 *
+	 * @param stat index of the stat the item affects
+	 * @param amount amount the item adds to the stat
+	 * @param stats the pet's stats, changed by this call
+	 */
+	public void applyItem(int stat, int amount, int[] stats) {
+		stats[stat] = clamp(stats[stat] + amount);
+	}
+
+	/**
+	 * Checks if the pet has died.
+	 *
+	 * @param stats the pet's stats
+	 * @return true if the pet's health has reached 0
+	 */
+	public boolean isDead(int[] stats) {
+		return stats[HEALTH] <= 0;
+	}
+
+	/**
+	 * Getter for the change an action makes to a stat.
+	 *
+	 * @param action the action
+	 * @param stat index of the stat
+	 * @return the change before clamping
+	 */
+	public int getDelta(PetAction action, int stat) {
+		return deltas[action.ordinal()][stat];
+	}
+
+	/**
+	 * Getter for the health lost when another stat has run out.
+	 *
+	 * @return the health penalty
+	 */
+	public int getZeroStatPenalty() {
+		return zeroStatPenalty;
+	}
+
+	/**
+	 * Getter for the score given for every action.
+	 *
+	 * @return the score per action
+	 */
+	public int getActionScore() {
+		return actionScore;
+	}
+
+	/**
+	 * Finds a stat by its name, for example {@code "hunger"}.
+	 *
+	 * @param name the stat's name, in any case
+	 * @return the stat's index, or -1 if there is no such stat
+	 */
+	public static int statIndex(String name) {
+		if (name != null) {
+			for (int i = 0; i < STAT_COUNT; i++) {
+				if (STAT_NAMES[i].equalsIgnoreCase(name.trim())) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Getter for a stat's name.
+	 *
+	 * @param stat index of the stat
+	 * @return the stat's name in lower case
+	 */
+	public static String statName(int stat) {
+		return STAT_NAMES[stat];
+	}
+
+	/**
+	 * Keeps a stat inside 0-100.
+	 *
+	 * @param value the unclamped value
+	 * @return the clamped value
+	 */
+	private static int clamp(int value) {
+		if (value < 0) {
+			return 0;
+		}
+		return (value > MAX_STAT) ? MAX_STAT : value;
+	}
+}
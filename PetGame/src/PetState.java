@@ -0,0 +1,183 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The pet's score and four stats packed into a single {@code long} that is changed atomically.
+ * <br><br>
+ * Each stat takes one byte, at the position of its {@link PetSimulationEngine} index, and the score
+ * takes the top 32 bits. Readers take one {@link #get()} and read every value from that snapshot, so
+ * they never see half of an update. Writers work out the new value from a snapshot and swap it in
+ * with {@link #compareAndSet(long, long)}, trying again if another thread got there first, so no
+ * update is lost and no locks are needed between the decay tick and the screens.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		PetState state = new PetState(0, 70, 100, 70, 70);
+ * 		state.addScore(20);
+ * 		long snapshot = state.get();
+ * 		int hunger = PetState.stat(snapshot, PetSimulationEngine.HUNGER);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//hunger is 70 and PetState.score(snapshot) is 20</code><br>
+ *
+ * @version 1.0.0
+ */
+public final class PetState {
+	private static final int STAT_BITS = 8;
+	private static final long STAT_MASK = 0xFF;
+	private static final int SCORE_SHIFT = 32;
+	private static final long STATS_MASK = 0xFFFFFFFFL;
+
+	private final AtomicLong packed;
+
+	/**
+	 * Creates a pet state.
+	 *
+	 * @param score the player's score
+	 * @param happiness the pet's happiness (0-100)
+	 * @param health the pet's health (0-100)
+	 * @param sleep the pet's sleep (0-100)
+	 * @param hunger the pet's hunger (0-100)
+	 */
+	public PetState(int score, int happiness, int health, int sleep, int hunger) {
+		packed = new AtomicLong(pack(score, happiness, health, sleep, hunger));
+	}
+
+	/**
+	 * Getter for a consistent snapshot of the score and stats.
+	 *
+	 * @return the packed state, read with {@link #score(long)} and {@link #stat(long, int)}
+	 */
+	public long get() {
+		return packed.get();
+	}
+
+	/**
+	 * Replaces the state if nothing has changed it since a snapshot was taken.
+	 *
+	 * @param expected the snapshot the new state was worked out from
+	 * @param update the new packed state
+	 * @return false if another update came first and the caller should try again
+	 */
+	public boolean compareAndSet(long expected, long update) {
+		return packed.compareAndSet(expected, update);
+	}
+
+	/**
+	 * Sets all four stats at once, keeping the score.
+	 *
+	 * @param happiness the pet's happiness (0-100)
+	 * @param health the pet's health (0-100)
+	 * @param sleep the pet's sleep (0-100)
+	 * @param hunger the pet's hunger (0-100)
+	 * @return the new packed state
+	 */
+	public long setStats(int happiness, int health, int sleep, int hunger) {
+		long stats = pack(0, happiness, health, sleep, hunger);
+		long before;
+		long after;
+		do {
+			before = packed.get();
+			after = (before & ~STATS_MASK) | stats;
+		} while (!packed.compareAndSet(before, after));
+		return after;
+	}
+
+	/**
+	 * Adds to the score, keeping the stats.
+	 *
+	 * @param amount the amount to add
+	 * @return the new packed state
+	 */
+	public long addScore(int amount) {
+		long before;
+		long after;
+		do {
+			before = packed.get();
+			after = withScore(before, score(before) + amount);
+		} while (!packed.compareAndSet(before, after));
+		return after;
+	}
+
+	/**
+	 * Packs a score and stats into a state.
+	 *
+	 * @param score the player's score
+	 * @param happiness the pet's happiness (0-100)
+	 * @param health the pet's health (0-100)
+	 * @param sleep the pet's sleep (0-100)
+	 * @param hunger the pet's hunger (0-100)
+	 * @return the packed state
+	 */
+	public static long pack(int score, int happiness, int health, int sleep, int hunger) {
+		return ((long) score << SCORE_SHIFT)
+				| (byteOf(happiness) << (PetSimulationEngine.HAPPINESS * STAT_BITS))
+				| (byteOf(health) << (PetSimulationEngine.HEALTH * STAT_BITS))
+				| (byteOf(sleep) << (PetSimulationEngine.SLEEP * STAT_BITS))
+				| (byteOf(hunger) << (PetSimulationEngine.HUNGER * STAT_BITS));
+	}
+
+	/**
+	 * Packs a score and a stats array into a state.
+	 *
+	 * @param score the player's score
+	 * @param stats the stats in {@link PetSimulationEngine} order
+	 * @return the packed state
+	 */
+	public static long pack(int score, int[] stats) {
+		return pack(score, stats[PetSimulationEngine.HAPPINESS], stats[PetSimulationEngine.HEALTH],
+				stats[PetSimulationEngine.SLEEP], stats[PetSimulationEngine.HUNGER]);
+	}
+
+	/**
+	 * Copies the stats out of a state into an array.
+	 *
+	 * @param state the packed state
+	 * @param stats array filled in {@link PetSimulationEngine} order
+	 * @return the same array
+	 */
+	public static int[] unpack(long state, int[] stats) {
+		for (int i = 0; i < PetSimulationEngine.STAT_COUNT; i++) {
+			stats[i] = stat(state, i);
+		}
+		return stats;
+	}
+
+	/**
+	 * Getter for one stat of a state.
+	 *
+	 * @param state the packed state
+	 * @param stat index of the stat, from {@link PetSimulationEngine}
+	 * @return the stat's value
+	 */
+	public static int stat(long state, int stat) {
+		return (int) ((state >>> (stat * STAT_BITS)) & STAT_MASK);
+	}
+
+	/**
+	 * Getter for the score of a state.
+	 *
+	 * @param state the packed state
+	 * @return the score
+	 */
+	public static int score(long state) {
+		return (int) (state >> SCORE_SHIFT);
+	}
+
+	/**
+	 * Replaces the score of a state.
+	 *
+	 * @param state the packed state
+	 * @param score the new score
+	 * @return the packed state with the new score
+	 */
+	public static long withScore(long state, int score) {
+		return ((long) score << SCORE_SHIFT) | (state & STATS_MASK);
+	}
+
+	//Stats always fit in a byte, anything outside 0-100 is clamped first
+	private static long byteOf(int value) {
+		return Math.max(0, Math.min(PetSimulationEngine.MAX_STAT, value));
+	}
+}
@@ -0,0 +1,217 @@
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Enforces the {@link PlaytimeRestrictions} while the game runs.
+ * <br><br>
+ * {@link #isPlayAllowed()} is one bit lookup on the clock's minute of the week, so it is checked on every
+ * action. Instead of polling, a background thread sleeps until the next minute where play is locked or
+ * unlocked, or until the clocks change for daylight saving if that comes first, and tells the listeners.
+ * Listeners are called on that thread, so screens hand the change to the Event Dispatch Thread.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		PlaytimeGuard guard = PlaytimeGuard.get();
+ * 		guard.addListener(allowed -> SwingUtilities.invokeLater(() -> setEnabled(allowed)));
+ * 		if (guard.isPlayAllowed()) {
+ * 			performAction(PetAction.FEED);
+ * 		}
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//the pet is fed unless a restriction covers the current minute</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PlaytimeGuard {
+	private static final long MILLIS_PER_MINUTE = 60_000L;
+
+	/**
+	 * Told when play is locked or unlocked.
+	 */
+	public interface Listener {
+		/**
+		 * Called when a restriction starts or ends.
+		 *
+		 * @param allowed true if the game can now be played
+		 */
+		void playAllowedChanged(boolean allowed);
+	}
+
+	private final ZoneId zone;
+	private final LongSupplier clock;
+	private final ScheduledExecutorService scheduler;
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	private volatile PlaytimeRestrictions restrictions;
+	//Offset from UTC until the next daylight saving change, which is always a wake up
+	private volatile int offsetMillis;
+	private boolean allowed;
+	private ScheduledFuture<?> wakeUp;
+
+	/**
+	 * Holder so the guard is only started the first time it is needed.
+	 */
+	private static class Holder {
+		static final PlaytimeGuard INSTANCE = new PlaytimeGuard(
+				PlaytimeRestrictions.load(GameConfig.get(), Paths.get(PlaytimeRestrictions.DAILY_FILE)),
+				ZoneId.systemDefault(), System::currentTimeMillis, true);
+	}
+
+	/**
+	 * Getter for the game's guard, built from the configuration's restrictions and the saved daily one on first use.
+	 *
+	 * @return the shared guard
+	 */
+	public static PlaytimeGuard get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Creates a guard.
+	 *
+	 * @param restrictions the restrictions to enforce
+	 * @param zone the time zone the restrictions are in
+	 * @param clock source of the time in milliseconds since 1970
+	 * @param schedule true to wake up at every boundary, false to only change state on {@link #refresh()}
+	 */
+	PlaytimeGuard(PlaytimeRestrictions restrictions, ZoneId zone, LongSupplier clock, boolean schedule) {
+		this.restrictions = restrictions;
+		this.zone = zone;
+		this.clock = clock;
+		this.scheduler = schedule ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "playtime-restrictions");
+			thread.setDaemon(true);
+			return thread;
+		}) : null;
+
+		synchronized (this) {
+			long now = clock.getAsLong();
+			offsetMillis = offsetAt(now);
+			allowed = restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(now, offsetMillis));
+			scheduleWakeUp(now);
+		}
+	}
+
+	/**
+	 * Checks if the game can be played right now.
+	 *
+	 * @return false if a restriction covers the current minute
+	 */
+	public boolean isPlayAllowed() {
+		return restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(clock.getAsLong(), offsetMillis));
+	}
+
+	/**
+	 * Getter for the restrictions being enforced.
+	 *
+	 * @return the restrictions
+	 */
+	public PlaytimeRestrictions getRestrictions() {
+		return restrictions;
+	}
+
+	/**
+	 * Replaces the restrictions, locking or unlocking play straight away if needed.
+	 *
+	 * @param restrictions the new restrictions
+	 */
+	public void setRestrictions(PlaytimeRestrictions restrictions) {
+		this.restrictions = restrictions;
+		refresh();
+	}
+
+	/**
+	 * Adds a listener for play being locked and unlocked.
+	 *
+	 * @param listener the listener
+	 */
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener added with {@link #addListener(Listener)}.
+	 *
+	 * @param listener the listener
+	 */
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Getter for when the guard next wakes up.
+	 *
+	 * @return milliseconds since 1970 of the next boundary or daylight saving change, or -1 if there is none
+	 */
+	public synchronized long getNextWakeUpMillis() {
+		return nextWakeUp(clock.getAsLong());
+	}
+
+	/**
+	 * Checks the restrictions against the clock now, tells the listeners if play was locked or unlocked,
+	 * and sleeps until the next boundary.
+	 */
+	void refresh() {
+		boolean changed;
+		boolean nowAllowed;
+		synchronized (this) {
+			long now = clock.getAsLong();
+			offsetMillis = offsetAt(now);
+			nowAllowed = restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(now, offsetMillis));
+			changed = (nowAllowed != allowed);
+			allowed = nowAllowed;
+			scheduleWakeUp(now);
+		}
+
+		if (changed) {
+			for (Listener listener : listeners) {
+				listener.playAllowedChanged(nowAllowed);
+			}
+		}
+	}
+
+	private void scheduleWakeUp(long now) {
+		if (scheduler == null) {
+			return;
+		}
+		if (wakeUp != null) {
+			wakeUp.cancel(false);
+		}
+		long wakeAt = nextWakeUp(now);
+		//A wake up that comes a little early finds the same minute and just sleeps until the boundary again
+		wakeUp = (wakeAt < 0) ? null : scheduler.schedule(this::refresh, wakeAt - now, TimeUnit.MILLISECONDS);
+	}
+
+	private long nextWakeUp(long now) {
+		long boundary = -1;
+		int minute = PlaytimeRestrictions.minuteOfWeek(now, offsetMillis);
+		int minutes = restrictions.minutesUntilChange(minute);
+		if (minutes > 0) {
+			long minuteStart = Math.floorDiv(now + offsetMillis, MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE - offsetMillis;
+			boundary = minuteStart + minutes * MILLIS_PER_MINUTE;
+		}
+
+		//The minute of the week moves when the clocks change, so the offset is read again then
+		ZoneOffsetTransition transition = zone.getRules().nextTransition(Instant.ofEpochMilli(now));
+		if (transition != null && !restrictions.isEmpty()) {
+			long change = transition.toEpochSecond() * 1000L;
+			boundary = (boundary < 0) ? change : Math.min(boundary, change);
+		}
+		return boundary;
+	}
+
+	private int offsetAt(long epochMillis) {
+		return zone.getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000;
+	}
+}
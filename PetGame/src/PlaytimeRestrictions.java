@@ -0,0 +1,336 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The times of the week the game can not be played, compiled into one bit for every minute of the week.
+ * <br><br>
+ * A week has 10,080 minutes, so the whole schedule is 158 longs. Checking a minute is a single bit
+ * lookup however many restrictions there are, which makes it cheap enough to do on every action.
+ * Minutes are counted from Monday 00:00 in local time. {@link #minutesUntilChange(int)} finds the next
+ * minute where play is locked or unlocked, so {@link PlaytimeGuard} can sleep until exactly then.
+ * Restrictions are never changed once compiled; new ones are compiled into a new object.<br><br>
+ *
+ * The daily restriction set on the parental controls screen is kept in {@link #DAILY_FILE}, its start and
+ * end time on one line each, and {@link #load(GameConfig, Path)} adds it to the configuration's restrictions
+ * so it still holds after the game is closed and opened again.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder()
+ * 				.addAll(PlaytimeRestrictions.fromConfig(GameConfig.get()))
+ * 				.block("Monday", "12:00", "13:00")
+ * 				.build();
+ * 		boolean allowed = restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 12 * 60 + 30));
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//allowed is false, as Monday 12:00 to 13:00 is blocked; the shipped file blocks nothing</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PlaytimeRestrictions {
+	/** File the daily restriction from the parental controls screen is kept in */
+	public static final String DAILY_FILE = "playtime-restriction.txt";
+
+	/** Minutes in a day */
+	public static final int MINUTES_PER_DAY = 24 * 60;
+	/** Minutes in a week */
+	public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+	private static final int WORDS = (MINUTES_PER_WEEK + 63) / 64;
+	//Minutes past the end of the week in the last word, which are never set
+	private static final long LAST_WORD_MASK = -1L >>> (WORDS * 64 - MINUTES_PER_WEEK);
+	private static final long MILLIS_PER_MINUTE = 60_000L;
+	//1 January 1970 was a Thursday, 3 days after the Monday the week starts on
+	private static final long EPOCH_MINUTE_OF_WEEK = 3L * MINUTES_PER_DAY;
+
+	private static final PlaytimeRestrictions NONE = new PlaytimeRestrictions(new long[WORDS]);
+
+	//A set bit is a minute the game can not be played
+	private final long[] blocked;
+
+	private PlaytimeRestrictions(long[] blocked) {
+		this.blocked = blocked;
+	}
+
+	/**
+	 * Restrictions that never block play.
+	 *
+	 * @return the empty restrictions
+	 */
+	public static PlaytimeRestrictions none() {
+		return NONE;
+	}
+
+	/**
+	 * Compiles the configuration's {@code playTimeRestrictions}. Entries that can not be read are left out.
+	 *
+	 * @param config the game configuration
+	 * @return the compiled restrictions
+	 */
+	public static PlaytimeRestrictions fromConfig(GameConfig config) {
+		Builder builder = new Builder();
+		for (GameConfig.RestrictionEntry entry : config.getPlayTimeRestrictions()) {
+			try {
+				builder.block(entry.getDay(), entry.getStart(), entry.getEnd());
+			} catch (IllegalArgumentException e) {
+				System.err.println("Skipping play time restriction: " + e.getMessage());
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Compiles the configuration's restrictions together with the saved daily restriction, if there is one.
+	 * A daily restriction that can not be read is left out.
+	 *
+	 * @param config the game configuration
+	 * @param dailyFile the file the daily restriction is saved in
+	 * @return the compiled restrictions
+	 */
+	public static PlaytimeRestrictions load(GameConfig config, Path dailyFile) {
+		Builder builder = new Builder().addAll(fromConfig(config));
+		if (Files.exists(dailyFile)) {
+			try {
+				List<String> lines = Files.readAllLines(dailyFile, StandardCharsets.UTF_8);
+				if (lines.size() < 2) {
+					throw new IllegalArgumentException("Expected a start and an end time");
+				}
+				builder.block(null, lines.get(0), lines.get(1));
+			} catch (IOException | IllegalArgumentException e) {
+				System.err.println("Skipping the saved daily play time restriction: " + e.getMessage());
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Saves a daily restriction, replacing any saved before. The file is replaced in one step so a failed
+	 * save never leaves half a file behind.
+	 *
+	 * @param dailyFile the file to save the restriction in
+	 * @param start when play stops each day, such as {@code 12:00 PM}
+	 * @param end when play may start again
+	 * @throws IOException if the file can not be written
+	 * @throws IllegalArgumentException if a time can not be read
+	 */
+	public static void saveDaily(Path dailyFile, String start, String end) throws IOException {
+		parseTime(start);
+		parseTime(end);
+
+		Path absolute = dailyFile.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		Files.write(temp, List.of(start.trim(), end.trim()), StandardCharsets.UTF_8);
+		Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Checks if the game can be played at a minute of the week.
+	 *
+	 * @param minuteOfWeek minutes since Monday 00:00, from 0 to {@link #MINUTES_PER_WEEK} - 1
+	 * @return false if a restriction covers the minute
+	 */
+	public boolean isAllowed(int minuteOfWeek) {
+		//Shifts only use the low 6 bits, so this picks the minute's bit in its word
+		return (blocked[minuteOfWeek >>> 6] & (1L << minuteOfWeek)) == 0;
+	}
+
+	/**
+	 * Checks if any minute of the week is blocked.
+	 *
+	 * @return true if play is always allowed
+	 */
+	public boolean isEmpty() {
+		for (long word : blocked) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds how long until play is next locked or unlocked.
+	 *
+	 * @param minuteOfWeek the minute to start from
+	 * @return minutes from it to the first minute whose state is different, or -1 if every minute is the same
+	 */
+	public int minutesUntilChange(int minuteOfWeek) {
+		//Look for the next 1 bit while play is allowed and the next 0 bit while it is blocked
+		long flip = isAllowed(minuteOfWeek) ? 0 : -1L;
+		int minute = minuteOfWeek + 1;
+		int distance = 1;
+		while (distance <= MINUTES_PER_WEEK) {
+			if (minute == MINUTES_PER_WEEK) {
+				minute = 0;
+			}
+			int word = minute >>> 6;
+			long bits = (blocked[word] ^ flip) & (-1L << minute);
+			if (word == WORDS - 1) {
+				bits &= LAST_WORD_MASK;
+			}
+			if (bits != 0) {
+				return distance + (word * 64 + Long.numberOfTrailingZeros(bits)) - minute;
+			}
+
+			int next = Math.min(word * 64 + 64, MINUTES_PER_WEEK);
+			distance += next - minute;
+			minute = next;
+		}
+		return -1;
+	}
+
+	/**
+	 * Works out the minute of the week for a day and time.
+	 *
+	 * @param day the day
+	 * @param minuteOfDay minutes since midnight
+	 * @return minutes since Monday 00:00
+	 */
+	public static int minuteOfWeek(DayOfWeek day, int minuteOfDay) {
+		return (day.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay;
+	}
+
+	/**
+	 * Works out the minute of the week for a moment, without creating any date objects.
+	 *
+	 * @param epochMillis the moment, in milliseconds since 1970
+	 * @param offsetMillis the local time zone's offset from UTC at that moment
+	 * @return minutes since Monday 00:00 local time
+	 */
+	public static int minuteOfWeek(long epochMillis, int offsetMillis) {
+		long localMinutes = Math.floorDiv(epochMillis + offsetMillis, MILLIS_PER_MINUTE);
+		return (int) Math.floorMod(localMinutes + EPOCH_MINUTE_OF_WEEK, (long) MINUTES_PER_WEEK);
+	}
+
+	/**
+	 * Reads a time of day such as {@code 13:00} or {@code 1:00 PM}.
+	 *
+	 * @param text the time
+	 * @return minutes since midnight
+	 * @throws IllegalArgumentException if the text is not a time
+	 */
+	public static int parseTime(String text) {
+		if (text == null) {
+			throw new IllegalArgumentException("Missing time");
+		}
+		String time = text.trim().toUpperCase(Locale.ROOT);
+		int hourOffset = -1;
+		if (time.endsWith("AM") || time.endsWith("PM")) {
+			hourOffset = time.endsWith("PM") ? 12 : 0;
+			time = time.substring(0, time.length() - 2).trim();
+		}
+
+		int colon = time.indexOf(':');
+		try {
+			int hour = Integer.parseInt((colon < 0) ? time : time.substring(0, colon));
+			int minute = (colon < 0) ? 0 : Integer.parseInt(time.substring(colon + 1));
+			if (hourOffset >= 0) {
+				if (hour < 1 || hour > 12) {
+					throw new IllegalArgumentException("Not a time: " + text);
+				}
+				//12 AM is midnight and 12 PM is noon
+				hour = hour % 12 + hourOffset;
+			}
+			if (hour < 0 || hour > 24 || minute < 0 || minute > 59 || (hour == 24 && minute > 0)) {
+				throw new IllegalArgumentException("Not a time: " + text);
+			}
+			return hour * 60 + minute;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Not a time: " + text);
+		}
+	}
+
+	/**
+	 * Collects restrictions and compiles them into {@link PlaytimeRestrictions}.
+	 */
+	public static final class Builder {
+		private final long[] blocked = new long[WORDS];
+
+		/**
+		 * Starts with the configuration's restrictions, so more can be added on top of them.
+		 *
+		 * @param restrictions restrictions to start from
+		 * @return this builder
+		 */
+		public Builder addAll(PlaytimeRestrictions restrictions) {
+			for (int i = 0; i < WORDS; i++) {
+				blocked[i] |= restrictions.blocked[i];
+			}
+			return this;
+		}
+
+		/**
+		 * Blocks play for a time of day, as written in the configuration.
+		 *
+		 * @param day a day such as {@code Monday}, or null, {@code Daily} or {@code Every day} for every day
+		 * @param start when play stops, such as {@code 12:00} or {@code 12:00 PM}
+		 * @param end when play may start again; an hour after the start if null, and the next day if earlier than the start
+		 * @return this builder
+		 * @throws IllegalArgumentException if the day or a time can not be read
+		 */
+		public Builder block(String day, String start, String end) {
+			int startMinute = parseTime(start);
+			int endMinute = (end == null) ? startMinute + 60 : parseTime(end);
+			int length = Math.floorMod(endMinute - startMinute, MINUTES_PER_DAY);
+			if (length == 0) {
+				length = MINUTES_PER_DAY;
+			}
+
+			DayOfWeek dayOfWeek = parseDay(day);
+			for (DayOfWeek blockedDay : DayOfWeek.values()) {
+				if (dayOfWeek == null || dayOfWeek == blockedDay) {
+					block(minuteOfWeek(blockedDay, startMinute), length);
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Blocks play for a run of minutes, going past the end of Sunday into Monday if needed.
+		 *
+		 * @param minuteOfWeek the first minute blocked
+		 * @param minutes how many minutes are blocked
+		 * @return this builder
+		 */
+		public Builder block(int minuteOfWeek, int minutes) {
+			for (int i = 0; i < Math.min(minutes, MINUTES_PER_WEEK); i++) {
+				int minute = (minuteOfWeek + i) % MINUTES_PER_WEEK;
+				blocked[minute >>> 6] |= 1L << minute;
+			}
+			return this;
+		}
+
+		/**
+		 * Compiles the restrictions.
+		 *
+		 * @return the restrictions; later changes to this builder do not affect them
+		 */
+		public PlaytimeRestrictions build() {
+			return new PlaytimeRestrictions(blocked.clone());
+		}
+
+		private static DayOfWeek parseDay(String day) {
+			if (day == null) {
+				return null;
+			}
+			String name = day.trim().toUpperCase(Locale.ROOT);
+			if (name.isEmpty() || name.equals("DAILY") || name.equals("EVERY DAY") || name.equals("EVERYDAY")) {
+				return null;
+			}
+			for (DayOfWeek value : DayOfWeek.values()) {
+				if (value.name().equals(name) || value.name().substring(0, 3).equals(name)) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Not a day: " + day);
+		}
+	}
+}
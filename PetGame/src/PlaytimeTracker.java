@@ -0,0 +1,387 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures how long the game is played, for the parental control screens.
+ * <br><br>
+ * Time is measured with {@link System#nanoTime()}, so changing the computer's clock does not add or
+ * take away playtime. The counters live in a small memory mapped file, {@code playtime.dat}, and the
+ * time played is added to them every {@link #CHECKPOINT_MILLIS} while a session is open. A checkpoint
+ * is a few stores into the mapped file with no system call, and the operating system keeps the stores
+ * even if the game crashes, so a crash loses at most one checkpoint's worth of play. The file is
+ * forced to the disk when a session ends, and the game's tracker is closed when the program exits.<br><br>
+ *
+ * A play day starts at {@code resetPlayTime} (minutes after midnight) rather than at midnight, and
+ * a play week starts on the Monday play day. The file keeps the last 32 days in a ring, and the totals
+ * for the day, the week and the last 30 days are kept up to date as time is added and as days pass,
+ * so reading them never goes through the history.<br><br>
+ *
+ * <b>File layout</b> (big-endian):
+ * <pre>
+ * int magic "PTRK", int version, long current play day, long first play day, long total millis,
+ * long week millis, long last 30 days millis, long sessions, long[32] millis per play day
+ * </pre>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		PlaytimeTracker.Session session = PlaytimeTracker.get().startSession();
+ * 		//the game is played
+ * 		session.stop();
+ * 		long today = PlaytimeTracker.get().getTodayMillis();
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//today includes the session just played</code><br>
+ *
+ * @version 1.0.0
+ */
+public class PlaytimeTracker {
+	/** File the counters are kept in, next to the save files */
+	public static final String FILE = "playtime.dat";
+	/** How often an open session's time is added to the counters */
+	public static final long CHECKPOINT_MILLIS = 5000;
+	/** Days counted in the rolling total */
+	public static final int ROLLING_DAYS = 30;
+
+	private static final int MAGIC = 0x5054524B;
+	private static final int VERSION = 1;
+	//Days kept in the ring; more than the rolling total, so a day is still there when it leaves it
+	private static final int RING_DAYS = 32;
+	private static final long MILLIS_PER_MINUTE = 60_000L;
+	private static final long MILLIS_PER_DAY = 24 * 60 * MILLIS_PER_MINUTE;
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+
+	private static final int CURRENT_DAY = 8;
+	private static final int FIRST_DAY = 16;
+	private static final int TOTAL = 24;
+	private static final int WEEK = 32;
+	private static final int ROLLING = 40;
+	private static final int SESSIONS = 48;
+	private static final int DAYS = 56;
+	private static final int FILE_BYTES = DAYS + RING_DAYS * 8;
+
+	private final ByteBuffer counters;
+	private final FileChannel channel;
+	private final long resetMillis;
+	private final ZoneId zone;
+	private final LongSupplier wallClock;
+	private final LongSupplier nanoClock;
+	private final ScheduledExecutorService scheduler;
+
+	private int openSessions;
+	private long lastNanos;
+	private ScheduledFuture<?> checkpoints;
+
+	/**
+	 * Holder so the file is only opened the first time playtime is needed.
+	 */
+	private static class Holder {
+		static final PlaytimeTracker INSTANCE = openShared();
+
+		private static PlaytimeTracker openShared() {
+			PlaytimeTracker tracker = open(Paths.get(FILE), GameConfig.get().getResetPlayTime());
+			//Count the last few seconds and close the file when the window closes the program
+			Runtime.getRuntime().addShutdownHook(new Thread(tracker::close, "playtime-shutdown"));
+			return tracker;
+		}
+	}
+
+	/**
+	 * Getter for the game's tracker, kept in {@link #FILE} with the configuration's {@code resetPlayTime}.
+	 *
+	 * @return the shared tracker
+	 */
+	public static PlaytimeTracker get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Opens a tracker on the system clock, keeping the counters in memory if the file can not be opened.
+	 *
+	 * @param file the counter file, created if it does not exist
+	 * @param resetMinute minutes after midnight that a play day starts
+	 * @return the tracker
+	 */
+	public static PlaytimeTracker open(Path file, int resetMinute) {
+		try {
+			return new PlaytimeTracker(file, resetMinute, ZoneId.systemDefault(), System::currentTimeMillis, System::nanoTime);
+		} catch (IOException e) {
+			System.err.println("Playtime will not be kept: " + e.getMessage());
+			return new PlaytimeTracker(resetMinute, ZoneId.systemDefault(), System::currentTimeMillis, System::nanoTime);
+		}
+	}
+
+	/**
+	 * Creates a tracker on a counter file.
+	 *
+	 * @param file the counter file, created if it does not exist
+	 * @param resetMinute minutes after midnight that a play day starts
+	 * @param zone the time zone days are counted in
+	 * @param wallClock milliseconds since 1970, used only to tell which day it is
+	 * @param nanoClock monotonic nanoseconds, used to measure play
+	 * @throws IOException if the file can not be opened
+	 */
+	PlaytimeTracker(Path file, int resetMinute, ZoneId zone, LongSupplier wallClock, LongSupplier nanoClock) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE),
+				resetMinute, zone, wallClock, nanoClock);
+	}
+
+	/**
+	 * Creates a tracker that keeps its counters in memory only.
+	 */
+	PlaytimeTracker(int resetMinute, ZoneId zone, LongSupplier wallClock, LongSupplier nanoClock) {
+		this(null, ByteBuffer.allocate(FILE_BYTES), resetMinute, zone, wallClock, nanoClock);
+	}
+
+	private PlaytimeTracker(FileChannel channel, int resetMinute, ZoneId zone, LongSupplier wallClock, LongSupplier nanoClock) throws IOException {
+		this(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES), resetMinute, zone, wallClock, nanoClock);
+	}
+
+	private PlaytimeTracker(FileChannel channel, ByteBuffer counters, int resetMinute, ZoneId zone, LongSupplier wallClock, LongSupplier nanoClock) {
+		this.channel = channel;
+		this.counters = counters;
+		this.resetMillis = Math.floorMod(resetMinute, 24 * 60) * MILLIS_PER_MINUTE;
+		this.zone = zone;
+		this.wallClock = wallClock;
+		this.nanoClock = nanoClock;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "playtime-checkpoint");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		//A new or unreadable file starts from nothing
+		if (counters.getInt(0) != MAGIC || counters.getInt(4) != VERSION) {
+			for (int i = 0; i < FILE_BYTES; i += 8) {
+				counters.putLong(i, 0);
+			}
+			long today = today();
+			counters.putInt(0, MAGIC).putInt(4, VERSION);
+			counters.putLong(CURRENT_DAY, today).putLong(FIRST_DAY, today);
+		}
+	}
+
+	/**
+	 * Starts counting playtime. Sessions may overlap; time is counted once while any of them is open.
+	 *
+	 * @return the session, to stop when play ends
+	 */
+	public synchronized Session startSession() {
+		if (openSessions++ == 0) {
+			lastNanos = nanoClock.getAsLong();
+			checkpoints = scheduler.scheduleAtFixedRate(this::checkpoint, CHECKPOINT_MILLIS, CHECKPOINT_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		counters.putLong(SESSIONS, counters.getLong(SESSIONS) + 1);
+		return new Session();
+	}
+
+	/**
+	 * Adds the time played since the last checkpoint to the counters.
+	 */
+	public synchronized void checkpoint() {
+		if (openSessions == 0) {
+			rollOver(today());
+			return;
+		}
+
+		long now = nanoClock.getAsLong();
+		long millis = (now - lastNanos) / NANOS_PER_MILLI;
+		//Whole milliseconds are added and the rest is kept for next time
+		lastNanos += millis * NANOS_PER_MILLI;
+		addMillis(millis);
+	}
+
+	/**
+	 * Adds playtime that was not measured by a session, such as time entered by hand.
+	 *
+	 * @param millis milliseconds played, counted as played today
+	 */
+	public synchronized void addMillis(long millis) {
+		rollOver(today());
+		int slot = slot(counters.getLong(CURRENT_DAY));
+		counters.putLong(slot, counters.getLong(slot) + millis);
+		counters.putLong(TOTAL, counters.getLong(TOTAL) + millis);
+		counters.putLong(WEEK, counters.getLong(WEEK) + millis);
+		counters.putLong(ROLLING, counters.getLong(ROLLING) + millis);
+	}
+
+	/**
+	 * Getter for the time played today.
+	 *
+	 * @return milliseconds played since the play day started
+	 */
+	public synchronized long getTodayMillis() {
+		checkpoint();
+		return counters.getLong(slot(counters.getLong(CURRENT_DAY)));
+	}
+
+	/**
+	 * Getter for the time played this week.
+	 *
+	 * @return milliseconds played since the Monday play day started
+	 */
+	public synchronized long getWeekMillis() {
+		checkpoint();
+		return counters.getLong(WEEK);
+	}
+
+	/**
+	 * Getter for the time played over the last {@link #ROLLING_DAYS} days.
+	 *
+	 * @return milliseconds played today and on the 29 days before
+	 */
+	public synchronized long getRollingMillis() {
+		checkpoint();
+		return counters.getLong(ROLLING);
+	}
+
+	/**
+	 * Getter for the average time played a day over the last {@link #ROLLING_DAYS} days. Days before the
+	 * game was first played are not counted, so a new player's average is not spread over a whole month.
+	 *
+	 * @return milliseconds played a day
+	 */
+	public synchronized long getAverageDailyMillis() {
+		checkpoint();
+		long days = Math.min(ROLLING_DAYS, counters.getLong(CURRENT_DAY) - counters.getLong(FIRST_DAY) + 1);
+		return counters.getLong(ROLLING) / Math.max(1, days);
+	}
+
+	/**
+	 * Getter for all the time ever played.
+	 *
+	 * @return milliseconds played
+	 */
+	public synchronized long getTotalMillis() {
+		checkpoint();
+		return counters.getLong(TOTAL);
+	}
+
+	/**
+	 * Getter for how many sessions have been started.
+	 *
+	 * @return the number of sessions
+	 */
+	public synchronized long getSessionCount() {
+		return counters.getLong(SESSIONS);
+	}
+
+	/**
+	 * Stops counting, writes the counters to the disk and closes the file.
+	 */
+	public synchronized void close() {
+		if (openSessions > 0) {
+			checkpoint();
+			openSessions = 0;
+		}
+		scheduler.shutdownNow();
+		force();
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				System.err.println("Could not close " + FILE + ": " + e.getMessage());
+			}
+		}
+	}
+
+	private synchronized void endSession() {
+		if (openSessions == 0) {
+			//The tracker was closed first
+			return;
+		}
+		checkpoint();
+		if (--openSessions == 0) {
+			checkpoints.cancel(false);
+			checkpoints = null;
+			force();
+		}
+	}
+
+	/**
+	 * Moves the counters on to a new play day, clearing the days that have left the ring and taking
+	 * the days that have left the rolling window out of its total.
+	 */
+	private void rollOver(long today) {
+		long current = counters.getLong(CURRENT_DAY);
+		if (today <= current) {
+			//The clock went back; keep counting on the newest day
+			return;
+		}
+
+		if (today - current >= RING_DAYS) {
+			for (int day = 0; day < RING_DAYS; day++) {
+				counters.putLong(DAYS + day * 8, 0);
+			}
+			counters.putLong(ROLLING, 0);
+		} else {
+			for (long day = current + 1; day <= today; day++) {
+				counters.putLong(ROLLING, counters.getLong(ROLLING) - counters.getLong(slot(day - ROLLING_DAYS)));
+				counters.putLong(slot(day), 0);
+			}
+		}
+		if (week(today) != week(current)) {
+			counters.putLong(WEEK, 0);
+		}
+		counters.putLong(CURRENT_DAY, today);
+	}
+
+	/**
+	 * Works out the play day, counted from the first play day of 1970.
+	 */
+	private long today() {
+		long now = wallClock.getAsLong();
+		long local = now + zone.getRules().getOffset(Instant.ofEpochMilli(now)).getTotalSeconds() * 1000L;
+		return Math.floorDiv(local - resetMillis, MILLIS_PER_DAY);
+	}
+
+	private static long week(long day) {
+		//1 January 1970 was a Thursday, 3 days after the Monday its week started on
+		return Math.floorDiv(day + 3, 7);
+	}
+
+	private static int slot(long day) {
+		return DAYS + (int) Math.floorMod(day, (long) RING_DAYS) * 8;
+	}
+
+	private void force() {
+		if (counters instanceof MappedByteBuffer) {
+			((MappedByteBuffer) counters).force();
+		}
+	}
+
+	/**
+	 * One stretch of play, from {@link #startSession()}.
+	 */
+	public final class Session {
+		private boolean stopped;
+
+		private Session() {
+		}
+
+		/**
+		 * Stops counting this session's time. Safe to call more than once.
+		 */
+		public void stop() {
+			synchronized (PlaytimeTracker.this) {
+				if (!stopped) {
+					stopped = true;
+					endSession();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,640 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps every saved game in one file, by profile name, so any number of players can share the game.
+ * <br><br>
+ * The file starts with the magic "VPPS" and the format version, 4 bytes each, followed by records that are
+ * only ever added to the end:
+ * <pre>
+ * length      4 bytes  bytes in the record after this field
+ * kind        1 byte   1 for a save, 2 for a deleted profile
+ * number      4 bytes  the profile's number, which never changes
+ * name        1 byte length, then up to {@value #MAX_NAME_BYTES} bytes of UTF-8
+ * save        the game in the {@link SaveFile} format, empty for a delete
+ * checksum    4 bytes  CRC32 of the record from the kind to the save
+ * </pre>
+ * Opening the store reads the records once to build a hash index from each name to its latest record,
+ * keeping every profile's {@link SaveFile.Header} for the Load dialog. After that, saving adds one record
+ * and loading reads one record at a known offset, so neither depends on how many profiles there are.<br><br>
+ *
+ * A record left half written at the end of the file by a crash is cut off. A record that fails its checksum
+ * is skipped and the records after it are still read. If a record's length is damaged, the records after it
+ * can not be found, so the store refuses to open rather than lose them. Before anything is dropped, the file
+ * is copied to {@code profiles.store.damaged}.<br><br>
+ *
+ * Records replaced by a later save or delete are dead space. Once there are at least
+ * {@value #COMPACT_MIN_BYTES} dead bytes and more dead bytes than live ones, the live records are copied to
+ * a new file that replaces the old one in one step. A compaction copies no more than the saves since the
+ * last one wrote, so a save still costs the same on average.<br><br>
+ *
+ * The first time the store is made, games on the old save slots ({@code save1.dat} to {@code save3.dat},
+ * or the text saves before them) are copied in as the profiles "Save File 1" to "Save File 3".<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		ProfileStore store = ProfileStore.get();
+ * 		store.save("Maya", gui.toGameState());
+ * 		for (ProfileStore.Profile profile : store.profiles()) {
+ * 			System.out.println(profile.getName() + ": score " + profile.getHeader().getScore());
+ * 		}
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>Maya: score 1240</code><br>
+ *
+ * @version 1.0.0
+ */
+public class ProfileStore {
+	/** File the game's profiles are kept in */
+	public static final String FILE = "profiles.store";
+
+	/** "VPPS" in ASCII */
+	public static final int MAGIC = 0x56505053;
+
+	/** Version written by this class */
+	public static final int VERSION = 1;
+
+	/** Longest profile name, in UTF-8 bytes */
+	public static final int MAX_NAME_BYTES = 255;
+
+	/** Fewest dead bytes worth compacting */
+	public static final long COMPACT_MIN_BYTES = 64 * 1024;
+
+	/** Name an old save slot is copied in as, followed by its number */
+	public static final String SLOT_PROFILE = "Save File ";
+
+	/** Number of old save slots */
+	public static final int OLD_SLOTS = 3;
+
+	private static final int FILE_HEADER_SIZE = 8;
+	private static final byte KIND_SAVE = 1;
+	private static final byte KIND_DELETE = 2;
+
+	//Length, kind, number, name length and checksum
+	private static final int RECORD_OVERHEAD = 4 + 1 + 4 + 1 + 4;
+	private static final int MAX_RECORD = RECORD_OVERHEAD + MAX_NAME_BYTES + SaveFile.MAX_SIZE;
+
+	private static final ProfileStore INSTANCE = new ProfileStore(Paths.get(FILE), COMPACT_MIN_BYTES);
+
+	/**
+	 * A saved profile, as the index keeps it.
+	 */
+	public static final class Profile {
+		private final String name;
+		private final int number;
+		private final SaveFile.Header header;
+
+		Profile(String name, int number, SaveFile.Header header) {
+			this.name = name;
+			this.number = number;
+			this.header = header;
+		}
+
+		public String getName() { return name; }
+		/** @return the number the profile was given when it was first saved */
+		public int getNumber() { return number; }
+		public SaveFile.Header getHeader() { return header; }
+	}
+
+	/**
+	 * Where a profile's latest record is.
+	 */
+	private static final class Entry {
+		private final Profile profile;
+		private final long offset;
+		private final int size;
+
+		Entry(Profile profile, long offset, int size) {
+			this.profile = profile;
+			this.offset = offset;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * One decoded record.
+	 */
+	private static final class Record {
+		private final byte kind;
+		private final int number;
+		private final String name;
+		private final byte[] save;
+
+		Record(byte kind, int number, String name, byte[] save) {
+			this.kind = kind;
+			this.number = number;
+			this.name = name;
+			this.save = save;
+		}
+	}
+
+	private final Path file;
+	private final long compactMinBytes;
+
+	//Everything below is guarded by this
+	private final Map<String, Entry> index = new HashMap<>();
+	//Numbers handed out for names that have not been saved yet
+	private final Map<String, Integer> reserved = new HashMap<>();
+	private FileChannel channel;
+	private long end;
+	private long liveBytes;
+	private long deadBytes;
+	private int nextNumber = 1;
+
+	/**
+	 * Getter for the game's profile store. It is opened the first time it is used.
+	 *
+	 * @return the shared store
+	 */
+	public static ProfileStore get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Creates a store. Nothing is read until it is used.
+	 *
+	 * @param file the store's file; old save slots are looked for next to it
+	 * @param compactMinBytes fewest dead bytes worth compacting
+	 */
+	ProfileStore(Path file, long compactMinBytes) {
+		this.file = file;
+		this.compactMinBytes = compactMinBytes;
+	}
+
+	/**
+	 * Opens the store and builds its index, making the file and copying in the old save slots if there is
+	 * none yet. Opening again does nothing.
+	 *
+	 * @throws IOException if the file can not be read or is not a profile store
+	 */
+	public synchronized void open() throws IOException {
+		if (channel != null) {
+			return;
+		}
+
+		index.clear();
+		liveBytes = 0;
+		deadBytes = 0;
+		FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		boolean created;
+		try {
+			created = opened.size() == 0;
+			if (created) {
+				writeFileHeader(opened);
+				end = FILE_HEADER_SIZE;
+			} else {
+				scan(opened);
+			}
+		} catch (IOException e) {
+			opened.close();
+			index.clear();
+			throw e;
+		}
+		channel = opened;
+
+		if (created) {
+			importOldSlots();
+		}
+	}
+
+	/**
+	 * Saves a game to a profile, making the profile if it is new.
+	 *
+	 * @param name the profile's name
+	 * @param state the game to save
+	 * @return the saved profile
+	 * @throws IOException if the store can not be written
+	 * @throws IllegalArgumentException if the name is blank or too long
+	 */
+	public synchronized Profile save(String name, GameState state) throws IOException {
+		checkName(name);
+		open();
+
+		Entry old = index.get(name);
+		Integer number = old != null ? Integer.valueOf(old.profile.number) : reserved.get(name);
+		if (number == null) {
+			number = nextNumber++;
+		}
+
+		byte[] record = encodeRecord(KIND_SAVE, number, name, SaveFile.encode(state));
+		long offset = append(record);
+		reserved.remove(name);
+
+		Profile profile = new Profile(name, number, SaveFile.Header.of(state));
+		index.put(name, new Entry(profile, offset, record.length));
+		liveBytes += record.length;
+		if (old != null) {
+			liveBytes -= old.size;
+			deadBytes += old.size;
+		}
+		compactIfNeeded();
+		return profile;
+	}
+
+	/**
+	 * Loads the game saved on a profile, reading only its record.
+	 *
+	 * @param name the profile's name
+	 * @return the saved game, or null if there is no such profile
+	 * @throws IOException if the store can not be read or the save is corrupt
+	 */
+	public synchronized GameState load(String name) throws IOException {
+		open();
+		Entry entry = index.get(name);
+		if (entry == null) {
+			return null;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(entry.size);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, entry.offset + buffer.position()) < 0) {
+				throw new IOException("Profile store is cut short");
+			}
+		}
+		Record record = decodeRecord(buffer.array(), 4, entry.size - 4);
+		if (record.kind != KIND_SAVE || !record.name.equals(name)) {
+			throw new IOException("Profile store index is out of date");
+		}
+		return SaveFile.decode(record.save);
+	}
+
+	/**
+	 * Deletes a profile.
+	 *
+	 * @param name the profile's name
+	 * @return true if there was such a profile
+	 * @throws IOException if the store can not be written
+	 */
+	public synchronized boolean delete(String name) throws IOException {
+		open();
+		Entry old = index.get(name);
+		if (old == null) {
+			return false;
+		}
+
+		byte[] record = encodeRecord(KIND_DELETE, old.profile.number, name, new byte[0]);
+		append(record);
+		index.remove(name);
+		liveBytes -= old.size;
+		deadBytes += old.size + record.length;
+		compactIfNeeded();
+		return true;
+	}
+
+	/**
+	 * Getter for one profile from the index.
+	 *
+	 * @param name the profile's name
+	 * @return the profile, or null if there is no such profile
+	 * @throws IOException if the store can not be opened
+	 */
+	public synchronized Profile profile(String name) throws IOException {
+		open();
+		Entry entry = index.get(name);
+		return entry == null ? null : entry.profile;
+	}
+
+	/**
+	 * Getter for every profile from the index.
+	 *
+	 * @return the profiles, sorted by name
+	 * @throws IOException if the store can not be opened
+	 */
+	public synchronized List<Profile> profiles() throws IOException {
+		open();
+		List<Profile> profiles = new ArrayList<>(index.size());
+		for (Entry entry : index.values()) {
+			profiles.add(entry.profile);
+		}
+		profiles.sort(Comparator.comparing(Profile::getName, String.CASE_INSENSITIVE_ORDER).thenComparing(Profile::getName));
+		return profiles;
+	}
+
+	/**
+	 * Getter for the number a profile has, or will be given when it is first saved.
+	 *
+	 * @param name the profile's name
+	 * @return the profile's number
+	 * @throws IOException if the store can not be opened
+	 */
+	public synchronized int numberOf(String name) throws IOException {
+		open();
+		Entry entry = index.get(name);
+		if (entry != null) {
+			return entry.profile.number;
+		}
+		return reserved.computeIfAbsent(name, key -> nextNumber++);
+	}
+
+	/**
+	 * Getter for the number of profiles.
+	 *
+	 * @return how many profiles are saved
+	 * @throws IOException if the store can not be opened
+	 */
+	public synchronized int size() throws IOException {
+		open();
+		return index.size();
+	}
+
+	/**
+	 * Getter for the bytes taken by records that have been replaced or deleted.
+	 *
+	 * @return the dead bytes a compaction would free
+	 */
+	public synchronized long getDeadBytes() {
+		return deadBytes;
+	}
+
+	/**
+	 * Copies the live records to a new file that replaces the old one, dropping the dead space.
+	 *
+	 * @throws IOException if the new file can not be written; the old one is kept
+	 */
+	public synchronized void compact() throws IOException {
+		open();
+		Path absolute = file.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+
+		//Keep the records in the order they were written
+		List<Entry> live = new ArrayList<>(index.values());
+		live.sort(Comparator.comparingLong(entry -> entry.offset));
+
+		Map<String, Entry> moved = new HashMap<>();
+		long offset = FILE_HEADER_SIZE;
+		try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeFileHeader(out);
+			for (Entry entry : live) {
+				long copied = 0;
+				while (copied < entry.size) {
+					long count = channel.transferTo(entry.offset + copied, entry.size - copied, out);
+					if (count <= 0) {
+						throw new IOException("Profile store is cut short");
+					}
+					copied += count;
+				}
+				moved.put(entry.profile.name, new Entry(entry.profile, offset, entry.size));
+				offset += entry.size;
+			}
+			//The old file is about to go, so the new one must be on the disk first
+			out.force(true);
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+
+		//If anything below fails, the next call opens whichever file is in place again
+		channel.close();
+		channel = null;
+		Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		index.putAll(moved);
+		end = offset;
+		liveBytes = offset - FILE_HEADER_SIZE;
+		deadBytes = 0;
+		channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Closes the file. The store opens it again the next time it is used.
+	 *
+	 * @throws IOException if the file can not be closed
+	 */
+	public synchronized void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	/**
+	 * Checks that a name can be used for a profile.
+	 *
+	 * @param name the name
+	 * @throws IllegalArgumentException if the name is blank, has spaces around it or is too long
+	 */
+	public static void checkName(String name) {
+		if (name == null || name.isBlank()) {
+			throw new IllegalArgumentException("Profile name is blank");
+		}
+		if (!name.equals(name.strip())) {
+			throw new IllegalArgumentException("Profile name starts or ends with a space");
+		}
+		if (name.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+			throw new IllegalArgumentException("Profile name is longer than " + MAX_NAME_BYTES + " bytes");
+		}
+	}
+
+	/**
+	 * Reads every record to build the index, cutting off a damaged end.
+	 */
+	private void scan(FileChannel opened) throws IOException {
+		long size = opened.size();
+		opened.position(0);
+		//Not closed, as that would close the channel
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(opened)));
+		if (size < FILE_HEADER_SIZE || in.readInt() != MAGIC) {
+			throw new IOException("Not a profile store: " + file);
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported profile store version " + version);
+		}
+
+		long offset = FILE_HEADER_SIZE;
+		boolean copyKept = false;
+		while (offset < size) {
+			//A record that runs past the end of the file was being written when the game stopped
+			if (size - offset < 4) {
+				copyKept = keepDamagedCopy(copyKept);
+				System.err.println("Cutting off a record left half written at byte " + offset + " of the profile store");
+				opened.truncate(offset);
+				break;
+			}
+			int length = in.readInt();
+			if (length < RECORD_OVERHEAD - 4 || length > MAX_RECORD - 4) {
+				//Without its length the records after it can not be found, so nothing is thrown away
+				keepDamagedCopy(copyKept);
+				throw new IOException("Profile store is damaged at byte " + offset + ", a copy was kept in " + damagedCopy());
+			}
+			if (offset + 4 + length > size) {
+				copyKept = keepDamagedCopy(copyKept);
+				System.err.println("Cutting off a record left half written at byte " + offset + " of the profile store");
+				opened.truncate(offset);
+				break;
+			}
+
+			int recordSize = 4 + length;
+			byte[] body = new byte[length];
+			in.readFully(body);
+			Record record;
+			SaveFile.Header header = null;
+			try {
+				record = decodeRecord(body, 0, length);
+				if (record.kind == KIND_SAVE) {
+					header = SaveFile.decodeHeader(record.save);
+				}
+			} catch (IOException e) {
+				//The length is sound, so only this record is lost; it is dead space for the next compaction
+				copyKept = keepDamagedCopy(copyKept);
+				System.err.println("Skipping a damaged record at byte " + offset + " of the profile store: " + e.getMessage());
+				deadBytes += recordSize;
+				offset += recordSize;
+				continue;
+			}
+
+			Entry old = index.remove(record.name);
+			if (old != null) {
+				liveBytes -= old.size;
+				deadBytes += old.size;
+			}
+			if (record.kind == KIND_SAVE) {
+				index.put(record.name, new Entry(new Profile(record.name, record.number, header), offset, recordSize));
+				liveBytes += recordSize;
+			} else {
+				deadBytes += recordSize;
+			}
+			nextNumber = Math.max(nextNumber, record.number + 1);
+			offset += recordSize;
+		}
+		end = offset;
+	}
+
+	/**
+	 * Copies the store's file aside before anything damaged in it is dropped, once a scan.
+	 *
+	 * @param kept whether the copy was already made in this scan
+	 * @return true, as the copy has now been made
+	 */
+	private boolean keepDamagedCopy(boolean kept) throws IOException {
+		if (!kept) {
+			Files.copy(file, damagedCopy(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		return true;
+	}
+
+	private Path damagedCopy() {
+		Path absolute = file.toAbsolutePath();
+		return absolute.resolveSibling(absolute.getFileName() + ".damaged");
+	}
+
+	/**
+	 * Copies the games on the old save slots in as profiles. A slot that can not be read is left out.
+	 */
+	private void importOldSlots() {
+		for (int slot = 1; slot <= OLD_SLOTS; slot++) {
+			try {
+				GameState state = SaveFile.load(file.resolveSibling(SaveFile.slotFile(slot).toString()),
+						file.resolveSibling(SaveFile.legacySlotFile(slot).toString()));
+				if (state != null) {
+					save(SLOT_PROFILE + slot, state);
+				}
+			} catch (IOException e) {
+				System.err.println("Could not copy save slot " + slot + " into the profile store: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Writes a record at the end of the file.
+	 *
+	 * @return the record's offset
+	 */
+	private long append(byte[] record) throws IOException {
+		long offset = end;
+		ByteBuffer buffer = ByteBuffer.wrap(record);
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer, offset + buffer.position());
+			}
+		} catch (IOException e) {
+			//Drop the part that was written so the next record starts in the right place
+			channel.truncate(offset);
+			throw e;
+		}
+		end = offset + record.length;
+		return offset;
+	}
+
+	private void compactIfNeeded() {
+		if (deadBytes >= compactMinBytes && deadBytes > liveBytes) {
+			try {
+				compact();
+			} catch (IOException e) {
+				System.err.println("Could not compact the profile store: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Writes the file header at the position of a new, empty file, leaving the position after it.
+	 */
+	private static void writeFileHeader(FileChannel out) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+		header.flip();
+		while (header.hasRemaining()) {
+			out.write(header);
+		}
+	}
+
+	private static byte[] encodeRecord(byte kind, int number, String name, byte[] save) {
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocate(RECORD_OVERHEAD + nameBytes.length + save.length);
+		buffer.putInt(buffer.capacity() - 4);
+		buffer.put(kind);
+		buffer.putInt(number);
+		buffer.put((byte) nameBytes.length);
+		buffer.put(nameBytes);
+		buffer.put(save);
+
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 4, buffer.position() - 4);
+		buffer.putInt((int) crc.getValue());
+		return buffer.array();
+	}
+
+	/**
+	 * Decodes a record from the kind to the checksum.
+	 */
+	private static Record decodeRecord(byte[] data, int start, int length) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(data, start, length - 4);
+		ByteBuffer buffer = ByteBuffer.wrap(data, start, length);
+		if ((int) crc.getValue() != buffer.getInt(start + length - 4)) {
+			throw new IOException("Profile record is corrupt");
+		}
+
+		byte kind = buffer.get();
+		if (kind != KIND_SAVE && kind != KIND_DELETE) {
+			throw new IOException("Unknown profile record " + kind);
+		}
+		int number = buffer.getInt();
+		int nameLength = buffer.get() & 0xFF;
+		int saveLength = length - (RECORD_OVERHEAD - 4) - nameLength;
+		if (saveLength < 0) {
+			throw new IOException("Profile record is cut short");
+		}
+		String name = new String(data, buffer.position(), nameLength, StandardCharsets.UTF_8);
+		byte[] save = new byte[saveLength];
+		System.arraycopy(data, buffer.position() + nameLength, save, 0, saveLength);
+		return new Record(kind, number, name, save);
+	}
+}
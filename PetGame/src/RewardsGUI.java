@@ -13,12 +13,13 @@ import java.awt.event.ActionListener;
  * a "Back" button to close the window.
  * <p>
  * The reward is passed as a parameter, and the corresponding image is displayed 
- * dynamically.
+ * dynamically. The screen is a card in the {@link ScreenNavigator} window, built once
+ * and reused for every reward.
  *
  * <b>Example Use:</b>
  * <pre>
  * {@code
- * RewardsGUI rewardWindow = new RewardsGUI("Chicken");
+ * RewardsGUI.open("Chicken");
  * }
  * </pre>
  *
@@ -29,35 +30,42 @@ import java.awt.event.ActionListener;
  * @version 1.0.0
  * @author Aryan Baria
  */
-public class RewardsGUI extends JFrame{
+public class RewardsGUI extends JPanel{
+	//Width of the window, used to centre the text
+	private static final int WIDTH = 470;
+
 	//Instance variables
-	private String reward;
+	private final JLabel rewardIcon;
+	private final JLabel text;
 
 	/**
-     * Constructor that creates a new rewards screen with the given reward item. 
+     * Shows the rewards screen with the given reward item, building it the first time.
      *
      * @param petReward the name of the reward 
      */
-	public RewardsGUI(String petReward) {
-		//Get the reward
-		this.reward = petReward;
-		
+	public static void open(String petReward) {
+		ScreenNavigator navigator = ScreenNavigator.get();
+		RewardsGUI screen = navigator.screen(RewardsGUI.class, RewardsGUI::new);
+		screen.setReward(petReward);
+		navigator.show(screen, "Rewards", new Dimension(WIDTH, 400));
+	}
+
+	/**
+     * Constructor that creates the rewards screen, without a reward until it is opened.
+     */
+	private RewardsGUI() {
         //Create the screen
-        setTitle("Rewards");
-        setSize(470, 400);
-        setLocationRelativeTo(null);
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setLayout(null);
+        super(null);
         
         //Set the background color
-        getContentPane().setBackground(new Color(204, 255, 255));
+        setBackground(new Color(204, 255, 255));
 
         //Create the icons
-        JLabel rewardIcon = new JLabel(new ImageIcon("img/" + reward + ".png"));
+        rewardIcon = new JLabel();
 
         //Create the labels
         JLabel title = new JLabel("On Your Way Back You Got A...");
-        JLabel text = new JLabel(reward + "!");
+        text = new JLabel();
         
         //Create the buttons
         JButton backButton = new JButton("Back");
@@ -70,9 +78,6 @@ public class RewardsGUI extends JFrame{
         title.setBounds(40, 35, 400, 50);
         
         text.setFont(new Font("SansSerif", Font.BOLD, 30));
-        Dimension textSize = text.getPreferredSize();
-        int x = (getWidth() - textSize.width) / 2;
-        text.setBounds(x, 305, 200, textSize.height);
         
         //Position the button and change the font
         backButton.setBounds(350, 10, 100, 30);
@@ -101,8 +106,8 @@ public class RewardsGUI extends JFrame{
         backButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                //Close the system
-                dispose();
+                //Close the window
+                ScreenNavigator.get().hide();
             }
         });
         
@@ -115,8 +120,19 @@ public class RewardsGUI extends JFrame{
         
         //Add the button
         add(backButton);
+    }
+
+    /**
+     * Puts in the image and name of a reward and centres the name.
+     *
+     * @param reward the name of the reward
+     */
+    private void setReward(String reward) {
+        rewardIcon.setIcon(ImageAssets.icon("img/" + reward + ".png"));
+        text.setText(reward + "!");
 
-        //Set visibility
-        setVisible(true);
+        Dimension textSize = text.getPreferredSize();
+        int x = (WIDTH - textSize.width) / 2;
+        text.setBounds(x, 305, 200, textSize.height);
     }
 }
\ No newline at end of file
@@ -0,0 +1,488 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes saved games in the game's binary save format.
+ * <br><br>
+ * A save file is laid out as:
+ * <pre>
+ * magic       4 bytes  "VPET"
+ * version     1 byte
+ * score       4 bytes
+ * happiness   1 byte   (0-100)
+ * health      1 byte   (0-100)
+ * sleep       1 byte   (0-100)
+ * hunger      1 byte   (0-100)
+ * petNumber   1 byte
+ * savedAt     8 bytes  time of the save in milliseconds since the epoch (version 4+)
+ * itemTotal   2 bytes  number of items, every stack added up, at most 65535 (version 4+)
+ * headerCheck 4 bytes  CRC32 of the {@value #HEADER_SIZE} byte header before it (version 4+)
+ * itemCount   varint
+ * items       itemCount x (name string, type byte, effect string, quantity varint)
+ * cooldowns   varint count, then count x varint milliseconds left, by {@link PetAction} order (version 2+)
+ * savedAt     8 bytes  time of the save, here in version 3 only
+ * checksum    4 bytes  CRC32 of everything before it
+ * </pre>
+ * Strings are a varint byte length followed by UTF-8 bytes. Type is 0 for food and 1 for gifts.<br><br>
+ *
+ * Everything up to the header check has a fixed size, so {@link #readHeader(Path)} can describe a save,
+ * for example in the Load dialog, by reading {@value #HEADER_SIZE} bytes.<br><br>
+ *
+ * Games are kept as profiles in the {@link ProfileStore}, each record holding one save in this format.
+ * Older versions of the game saved to three slots, {@code save1.dat} to {@code save3.dat} and before that
+ * {@code save1.txt} to {@code save3.txt}; these are read with {@link #load(Path, Path)} when they are
+ * copied into the store.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		SaveFile.write(Paths.get("backup.dat"), gui.toGameState());
+ * 		GameState loaded = SaveFile.read(Paths.get("backup.dat"));
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public final class SaveFile {
+	/** "VPET" in ASCII */
+	public static final int MAGIC = 0x56504554;
+
+	/** Version written by this class */
+	public static final int VERSION = 4;
+
+	/** Bytes at the start of a save that describe it, from the magic to the header check */
+	public static final int HEADER_SIZE = 28;
+
+	/** Largest save file that will be read */
+	public static final int MAX_SIZE = 64 * 1024;
+
+	private static final byte TYPE_FOOD = 0;
+	private static final byte TYPE_GIFT = 1;
+
+	//Bytes the header check covers
+	private static final int HEADER_BODY = HEADER_SIZE - 4;
+	private static final int MAX_ITEM_TOTAL = 0xFFFF;
+
+	private SaveFile() {
+	}
+
+	/**
+	 * What a save holds, read from its fixed size header.
+	 */
+	public static final class Header {
+		private final int score;
+		private final int happiness;
+		private final int health;
+		private final int sleep;
+		private final int hunger;
+		private final int petNumber;
+		private final long savedAtMillis;
+		private final int itemTotal;
+
+		Header(int score, int happiness, int health, int sleep, int hunger, int petNumber, long savedAtMillis, int itemTotal) {
+			this.score = score;
+			this.happiness = happiness;
+			this.health = health;
+			this.sleep = sleep;
+			this.hunger = hunger;
+			this.petNumber = petNumber;
+			this.savedAtMillis = savedAtMillis;
+			this.itemTotal = itemTotal;
+		}
+
+		/**
+		 * Makes the header a game would be saved with.
+		 *
+		 * @param state the game
+		 * @return its header
+		 */
+		public static Header of(GameState state) {
+			return new Header(state.getScore(), state.getHappiness(), state.getHealth(), state.getSleep(),
+					state.getHunger(), state.getPetNumber(), state.getSavedAtMillis(), itemTotal(state));
+		}
+
+		public int getScore() { return score; }
+		public int getHappiness() { return happiness; }
+		public int getHealth() { return health; }
+		public int getSleep() { return sleep; }
+		public int getHunger() { return hunger; }
+		public int getPetNumber() { return petNumber; }
+		/** @return time of the save in milliseconds since the epoch, or 0 for saves from before it was kept */
+		public long getSavedAtMillis() { return savedAtMillis; }
+		/** @return number of items, every stack added up */
+		public int getItemTotal() { return itemTotal; }
+	}
+
+	/**
+	 * Getter for the binary file older versions of the game saved a slot to.
+	 *
+	 * @param slot slot number starting at 1
+	 * @return path of the slot's save file
+	 */
+	public static Path slotFile(int slot) {
+		return Paths.get("save" + slot + ".dat");
+	}
+
+	/**
+	 * Getter for the text file older versions of the game saved a slot to.
+	 *
+	 * @param slot slot number starting at 1
+	 * @return path of the slot's old save file
+	 */
+	public static Path legacySlotFile(int slot) {
+		return Paths.get("save" + slot + ".txt");
+	}
+
+	/**
+	 * Loads a game from its binary file, converting an old text save if that is all there is.
+	 *
+	 * @param file the binary save file
+	 * @param legacy the old text save file it replaces
+	 * @return the saved game, or null if neither file has one
+	 * @throws IOException if the save can not be read or is corrupt
+	 */
+	public static GameState load(Path file, Path legacy) throws IOException {
+		if (isNonEmpty(file)) {
+			return read(file);
+		}
+
+		if (!isNonEmpty(legacy)) {
+			return null;
+		}
+
+		//Migrate the old text save so later loads use the binary file
+		GameState state = parseLegacy(new String(Files.readAllBytes(legacy), StandardCharsets.UTF_8));
+		write(file, state);
+		return state;
+	}
+
+	/**
+	 * Writes a game to a file. The file is replaced in one step so a failed save
+	 * never leaves half a file behind.
+	 *
+	 * @param file the file to write
+	 * @param state the game to save
+	 * @throws IOException if the file can not be written
+	 */
+	public static void write(Path file, GameState state) throws IOException {
+		Path absolute = file.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		Files.write(temp, encode(state));
+		Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Reads a game from a file with a single bounded read.
+	 *
+	 * @param file the file to read
+	 * @return the saved game
+	 * @throws IOException if the file can not be read or is corrupt
+	 */
+	public static GameState read(Path file) throws IOException {
+		if (Files.size(file) > MAX_SIZE) {
+			throw new IOException("Save file is too large: " + file);
+		}
+		return decode(Files.readAllBytes(file));
+	}
+
+	/**
+	 * Reads what a save holds from its header, without reading the items or cooldowns.
+	 * Saves from before the header was added are read in full instead.
+	 *
+	 * @param file the file to read
+	 * @return the save's header
+	 * @throws IOException if the file can not be read or is not a valid save
+	 */
+	public static Header readHeader(Path file) throws IOException {
+		byte[] data;
+		try (InputStream in = Files.newInputStream(file)) {
+			data = in.readNBytes(HEADER_SIZE);
+		}
+		if (data.length >= 5 && ByteBuffer.wrap(data).getInt() == MAGIC && data[4] >= 1 && data[4] < 4) {
+			return Header.of(read(file));
+		}
+		return decodeHeader(data);
+	}
+
+	/**
+	 * Decodes the header at the start of a save.
+	 *
+	 * @param data at least the first {@link #HEADER_SIZE} bytes of the save
+	 * @return the save's header
+	 * @throws IOException if the data does not start with a valid header
+	 */
+	public static Header decodeHeader(byte[] data) throws IOException {
+		if (data.length < HEADER_SIZE) {
+			throw new IOException("Save file is too short");
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		if (buffer.getInt() != MAGIC) {
+			throw new IOException("Not a save file");
+		}
+		int version = buffer.get();
+		if (version < 4 || version > VERSION) {
+			throw new IOException("Save version " + version + " has no header");
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, HEADER_BODY);
+		if ((int) crc.getValue() != buffer.getInt(HEADER_BODY)) {
+			throw new IOException("Save file is corrupt");
+		}
+
+		int score = buffer.getInt();
+		int happiness = buffer.get();
+		int health = buffer.get();
+		int sleep = buffer.get();
+		int hunger = buffer.get();
+		int petNumber = buffer.get();
+		long savedAtMillis = buffer.getLong();
+		int itemTotal = buffer.getShort() & 0xFFFF;
+		return new Header(score, happiness, health, sleep, hunger, petNumber, savedAtMillis, itemTotal);
+	}
+
+	/**
+	 * Encodes a game in the binary save format.
+	 *
+	 * @param state the game to encode
+	 * @return the encoded bytes
+	 */
+	public static byte[] encode(GameState state) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+		writeInt(out, MAGIC);
+		out.write(VERSION);
+		writeInt(out, state.getScore());
+		out.write(state.getHappiness());
+		out.write(state.getHealth());
+		out.write(state.getSleep());
+		out.write(state.getHunger());
+		out.write(state.getPetNumber());
+		writeLong(out, state.getSavedAtMillis());
+		out.write(itemTotal(state) >>> 8);
+		out.write(itemTotal(state));
+
+		CRC32 headerCrc = new CRC32();
+		headerCrc.update(out.toByteArray());
+		writeInt(out, (int) headerCrc.getValue());
+
+		writeVarint(out, state.getInventory().size());
+		for (GameState.ItemStack item : state.getInventory()) {
+			writeString(out, item.getName());
+			out.write("gift".equals(item.getType()) ? TYPE_GIFT : TYPE_FOOD);
+			writeString(out, item.getEffect());
+			writeVarint(out, item.getQuantity());
+		}
+
+		long[] cooldowns = state.getCooldownMillis();
+		writeVarint(out, cooldowns.length);
+		for (long millis : cooldowns) {
+			writeVarint(out, (int) Math.min(Integer.MAX_VALUE, Math.max(0, millis)));
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out.toByteArray());
+		writeInt(out, (int) crc.getValue());
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decodes a game from the binary save format.
+	 *
+	 * @param data the encoded bytes
+	 * @return the saved game
+	 * @throws IOException if the data is not a valid save
+	 */
+	public static GameState decode(byte[] data) throws IOException {
+		if (data.length < 4 + 1 + 4 + 5 + 1 + 4) {
+			throw new IOException("Save file is too short");
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		if (buffer.getInt() != MAGIC) {
+			throw new IOException("Not a save file");
+		}
+
+		int version = buffer.get();
+		if (version < 1 || version > VERSION) {
+			throw new IOException("Unsupported save version " + version);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(data, 0, data.length - 4);
+		if ((int) crc.getValue() != ByteBuffer.wrap(data, data.length - 4, 4).getInt()) {
+			throw new IOException("Save file is corrupt");
+		}
+
+		try {
+			GameState state = new GameState();
+			state.setScore(buffer.getInt());
+			state.setHappiness(buffer.get());
+			state.setHealth(buffer.get());
+			state.setSleep(buffer.get());
+			state.setHunger(buffer.get());
+			state.setPetNumber(buffer.get());
+
+			//The rest of the header is already covered by the checksum of the whole file
+			if (version >= 4) {
+				state.setSavedAtMillis(buffer.getLong());
+				buffer.position(HEADER_SIZE);
+			}
+
+			int itemCount = readVarint(buffer);
+			List<GameState.ItemStack> inventory = new ArrayList<>(Math.min(itemCount, 256));
+			for (int i = 0; i < itemCount; i++) {
+				String name = readString(buffer);
+				String type = (buffer.get() == TYPE_GIFT) ? "gift" : "food";
+				String effect = readString(buffer);
+				inventory.add(new GameState.ItemStack(name, type, effect, readVarint(buffer)));
+			}
+			state.setInventory(inventory);
+
+			//Version 1 saves have no cooldowns, so every action is ready
+			if (version >= 2) {
+				int cooldownCount = readVarint(buffer);
+				long[] cooldowns = new long[Math.min(cooldownCount, PetAction.values().length)];
+				for (int i = 0; i < cooldownCount; i++) {
+					int millis = readVarint(buffer);
+					if (i < cooldowns.length) {
+						cooldowns[i] = millis;
+					}
+				}
+				state.setCooldownMillis(cooldowns);
+			}
+
+			//Older saves have no save time, so no time has passed since them
+			if (version == 3) {
+				state.setSavedAtMillis(buffer.getLong());
+			}
+			return state;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Save file is corrupt", e);
+		}
+	}
+
+	/**
+	 * Parses a save written by older versions of the game: six lines of stats
+	 * followed by one "name,type,effect" line per item.
+	 *
+	 * @param text contents of the old save file
+	 * @return the saved game, with repeated item lines merged into one stack
+	 * @throws IOException if the text is not a valid old save
+	 */
+	public static GameState parseLegacy(String text) throws IOException {
+		String[] lines = text.split("\n");
+		if (lines.length < 6) {
+			throw new IOException("Save file is missing stats");
+		}
+
+		GameState state = new GameState();
+		try {
+			state.setScore(Integer.parseInt(lines[0].trim()));
+			state.setHappiness(Integer.parseInt(lines[1].trim()));
+			state.setHealth(Integer.parseInt(lines[2].trim()));
+			state.setSleep(Integer.parseInt(lines[3].trim()));
+			state.setHunger(Integer.parseInt(lines[4].trim()));
+			state.setPetNumber(Integer.parseInt(lines[5].trim()));
+		} catch (NumberFormatException e) {
+			throw new IOException("Save file has invalid stats", e);
+		}
+
+		//Old saves wrote one line per item, so count repeats as quantity
+		Map<String, String[]> items = new LinkedHashMap<>();
+		Map<String, Integer> quantities = new LinkedHashMap<>();
+		for (int i = 6; i < lines.length; i++) {
+			String[] parts = lines[i].trim().split(",");
+			if (parts.length < 3) {
+				continue;
+			}
+			items.putIfAbsent(parts[0], parts);
+			quantities.merge(parts[0], 1, Integer::sum);
+		}
+
+		List<GameState.ItemStack> inventory = new ArrayList<>();
+		for (Map.Entry<String, String[]> item : items.entrySet()) {
+			String[] parts = item.getValue();
+			inventory.add(new GameState.ItemStack(parts[0], parts[1], parts[2], quantities.get(item.getKey())));
+		}
+		state.setInventory(inventory);
+		return state;
+	}
+
+	private static int itemTotal(GameState state) {
+		long total = 0;
+		for (GameState.ItemStack item : state.getInventory()) {
+			total += Math.max(0, item.getQuantity());
+		}
+		return (int) Math.min(MAX_ITEM_TOTAL, total);
+	}
+
+	private static boolean isNonEmpty(Path file) {
+		try {
+			return Files.isRegularFile(file) && Files.size(file) > 0;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int value) {
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	private static void writeLong(ByteArrayOutputStream out, long value) {
+		writeInt(out, (int) (value >>> 32));
+		writeInt(out, (int) value);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarint(ByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Varint is too long");
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = readVarint(buffer);
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("String is longer than the file");
+		}
+		String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+}
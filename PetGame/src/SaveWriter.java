@@ -0,0 +1,196 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Writes save files and profiles on a background thread so the Event Dispatch Thread never waits on the disk.
+ * <br><br>
+ * The caller takes a {@link GameState} snapshot on the EDT and hands it over. If the same file or profile
+ * is saved again before the earlier write has started, only the latest snapshot is written and every
+ * caller is told the result. Completion callbacks always run on the EDT.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		SaveWriter.get().save("Maya", gui.toGameState(), error -> {
+ * 			if (error == null) JOptionPane.showMessageDialog(null, "Game Saved");
+ * 		});
+ * }
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public final class SaveWriter {
+	private static final SaveWriter INSTANCE = new SaveWriter();
+
+	/** How long a closing game waits for queued saves to finish */
+	private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+	private final ExecutorService executor;
+
+	/** Saves waiting to be written, by file or profile name. Guarded by this. */
+	private final Map<Object, PendingSave> pending = new HashMap<>();
+
+	private SaveWriter() {
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "save-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		//Let queued saves finish when the window closes the program
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "save-writer-shutdown"));
+	}
+
+	/**
+	 * Getter for the shared save writer.
+	 *
+	 * @return the save writer
+	 */
+	public static SaveWriter get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Queues a snapshot to be written to a file.
+	 *
+	 * @param file the save file to write
+	 * @param snapshot the game to save; must not be changed after this call
+	 * @param onDone called on the EDT with null on success or the error that stopped the save, may be null
+	 */
+	public void save(Path file, GameState snapshot, Consumer<IOException> onDone) {
+		queue(file, state -> {
+			SaveFile.write(file, state);
+			return null;
+		}, snapshot, ignoreProfile(onDone));
+	}
+
+	/**
+	 * Queues a snapshot to be saved to a profile in the {@link ProfileStore}.
+	 *
+	 * @param profile the profile's name
+	 * @param snapshot the game to save; must not be changed after this call
+	 * @param onDone called on the EDT with null on success or the error that stopped the save, may be null
+	 */
+	public void save(String profile, GameState snapshot, Consumer<IOException> onDone) {
+		saveProfile(profile, snapshot, ignoreProfile(onDone));
+	}
+
+	/**
+	 * Queues a snapshot to be saved to a profile in the {@link ProfileStore}, reporting the saved profile
+	 * so the caller can use its number without going to the store on the EDT.
+	 *
+	 * @param profile the profile's name
+	 * @param snapshot the game to save; must not be changed after this call
+	 * @param onDone called on the EDT with the saved profile and null, or null and the error that stopped the save;
+	 *        may be null
+	 */
+	public void saveProfile(String profile, GameState snapshot, BiConsumer<ProfileStore.Profile, IOException> onDone) {
+		queue(profile, state -> ProfileStore.get().save(profile, state), snapshot, onDone);
+	}
+
+	private static BiConsumer<ProfileStore.Profile, IOException> ignoreProfile(Consumer<IOException> onDone) {
+		return (onDone == null) ? null : (profile, error) -> onDone.accept(error);
+	}
+
+	private void queue(Object key, Target target, GameState snapshot, BiConsumer<ProfileStore.Profile, IOException> onDone) {
+		synchronized (this) {
+			PendingSave save = pending.get(key);
+			if (save != null) {
+				//A write for this file is still queued, so replace what it will write
+				save.snapshot = snapshot;
+				save.callbacks.add(onDone);
+				return;
+			}
+
+			save = new PendingSave(target, snapshot);
+			save.callbacks.add(onDone);
+			pending.put(key, save);
+		}
+
+		executor.execute(() -> write(key));
+	}
+
+	/**
+	 * Waits until every queued save has been written. Used before reading a save file back.
+	 */
+	public void awaitIdle() {
+		try {
+			executor.submit(() -> { }).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Writes the latest snapshot queued for a file or profile and reports the result.
+	 *
+	 * @param key the save file or profile name
+	 */
+	private void write(Object key) {
+		PendingSave save;
+		synchronized (this) {
+			save = pending.remove(key);
+		}
+		if (save == null) {
+			return;
+		}
+
+		ProfileStore.Profile saved = null;
+		IOException error = null;
+		try {
+			saved = save.target.write(save.snapshot);
+		} catch (IOException e) {
+			e.printStackTrace();
+			error = e;
+		}
+
+		ProfileStore.Profile profile = saved;
+		IOException result = error;
+		for (BiConsumer<ProfileStore.Profile, IOException> callback : save.callbacks) {
+			if (callback != null) {
+				SwingUtilities.invokeLater(() -> callback.accept(profile, result));
+			}
+		}
+	}
+
+	/**
+	 * Where a snapshot is written to. Returns the saved profile, or null for a save file.
+	 */
+	private interface Target {
+		ProfileStore.Profile write(GameState state) throws IOException;
+	}
+
+	/**
+	 * A snapshot waiting to be written and everyone waiting on it.
+	 */
+	private static final class PendingSave {
+		private final Target target;
+		private GameState snapshot;
+		private final List<BiConsumer<ProfileStore.Profile, IOException>> callbacks = new ArrayList<>();
+
+		private PendingSave(Target target, GameState snapshot) {
+			this.target = target;
+			this.snapshot = snapshot;
+		}
+	}
+}
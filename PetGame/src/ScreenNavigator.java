@@ -0,0 +1,179 @@
+import java.awt.CardLayout;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+
+/**
+ * One long-lived window that shows the menu, tutorial, action and reward screens as cards.
+ * <br><br>
+ * Each kind of screen is built the first time it is needed and kept, so moving between screens
+ * flips a card in a window that is already on screen instead of building and realizing a new
+ * frame. Screens are opened through their own static {@code open} method, which puts in the state
+ * for this visit, such as the pet, before the card is shown. Screens that need to tidy up when they
+ * are left, like unbinding cooldown buttons, implement {@link Screen}.<br><br>
+ *
+ * Menu and tutorial screens fill the screen; action and reward screens ask for their own window
+ * size, so they sit over the main game screen like before. Closing the window exits the game from a
+ * full screen card and just hides it from a smaller one. Everything happens on the Event Dispatch
+ * Thread.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		ScreenNavigator navigator = ScreenNavigator.get();
+ * 		firstTutorialScreen screen = navigator.screen(firstTutorialScreen.class, firstTutorialScreen::new);
+ * 		navigator.show(screen, "Tutorial", null);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//the window fills the screen with the first tutorial screen</code><br>
+ *
+ * @version 1.0.0
+ */
+public class ScreenNavigator {
+	/**
+	 * A screen that wants to know when it stops being shown.
+	 */
+	public interface Screen {
+		/**
+		 * Called when another screen is shown in its place or the window is hidden.
+		 */
+		void screenHidden();
+	}
+
+	private static ScreenNavigator shared;
+
+	private final CardLayout cards = new CardLayout();
+	private final JPanel deck = new JPanel(cards);
+	private final Map<Class<?>, JComponent> screens = new HashMap<>();
+	private JFrame window;
+	private JComponent current;
+	private Dimension currentSize;
+
+	/**
+	 * Getter for the game's navigator. Only use it on the Event Dispatch Thread.
+	 *
+	 * @return the shared navigator
+	 */
+	public static ScreenNavigator get() {
+		if (shared == null) {
+			shared = new ScreenNavigator();
+		}
+		return shared;
+	}
+
+	/**
+	 * Getter for the one screen of a kind, building it and adding it as a card the first time.
+	 *
+	 * @param type the screen's class
+	 * @param factory builds the screen
+	 * @param <T> the screen's class
+	 * @return the screen
+	 */
+	public <T extends JComponent> T screen(Class<T> type, Supplier<T> factory) {
+		JComponent screen = screens.get(type);
+		if (screen == null) {
+			screen = factory.get();
+			screens.put(type, screen);
+			deck.add(screen, type.getName());
+		}
+		return type.cast(screen);
+	}
+
+	/**
+	 * Flips the window to a screen built by {@link #screen(Class, Supplier)}, showing the window if it is hidden.
+	 *
+	 * @param screen the screen
+	 * @param title the window's title
+	 * @param size the window's size, or null to fill the screen
+	 */
+	public void show(JComponent screen, String title, Dimension size) {
+		if (current != screen) {
+			leave();
+		}
+		current = screen;
+		cards.show(deck, screen.getClass().getName());
+
+		JFrame frame = window();
+		frame.setTitle(title);
+		if (size == null) {
+			frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+		} else if (!size.equals(currentSize) || !frame.isVisible()) {
+			frame.setExtendedState(JFrame.NORMAL);
+			frame.setSize(size);
+			frame.setLocationRelativeTo(null);
+		}
+		currentSize = size;
+
+		if (!frame.isVisible()) {
+			frame.setVisible(true);
+		}
+		frame.toFront();
+	}
+
+	/**
+	 * Hides the window, for example while the main game screen is open. Its screens are kept for next time.
+	 */
+	public void hide() {
+		leave();
+		current = null;
+		if (window != null) {
+			window.setVisible(false);
+		}
+	}
+
+	/**
+	 * Getter for the screen being shown.
+	 *
+	 * @return the screen, or null if the window is hidden
+	 */
+	public JComponent getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Getter for how many screens have been built.
+	 *
+	 * @return the number of cards
+	 */
+	public int getScreenCount() {
+		return screens.size();
+	}
+
+	private void leave() {
+		if (current instanceof Screen) {
+			((Screen) current).screenHidden();
+		}
+	}
+
+	/**
+	 * Creates the window the first time a screen is shown, so screens can be built without a display.
+	 */
+	private JFrame window() {
+		if (window == null) {
+			window = new JFrame();
+			window.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+			window.setSize(600, 400);
+			window.setLocationRelativeTo(null);
+			window.setContentPane(deck);
+			window.addWindowListener(new WindowAdapter() {
+				@Override
+				public void windowClosing(WindowEvent e) {
+					//Smaller screens are windows over the game, which keeps running
+					if (currentSize == null) {
+						System.exit(0);
+					} else {
+						hide();
+					}
+				}
+			});
+		}
+		return window;
+	}
+}
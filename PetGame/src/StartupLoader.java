@@ -0,0 +1,255 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Reads the game's files in the background while the first screen opens.
+ * <br><br>
+ * The configuration file, every image under {@code img/} and the {@link ProfileStore}'s index do not
+ * depend on each other, so they are loaded at the same time on a small pool of daemon threads instead of
+ * one by one on the Event Dispatch Thread the first time a screen needs them. Screens keep asking
+ * {@link GameConfig}, {@link ImageAssets} and the store as before; anything still loading is waited
+ * for.<br><br>
+ *
+ * The loader keeps a timeline of when each load ran, when the home screen first painted and when the
+ * game became interactive, meaning the first frame is up and every load has finished. Pass
+ * {@code --startup-report} to {@link Main} to print it.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		StartupLoader loader = StartupLoader.get();
+ * 		loader.start();
+ * 		loader.whenInteractive().thenRun(() -> System.out.println(loader.report()));
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b>
+ * <pre>
+ * Startup timeline (ms since the JVM started)
+ *     125.8 -     131.2  profiles
+ *     125.9 -     152.8  config
+ *     132.8 -     264.3  images (38)
+ *     149.3              first frame
+ *     267.2              interactive
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public class StartupLoader {
+	/** Folder the images are read from */
+	public static final String IMAGE_DIR = "img";
+
+	private static final String FIRST_FRAME = "first frame";
+	private static final String INTERACTIVE = "interactive";
+
+	/**
+	 * When a load, or a moment like the first frame, happened.
+	 */
+	private static class Span {
+		private final String name;
+		private final int tasks;
+		private long startNanos = Long.MAX_VALUE;
+		private long endNanos = Long.MIN_VALUE;
+
+		Span(String name, int tasks) {
+			this.name = name;
+			this.tasks = tasks;
+		}
+	}
+
+	private final ExecutorService pool;
+	private final LongSupplier clock;
+	private final long originNanos;
+	//Milliseconds between the JVM starting and the loader being made
+	private final long startedAfterMillis;
+
+	private final List<Span> spans = new ArrayList<>();
+	private final CompletableFuture<Void> firstFrame = new CompletableFuture<>();
+	private final CompletableFuture<Void> interactive = new CompletableFuture<>();
+	private boolean started;
+
+	/**
+	 * Holder so the threads are only made when the game starts.
+	 */
+	private static class Holder {
+		static final StartupLoader INSTANCE = new StartupLoader(
+				Executors.newFixedThreadPool(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())), runnable -> {
+					Thread thread = new Thread(runnable, "startup-loader");
+					thread.setDaemon(true);
+					return thread;
+				}), System::nanoTime, ManagementFactory.getRuntimeMXBean().getUptime());
+	}
+
+	/**
+	 * Getter for the game's loader.
+	 *
+	 * @return the shared loader
+	 */
+	public static StartupLoader get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Creates a loader.
+	 *
+	 * @param pool runs the loads
+	 * @param clock source of monotonic time in nanoseconds
+	 * @param startedAfterMillis how long after the JVM started the loader is made, for the report
+	 */
+	StartupLoader(ExecutorService pool, LongSupplier clock, long startedAfterMillis) {
+		this.pool = pool;
+		this.clock = clock;
+		this.originNanos = clock.getAsLong();
+		this.startedAfterMillis = startedAfterMillis;
+	}
+
+	/**
+	 * Starts loading the configuration, images and profiles. Starting again does nothing.
+	 */
+	public void start() {
+		//The profile index is small and Load waits for it, so it goes ahead of the images in the queue
+		Map<String, List<Runnable>> loads = new LinkedHashMap<>();
+		loads.put("profiles", List.of(() -> {
+			try {
+				ProfileStore.get().open();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}));
+		loads.put("config", List.of(GameConfig::get));
+
+		List<Runnable> images = new ArrayList<>();
+		String[] files = new File(IMAGE_DIR).list();
+		if (files != null) {
+			Arrays.sort(files);
+			for (String file : files) {
+				String path = IMAGE_DIR + "/" + file;
+				images.add(() -> ImageAssets.preload(path));
+			}
+		}
+		loads.put("images", images);
+
+		start(loads);
+	}
+
+	/**
+	 * Starts the loads, queueing their tasks in order.
+	 *
+	 * @param loads names of the loads, each with the tasks that make it up
+	 */
+	synchronized void start(Map<String, List<Runnable>> loads) {
+		if (started) {
+			return;
+		}
+		started = true;
+
+		List<CompletableFuture<Void>> all = new ArrayList<>();
+		for (Map.Entry<String, List<Runnable>> load : loads.entrySet()) {
+			all.add(load(load.getKey(), load.getValue()));
+		}
+
+		CompletableFuture<Void> loaded = CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0]));
+		loaded.whenComplete((result, error) -> pool.shutdown());
+		CompletableFuture.allOf(loaded, firstFrame).thenRun(() -> {
+			mark(INTERACTIVE);
+			interactive.complete(null);
+		});
+	}
+
+	/**
+	 * Runs the tasks of one load at the same time, timing the load from the first task starting to the last finishing.
+	 * A task that fails is reported and the rest carry on; whatever it was loading is loaded again when it is used.
+	 */
+	private CompletableFuture<Void> load(String name, List<Runnable> tasks) {
+		Span span = new Span(name, tasks.size());
+		synchronized (spans) {
+			spans.add(span);
+		}
+
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+		for (int i = 0; i < futures.length; i++) {
+			Runnable task = tasks.get(i);
+			futures[i] = CompletableFuture.runAsync(() -> {
+				long start = clock.getAsLong();
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					System.err.println("Could not load " + name + " at startup: " + e.getMessage());
+				} finally {
+					long end = clock.getAsLong();
+					synchronized (spans) {
+						span.startNanos = Math.min(span.startNanos, start);
+						span.endNanos = Math.max(span.endNanos, end);
+					}
+				}
+			}, pool);
+		}
+		return CompletableFuture.allOf(futures);
+	}
+
+	/**
+	 * Records that the home screen has painted for the first time. Later calls do nothing.
+	 */
+	public void firstFrame() {
+		if (!firstFrame.isDone()) {
+			mark(FIRST_FRAME);
+			firstFrame.complete(null);
+		}
+	}
+
+	/**
+	 * Getter for the moment the game becomes interactive.
+	 *
+	 * @return a future completed once the first frame is up and every load has finished
+	 */
+	public CompletableFuture<Void> whenInteractive() {
+		return interactive;
+	}
+
+	/**
+	 * Makes the startup timeline, one line a load or moment, in milliseconds since the JVM started.
+	 *
+	 * @return the report
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder("Startup timeline (ms since the JVM started)\n");
+		synchronized (spans) {
+			for (Span span : spans) {
+				String name = span.tasks > 1 ? span.name + " (" + span.tasks + ")" : span.name;
+				if (span.startNanos > span.endNanos) {
+					report.append(String.format("%9s   %9s  %s%n", "-", "", name));
+				} else if (span.tasks == 0) {
+					report.append(String.format("%9.1f   %9s  %s%n", millis(span.startNanos), "", name));
+				} else {
+					report.append(String.format("%9.1f - %9.1f  %s%n", millis(span.startNanos), millis(span.endNanos), name));
+				}
+			}
+		}
+		return report.toString();
+	}
+
+	private void mark(String name) {
+		long now = clock.getAsLong();
+		Span span = new Span(name, 0);
+		span.startNanos = now;
+		span.endNanos = now;
+		synchronized (spans) {
+			spans.add(span);
+		}
+	}
+
+	private double millis(long nanos) {
+		return startedAfterMillis + (nanos - originNanos) / 1_000_000.0;
+	}
+}
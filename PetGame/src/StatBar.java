@@ -0,0 +1,160 @@
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import javax.swing.JComponent;
+
+/**
+ * Bar showing one of the pet's stats from 0 to 100, with an outline.
+ * <br><br>
+ * A new value slides in over {@link #TRANSITION_MILLIS} on the shared {@link AnimationClock}. Each
+ * frame only the columns between the old and new end of the bar are repainted, so a change to one stat
+ * repaints a few pixels instead of the whole screen. The bar is painted inside Swing's double buffered
+ * component tree, so it does not flicker.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		StatBar happiness = new StatBar(Color.YELLOW, 70);
+ * 		happiness.setBounds(248, 588, 204, 44);
+ * 		happiness.setValue(85);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//the yellow bar grows from 70 to 85 over a quarter of a second</code><br>
+ *
+ * @version 1.0.0
+ */
+public class StatBar extends JComponent implements AnimationClock.Animation {
+	/** Highest value a stat can have */
+	public static final int MAX_VALUE = 100;
+	/** How long a change takes to slide in */
+	public static final int TRANSITION_MILLIS = 250;
+
+	private static final int BORDER = 2;
+	private static final long TRANSITION_NANOS = TRANSITION_MILLIS * 1_000_000L;
+
+	private final Color color;
+	private final AnimationClock clock;
+
+	private int value;
+	//Value the bar is drawn at, between the old and new value while it slides
+	private double shownValue;
+	private double fromValue;
+	private long startNanos;
+	//Width of the coloured part as it was last painted
+	private int paintedWidth = -1;
+
+	/**
+	 * Creates a bar on the shared animation clock.
+	 *
+	 * @param color the colour of the filled part
+	 * @param value the starting value
+	 */
+	public StatBar(Color color, int value) {
+		this(color, value, AnimationClock.get());
+	}
+
+	/**
+	 * Creates a bar on an animation clock.
+	 *
+	 * @param color the colour of the filled part
+	 * @param value the starting value
+	 * @param clock the clock that slides in new values
+	 */
+	public StatBar(Color color, int value, AnimationClock clock) {
+		this.color = color;
+		this.clock = clock;
+		this.value = clamp(value);
+		this.shownValue = this.value;
+		setOpaque(true);
+		setPreferredSize(new Dimension(MAX_VALUE * 2 + BORDER * 2, 44));
+	}
+
+	/**
+	 * Getter for the value the bar is moving to.
+	 *
+	 * @return the value
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Getter for the value the bar is drawn at right now.
+	 *
+	 * @return the value, between the old and new value while a change slides in
+	 */
+	public double getShownValue() {
+		return shownValue;
+	}
+
+	/**
+	 * Slides the bar to a new value.
+	 *
+	 * @param newValue the value, kept between 0 and {@link #MAX_VALUE}
+	 */
+	public void setValue(int newValue) {
+		newValue = clamp(newValue);
+		if (newValue == value) {
+			return;
+		}
+
+		value = newValue;
+		fromValue = shownValue;
+		startNanos = clock.now();
+		clock.start(this);
+	}
+
+	/**
+	 * Moves the bar on to a time and repaints the part that changed.
+	 *
+	 * @param nowNanos the clock's time
+	 * @return true until the bar reaches its value
+	 */
+	@Override
+	public boolean step(long nowNanos) {
+		double progress = Math.min(1.0, Math.max(0.0, (nowNanos - startNanos) / (double) TRANSITION_NANOS));
+		//Ease out so the bar slows down as it arrives
+		double eased = 1 - Math.pow(1 - progress, 3);
+		shownValue = fromValue + (value - fromValue) * eased;
+		repaintChange();
+		return progress < 1.0;
+	}
+
+	/**
+	 * Repaints only the columns between where the coloured part ended and where it ends now.
+	 */
+	private void repaintChange() {
+		int width = fillWidth();
+		if (paintedWidth < 0) {
+			repaint();
+		} else if (width != paintedWidth) {
+			repaint(BORDER + Math.min(width, paintedWidth), BORDER, Math.abs(width - paintedWidth), getHeight() - BORDER * 2);
+		}
+		paintedWidth = width;
+	}
+
+	private int fillWidth() {
+		return (int) Math.round((getWidth() - BORDER * 2) * shownValue / MAX_VALUE);
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		int innerWidth = getWidth() - BORDER * 2;
+		int innerHeight = getHeight() - BORDER * 2;
+		int width = fillWidth();
+
+		//Outline, then the empty part, then the filled part
+		g.setColor(Color.BLACK);
+		g.fillRect(0, 0, getWidth(), getHeight());
+		g.setColor(Color.WHITE);
+		g.fillRect(BORDER + width, BORDER, innerWidth - width, innerHeight);
+		g.setColor(color);
+		g.fillRect(BORDER, BORDER, width, innerHeight);
+		paintedWidth = width;
+	}
+
+	private static int clamp(int value) {
+		return Math.max(0, Math.min(MAX_VALUE, value));
+	}
+}
@@ -0,0 +1,228 @@
+/**
+ * Rules for how the pet's stats run down over time while the game is open.
+ * <br><br>
+ * Time is counted in whole one second ticks. Hunger, sleep and happiness each lose one point every
+ * so many ticks, and while any of them is at 0 the pet loses the same health penalty the action
+ * screens use every {@code healthPenalty} ticks. Like {@link PetSimulationEngine} this class holds no
+ * game state and does not allocate, so {@link GameplayGUI} can run it from a background tick.<br><br>
+ *
+ * The rates come from the {@code statDecay} block of {@code gameSession} in {@code json/jsonFile.json},
+ * in seconds per point. A rate of 0, or a missing block, turns that decay off.<br><br>
+ *
+ * {@link #fastForward(long, long, int[])} gives the same result as ticking through any number of seconds
+ * one at a time, but works it out directly, so catching up on a save that has been closed for a week
+ * takes no longer than one closed for a minute.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		int[] stats = {70, 100, 70, 70};
+ * 		StatDecay decay = StatDecay.fromConfig(GameConfig.get());
+ * 		boolean changed = decay.tick(30, stats);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//with the file's rates hunger drops to 69 and changed is true</code><br>
+ *
+ * @version 1.0.0
+ */
+public class StatDecay {
+	/** Length of one tick in milliseconds */
+	public static final long TICK_MILLIS = 1000;
+
+	//Ticks per point lost, by stat index, 0 for stats that do not decay
+	private final int[] secondsPerPoint;
+	private final int penaltySeconds;
+	private final int penalty;
+
+	/**
+	 * Creates decay rules.
+	 *
+	 * @param secondsPerPoint ticks between each point lost, indexed like a stats array; health is ignored
+	 * @param penaltySeconds ticks between each health penalty while another stat is at 0, or 0 for none
+	 * @param penalty health lost each time
+	 */
+	public StatDecay(int[] secondsPerPoint, int penaltySeconds, int penalty) {
+		if (secondsPerPoint.length != PetSimulationEngine.STAT_COUNT) {
+			throw new IllegalArgumentException("Expected a rate for each of the " + PetSimulationEngine.STAT_COUNT + " stats");
+		}
+
+		this.secondsPerPoint = secondsPerPoint.clone();
+		//Health only goes down through the penalty
+		this.secondsPerPoint[PetSimulationEngine.HEALTH] = 0;
+		for (int seconds : this.secondsPerPoint) {
+			if (seconds < 0) {
+				throw new IllegalArgumentException("Decay rates can not be negative");
+			}
+		}
+		this.penaltySeconds = Math.max(0, penaltySeconds);
+		this.penalty = penalty;
+	}
+
+	/**
+	 * Builds the rules from the configuration, using the default engine's health penalty.
+	 *
+	 * @param config the game configuration
+	 * @return the decay rules
+	 */
+	public static StatDecay fromConfig(GameConfig config) {
+		int[] rates = new int[PetSimulationEngine.STAT_COUNT];
+		for (int stat = 0; stat < rates.length; stat++) {
+			rates[stat] = Math.max(0, config.getDecaySeconds(PetSimulationEngine.statName(stat)));
+		}
+		return new StatDecay(rates, config.getDecaySeconds("healthPenalty"), PetSimulationEngine.getDefault().getZeroStatPenalty());
+	}
+
+	/**
+	 * Checks if nothing ever decays, so there is no need to tick at all.
+	 *
+	 * @return true if every rate and the health penalty are off
+	 */
+	public boolean isIdle() {
+		if (penaltySeconds > 0) {
+			return false;
+		}
+		for (int seconds : secondsPerPoint) {
+			if (seconds > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Runs one tick on the stats in place.
+	 *
+	 * @param tick number of the tick, counting from 1 since the game was opened
+	 * @param stats the pet's stats, changed by this call
+	 * @return true if any stat changed
+	 */
+	public boolean tick(long tick, int[] stats) {
+		boolean changed = false;
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			int seconds = secondsPerPoint[stat];
+			if (seconds > 0 && tick % seconds == 0 && stats[stat] > 0) {
+				stats[stat]--;
+				changed = true;
+			}
+		}
+
+		//Take away health if any of the other stats has run out
+		if (penaltySeconds > 0 && tick % penaltySeconds == 0 && stats[PetSimulationEngine.HEALTH] > 0 && anyStatEmpty(stats)) {
+			stats[PetSimulationEngine.HEALTH] = Math.max(0, stats[PetSimulationEngine.HEALTH] - penalty);
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Works out the stats after many ticks at once, exactly as if {@link #tick(long, int[])} had been
+	 * called for every tick from {@code fromTick + 1} to {@code fromTick + seconds}.
+	 *
+	 * @param fromTick number of the last tick already run, 0 if none
+	 * @param seconds number of ticks to run
+	 * @param stats the pet's stats, changed by this call
+	 */
+	public void fastForward(long fromTick, long seconds, int[] stats) {
+		if (seconds <= 0) {
+			return;
+		}
+		long toTick = fromTick + seconds;
+
+		//First tick on which one of the other stats is at 0, after that tick's decay
+		long firstEmpty = Long.MAX_VALUE;
+		for (int stat = 0; stat < PetSimulationEngine.STAT_COUNT; stat++) {
+			if (stat == PetSimulationEngine.HEALTH) {
+				continue;
+			}
+
+			int value = stats[stat];
+			int rate = secondsPerPoint[stat];
+			if (value <= 0) {
+				firstEmpty = fromTick;
+			} else if (rate > 0) {
+				//A stat loses a point on every tick that is a multiple of its rate
+				long lost = toTick / rate - fromTick / rate;
+				firstEmpty = Math.min(firstEmpty, (fromTick / rate + value) * rate);
+				stats[stat] = (int) Math.max(0, value - lost);
+			}
+		}
+
+		//Health is lost on every penalty tick from then on
+		if (penaltySeconds > 0 && firstEmpty <= toTick) {
+			long from = Math.max(firstEmpty, fromTick + 1);
+			long penalties = toTick / penaltySeconds - (from - 1) / penaltySeconds;
+			long health = stats[PetSimulationEngine.HEALTH] - penalties * penalty;
+			stats[PetSimulationEngine.HEALTH] = (int) Math.max(0, health);
+		}
+	}
+
+	/**
+	 * Catches a loaded game up on the time since it was saved. Stats run down for the whole time,
+	 * and cooldowns count down. Saves without a save time are left as they are.
+	 *
+	 * @param state the loaded game, changed by this call
+	 * @param nowMillis the current time, from {@link System#currentTimeMillis()}
+	 * @return whole seconds caught up on
+	 */
+	public long catchUp(GameState state, long nowMillis) {
+		if (state.getSavedAtMillis() <= 0) {
+			return 0;
+		}
+
+		//The clock can be set back after saving, which must not give time back
+		long elapsedMillis = Math.max(0, nowMillis - state.getSavedAtMillis());
+
+		long[] cooldowns = state.getCooldownMillis();
+		for (int i = 0; i < cooldowns.length; i++) {
+			cooldowns[i] = Math.max(0, cooldowns[i] - elapsedMillis);
+		}
+
+		int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+		stats[PetSimulationEngine.HAPPINESS] = state.getHappiness();
+		stats[PetSimulationEngine.HEALTH] = state.getHealth();
+		stats[PetSimulationEngine.SLEEP] = state.getSleep();
+		stats[PetSimulationEngine.HUNGER] = state.getHunger();
+
+		long seconds = elapsedMillis / TICK_MILLIS;
+		fastForward(0, seconds, stats);
+
+		state.setHappiness(stats[PetSimulationEngine.HAPPINESS]);
+		state.setHealth(stats[PetSimulationEngine.HEALTH]);
+		state.setSleep(stats[PetSimulationEngine.SLEEP]);
+		state.setHunger(stats[PetSimulationEngine.HUNGER]);
+		return seconds;
+	}
+
+	/**
+	 * Getter for the ticks between each point a stat loses.
+	 *
+	 * @param stat index of the stat
+	 * @return the rate, 0 if the stat does not decay
+	 */
+	public int getSecondsPerPoint(int stat) {
+		return secondsPerPoint[stat];
+	}
+
+	/**
+	 * Getter for the ticks between each health penalty while another stat is at 0.
+	 *
+	 * @return the interval, 0 if there is no penalty
+	 */
+	public int getPenaltySeconds() {
+		return penaltySeconds;
+	}
+
+	/**
+	 * Getter for the health lost each penalty.
+	 *
+	 * @return the health penalty
+	 */
+	public int getPenalty() {
+		return penalty;
+	}
+
+	private static boolean anyStatEmpty(int[] stats) {
+		return stats[PetSimulationEngine.HUNGER] <= 0 || stats[PetSimulationEngine.SLEEP] <= 0 || stats[PetSimulationEngine.HAPPINESS] <= 0;
+	}
+}
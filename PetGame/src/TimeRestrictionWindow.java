@@ -3,6 +3,8 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.nio.file.Paths;
 
 public class TimeRestrictionWindow extends JFrame {
     private JComboBox<String> startTimeComboBox;
@@ -85,8 +87,33 @@ public class TimeRestrictionWindow extends JFrame {
     private void confirmTimeRestrictions() {
         String startTime = (String) startTimeComboBox.getSelectedItem();
         String endTime = (String) endTimeComboBox.getSelectedItem();
-        
-        parentScreen.showSavedMessage("Time Restrictions Saved: " + startTime + " - " + endTime);
+        if (startTime.equals(endTime)) {
+            JOptionPane.showMessageDialog(this, "The start and end times must be different.",
+                "Invalid Restriction", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        // Play is blocked every day between the two times, on top of the restrictions in the JSON file;
+        // a restriction set here before is replaced
+        PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder()
+            .addAll(PlaytimeRestrictions.fromConfig(GameConfig.get()))
+            .block(null, startTime, endTime)
+            .build();
+        PlaytimeGuard.get().setRestrictions(restrictions);
+
+        // Saved to a file as well, so closing and opening the game again does not lift it
+        try {
+            PlaytimeRestrictions.saveDaily(Paths.get(PlaytimeRestrictions.DAILY_FILE), startTime, endTime);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "The restriction could not be saved, so it only lasts until the game is closed.",
+                "Save Error", JOptionPane.ERROR_MESSAGE);
+            parentScreen.showSavedMessage("Time Restrictions Set Until The Game Closes: No play from " + startTime + " to " + endTime + " every day");
+            this.dispose();
+            parentScreen.setEnabled(true);
+            return;
+        }
+
+        parentScreen.showSavedMessage("Time Restrictions Saved: No play from " + startTime + " to " + endTime + " every day");
         this.dispose();
         parentScreen.setEnabled(true);
     }
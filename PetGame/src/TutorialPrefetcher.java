@@ -0,0 +1,141 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.swing.SwingUtilities;
+
+/**
+ * Gets the next tutorial screen ready while the current one is being read.
+ * <br><br>
+ * The tutorial only goes one way, from the home screen through {@link firstTutorialScreen} to
+ * {@link lastTutorialScreen}. When a step is shown, a background thread reads what the next step
+ * needs, like the pets in the configuration file, and decodes and scales its images into
+ * {@link ImageAssets}. Once they are ready, the next screen is built on the Event Dispatch Thread and
+ * kept by the {@link ScreenNavigator}, so pressing Next just flips to it. Each step is fetched once;
+ * if its assets fail to load it is left to be built when it is opened, like before.<br><br>
+ *
+ * <b>Example Use:</b>
+ * <pre>
+ * {@code
+ * 		navigator.show(screen, "Tutorial", null);
+ * 		TutorialPrefetcher.get().prefetchAfter(firstTutorialScreen.class);
+ * }
+ * </pre>
+ *
+ * <b>Example Output:</b> <code>//the pet picking screen and the pet pictures are ready before Next is pressed</code><br>
+ *
+ * @version 1.0.0
+ */
+public class TutorialPrefetcher {
+	/**
+	 * One screen of the tutorial.
+	 */
+	static class Step {
+		private final Class<?> screen;
+		private final Runnable assets;
+		private final Runnable build;
+		//Only touched by prefetchAfter, on the Event Dispatch Thread
+		private boolean started;
+
+		/**
+		 * Creates a step.
+		 *
+		 * @param screen the screen's class
+		 * @param assets loads what the screen needs, on the background thread
+		 * @param build builds the screen, on the Event Dispatch Thread
+		 */
+		Step(Class<?> screen, Runnable assets, Runnable build) {
+			this.screen = screen;
+			this.assets = assets;
+			this.build = build;
+		}
+	}
+
+	private static final Runnable NOTHING = () -> { };
+
+	private final List<Step> steps;
+	private final Executor background;
+	private final Executor screen;
+
+	/**
+	 * Holder so the background thread is only started the first time the tutorial is opened.
+	 */
+	private static class Holder {
+		static final TutorialPrefetcher INSTANCE = new TutorialPrefetcher(tutorial(),
+				Executors.newSingleThreadExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "tutorial-prefetch");
+					thread.setDaemon(true);
+					//The screen being read comes first
+					thread.setPriority(Thread.MIN_PRIORITY);
+					return thread;
+				}), SwingUtilities::invokeLater);
+	}
+
+	/**
+	 * Getter for the game's prefetcher. Only use it on the Event Dispatch Thread.
+	 *
+	 * @return the shared prefetcher
+	 */
+	public static TutorialPrefetcher get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Creates a prefetcher.
+	 *
+	 * @param steps the screens in the order they are shown
+	 * @param background runs the loading of assets
+	 * @param screen runs the building of screens and everything else, in order
+	 */
+	TutorialPrefetcher(List<Step> steps, Executor background, Executor screen) {
+		this.steps = new ArrayList<>(steps);
+		this.background = background;
+		this.screen = screen;
+	}
+
+	/**
+	 * The steps of the game's tutorial, starting from the home screen.
+	 */
+	private static List<Step> tutorial() {
+		List<Step> steps = new ArrayList<>();
+		steps.add(new Step(startingScreen.class, NOTHING, NOTHING));
+		steps.add(new Step(firstTutorialScreen.class, NOTHING, firstTutorialScreen::prefetch));
+		steps.add(new Step(secondTutorialPickPet.class, secondTutorialPickPet::loadAssets, secondTutorialPickPet::prefetch));
+		steps.add(new Step(thirdTutorialActions.class, NOTHING, thirdTutorialActions::prefetch));
+		steps.add(new Step(fourthTutorialActions.class, NOTHING, fourthTutorialActions::prefetch));
+		steps.add(new Step(fifthTutorialBars.class, fifthTutorialBars::loadAssets, fifthTutorialBars::prefetch));
+		steps.add(new Step(lastTutorialScreen.class, NOTHING, lastTutorialScreen::prefetch));
+		return steps;
+	}
+
+	/**
+	 * Starts getting the step after a screen ready, if it has not been already.
+	 *
+	 * @param current the class of the screen being shown
+	 */
+	public void prefetchAfter(Class<?> current) {
+		for (int i = 0; i < steps.size() - 1; i++) {
+			if (steps.get(i).screen == current) {
+				prefetch(steps.get(i + 1));
+				return;
+			}
+		}
+	}
+
+	private void prefetch(Step next) {
+		if (next.started) {
+			return;
+		}
+		next.started = true;
+
+		background.execute(() -> {
+			try {
+				next.assets.run();
+			} catch (RuntimeException e) {
+				System.err.println("Could not prefetch " + next.screen.getName() + ": " + e.getMessage());
+				return;
+			}
+			screen.execute(next.build);
+		});
+	}
+}
@@ -16,7 +16,7 @@ import javax.swing.border.LineBorder;
  * <p>The screen showcases an image of the chosen pet in a dining room to give it good visuals and has a cooldown after user had fed the pet
  * 
  * <ul>
- *  <li>"feed button" meant to trigger hunger decrease and a cooldown pops up that does not allow user to exit out if it until timer is up
+ *  <li>"feed button" meant to trigger hunger decrease, then shows the cooldown's time left and stays disabled until it is over
  *  <li>"return to main menu button" meant to return user to main gameplay screen
  * </ul>
  * 
@@ -24,23 +24,35 @@ import javax.swing.border.LineBorder;
  * 
  */
 
-public class feed extends JFrame {
+public class feed extends JPanel implements ScreenNavigator.Screen {
 
   private JButton newBtn, backBtn;
   private GameplayGUI getInfo;
+  private JLabel myImg;
 
   /**
-    * Constructing the feed screen UI.
+    * Showing the Feed screen for a game, building it the first time.
     * @param getInfo references GameplayGUI to get pet stats. 
     *
     */
-  public feed(GameplayGUI getInfo) {
-//creating the GUI for the action buttons to hold the images and the buttons itself
-    super("Feed");
+  public static void open(GameplayGUI getInfo) {
+    ScreenNavigator navigator = ScreenNavigator.get();
+    feed screen = navigator.screen(feed.class, feed::new);
+    // a screen opened again over itself lets go of its old button first
+    screen.screenHidden();
+    screen.getInfo = getInfo;
+    screen.myImg.setIcon(ImageAssets.icon("img/feed" + getInfo.getPetNumber() + ".png"));
+    // the button shows the time left and stays disabled while the pet rests
+    getInfo.getCooldowns().bind(PetAction.FEED, screen.newBtn, "Feed!", true);
+    navigator.show(screen, "Feed", new Dimension(600, 500));
+  }
 
-    setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-    setSize(600, 500);
-    setLocationRelativeTo(null);
+  /**
+    * Constructing the feed screen UI.
+    */
+  private feed() {
+//creating the GUI for the action buttons to hold the images and the buttons itself
+    super(new BorderLayout());
 
     JPanel mainPanel = new JPanel();
     mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
@@ -56,8 +68,8 @@ public class feed extends JFrame {
     JPanel imagePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
     imagePanel.setBackground(new Color(204, 255, 255));
 
-    ImageIcon icon = new ImageIcon("img/feed" + getInfo.getPetNumber() + ".png");
-    JLabel myImg = new JLabel(icon);
+    // the pet's picture is put in each time the screen is opened
+    myImg = new JLabel();
 
     imagePanel.add(myImg);
     mainPanel.add(imagePanel);
@@ -75,11 +87,12 @@ public class feed extends JFrame {
     backBtn.addActionListener(new ActionListener() {
      @Override
      public void actionPerformed(ActionEvent e) {
-     dispose();
      String item = getInfo.getInventory().addFoodRandom();
    // implement the feature to give user randon gifts on the way home
      if (item != "") {
-     new RewardsGUI(item);
+     RewardsGUI.open(item);
+     } else {
+     ScreenNavigator.get().hide();
      }
      }
      });
@@ -89,29 +102,26 @@ public class feed extends JFrame {
     mainPanel.add(buttonPanel);
 
     add(mainPanel);
-    setVisible(true);
   // adding the action and logic to increase or decrease pet stats accrodingly  
     newBtn.addActionListener(e -> {
-      int newSleep = (getInfo.getSleep()-1<=0)?0:getInfo.getSleep()-1;
-      int newHapp = (getInfo.getHapp()+2>100)?100:getInfo.getHapp()+2;
-      int newh = (getInfo.getH()+8>100)?100:getInfo.getH()+8;
-      int newHunger = (getInfo.getHunger()+10>100)?100:getInfo.getHunger()+10;
-    // change pet health if sleep/hunger/happiness is at 0 to give it a realistic feeling and update score
-      if (newHunger <= 0|| newSleep <= 0||newHapp <= 0) {
-        newh = (newh - 10 < 0) ? 0 : newh - 10;
-      }
+    // the engine raises hunger, takes health if a stat ran out and updates the score
+      getInfo.performAction(PetAction.FEED);
 
-      getInfo.updateStats(newHapp, newh, newSleep, newHunger);
-      getInfo.addToScore(20);
-      
-
-      int cooldown = getInfo.getActionCooldown("feed");
-      startCooldownDialog(cooldown);
       getInfo.checkStats();
 
     });
   }
 
+  /**
+    * Letting go of the cooldown button when the screen is left.
+    */
+  @Override
+  public void screenHidden() {
+    if (getInfo != null) {
+      getInfo.getCooldowns().unbind(newBtn);
+    }
+  }
+
   /**
     * creating a stylish button
     *
@@ -144,45 +154,4 @@ public class feed extends JFrame {
 
     return button;
   }
-
-
-
-  /**
- * This private method creates a cooldown window that prevents the user from interacting with the game
- * until the specified cooldown time has been done.
- * 
- * @param cooldown the number of seconds the cooldown has left until user can go back to interacting with the game.
- * 
- */ 
-  private void startCooldownDialog(int cooldown) {
-    //creating cooldown notification message
-      final JDialog dialog = new JDialog(this, "Cooldown in Progress", true);
-      dialog.setSize(350, 150);
-      dialog.setLocationRelativeTo(this);
-      dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
-      dialog.setLayout(new BorderLayout());
-
-      JLabel label = new JLabel("Feeding... please wait " + cooldown + "s", JLabel.CENTER);
-      label.setFont(new Font("SansSerif", Font.BOLD, 14));
-      dialog.add(label, BorderLayout.CENTER);
-    //adding timer to track countdown
-      Timer timer = new Timer(1000, new AbstractAction() {
-          int timeLeft = cooldown;
-          @Override
-          public void actionPerformed(ActionEvent e) {
-              timeLeft--;
-              label.setText("Feeding... please wait " + timeLeft + "s");
-              
-              if (timeLeft <= 0) {
-                  ((Timer)e.getSource()).stop();
-                  dialog.dispose();
-              }
-          }
-      });
-
-      timer.setRepeats(true);
-      timer.start();
-
-      dialog.setVisible(true);
-  }
 }
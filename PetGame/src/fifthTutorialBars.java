@@ -11,36 +11,65 @@ import java.awt.event.MouseEvent;
  *
  * Configuring layout with center panel for pet status overview and bottom panel for navigation
  * transitioning to last screen
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class fifthTutorialBars extends JFrame {
+public class fifthTutorialBars extends JPanel {
      //Variable added by Aryan
 	private int petNumber;
+
+    // storing images to be formatted, and the size they are shown at
+    private static final String[] BAR_IMAGES = {
+        "img/happyBar.jpg",
+        "img/healthBar.jpg",
+        "img/sleepBar.jpg",
+        "img/hungerBar.jpg"
+    };
+    private static final int BAR_WIDTH = 320;
+    private static final int BAR_HEIGHT = 60;
+
+    /**
+     * Showing the pet status tutorial screen for a pet, building it the first time
+     *
+     * @param petNumber the pet picked in the tutorial
+     */
+    public static void open(int petNumber) {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        fifthTutorialBars screen = navigator.screen(fifthTutorialBars.class, fifthTutorialBars::new);
+        screen.petNumber = petNumber;
+        navigator.show(screen, "Pet Status Overview", null);
+        TutorialPrefetcher.get().prefetchAfter(fifthTutorialBars.class);
+    }
+
+    /**
+     * Decoding and scaling the bar pictures, safe to call off the Event Dispatch Thread
+     */
+    static void loadAssets() {
+        for (String image : BAR_IMAGES) {
+            ImageAssets.scaled(image, BAR_WIDTH, BAR_HEIGHT);
+        }
+    }
+
+    /**
+     * Building the screen ahead of time, so opening it later is just a card flip
+     */
+    static void prefetch() {
+        ScreenNavigator.get().screen(fifthTutorialBars.class, fifthTutorialBars::new);
+    }
+
     /**
      * Initializing tutorial screen 5 with layout configuration and navigation
      *
-     * Setting frame title, default close operation, size, extended state, and center location
+     * Setting panel background color
      * Configuring BorderLayout with center panel for displaying pet status images and descriptions
      * Adding bottom panel with back and next buttons for navigation
-     * Displaying frame
-     * 
-     * @param petNumber
-     * 
      */
-    public fifthTutorialBars(int petNumber) {
-        super("Pet Status Overview");
-        
-        this.petNumber = petNumber;
+    private fifthTutorialBars() {
+        super(new BorderLayout(10, 10));
         
         // centering top title, and formatting actions and descriptions using grid layout
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 300);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setLocationRelativeTo(null);
+        setBackground(new Color(204, 255, 255));
 
-        getContentPane().setBackground(new Color(204, 255, 255));
-
-        setLayout(new BorderLayout(10, 10));
-        
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         topPanel.setOpaque(false);
         JLabel welcomeLabel = new JLabel("Pet's Status");
@@ -52,15 +81,6 @@ public class fifthTutorialBars extends JFrame {
         centerPanel.setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
         centerPanel.setBackground(new Color(204, 255, 255)); 
 
-        
-        // storing images to be formatted 
-        String[] barImages = {
-            "img/happyBar.jpg",
-            "img/healthBar.jpg",
-            "img/sleepBar.jpg",
-            "img/hungerBar.jpg"
-        };
-
         // storing descriptions to match the images 
         String[] descriptions = {
             "Shows how happy your pet is",
@@ -70,10 +90,9 @@ public class fifthTutorialBars extends JFrame {
         };
 
         // adjusting the image by going through the array and adjusting the size 
-        for (int i = 0; i < barImages.length; i++) {
-            ImageIcon icon = new ImageIcon(barImages[i]);
-            Image scaled = icon.getImage().getScaledInstance(320, 60, Image.SCALE_SMOOTH);
-            JLabel imgLabel = new JLabel(new ImageIcon(scaled));
+        for (int i = 0; i < BAR_IMAGES.length; i++) {
+            // scaled copies are cached, so reopening this screen does not decode or scale again
+            JLabel imgLabel = new JLabel(ImageAssets.scaled(BAR_IMAGES[i], BAR_WIDTH, BAR_HEIGHT));
             imgLabel.setHorizontalAlignment(SwingConstants.CENTER);
             centerPanel.add(imgLabel);
 
@@ -90,27 +109,17 @@ public class fifthTutorialBars extends JFrame {
 
         // Button to go back to the previous file/window
         JButton backButton = createMainButton("Back");
-        backButton.addActionListener(e -> {
-            new fourthTutorialActions(petNumber);
-            dispose();
-        });
+        backButton.addActionListener(e -> fourthTutorialActions.open(petNumber));
 
 
         // next button to go to the foward file/window
         JButton nextButton = createMainButton("Next >");
-        nextButton.addActionListener(e -> {
-            new lastTutorialScreen(petNumber);
-            dispose();
-        });
+        nextButton.addActionListener(e -> lastTutorialScreen.open(petNumber));
 
         bottomPanel.add(backButton);
         bottomPanel.add(nextButton);
 
         add(bottomPanel, BorderLayout.SOUTH);
-
-
-        // Once a button is pressed to connect to this file, it will open correcly/smoothly 
-        setVisible(true);
     }
 
     /**
@@ -11,26 +11,38 @@ import java.awt.event.MouseEvent;
  * <p>
  * showing welcome message and intro text with a Next button
  * transitioning to second screen
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class firstTutorialScreen extends JFrame {
+public class firstTutorialScreen extends JPanel {
 
     /**
-     * Constructing the tutorial screen GUI window
+     * Showing the first tutorial screen, building it the first time
+     */
+    public static void open() {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        navigator.show(navigator.screen(firstTutorialScreen.class, firstTutorialScreen::new), "Tutorial", null);
+        TutorialPrefetcher.get().prefetchAfter(firstTutorialScreen.class);
+    }
+
+    /**
+     * Building the screen ahead of time, so opening it later is just a card flip
+     */
+    static void prefetch() {
+        ScreenNavigator.get().screen(firstTutorialScreen.class, firstTutorialScreen::new);
+    }
+
+    /**
+     * Constructing the tutorial screen GUI panel
      * <p>
      * layout includes heading, tutorial text block, and a Next button
      */
-    public firstTutorialScreen() {
-
-        // Setting up window/frame, size, color, etc
-        super("Tutorial");
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setSize(600, 400);
-        setLocationRelativeTo(null); 
+    private firstTutorialScreen() {
 
-        getContentPane().setBackground(new Color(204, 255, 255));
+        // Setting up panel, color, etc
+        super(new BorderLayout(10, 10));
 
-        setLayout(new BorderLayout(10, 10));
+        setBackground(new Color(204, 255, 255));
 
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         topPanel.setOpaque(false);
@@ -66,27 +78,18 @@ public class firstTutorialScreen extends JFrame {
 
         //back button to go back a window/file
         JButton backButton = createMainButton("< Back");
-        backButton.addActionListener(e -> {
-            new startingScreen();
-            dispose();
-        });
+        backButton.addActionListener(e -> startingScreen.open());
 
 
         //next button to go foward a window/file
         JButton nextButton = createMainButton("Next >");
-        nextButton.addActionListener(e -> {
-            new secondTutorialPickPet();
-            dispose();
-        });
+        nextButton.addActionListener(e -> secondTutorialPickPet.open());
 
         bottomPanel.add(backButton);
         bottomPanel.add(nextButton);
 
         // adding the buttons to the bottom
         add(bottomPanel, BorderLayout.SOUTH);
-
-        //Once a button is pressed to connect to this file, it will open correcly/smoothly 
-        setVisible(true);
     }
 
     /**
@@ -128,6 +131,6 @@ public class firstTutorialScreen extends JFrame {
      * @param args command-line arguments
      */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(firstTutorialScreen::new);
+        SwingUtilities.invokeLater(firstTutorialScreen::open);
     }
 }
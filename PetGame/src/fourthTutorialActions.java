@@ -12,37 +12,46 @@ import javax.swing.border.LineBorder;
  * Configuring layout with top, center, and bottom panels
  * Integrating action and description grid with navigation buttons
  * transitioning to fifth screen
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class fourthTutorialActions extends JFrame {
+public class fourthTutorialActions extends JPanel {
 
     //Variable added by Aryan
 	private int petNumber;
 	
 	
+    /**
+     * Showing the second action tutorial screen for a pet, building it the first time
+     *
+     * @param petNumber the pet picked in the tutorial
+     */
+    public static void open(int petNumber) {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        fourthTutorialActions screen = navigator.screen(fourthTutorialActions.class, fourthTutorialActions::new);
+        screen.petNumber = petNumber;
+        navigator.show(screen, "Tutorial", null);
+        TutorialPrefetcher.get().prefetchAfter(fourthTutorialActions.class);
+    }
+
+    /**
+     * Building the screen ahead of time, so opening it later is just a card flip
+     */
+    static void prefetch() {
+        ScreenNavigator.get().screen(fourthTutorialActions.class, fourthTutorialActions::new);
+    }
+
     /**
      * Initializing GUI with layout configuration and navigation
      *
-     * Setting frame title, default close operation, size, extended state, and center location
+     * Setting panel background color
      * Configuring BorderLayout with panels for heading, actions and descriptions, and navigation buttons
      * Adding headers, grid of action and description labels, and navigation buttons
-     * Displaying frame
-     * 
-     * @param petNumber
-     * 
      */
-    public fourthTutorialActions(int petNumber) {
-        super("Tutorial");
-        
-        this.petNumber = petNumber;
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 400);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setLocationRelativeTo(null);
-        
-        getContentPane().setBackground(new Color(204, 255, 255));
-
-        setLayout(new BorderLayout(10, 10));
+    private fourthTutorialActions() {
+        super(new BorderLayout(10, 10));
 
+        setBackground(new Color(204, 255, 255));
 
         // centering top title, and formatting actions and descriptions using grid layout
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -95,26 +104,16 @@ public class fourthTutorialActions extends JFrame {
 
         // Button to go back to the previous file/window
         JButton backButton = createMainButton("Back");
-        backButton.addActionListener(e -> {
-            new thirdTutorialActions(petNumber);
-            dispose();
-        });
+        backButton.addActionListener(e -> thirdTutorialActions.open(petNumber));
 
 
         // next button to go to the foward file/window
         JButton nextButton = createMainButton("Next >");
-        nextButton.addActionListener(e -> {
-            new fifthTutorialBars(petNumber);
-            dispose();
-        });
+        nextButton.addActionListener(e -> fifthTutorialBars.open(petNumber));
 
         bottomPanel.add(backButton);
         bottomPanel.add(nextButton);
         add(bottomPanel, BorderLayout.SOUTH);
-
-
-        //Once a button is pressed to connect to this file, it will open correcly/smoothly 
-        setVisible(true);
     }
 
     /**
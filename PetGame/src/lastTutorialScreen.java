@@ -13,36 +13,45 @@ import javax.swing.border.LineBorder;
  * Configuring layout with top, center and bottom panels
  * Integrating instructional text and navigation buttons
  * transitioning to game play screen
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class lastTutorialScreen extends JFrame {
+public class lastTutorialScreen extends JPanel {
 
     //Variable added by Aryan
 	private int petNumber;
+
+    /**
+     * Showing the last tutorial screen for a pet, building it the first time
+     *
+     * @param petNumber the pet picked in the tutorial
+     */
+    public static void open(int petNumber) {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        lastTutorialScreen screen = navigator.screen(lastTutorialScreen.class, lastTutorialScreen::new);
+        screen.petNumber = petNumber;
+        navigator.show(screen, "Tutorial", null);
+        TutorialPrefetcher.get().prefetchAfter(lastTutorialScreen.class);
+    }
+
+    /**
+     * Building the screen ahead of time, so opening it later is just a card flip
+     */
+    static void prefetch() {
+        ScreenNavigator.get().screen(lastTutorialScreen.class, lastTutorialScreen::new);
+    }
+
     /**
      * Initializing tutorial screen 6 with layout configuration and navigation
      *
-     * Setting frame title, default close operation, size, extended state and center location
+     * Setting panel background color
      * Configuring BorderLayout with panels for heading, tutorial text and navigation buttons
      * Adding instructional text and navigation buttons with placeholder action
-     * Displaying frame
-     * 
-     * @param petNumber
-     * 
      */
-    public lastTutorialScreen(int petNumber) {
-        super("Tutorial");
-        
-        this.petNumber = petNumber;
-        
-        
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 400);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setLocationRelativeTo(null);
+    private lastTutorialScreen() {
+        super(new BorderLayout(10, 10));
 
-        getContentPane().setBackground(new Color(204, 255, 255));
-
-        setLayout(new BorderLayout(10, 10));
+        setBackground(new Color(204, 255, 255));
 
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         topPanel.setOpaque(false);
@@ -77,27 +86,20 @@ public class lastTutorialScreen extends JFrame {
 
         //back button
         JButton backButton = createMainButton("Back");
-        backButton.addActionListener(e -> {
-            new fifthTutorialBars(petNumber);
-            dispose();
-        });
+        backButton.addActionListener(e -> fifthTutorialBars.open(petNumber));
 
 
         //next button, but when going to the next page, sending in values for the gameplay
         JButton nextButton = createMainButton("Next >");
         nextButton.addActionListener(e -> {
+            ScreenNavigator.get().hide();
             new GameplayGUI(0, 70, 100, 70, 70, petNumber, null);
-            dispose();
         });
         
 
         bottomPanel.add(backButton);
         bottomPanel.add(nextButton);
         add(bottomPanel, BorderLayout.SOUTH);
-
-
-        // Once a button is pressed to connect to this file, it will open correcly/smoothly 
-        setVisible(true);
     }
 
     /**
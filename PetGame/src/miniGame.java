@@ -22,28 +22,39 @@ import javax.swing.border.LineBorder;
  * @author: Mohammed Bayoumi
  * 
  */
-public class miniGame extends JFrame {
+public class miniGame extends JPanel implements ScreenNavigator.Screen {
   private JButton newBtn, backBtn;
   private GameplayGUI getInfo;
+  private JLabel myImg;
 
- /**
-    * Constructing the feed screen UI.
+  /**
+    * Showing the Mini Game screen for a game, building it the first time.
     * @param getInfo references GameplayGUI to get pet stats. 
     *
     */
-  public miniGame(GameplayGUI getInfo) {
+  public static void open(GameplayGUI getInfo) {
+    ScreenNavigator navigator = ScreenNavigator.get();
+    miniGame screen = navigator.screen(miniGame.class, miniGame::new);
+    // a screen opened again over itself lets go of its old button first
+    screen.screenHidden();
+    screen.getInfo = getInfo;
+    screen.myImg.setIcon(ImageAssets.icon("img/park" + getInfo.getPetNumber() + ".png"));
+    // the button shows the time left and stays disabled while the pet rests
+    getInfo.getCooldowns().bind(PetAction.PLAY, screen.newBtn, "Play!", true);
+    navigator.show(screen, "Mini Game", new Dimension(600, 500));
+  }
+
+  /**
+    * Constructing the feed screen UI.
+    */
+  private miniGame() {
 // creating GUI to hold the action buttons and the image of the selected pet
-    super("Mini Game");
-    setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-    setSize(600, 500);
-    setLocationRelativeTo(null);
+    super(new BorderLayout());
 
     JPanel mainPanel = new JPanel();
     mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
     mainPanel.setBorder(new LineBorder(Color.blue));
     mainPanel.setBackground(new Color(204, 255, 255));
-// retrieving the pet stats
-    this.getInfo = getInfo;
     mainPanel.setBorder(
       BorderFactory.createCompoundBorder(
         new LineBorder(Color.BLACK, 2),
@@ -54,8 +65,8 @@ public class miniGame extends JFrame {
     JPanel imagePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
     imagePanel.setBackground(new Color(204, 255, 255));
 
-    ImageIcon icon = new ImageIcon("img/park" + getInfo.getPetNumber() + ".png");
-    JLabel myImg = new JLabel(icon);
+    // the pet's picture is put in each time the screen is opened
+    myImg = new JLabel();
 
     imagePanel.add(myImg);
     mainPanel.add(imagePanel);
@@ -67,24 +78,9 @@ public class miniGame extends JFrame {
     newBtn = btnFx("Play!");
     newBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
     newBtn.addActionListener(e -> {
-      // Existing logic
-      int newSleep = (getInfo.getSleep()-10<=0)?0:getInfo.getSleep()-10;
-      int newHapp = (getInfo.getHapp()+15>100)?100:getInfo.getHapp()+15;
-      int newh = (getInfo.getH()-10<0)?0:getInfo.getH()-10;
-      int newHunger = (getInfo.getHunger()-10<10)?0:getInfo.getHunger()-10;
-
-      if (newHunger <= 0|| newSleep <= 0||newHapp <= 0) {
-        newh = (newh - 10 < 0) ? 0 : newh - 10;
-      }
-  
-      getInfo.updateStats(newHapp, newh, newSleep, newHunger);
-      getInfo.addToScore(20);
-      
-
-      int cooldown = getInfo.getActionCooldown("play");
+      // playing rules live in PetSimulationEngine
+      getInfo.performAction(PetAction.PLAY);
 
-
-      startCooldownDialog(cooldown);
       getInfo.checkStats();
 
 
@@ -97,11 +93,12 @@ public class miniGame extends JFrame {
     backBtn.addActionListener(new ActionListener() {
      @Override
       public void actionPerformed(ActionEvent e) {
-      dispose();
       String item = getInfo.getInventory().addGiftRandom();
       
       if (item != "") {
-      new RewardsGUI(item);
+      RewardsGUI.open(item);
+      } else {
+      ScreenNavigator.get().hide();
       }
       }
     });
@@ -115,7 +112,16 @@ public class miniGame extends JFrame {
     mainPanel.add(buttonPanel);
 
     add(mainPanel);
-    setVisible(true);
+  }
+
+  /**
+    * Letting go of the cooldown button when the screen is left.
+    */
+  @Override
+  public void screenHidden() {
+    if (getInfo != null) {
+      getInfo.getCooldowns().unbind(newBtn);
+    }
   }
 
   /**
@@ -150,43 +156,4 @@ public class miniGame extends JFrame {
 
     return button;
   }
-
-
- /**
- * This private method creates a cooldown window that prevents the user from interacting with the game
- * until the specified cooldown time has been done.
- * 
- * @param cooldown the number of seconds the cooldown has left until user can go back to interacting with the game.
- * 
- */ 
-  private void startCooldownDialog(int cooldown) {
-      final JDialog dialog = new JDialog(this, "Cooldown in Progress", true);
-      dialog.setSize(350, 150);
-      dialog.setLocationRelativeTo(this);
-      dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
-      dialog.setLayout(new BorderLayout());
-
-      JLabel label = new JLabel("Playing... please wait " + cooldown + "s", JLabel.CENTER);
-      label.setFont(new Font("SansSerif", Font.BOLD, 14));
-      dialog.add(label, BorderLayout.CENTER);
-
-      Timer timer = new Timer(1000, new AbstractAction() {
-          int timeLeft = cooldown;
-          @Override
-          public void actionPerformed(ActionEvent e) {
-              timeLeft--;
-              label.setText("Playing... please wait " + timeLeft + "s");
-             
-              if (timeLeft <= 0) {
-                  ((Timer)e.getSource()).stop();
-                  dialog.dispose();
-              }
-          }
-      });
-
-      timer.setRepeats(true);
-      timer.start();
-
-      dialog.setVisible(true);
-  }
 }
@@ -3,9 +3,6 @@ import javax.swing.border.LineBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 
 /**
  *  @author Maher Rammal
@@ -15,8 +12,10 @@ import java.io.IOException;
  * Configuring layout with top, center, and bottom panels
  * Integrating pet selection panels and back button for navigation
  * transitioning to tutorialScreen3GUI
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class secondTutorialPickPet extends JFrame {
+public class secondTutorialPickPet extends JPanel {
 
     // Adding in fields to store pet names extracted from setupFile.json
     private String petName1;
@@ -28,53 +27,59 @@ public class secondTutorialPickPet extends JFrame {
     private String petDesc2;
     private String petDesc3;
 
+    // pictures of the three pets, in order
+    private static final String[] PET_IMAGES = {"img/pet1.png", "img/pet2.png", "img/pet3.png"};
+
+    /**
+     * Showing the pet picking screen, building it the first time
+     */
+    public static void open() {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        navigator.show(navigator.screen(secondTutorialPickPet.class, secondTutorialPickPet::new), "Virtual Pet Game Tutorial", null);
+        TutorialPrefetcher.get().prefetchAfter(secondTutorialPickPet.class);
+    }
+
+    /**
+     * Reading the pets from the json and decoding their pictures, safe to call off the Event Dispatch Thread
+     */
+    static void loadAssets() {
+        GameConfig.get();
+        ImageAssets.preload(PET_IMAGES);
+    }
+
+    /**
+     * Building the screen ahead of time, so opening it later is just a card flip
+     */
+    static void prefetch() {
+        ScreenNavigator.get().screen(secondTutorialPickPet.class, secondTutorialPickPet::new);
+    }
+
     /**
      * Initializing tutorial screen 2 with allowing the user to first choose 
      *
-     * Setting frame title, default close operation, size, extended state, and center location
+     * Setting panel background color
      * Configuring border layout with gaps, adding top panel with heading, center panel with pet panels, and bottom panel with back button
-     * Displaying frame
      */
-    public secondTutorialPickPet() {
-        super("Virtual Pet Game Tutorial");
+    private secondTutorialPickPet() {
+        super(new BorderLayout(10, 10));
 
 
           //----------------------------Json part---------------------------
 
-        // Loading JSON file manually 
-        String json = readFile("json/jsonFile.json");
-        if (json != null) {
-
-            // Extracting pet names and descriptions based on their occurrence
-            petName1 = extractPetValue(json, "petName", 0);
-            petDesc1 = extractPetValue(json, "petDescription", 0);
+        // Pet names and descriptions come from the shared configuration, which falls back to defaults if the JSON fails to load
+        GameConfig config = GameConfig.get();
 
-            petName2 = extractPetValue(json, "petName", 1);
-            petDesc2 = extractPetValue(json, "petDescription", 1);
+        petName1 = config.getPet(0).getName();
+        petDesc1 = config.getPet(0).getDescription();
 
-            petName3 = extractPetValue(json, "petName", 2);
-            petDesc3 = extractPetValue(json, "petDescription", 2);
-        }
-        else {
-            // In this case we can have fallback values if JSON fails to load
-            petName1 = "Luka";
-            petName2 = "Anthony";
-            petName3 = "Sam";
+        petName2 = config.getPet(1).getName();
+        petDesc2 = config.getPet(1).getDescription();
 
-            petDesc1 = "Default description for Luka";
-            petDesc2 = "Default description for Anthony";
-            petDesc3 = "Default description for Sam";
-        }
+        petName3 = config.getPet(2).getName();
+        petDesc3 = config.getPet(2).getDescription();
 
-        // Setting up frame, size, color, opening in maximized form 
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 500);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setLocationRelativeTo(null);
-
-        getContentPane().setBackground(new Color(204, 255, 255));
-
-        setLayout(new BorderLayout(10, 10));
+        // Setting up panel color
+        setBackground(new Color(204, 255, 255));
 
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         topPanel.setOpaque(false);
@@ -87,9 +92,9 @@ public class secondTutorialPickPet extends JFrame {
         centerPanel.setOpaque(false);
 
         // Updated to show the correct pet name and description from the json
-        JPanel petPanel1 = createPetPanel("img/pet1.png", "Name: " + petName1 + "\n" + petDesc1, "Choose!", 1);
-        JPanel petPanel2 = createPetPanel("img/pet2.png", "Name: " + petName2 + "\n" + petDesc2, "Choose!", 2);
-        JPanel petPanel3 = createPetPanel("img/pet3.png", "Name: " + petName3 + "\n" + petDesc3, "Choose!", 3);
+        JPanel petPanel1 = createPetPanel(PET_IMAGES[0], "Name: " + petName1 + "\n" + petDesc1, "Choose!", 1);
+        JPanel petPanel2 = createPetPanel(PET_IMAGES[1], "Name: " + petName2 + "\n" + petDesc2, "Choose!", 2);
+        JPanel petPanel3 = createPetPanel(PET_IMAGES[2], "Name: " + petName3 + "\n" + petDesc3, "Choose!", 3);
 
         centerPanel.add(petPanel1);
         centerPanel.add(petPanel2);
@@ -103,17 +108,10 @@ public class secondTutorialPickPet extends JFrame {
         // back button to go back to a file/window 
         JButton backButton = createMainButton("< Back");
 
-        backButton.addActionListener(e -> {
-            new firstTutorialScreen();
-            dispose();
-        });
+        backButton.addActionListener(e -> firstTutorialScreen.open());
 
         bottomPanel.add(backButton);
         add(bottomPanel, BorderLayout.SOUTH);
-
-
-        //Once a button is pressed to connect to this file, it will open correcly/smoothly 
-        setVisible(true);
     }
 
     /**
@@ -133,7 +131,7 @@ public class secondTutorialPickPet extends JFrame {
         petPanel.setOpaque(false);
         petPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
 
-        JLabel imageLabel = new JLabel(new ImageIcon(imagePath));
+        JLabel imageLabel = new JLabel(ImageAssets.icon(imagePath));
         imageLabel.setHorizontalAlignment(JLabel.CENTER);
         petPanel.add(imageLabel, BorderLayout.NORTH);
 
@@ -145,10 +143,7 @@ public class secondTutorialPickPet extends JFrame {
 
         JButton chooseButton = createMainButton(buttonText);
 
-        chooseButton.addActionListener(e -> {
-            new thirdTutorialActions(petNumber);
-            dispose();
-        });
+        chooseButton.addActionListener(e -> thirdTutorialActions.open(petNumber));
 
         petPanel.add(chooseButton, BorderLayout.SOUTH);
         return petPanel;
@@ -191,80 +186,6 @@ public class secondTutorialPickPet extends JFrame {
     }
 
 
-      //----------------------------More Json part---------------------------
-
-    /**
-     * Reading the entire contents of a file into a String
-     *
-     * @param filePath the path to the JSON file
-     * @return the file content as a String, or null if an error occurs
-     */
-    private String readFile(String filePath) {
-        StringBuilder sb = new StringBuilder();
-        
-        // reading in the file, and throwing excpetion
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            
-            while ((line = br.readLine()) != null) {
-                sb.append(line);
-            }
-        } 
-       
-        catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
-
-        return sb.toString();
-    }
-
-    /**
-     * Extracting a specific pet-related value for a given occurrence from the JSON string
-     * <p>
-     * Searching for the given key (petName or petDescription) 
-     * within the "pets" array and returning the value for the specified occurrence (0-based)
-     *
-     * @param json the JSON string
-     * @param key the key to look for (petName, petDescription)
-     * @param occurrence the 0-based index of which pet in the array
-     * @return the value if found, or "Unknown" if not found
-     */
-    private String extractPetValue(String json, String key, int occurrence) {
-        String searchKey = "\"" + key + "\":";
-        int arrayIndex = 0;
-        int fromIndex = 0;
-
-        // finding each occurrence within the pets array
-        // counting up until we've reached the desired index
-        while (true) {
-            int keyIndex = json.indexOf(searchKey, fromIndex);
-            if (keyIndex == -1) {
-                return "Unknown";
-            }
-            
-            
-            if (arrayIndex == occurrence) {
-                // Found the correct occurrence
-                int firstQuote = json.indexOf("\"", keyIndex + searchKey.length());
-                
-                //Checking other occurences 
-                if (firstQuote == -1) {
-                    return "Unknown";
-                }
-                int secondQuote = json.indexOf("\"", firstQuote + 1);
-                
-                if (secondQuote == -1) {
-                    return "Unknown";
-                }
-                return json.substring(firstQuote + 1, secondQuote);
-            }
-            fromIndex = keyIndex + searchKey.length();
-            arrayIndex++;
-        }
-    }
-
-
     /**
      *
      * Invoking GUI on event dispatch thread using SwingUtilities
@@ -272,6 +193,6 @@ public class secondTutorialPickPet extends JFrame {
      * @param args command-line arguments (unused)
      */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(secondTutorialPickPet::new);
+        SwingUtilities.invokeLater(secondTutorialPickPet::open);
     }
 }
@@ -24,25 +24,36 @@ import javax.swing.border.LineBorder;
  * @author: Mohammed Bayoumi
  * 
  */
-public class sleep extends JFrame {
+public class sleep extends JPanel implements ScreenNavigator.Screen {
 
   private JButton newBtn, backBtn;
   private JLabel messageLabel;
   private GameplayGUI getInfo;
+  private JLabel myImg;
 
   /**
-    * Constructing the feed screen UI.
+    * Showing the Sleep screen for a game, building it the first time.
     * @param getInfo references GameplayGUI to get pet stats. 
     *
     */
-  public sleep(GameplayGUI getInfo) {
+  public static void open(GameplayGUI getInfo) {
+    ScreenNavigator navigator = ScreenNavigator.get();
+    sleep screen = navigator.screen(sleep.class, sleep::new);
+    // a screen opened again over itself lets go of its old button first
+    screen.screenHidden();
+    screen.getInfo = getInfo;
+    screen.myImg.setIcon(ImageAssets.icon("img/sleep" + getInfo.getPetNumber() + ".png"));
+    // the button shows the time left and stays disabled while the pet rests
+    getInfo.getCooldowns().bind(PetAction.SLEEP, screen.newBtn, "Go to bed!", true);
+    navigator.show(screen, "Sleep", new Dimension(600, 500));
+  }
+
+  /**
+    * Constructing the feed screen UI.
+    */
+  private sleep() {
 // creating GUI to hold the action information with the image
-    super("Sleep");
-    setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
-    setSize(600, 500);
-    setLocationRelativeTo(null);
-// retrieving the pet stats
-    this.getInfo = getInfo;
+    super(new BorderLayout());
 
     JPanel mainPanel = new JPanel();
     mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
@@ -61,8 +72,8 @@ public class sleep extends JFrame {
     JPanel imagePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
     imagePanel.setBackground(new Color(204, 255, 255));
 
-    ImageIcon icon = new ImageIcon("img/sleep" + getInfo.getPetNumber() + ".png");
-    JLabel myImg = new JLabel(icon);
+    // the pet's picture is put in each time the screen is opened
+    myImg = new JLabel();
 
     imagePanel.add(myImg);
     mainPanel.add(imagePanel);
@@ -81,12 +92,13 @@ public class sleep extends JFrame {
     backBtn.addActionListener(new ActionListener() {
       @Override
       public void actionPerformed(ActionEvent e) {
-      dispose();
       String item = getInfo.getInventory().addFoodRandom();
 
   //allow users to get random gifts when they return home to give it realistic feeling
       if (item != "") {
-      new RewardsGUI(item);
+      RewardsGUI.open(item);
+      } else {
+      ScreenNavigator.get().hide();
       }
       }
       });
@@ -97,27 +109,23 @@ public class sleep extends JFrame {
 
   //initiating the game logic to update pet stats accordingly whe sleep button is triggered
     newBtn.addActionListener(e -> {
-      int newSleep = (getInfo.getSleep()+10>100)? 100:getInfo.getSleep()+10;
-      int newHapp = (getInfo.getHapp()-5<1)?0:getInfo.getHapp()-5;
-      int newh = (getInfo.getH()-8<0)?0:getInfo.getH()-8;
-      int newHunger = (getInfo.getHunger()-10<10)?0:getInfo.getHunger()-10;
-
-    //reducing other values when sleeing to give it a real life aspect
-      if (newHunger <= 0|| newSleep <= 0||newHapp <= 0) {
-        newh = (newh - 10 < 0) ? 0 : newh - 10;
-      }
-
-      // update game stats to reflect changes on main gameplay screen
-      getInfo.updateStats(newHapp, newh, newSleep, newHunger);
-      getInfo.addToScore(20);
+    //sleep raises the sleep bar and reduces other values to give it a real life aspect
+      getInfo.performAction(PetAction.SLEEP);
 
-      int cooldown = getInfo.getActionCooldown("goToSleep");
-      startCooldownDialog(cooldown);
       getInfo.checkStats();
     });
 
     add(mainPanel);
-    setVisible(true);
+  }
+
+  /**
+    * Letting go of the cooldown button when the screen is left.
+    */
+  @Override
+  public void screenHidden() {
+    if (getInfo != null) {
+      getInfo.getCooldowns().unbind(newBtn);
+    }
   }
 
   /**
@@ -152,48 +160,4 @@ public class sleep extends JFrame {
 
     return button;
   }
-  
-
-
-
-
-  
- /**
- * This private method creates a cooldown window that prevents the user from interacting with the game
- * until the specified cooldown time has been done.
- * 
- * @param cooldown the number of seconds the cooldown has left until user can go back to interacting with the game.
- * 
- */ 
-  private void startCooldownDialog(int cooldown) {
-      final JDialog dialog = new JDialog(this, "Cooldown in Progress", true);
-      dialog.setSize(350, 150);
-      dialog.setLocationRelativeTo(this);
-      dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
-      dialog.setLayout(new BorderLayout());
-    //creating cooldown notification message
-      JLabel label = new JLabel("Sleeping... please wait " + cooldown + "s", JLabel.CENTER);
-      label.setFont(new Font("SansSerif", Font.BOLD, 14));
-      dialog.add(label, BorderLayout.CENTER);
-    //adding timer to track countdown
-      Timer timer = new Timer(1000, new AbstractAction() {
-          int timeLeft = cooldown;
-          @Override
-          public void actionPerformed(ActionEvent e) {
-              timeLeft--;
-              label.setText("Sleeping... please wait " + timeLeft + "s");
-              
-              
-              if (timeLeft <= 0) {
-                  ((Timer)e.getSource()).stop();
-                  dialog.dispose();
-              }
-          }
-      });
-
-      timer.setRepeats(true);
-      timer.start();
-
-      dialog.setVisible(true);
-  }
 }
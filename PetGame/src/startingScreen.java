@@ -1,10 +1,13 @@
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import javax.swing.*;
 import javax.swing.border.LineBorder;
 
@@ -18,30 +21,37 @@ import javax.swing.border.LineBorder;
  * a welcome image, and developer credits at the bottom of the screen (Us)
  * Screen serves as the gateway to the rest of the game flow
  * Connects to tutorial, loading game, settings, or exits 
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class startingScreen extends JFrame {
+public class startingScreen extends JPanel {
 	
 	private int score, health, sleep, hunger, happiness, petNumber;
 	private String inventoryString; 
 
+    // Format of the save time on the Load dialog
+    private static final DateTimeFormatter SAVED_AT = DateTimeFormatter.ofPattern("d MMM yyyy, h:mm a").withZone(ZoneId.systemDefault());
+
+    /**
+     * Showing the home screen, building it the first time
+     */
+    public static void open() {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        navigator.show(navigator.screen(startingScreen.class, startingScreen::new), "Home Screen", null);
+        TutorialPrefetcher.get().prefetchAfter(startingScreen.class);
+    }
+
     /**
-     * Constructing the home screen GUI window
+     * Constructing the home screen GUI panel
      * <p>
      * Seting up the main layout with a heading, action buttons, a central image,
      * and a developer credit box (Us)
      */
-    public startingScreen() {
-
-        //Setting up main window/frame with the size, color
-        super("Home Screen");
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 400);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setLocationRelativeTo(null); 
-
-        getContentPane().setBackground(new Color(204, 255, 255));
+    private startingScreen() {
 
-        setLayout(new BorderLayout(10, 10));
+        //Setting up main panel with the color
+        super(new BorderLayout(10, 10));
+        setBackground(new Color(204, 255, 255));
 
      
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -66,6 +76,7 @@ public class startingScreen extends JFrame {
         String[] actions = {
             "Start New Game",
             "Load Game",
+            "Household",
             "Parental Screen",
             "Exit"
         };
@@ -78,47 +89,32 @@ public class startingScreen extends JFrame {
             switch (action.toLowerCase()) {
                 
                 case "start new game":
-                    button.addActionListener(e -> {
-                        new firstTutorialScreen();
-                        dispose();
-                    });
+                    button.addActionListener(e -> firstTutorialScreen.open());
 
                     break;
                 
                 //-------------------- Aryan Added this--------------------
                 case "load game":
-                    button.addActionListener(e -> {
-                    	String[] options = {"Save File 1", "Save File 2", "Save File 3", "Cancel"};
-
-        				int choice = JOptionPane.showOptionDialog(
-        						null, 
-        						"Choose A File To Load From:", 
-        						"Save To File", 
-        						JOptionPane.DEFAULT_OPTION, 
-        						JOptionPane.INFORMATION_MESSAGE, 
-        						null, 
-        						options, 
-        						options[3]
-        						);
-
-        				// Handle the user's choice
-        				if (choice == 0) {
-        					loadFromFile("save1.txt");
-        				} else if (choice == 1) {
-        					loadFromFile("save2.txt");
-        				} else if (choice == 2) {
-        					loadFromFile("save3.txt");
-        				}
-                    });
+                    button.addActionListener(e -> chooseProfile(button, "Choose A Profile To Load",
+                            profile -> loadProfile(profile.getName())));
 
                     break;
 
                      //-----------------------------------------------------
                 
+                case "household":
+                    // The household's pets belong to a saved profile
+                    button.addActionListener(e -> chooseProfile(button, "Choose A Profile For The Household", profile -> {
+                        ScreenNavigator.get().hide();
+                        new HouseholdScreen(profile.getName(), profile.getNumber());
+                    }));
+
+                    break;
+
                 case "parental screen":
                     button.addActionListener(e -> {
+                        ScreenNavigator.get().hide();
                         new ParentalControlScreen();
-                        dispose();
                     });
 
                     break;
@@ -140,7 +136,7 @@ public class startingScreen extends JFrame {
         centerPanel.add(actionsPanel);
 
        //Adding in the image as a label so that it can be moved easily 
-        JLabel imageLabel = new JLabel(new ImageIcon("img/cat.png"));
+        JLabel imageLabel = new JLabel(ImageAssets.icon("img/cat.png"));
         imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
         centerPanel.add(imageLabel);
 
@@ -157,46 +153,169 @@ public class startingScreen extends JFrame {
         bottomPanel.add(devsLabel);
 
         add(bottomPanel, BorderLayout.SOUTH);
-
-        setVisible(true);
     }
     
      //------------------ Aryan Added this ----------------------------------------------
-    private void loadFromFile(String fileName) {  
-        	 File file = new File(fileName);
-        	
-            // Checking if the file exists and is empty
-            if (!file.exists() || file.length() == 0) {
-                JOptionPane.showMessageDialog(null, "ERROR! No Game Saved To This File.", "Load Error", JOptionPane.ERROR_MESSAGE);
-                return; 
+    /**
+     * Listing the profiles and letting the user pick one
+     * <p>
+     * Saves still being written are waited for and the profiles are listed off the EDT, so the screen never freezes
+     *
+     * @param button the button that asked, disabled until the profiles are listed
+     * @param title the dialog's title
+     * @param onChosen called on the EDT with the profile picked
+     */
+    private void chooseProfile(JButton button, String title, Consumer<ProfileStore.Profile> onChosen) {
+        button.setEnabled(false);
+        new SwingWorker<List<ProfileStore.Profile>, Void>() {
+            @Override
+            protected List<ProfileStore.Profile> doInBackground() throws IOException {
+                SaveWriter.get().awaitIdle();
+                return ProfileStore.get().profiles();
             }
-            try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
-        	
-            int score = Integer.parseInt(reader.readLine());
-            int happiness = Integer.parseInt(reader.readLine());
-            int health = Integer.parseInt(reader.readLine());
-            int sleep = Integer.parseInt(reader.readLine());
-            int hunger = Integer.parseInt(reader.readLine());
-            int petNumber = Integer.parseInt(reader.readLine());
-
-            // Reading all inventory lines and concatenate them into a single string
-            StringBuilder inventoryData = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                inventoryData.append(line).append("\n");
+
+            @Override
+            protected void done() {
+                button.setEnabled(true);
+                try {
+                    chooseProfile(get(), title, onChosen);
+                } catch (InterruptedException | ExecutionException ex) {
+                    JOptionPane.showMessageDialog(null, "Error loading profiles!", "Load Error", JOptionPane.ERROR_MESSAGE);
+                }
             }
+        }.execute();
+    }
 
-            JOptionPane.showMessageDialog(null, "Game Loaded Successfully!");
-            dispose();
-            
-            new GameplayGUI(score, happiness, health, sleep, hunger, petNumber, inventoryData.toString());
-        } catch (IOException | NumberFormatException e) {
-            JOptionPane.showMessageDialog(null, "Error loading file!", "Load Error", JOptionPane.ERROR_MESSAGE);
+    /**
+     * Showing the profiles in a dialog and handing on the one picked
+     *
+     * @param profiles every profile, from the store's index
+     * @param title the dialog's title
+     * @param onChosen called with the profile picked
+     */
+    private void chooseProfile(List<ProfileStore.Profile> profiles, String title, Consumer<ProfileStore.Profile> onChosen) {
+        if (profiles.isEmpty()) {
+            JOptionPane.showMessageDialog(null, "No Games Have Been Saved Yet.", title, JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        // A scrolling list, as there can be any number of profiles
+        JList<ProfileStore.Profile> list = new JList<>(profiles.toArray(new ProfileStore.Profile[0]));
+        DefaultListCellRenderer renderer = new DefaultListCellRenderer();
+        list.setCellRenderer((l, profile, index, selected, focused) ->
+                renderer.getListCellRendererComponent(l, describeProfile(profile), index, selected, focused));
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setSelectedIndex(0);
+        list.setVisibleRowCount(5);
+
+        int choice = JOptionPane.showConfirmDialog(
+                null, 
+                new JScrollPane(list), 
+                title, 
+                JOptionPane.OK_CANCEL_OPTION, 
+                JOptionPane.PLAIN_MESSAGE
+                );
+
+        // Handle the user's choice
+        if (choice == JOptionPane.OK_OPTION && list.getSelectedValue() != null) {
+            onChosen.accept(list.getSelectedValue());
         }
     }
 
+    /**
+     * Loading the game saved on a profile and opening it on the gameplay screen
+     * <p>
+     * Only the profile's own record is read, however many profiles there are, and it is read off the EDT.
+     * The pet's stats are caught up on the time since the save was made
+     *
+     * @param name the profile's name
+     */
+    private void loadProfile(String name) {
+        new SwingWorker<GameState, Void>() {
+            @Override
+            protected GameState doInBackground() throws IOException {
+                // Making sure a save that is still being written is finished first
+                SaveWriter.get().awaitIdle();
+                GameState state = ProfileStore.get().load(name);
+
+                // Running the stats down for the time the game was closed, worked out in one step
+                if (state != null) {
+                    StatDecay.fromConfig(GameConfig.get()).catchUp(state, System.currentTimeMillis());
+                }
+                return state;
+            }
+
+            @Override
+            protected void done() {
+                GameState state;
+                try {
+                    state = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(null, "Error loading file!", "Load Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+
+                // Checking if the profile is still there
+                if (state == null) {
+                    JOptionPane.showMessageDialog(null, "ERROR! No Game Saved To This Profile.", "Load Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+
+                JOptionPane.showMessageDialog(null, "Game Loaded Successfully!");
+                ScreenNavigator.get().hide();
+
+                new GameplayGUI(state, name);
+            }
+        }.execute();
+    }
+
+    /**
+     * Describing a profile for its row in the Load dialog
+     * <p>
+     * Showing the name, pet, score, stats, item count and save time
+     *
+     * @param profile the profile from the store's index
+     * @return the row's text
+     */
+    private static String describeProfile(ProfileStore.Profile profile) {
+        StringBuilder text = new StringBuilder("<html><b>").append(escapeHtml(profile.getName())).append("</b><br>");
+        SaveFile.Header header = profile.getHeader();
+        text.append(GameConfig.get().getPet(header.getPetNumber() - 1).getName())
+            .append(" - Score ").append(header.getScore()).append("<br>")
+            .append("Happy ").append(header.getHappiness())
+            .append(", Health ").append(header.getHealth())
+            .append(", Sleep ").append(header.getSleep())
+            .append(", Hunger ").append(header.getHunger()).append("<br>")
+            .append(header.getItemTotal()).append(header.getItemTotal() == 1 ? " item" : " items");
+        if (header.getSavedAtMillis() > 0) {
+            text.append("<br>").append(SAVED_AT.format(Instant.ofEpochMilli(header.getSavedAtMillis())));
+        }
+        return text.append("</html>").toString();
+    }
+
+    /**
+     * Escaping a player's text so it is shown as typed inside the HTML of a list row
+     *
+     * @param text the text
+     * @return the text with HTML's special characters escaped
+     */
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
   //--------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Painting the home screen and marking the first frame on the startup timeline
+     *
+     * @param g the graphics to paint with
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        StartupLoader.get().firstFrame();
+    }
+
 
     /**
      * Creating a styled button with consistent appearance for use on the home screen
@@ -240,6 +359,6 @@ public class startingScreen extends JFrame {
      * @param args command-line arguments (In this case, not used)
      */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(startingScreen::new);
+        SwingUtilities.invokeLater(startingScreen::open);
     }
 }
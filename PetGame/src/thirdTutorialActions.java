@@ -12,38 +12,45 @@ import javax.swing.border.LineBorder;
  * Configuring layout with top, center, and bottom panels
  * Integrating action and description grid with navigation buttons
  * transitioning to fourth screen
+ * <p>
+ * Shown as a card in the {@link ScreenNavigator} window, built once and reused
  */
-public class thirdTutorialActions extends JFrame {
+public class thirdTutorialActions extends JPanel {
 
     //Variable added by Aryan
 	private int petNumber;
 
+    /**
+     * Showing the action tutorial screen for a pet, building it the first time
+     *
+     * @param petNumber the pet picked in the tutorial
+     */
+    public static void open(int petNumber) {
+        ScreenNavigator navigator = ScreenNavigator.get();
+        thirdTutorialActions screen = navigator.screen(thirdTutorialActions.class, thirdTutorialActions::new);
+        screen.petNumber = petNumber;
+        navigator.show(screen, "Tutorial", null);
+        TutorialPrefetcher.get().prefetchAfter(thirdTutorialActions.class);
+    }
+
+    /**
+     * Building the screen ahead of time, so opening it later is just a card flip
+     */
+    static void prefetch() {
+        ScreenNavigator.get().screen(thirdTutorialActions.class, thirdTutorialActions::new);
+    }
+
     /**
      * Initializing tutorial screen 3 with layout configuration and navigation
      *
-     * Setting frame title, close operation, size, extended state, and center location
+     * Setting panel background color
      * Configuring BorderLayout with panels for heading, actions and descriptions, and navigation buttons
      * Adding headers and grid of action and description labels
-     * Displaying frame
-     * 
-     * @param petNumber
-     * 
      */
-    public thirdTutorialActions(int petNumber) {
-        super("Tutorial");
-        
-        this.petNumber = petNumber;
-        
-        
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 400);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setLocationRelativeTo(null);
-
-        getContentPane().setBackground(new Color(204, 255, 255));
-
-        setLayout(new BorderLayout(10, 10));
+    private thirdTutorialActions() {
+        super(new BorderLayout(10, 10));
 
+        setBackground(new Color(204, 255, 255));
 
         //Centering top tile, overall format
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -108,26 +115,16 @@ public class thirdTutorialActions extends JFrame {
 
         // Button to go back to the previous file/window 
         JButton backButton = createMainButton("Back");
-        backButton.addActionListener(e -> {
-            new secondTutorialPickPet();
-            dispose();
-        });
+        backButton.addActionListener(e -> secondTutorialPickPet.open());
 
 
         // next button to go to the foward file/window
         JButton nextButton = createMainButton("Next >");
-        nextButton.addActionListener(e -> {
-            new fourthTutorialActions(petNumber);
-            dispose();
-        });
+        nextButton.addActionListener(e -> fourthTutorialActions.open(petNumber));
 
         bottomPanel.add(backButton);
         bottomPanel.add(nextButton);
         add(bottomPanel, BorderLayout.SOUTH);
-
-
-        //Once a button is pressed to connect to this file, it will open correcly/smoothly 
-        setVisible(true);
     }
 
     /**
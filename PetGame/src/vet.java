@@ -22,30 +22,40 @@ import javax.swing.border.LineBorder;
  * @author Mohammed Bayoumi
  * 
  */
-public class vet extends JFrame {
+public class vet extends JPanel implements ScreenNavigator.Screen {
   private JButton newBtn, backBtn;
   private GameplayGUI getInfo;
+  private JLabel myImg;
 
- /**
-    * Constructing the feed screen UI.
+  /**
+    * Showing the Vet screen for a game, building it the first time.
     * @param getInfo references GameplayGUI to get pet stats. 
     *
     */
-  public vet(GameplayGUI getInfo) {
+  public static void open(GameplayGUI getInfo) {
+    ScreenNavigator navigator = ScreenNavigator.get();
+    vet screen = navigator.screen(vet.class, vet::new);
+    // a screen opened again over itself lets go of its old button first
+    screen.screenHidden();
+    screen.getInfo = getInfo;
+    screen.myImg.setIcon(ImageAssets.icon("img/vet" + getInfo.getPetNumber() + ".png"));
+    // the button shows the time left and stays disabled while the pet rests
+    getInfo.getCooldowns().bind(PetAction.VET, screen.newBtn, "Heal!", true);
+    navigator.show(screen, "Vet", new Dimension(600, 500));
+  }
 
-    super("Vet");
+  /**
+    * Constructing the feed screen UI.
+    */
+  private vet() {
 
-    setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-    setSize(600, 500);
-    setLocationRelativeTo(null);
+    super(new BorderLayout());
 
     JPanel mainPanel = new JPanel();
     mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
     mainPanel.setBorder(new LineBorder(Color.blue));
     mainPanel.setOpaque(true);
     mainPanel.setBackground(new Color(204, 255, 255));
-// retrieving the pet stats
-    this.getInfo = getInfo;
 
     mainPanel.setBorder(
       BorderFactory.createCompoundBorder(
@@ -57,8 +67,8 @@ public class vet extends JFrame {
     JPanel imagePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
     imagePanel.setBackground(new Color(204, 255, 255));
 
-    ImageIcon icon = new ImageIcon("img/vet" + getInfo.getPetNumber() + ".png");
-    JLabel myImg = new JLabel(icon);
+    // the pet's picture is put in each time the screen is opened
+    myImg = new JLabel();
 
     imagePanel.add(myImg);
     mainPanel.add(imagePanel);
@@ -71,23 +81,9 @@ public class vet extends JFrame {
     newBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
 
     newBtn.addActionListener(e -> {
-  //adding game logic for the vet, gt pet info and edit them accordingly
-      int newSleep = (getInfo.getSleep() - 5 <= 0)? 0 : getInfo.getSleep() - 5;
-      int newHapp = (getInfo.getHapp() - 3 <= 0)? 100 : getInfo.getHapp() - 3;
-      int newh = (getInfo.getH() + 10 > 100)? 100 : getInfo.getH() + 10;
-      int newHunger = (getInfo.getHunger() - 5 <= 0)? 0 : getInfo.getHunger() - 5;
-  //change pet health according to each other stat 
-      if (newHunger <= 0|| newSleep <= 0||newHapp <= 0) {
-        newh = (newh - 10 < 0) ? 0 : newh - 10;
-      }
-  //update pet stats
-      getInfo.updateStats(newHapp, newh, newSleep, newHunger);
-      getInfo.addToScore(20);
-      
-      
-      // starting cooldown countdown
-      int cooldown = getInfo.getActionCooldown("takeToVet");
-      startCooldownDialog(cooldown);
+  //healing the pet and updating its stats through the engine
+      getInfo.performAction(PetAction.VET);
+
       getInfo.checkStats();
     });
 
@@ -97,11 +93,12 @@ public class vet extends JFrame {
     backBtn.addActionListener(new ActionListener() {
       @Override
       public void actionPerformed(ActionEvent e) {
-      dispose();
       String item = getInfo.getInventory().addGiftRandom();
       
      if (item != "") {
-      new RewardsGUI(item);
+      RewardsGUI.open(item);
+      } else {
+      ScreenNavigator.get().hide();
       }
      }
    });
@@ -111,10 +108,19 @@ public class vet extends JFrame {
     mainPanel.add(buttonPanel);
 
     add(mainPanel);
-    setVisible(true);
 
   }
 
+  /**
+    * Letting go of the cooldown button when the screen is left.
+    */
+  @Override
+  public void screenHidden() {
+    if (getInfo != null) {
+      getInfo.getCooldowns().unbind(newBtn);
+    }
+  }
+
   /**
     * creating a stylish button
     *
@@ -148,47 +154,4 @@ public class vet extends JFrame {
 
     return button;
   }
-  
-
-
-
- /**
- * This private method creates a cooldown window that prevents the user from interacting with the game
- * until the specified cooldown time has been done.
- * 
- * @param cooldown the number of seconds the cooldown has left until user can go back to interacting with the game.
- * 
- */ 
-  private void startCooldownDialog(int cooldown) {
-    //creating cooldown notification
-      final JDialog dialog = new JDialog(this, "Cooldown in Progress", true);
-      dialog.setSize(350, 150);
-      dialog.setLocationRelativeTo(this);
-      dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
-      dialog.setLayout(new BorderLayout());
-
-      JLabel label = new JLabel("Healing... please wait " + cooldown + "s", JLabel.CENTER);
-      label.setFont(new Font("SansSerif", Font.BOLD, 14));
-      dialog.add(label, BorderLayout.CENTER);
-
-      // using Swing Timer to count down each second
-      Timer timer = new Timer(1000, new AbstractAction() {
-          int timeLeft = cooldown;
-          @Override
-          public void actionPerformed(ActionEvent e) {
-              timeLeft--;
-              label.setText("Healing... please wait " + timeLeft + "s");
-              
-              if (timeLeft <= 0) {
-                  ((Timer)e.getSource()).stop();
-                  dialog.dispose();
-              }
-          }
-      });
-
-      timer.setRepeats(true);
-      timer.start();
-
-      dialog.setVisible(true);
-  }
 }
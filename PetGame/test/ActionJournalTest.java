@@ -0,0 +1,179 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for {@link ActionJournal}.
+ */
+public class ActionJournalTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("journal-test");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Tests that entries are read back with their kind, argument and changes.
+     */
+    @Test
+    public void testEntriesRoundTrip() throws Exception {
+        long start = PetState.pack(0, 70, 100, 70, 70);
+        long fed = PetState.pack(20, 70, 100, 70, 80);
+
+        ActionJournal journal = ActionJournal.open(directory, 1_000, 7, 50);
+        journal.append(ActionJournal.START, 2, 0L, start);
+        journal.append(ActionJournal.ACTION, PetAction.FEED.ordinal(), start, fed);
+        journal.append(ActionJournal.SAVE, 3, fed);
+        journal.close();
+
+        List<ActionJournal.Entry> entries = ActionJournal.read(journal.getFile());
+        assertEquals(3, entries.size());
+
+        ActionJournal.Entry first = entries.get(0);
+        assertEquals(ActionJournal.START, first.getKind());
+        assertEquals(2, first.getArgument());
+        assertEquals(100, first.getChange(PetSimulationEngine.HEALTH));
+        assertTrue(first.getTimeMillis() >= 1_000);
+
+        ActionJournal.Entry feed = entries.get(1);
+        assertEquals(PetAction.FEED.ordinal(), feed.getArgument());
+        assertEquals(10, feed.getChange(PetSimulationEngine.HUNGER));
+        assertEquals(0, feed.getChange(PetSimulationEngine.SLEEP));
+        assertEquals(20, feed.getScoreChange());
+
+        assertEquals(ActionJournal.SAVE, entries.get(2).getKind());
+        assertEquals(3, entries.get(2).getArgument());
+    }
+
+    /**
+     * Tests that changes made through the journal from two threads at once are journaled in the order they were made,
+     * so replaying them with the stats kept in bounds after each entry ends at the pet's real state.
+     */
+    @Test
+    public void testUpdatesFromTwoThreadsReplayExactly() throws Exception {
+        ActionJournal journal = ActionJournal.open(directory, System.currentTimeMillis(), 7, 5);
+        PetState pet = new PetState(0, 100, 100, 100, 100);
+        journal.append(ActionJournal.START, 1, 0L, pet.get());
+
+        //One thread runs the hunger down while the other keeps topping it up to the limit
+        Thread decay = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                journal.update(ActionJournal.DECAY, 0, pet, state -> PetState.pack(PetState.score(state),
+                        100, 100, 100, PetState.stat(state, PetSimulationEngine.HUNGER) - 1));
+            }
+        });
+        decay.start();
+        for (int i = 0; i < 20_000; i++) {
+            journal.update(ActionJournal.ACTION, PetAction.FEED.ordinal(), pet, state -> PetState.pack(PetState.score(state) + 1,
+                    100, 100, 100, PetState.stat(state, PetSimulationEngine.HUNGER) + 1));
+        }
+        decay.join();
+        journal.close();
+
+        long replayed = 0L;
+        int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+        for (ActionJournal.Entry entry : ActionJournal.read(journal.getFile())) {
+            for (int stat = 0; stat < stats.length; stat++) {
+                stats[stat] = PetState.stat(replayed, stat) + entry.getChange(stat);
+            }
+            replayed = PetState.pack(PetState.score(replayed) + entry.getScoreChange(), stats);
+        }
+        assertEquals(pet.get(), replayed);
+    }
+
+    /**
+     * Tests that adding up every entry's changes across several mapped windows gives the final state.
+     */
+    @Test
+    public void testChangesAddUpAcrossWindows() throws Exception {
+        SplittableRandom random = new SplittableRandom(3);
+        ActionJournal journal = ActionJournal.open(directory, System.currentTimeMillis(), 7, 5);
+        long state = PetState.pack(0, 70, 100, 70, 70);
+        journal.append(ActionJournal.START, 1, 0L, state);
+        for (int i = 0; i < 10_000; i++) {
+            long next = PetState.pack(PetState.score(state) + random.nextInt(30), random.nextInt(101),
+                    random.nextInt(101), random.nextInt(101), random.nextInt(101));
+            journal.append(ActionJournal.DECAY, 0, state, next);
+            state = next;
+        }
+        assertEquals(10_001, journal.size());
+        journal.close();
+        journal.append(ActionJournal.SAVE, 1, state);
+
+        int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+        int score = 0;
+        List<ActionJournal.Entry> entries = ActionJournal.read(journal.getFile());
+        assertEquals(10_001, entries.size(), "Appends after closing should be ignored");
+        for (ActionJournal.Entry entry : entries) {
+            for (int stat = 0; stat < stats.length; stat++) {
+                stats[stat] += entry.getChange(stat);
+            }
+            score += entry.getScoreChange();
+        }
+        assertEquals(state, PetState.pack(score, stats));
+    }
+
+    /**
+     * Tests that sessions started in the same millisecond get their own files,
+     * and that a disabled journal keeps nothing.
+     */
+    @Test
+    public void testSeparateFilesAndDisabledJournal() throws Exception {
+        ActionJournal first = ActionJournal.open(directory, 42, 7, 50);
+        ActionJournal second = ActionJournal.open(directory, 42, 7, 50);
+        assertNotEquals(first.getFile(), second.getFile());
+        first.close();
+        second.close();
+
+        ActionJournal disabled = ActionJournal.disabled();
+        disabled.append(ActionJournal.ACTION, 0, 0L);
+        assertNull(disabled.getFile());
+        assertEquals(0, disabled.size());
+        disabled.close();
+    }
+
+    /**
+     * Tests that pruning deletes the session journals started before a time, by the time in their names, and leaves other files.
+     */
+    @Test
+    public void testPruneDeletesOldSessions() throws Exception {
+        for (long start : new long[] {300, 100, 200}) {
+            ActionJournal.open(directory, start, 7, 50).close();
+        }
+        Path other = Files.write(directory.resolve("notes.txt"), new byte[1]);
+        Path unnamed = Files.write(directory.resolve("session-copy.journal"), new byte[1]);
+
+        assertEquals(2, ActionJournal.prune(directory, 300));
+        assertTrue(Files.exists(directory.resolve("session300.journal")));
+        assertFalse(Files.exists(directory.resolve("session100.journal")));
+        assertFalse(Files.exists(directory.resolve("session200.journal")));
+        assertTrue(Files.exists(other));
+        assertTrue(Files.exists(unnamed));
+        assertEquals(0, ActionJournal.prune(directory.resolve("missing"), 300));
+    }
+
+    /**
+     * Tests that files that are not journals are rejected.
+     */
+    @Test
+    public void testRejectsOtherFiles() throws Exception {
+        Path other = Files.write(directory.resolve("other.journal"), new byte[64]);
+        assertThrows(java.io.IOException.class, () -> ActionJournal.read(other));
+    }
+}
@@ -0,0 +1,104 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for the {@link BalanceSimulator} balancing tool.
+ */
+public class BalanceSimulatorTest {
+
+    private static final int[] FIVE_SECONDS = {5, 5, 5, 5};
+
+    /**
+     * Tests that the same seed gives the same results however the work is split.
+     */
+    @Test
+    public void testSameSeedSameResults() {
+        BalanceSimulator.Scenario scenario = new BalanceSimulator.Scenario(PetSimulationEngine.getDefault(),
+                FIVE_SECONDS, BalanceSimulator.Policy.RANDOM, 600, "random");
+
+        BalanceSimulator.Report first = BalanceSimulator.run(scenario, 20_000, 7, new ForkJoinPool(1));
+        BalanceSimulator.Report second = BalanceSimulator.run(scenario, 20_000, 7, new ForkJoinPool(4));
+
+        assertEquals(20_000, first.getLifetimes());
+        assertEquals(first.getDeaths(), second.getDeaths());
+        assertEquals(first.deathTimePercentile(0.5), second.deathTimePercentile(0.5));
+        assertEquals(first.meanScore(), second.meanScore());
+    }
+
+    /**
+     * Tests that a pet that is cared for in turn dies when hunger runs out, at the time the rules predict.
+     */
+    @Test
+    public void testRoundRobinDeathTime() {
+        BalanceSimulator.Scenario scenario = new BalanceSimulator.Scenario(PetSimulationEngine.getDefault(),
+                FIVE_SECONDS, BalanceSimulator.Policy.ROUND_ROBIN, 600, "round-robin");
+
+        BalanceSimulator.Report report = BalanceSimulator.run(scenario, 100, 1, ForkJoinPool.commonPool());
+
+        //Feed, play, sleep and vet lower hunger by 15 a round, so every pet dies at the same time
+        assertEquals(100, report.getDeaths());
+        assertEquals(35, report.deathTimePercentile(0.5));
+        assertEquals(0.0, report.survivalAt(600));
+        assertEquals(1.0, report.survivalAt(30));
+    }
+
+    /**
+     * Tests that the greedy player, who waits rather than lower the lowest stat, keeps more pets alive than a random one.
+     */
+    @Test
+    public void testGreedyBeatsRandom() {
+        BalanceSimulator.Report greedy = BalanceSimulator.run(new BalanceSimulator.Scenario(PetSimulationEngine.getDefault(),
+                FIVE_SECONDS, BalanceSimulator.Policy.GREEDY, 600, "greedy"), 2_000, 3, ForkJoinPool.commonPool());
+        BalanceSimulator.Report random = BalanceSimulator.run(new BalanceSimulator.Scenario(PetSimulationEngine.getDefault(),
+                FIVE_SECONDS, BalanceSimulator.Policy.RANDOM, 600, "random"), 2_000, 3, ForkJoinPool.commonPool());
+
+        assertTrue(greedy.survivalAt(600) > random.survivalAt(600),
+                "greedy " + greedy.survivalAt(600) + " random " + random.survivalAt(600));
+    }
+
+    /**
+     * Tests that the stats run down between actions and that a pet starved by decay dies on the exact second.
+     */
+    @Test
+    public void testDecayBetweenActions() {
+        //Actions change nothing, hunger loses a point a second and then health 25 every 10 seconds
+        PetSimulationEngine still = new PetSimulationEngine(new int[4][4], 0, 20);
+        StatDecay decay = new StatDecay(new int[] {0, 0, 0, 1}, 10, 25);
+        BalanceSimulator.Scenario scenario = new BalanceSimulator.Scenario(still, decay,
+                FIVE_SECONDS, BalanceSimulator.Policy.ROUND_ROBIN, 600, "starving");
+
+        BalanceSimulator.Report report = BalanceSimulator.run(scenario, 50, 1, ForkJoinPool.commonPool());
+
+        //Hunger runs out at 70 seconds, then health is lost at 70, 80, 90 and 100
+        assertEquals(50, report.getDeaths());
+        assertEquals(100, report.deathTimePercentile(0.5));
+        assertEquals(1.0, report.survivalAt(99));
+    }
+
+    /**
+     * Tests that every combination of the command line values becomes a scenario.
+     */
+    @Test
+    public void testParseGrid() {
+        List<BalanceSimulator.Scenario> scenarios = BalanceSimulator.parseScenarios(new String[] {
+            "--lifetimes", "10", "--policy", "greedy,round-robin", "--penalty", "5,10,15",
+            "--delta", "play.health=-10,-5", "--cooldown", "3"
+        });
+
+        assertEquals(2 * 3 * 2, scenarios.size());
+        assertEquals(-5, scenarios.get(1).engine.getDelta(PetAction.PLAY, PetSimulationEngine.HEALTH));
+        assertEquals(3, scenarios.get(0).cooldowns[PetAction.VET.ordinal()]);
+        assertThrows(IllegalArgumentException.class, () -> BalanceSimulator.parseScenarios(new String[] {"--speed", "1"}));
+
+        List<BalanceSimulator.Scenario> decays = BalanceSimulator.parseScenarios(new String[] {
+            "--policy", "greedy", "--decay", "hunger=30,60", "--decay", "healthPenalty=0"
+        });
+        assertEquals(2, decays.size());
+        assertEquals(60, decays.get(1).decay.getSecondsPerPoint(PetSimulationEngine.HUNGER));
+        assertEquals(0, decays.get(1).decay.getPenaltySeconds());
+        assertThrows(IllegalArgumentException.class, () -> BalanceSimulator.parseScenarios(new String[] {"--decay", "health=5"}));
+    }
+}
@@ -0,0 +1,80 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import javax.swing.JButton;
+
+/**
+ * Unit tests for {@link CooldownScheduler}, using a fake clock so no test has to wait.
+ */
+public class CooldownSchedulerTest {
+
+    private long now;
+    private CooldownScheduler cooldowns;
+
+    @BeforeEach
+    public void setUp() {
+        now = 1_000_000_000L;
+        cooldowns = new CooldownScheduler(() -> now);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cooldowns.stop();
+    }
+
+    /**
+     * Tests that an action is blocked until its cooldown has passed, and other actions are not.
+     */
+    @Test
+    public void testActionReadyAfterCooldown() {
+        cooldowns.start(PetAction.FEED, 5);
+
+        assertFalse(cooldowns.isReady(PetAction.FEED));
+        assertTrue(cooldowns.isReady(PetAction.PLAY));
+        assertEquals(5, cooldowns.getRemainingSeconds(PetAction.FEED));
+
+        now += 4_500_000_000L;
+        assertEquals(1, cooldowns.getRemainingSeconds(PetAction.FEED), "Partial seconds should round up");
+
+        now += 500_000_000L;
+        assertTrue(cooldowns.isReady(PetAction.FEED));
+        assertEquals(0, cooldowns.getRemainingSeconds(PetAction.FEED));
+    }
+
+    /**
+     * Tests that a bound action button shows the time left while disabled, and is restored afterwards.
+     */
+    @Test
+    public void testBoundButtonShowsTimeLeft() {
+        JButton button = new JButton("Feed!");
+        cooldowns.bind(PetAction.FEED, button, "Feed!", true);
+
+        cooldowns.start(PetAction.FEED, 3);
+        assertEquals("Feed! (3s)", button.getText());
+        assertFalse(button.isEnabled());
+
+        now += 3_000_000_000L;
+        cooldowns.tick();
+        assertEquals("Feed!", button.getText());
+        assertTrue(button.isEnabled());
+    }
+
+    /**
+     * Tests that remaining cooldowns can be saved and restored in another game.
+     */
+    @Test
+    public void testRestoreRemainingMillis() {
+        cooldowns.start(PetAction.VET, 10);
+        now += 2_000_000_000L;
+
+        long[] saved = cooldowns.getRemainingMillis();
+        assertEquals(8000, saved[PetAction.VET.ordinal()]);
+        assertEquals(0, saved[PetAction.SLEEP.ordinal()]);
+
+        CooldownScheduler restored = new CooldownScheduler(() -> now);
+        restored.restore(saved);
+        assertEquals(8, restored.getRemainingSeconds(PetAction.VET));
+        assertTrue(restored.isReady(PetAction.SLEEP));
+        restored.stop();
+    }
+}
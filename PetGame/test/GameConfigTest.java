@@ -0,0 +1,87 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the {@link GameConfig} class and the {@link JsonParser} it uses.
+ */
+public class GameConfigTest {
+
+    private static final String JSON = "{"
+        + "\"gameSession\": {"
+        + "  \"actionHistory\": [],"
+        + "  \"availableActions\": {\"play\": {\"cooldown\": 3}, \"feed\": {\"cooldown\": 7}},"
+        + "  \"inventory\": [{\"itemId\": \"FOOD1\", \"itemName\": \"Apple\", \"quantity\": 2},"
+        + "                  {\"itemId\": \"TOY1\", \"itemName\": \"Toy\", \"quantity\": 1}]"
+        + "},"
+        + "\"parentalControls\": {"
+        + "  \"parentPassword\": \"2212\","
+        + "  \"statistics\": {\"totalPlayTime\": 40, \"averagePlayTime\": 20, \"resetPlayTime\": 0},"
+        + "  \"actions\": {\"petRevival\": true}"
+        + "},"
+        + "\"pets\": [{\"petName\": \"Luka\", \"petDescription\": \"Trained \\\"well\\\"\"}]"
+        + "}";
+
+    /**
+     * Tests that cooldowns are read per action and missing actions use the default.
+     */
+    @Test
+    public void testCooldowns() {
+        GameConfig config = GameConfig.parse(JSON);
+        assertEquals(3, config.getCooldown("play"));
+        assertEquals(7, config.getCooldown("feed"));
+        assertEquals(GameConfig.DEFAULT_COOLDOWN, config.getCooldown("takeToVet"), "Missing actions should use the default cooldown");
+    }
+
+    /**
+     * Tests that the starting inventory keeps ids, names and quantities.
+     */
+    @Test
+    public void testStartingInventory() {
+        GameConfig config = GameConfig.parse(JSON);
+        assertEquals(2, config.getStartingInventory().size());
+        assertEquals("FOOD1", config.getStartingInventory().get(0).getItemId());
+        assertEquals("Apple", config.getStartingInventory().get(0).getItemName());
+        assertEquals(2, config.getStartingInventory().get(0).getQuantity());
+    }
+
+    /**
+     * Tests the parental settings and pet list, including escaped strings.
+     */
+    @Test
+    public void testParentalSettingsAndPets() {
+        GameConfig config = GameConfig.parse(JSON);
+        assertEquals("2212", config.getParentPassword());
+        assertEquals(40, config.getTotalPlayTime());
+        assertEquals(20, config.getAveragePlayTime());
+        assertTrue(config.isPetRevival());
+
+        assertEquals("Luka", config.getPet(0).getName());
+        assertEquals("Trained \"well\"", config.getPet(0).getDescription());
+        assertEquals("Unknown", config.getPet(2).getName(), "Missing pets should be named Unknown");
+        assertEquals("Unknown", config.getPet(-1).getName(), "A save with no pet number should not break the lookup");
+    }
+
+    /**
+     * Tests that the action journal is off unless actionHistory names a directory.
+     */
+    @Test
+    public void testJournalSettings() {
+        assertNull(GameConfig.parse(JSON).getJournalDirectory(), "The old empty list should leave the journal off");
+
+        GameConfig config = GameConfig.parse("{\"gameSession\": {\"actionHistory\": {\"directory\": \"journal\", \"flushMillis\": 50}}}");
+        assertEquals("journal", config.getJournalDirectory());
+        assertEquals(50, config.getJournalFlushMillis());
+        assertEquals(GameConfig.DEFAULT_JOURNAL_KEEP_DAYS, config.getJournalKeepDays());
+
+        config = GameConfig.parse("{\"gameSession\": {\"actionHistory\": {\"directory\": \"journal\", \"keepDays\": 30}}}");
+        assertEquals(30, config.getJournalKeepDays());
+    }
+
+    /**
+     * Tests that malformed JSON is rejected rather than half parsed.
+     */
+    @Test
+    public void testMalformedJsonIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> GameConfig.parse("{\"gameSession\": {"));
+    }
+}
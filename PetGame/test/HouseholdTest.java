@@ -0,0 +1,120 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for {@link Household}.
+ */
+public class HouseholdTest {
+
+    private Household household;
+    private StatDecay decay;
+
+    @BeforeEach
+    public void setUp() {
+        household = new Household();
+        decay = new StatDecay(new int[] {4, 0, 3, 2}, 5, 10);
+    }
+
+    /**
+     * Tests that ticking the household column by column gives the same stats as ticking each pet on its own.
+     */
+    @Test
+    public void testTickMatchesSinglePetRules() {
+        SplittableRandom random = new SplittableRandom(7);
+        int pets = 100;
+        int[][] expected = new int[pets][];
+        for (int pet = 0; pet < pets; pet++) {
+            expected[pet] = new int[] {random.nextInt(20), 1 + random.nextInt(100), random.nextInt(20), random.nextInt(20)};
+            household.adopt("Pet " + pet, 1, expected[pet][0], expected[pet][1], expected[pet][2], expected[pet][3]);
+        }
+
+        for (long tick = 1; tick <= 120; tick++) {
+            household.tick(decay, tick);
+            for (int[] stats : expected) {
+                decay.tick(tick, stats);
+            }
+        }
+
+        int[] actual = new int[PetSimulationEngine.STAT_COUNT];
+        for (int pet = 0; pet < pets; pet++) {
+            assertArrayEquals(expected[pet], household.getStats(pet, actual), "Pet " + pet);
+        }
+    }
+
+    /**
+     * Tests that actions use the engine's rules and pets that have died do nothing.
+     */
+    @Test
+    public void testPerformAction() {
+        int luka = household.adopt("Luka", 1, 70, 100, 70, 70);
+        int sam = household.adopt("Sam", 3, 70, 0, 70, 70);
+
+        assertTrue(household.perform(luka, PetAction.FEED));
+        assertEquals(80, household.getStat(luka, PetSimulationEngine.HUNGER));
+        assertEquals(20, household.getScore(luka));
+
+        assertFalse(household.perform(sam, PetAction.FEED));
+        assertEquals(70, household.getStat(sam, PetSimulationEngine.HUNGER));
+        assertEquals(1, household.countAlive());
+    }
+
+    /**
+     * Tests that every pet's name, picture, score and stats are kept when the household is written and read back.
+     */
+    @Test
+    public void testWriteAndRead(@TempDir Path tempDir) throws IOException {
+        for (int pet = 0; pet < 40; pet++) {
+            household.adopt("Pet " + pet, pet % 3 + 1, pet, 100 - pet, 50, 60);
+        }
+        household.perform(7, PetAction.FEED);
+        Path file = tempDir.resolve("household1.dat");
+        household.write(file);
+
+        Household loaded = Household.read(file);
+        assertEquals(40, loaded.size());
+        for (int pet = 0; pet < 40; pet++) {
+            assertEquals(household.getName(pet), loaded.getName(pet));
+            assertEquals(household.getPetNumber(pet), loaded.getPetNumber(pet));
+            assertEquals(household.getScore(pet), loaded.getScore(pet));
+            assertArrayEquals(household.getStats(pet, new int[4]), loaded.getStats(pet, new int[4]));
+        }
+        assertEquals(20, loaded.getScore(7));
+
+        //The loaded household keeps growing like a new one
+        loaded.adopt("Luka", 1, 70, 100, 70, 70);
+        assertEquals("Luka", loaded.getName(40));
+
+        //A damaged file is refused
+        byte[] data = Files.readAllBytes(file);
+        data[20] ^= 0x55;
+        assertThrows(IOException.class, () -> Household.decode(data));
+    }
+
+    /**
+     * Tests that a household grows to thousands of pets and a tick over all of them stays cheap.
+     */
+    @Test
+    public void testTenThousandPets() {
+        for (int pet = 0; pet < 10_000; pet++) {
+            household.adopt("Pet " + pet, pet % 3 + 1, 70, 100, 70, 70);
+        }
+        assertEquals(10_000, household.size());
+        assertEquals("Pet 9999", household.getName(9_999));
+
+        long start = System.nanoTime();
+        for (long tick = 1; tick <= 1_000; tick++) {
+            household.tick(decay, tick);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        //A thousand seconds of game time should take a small part of one second
+        assertTrue(millis < 1_000, "1000 ticks took " + millis + " ms");
+        assertEquals(0, household.countAlive(), "Every pet has run out and died by now");
+    }
+}
@@ -0,0 +1,159 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+/**
+ * Unit tests for the {@link Inventory} model, the {@link ItemCatalog} it uses and the list model
+ * {@link InventoryScreen} shows it with.
+ * These run without a window, unlike {@link InventoryScreenTest}.
+ */
+public class InventoryTest {
+
+    private ItemCatalog catalog;
+    private Inventory inventory;
+
+    @BeforeEach
+    public void setUp() {
+        catalog = ItemCatalog.defaults();
+        //Never gives the first missing item, always gives the second
+        double[] rolls = {0.9, 0.1};
+        int[] next = {0};
+        inventory = new Inventory(catalog, () -> rolls[next[0]++ % rolls.length]);
+    }
+
+    /**
+     * Tests that items are found by name and config id, and carry their effect.
+     */
+    @Test
+    public void testCatalogLookup() {
+        int steak = catalog.find("steak");
+        assertEquals(steak, catalog.findByItemId("FOOD6"));
+        assertEquals("Steak", catalog.get(steak).getName());
+        assertEquals(PetSimulationEngine.HUNGER, catalog.get(steak).getStat());
+        assertEquals(20, catalog.get(steak).getAmount());
+
+        int bear = catalog.find("Teddy Bear");
+        assertEquals(PetSimulationEngine.HAPPINESS, catalog.get(bear).getStat());
+        assertEquals(-1, catalog.find("Pizza"));
+    }
+
+    /**
+     * Tests that items added in the config file's item list need no code change.
+     */
+    @Test
+    public void testCatalogFromConfig() {
+        GameConfig config = GameConfig.parse("{\"items\": [{\"itemId\": \"FOOD7\", \"itemName\": \"Pizza\","
+                + " \"type\": \"food\", \"stat\": \"hunger\", \"amount\": 25, \"effect\": \"Restores 25 hunger\"}]}");
+        ItemCatalog fromConfig = ItemCatalog.fromConfig(config);
+
+        assertEquals(1, fromConfig.size());
+        assertEquals(25, fromConfig.get(fromConfig.find("Pizza")).getAmount());
+        assertArrayEquals(new int[] {0}, fromConfig.idsOfType(ItemCatalog.FOOD));
+    }
+
+    /**
+     * Tests that repeated lines in an inventory string become quantities and are written back out.
+     */
+    @Test
+    public void testItemStringKeepsQuantities() {
+        inventory.setFromItemString("Apple,food,Restores 10 hunger\nToy,gift,Increases happiness +10\nApple,food,Restores 10 hunger\n");
+
+        assertEquals(2, inventory.getQuantity(catalog.find("Apple")));
+        assertEquals("Apple,food,Restores 10 hunger\nApple,food,Restores 10 hunger\nToy,gift,Increases happiness +10\n",
+                inventory.toItemString());
+
+        List<GameState.ItemStack> stacks = inventory.toItemStacks();
+        assertEquals(2, stacks.size());
+        assertEquals(2, stacks.get(0).getQuantity());
+    }
+
+    /**
+     * Tests that using an item lowers its quantity and reports its effect.
+     */
+    @Test
+    public void testUseItem() {
+        int apple = catalog.find("Apple");
+        inventory.add(apple, 1);
+
+        ItemCatalog.ItemDefinition used = inventory.use(apple);
+        assertEquals(10, used.getAmount());
+        assertTrue(inventory.isEmpty(ItemCatalog.FOOD));
+        assertNull(inventory.use(apple), "Nothing is left to use");
+    }
+
+    /**
+     * Tests that a random reward is an item the player does not have yet.
+     */
+    @Test
+    public void testAddRandomSkipsHeldItems() {
+        inventory.add(catalog.find("Apple"), 1);
+
+        //Apple is held, Carrot is rolled 0.9 and skipped, Bone is rolled 0.1 and given
+        assertEquals("Bone", inventory.addRandom(ItemCatalog.FOOD));
+        assertEquals(1, inventory.getQuantity(catalog.find("Bone")));
+    }
+
+    /**
+     * Tests that items missing from the catalog are added without an effect.
+     */
+    @Test
+    public void testUnknownItemIsInterned() {
+        inventory.setFromItemString("Rock,gift,Does nothing");
+        int rock = catalog.find("Rock");
+
+        assertEquals(10, rock);
+        assertEquals(0, catalog.get(rock).getAmount());
+        assertEquals(1, inventory.heldIds(ItemCatalog.GIFT).length);
+    }
+
+    /**
+     * Tests that the list model reports only the row that changed.
+     */
+    @Test
+    public void testListModelPatchesChangedRows() {
+        int apple = catalog.find("Apple");
+        int bone = catalog.find("Bone");
+        inventory.add(bone, 1);
+        InventoryScreen.ItemListModel model = new InventoryScreen.ItemListModel(inventory, ItemCatalog.FOOD);
+        List<String> events = new ArrayList<>();
+        model.addListDataListener(recorder(events));
+
+        inventory.add(bone, 1);
+        inventory.add(apple, 1);
+        inventory.use(bone);
+        inventory.use(bone);
+        inventory.add(catalog.find("Toy"), 1);
+
+        assertEquals(List.of("changed 0", "added 0", "changed 1", "removed 1"), events);
+        assertEquals(1, model.getSize());
+        assertEquals(apple, model.getElementAt(0));
+    }
+
+    /**
+     * Tests that replacing the whole inventory reports one rebuild.
+     */
+    @Test
+    public void testListModelRebuildsOnReplace() {
+        inventory.add(catalog.find("Apple"), 1);
+        InventoryScreen.ItemListModel model = new InventoryScreen.ItemListModel(inventory, ItemCatalog.FOOD);
+        List<String> events = new ArrayList<>();
+        model.addListDataListener(recorder(events));
+
+        inventory.fillDefault();
+
+        assertEquals(List.of("removed 0", "added 0"), events);
+        assertEquals(6, model.getSize());
+    }
+
+    private static ListDataListener recorder(List<String> events) {
+        return new ListDataListener() {
+            public void intervalAdded(ListDataEvent e) { events.add("added " + e.getIndex0()); }
+            public void intervalRemoved(ListDataEvent e) { events.add("removed " + e.getIndex0()); }
+            public void contentsChanged(ListDataEvent e) { events.add("changed " + e.getIndex0()); }
+        };
+    }
+}
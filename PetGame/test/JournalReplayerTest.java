@@ -0,0 +1,183 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for {@link JournalReplayer}.
+ */
+public class JournalReplayerTest {
+
+    private Path directory;
+    private ItemCatalog catalog;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("replay-test");
+        catalog = ItemCatalog.get();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Tests that the game rebuilt after any number of entries, across many snapshots,
+     * matches the game as it was played, rewards included.
+     */
+    @Test
+    public void testReplayMatchesPlayedGame() throws Exception {
+        Map<Integer, String> expected = new HashMap<>();
+        long start = System.currentTimeMillis() - 60_000;
+        play(start, 99, 5_000, new SplittableRandom(5), expected);
+
+        JournalReplayer replayer = new JournalReplayer(directory, catalog);
+        JournalReplayer.Session session = replayer.session(0);
+        assertTrue(session.size() > 3 * JournalReplayer.SNAPSHOT_INTERVAL, "The test should cross several snapshots");
+        assertEquals(0, session.getMismatches());
+
+        for (Map.Entry<Integer, String> point : expected.entrySet()) {
+            assertEquals(point.getValue(), describe(session.stateAfter(point.getKey())), "After " + point.getKey() + " entries");
+        }
+        assertEquals(expected.get(session.size()), describe(replayer.latest()));
+    }
+
+    /**
+     * Tests that a reward the seed does not explain is counted, and the journal's item is kept.
+     */
+    @Test
+    public void testRewardMismatchKeepsJournal() throws Exception {
+        ActionJournal journal = ActionJournal.open(directory, System.currentTimeMillis(), 1, 50);
+        long pet = PetState.pack(0, 70, 100, 70, 70);
+        journal.append(ActionJournal.START, 1, 0L, pet);
+        int apple = catalog.find("Apple");
+        RewardRandom random = new RewardRandom(1);
+        Inventory inventory = new Inventory(catalog, random);
+        String drawn = inventory.addRandom(ItemCatalog.FOOD);
+        int recorded = drawn.equals("Apple") ? -1 : apple;
+        journal.append(ActionJournal.FOOD_REWARD, recorded, pet);
+        journal.close();
+
+        JournalReplayer.Session session = new JournalReplayer(directory, catalog).session(0);
+        assertEquals(1, session.getMismatches());
+        GameState state = session.stateAfter(session.size());
+        int apples = 0;
+        for (GameState.ItemStack item : state.getInventory()) {
+            if (item.getName().equals("Apple")) {
+                apples = item.getQuantity();
+            }
+        }
+        assertEquals(recorded == apple ? 1 : 0, apples);
+    }
+
+    /**
+     * Tests that moments are found in the session that was being played at the time.
+     */
+    @Test
+    public void testFindsSessionByTime() throws Exception {
+        long now = System.currentTimeMillis();
+        play(now - 7_200_000, 1, 50, new SplittableRandom(1), new HashMap<>());
+        play(now - 3_600_000, 2, 50, new SplittableRandom(2), new HashMap<>());
+
+        JournalReplayer replayer = new JournalReplayer(directory, catalog);
+        assertEquals(2, replayer.getSessionCount());
+        assertEquals(-1, replayer.sessionAt(now - 8_000_000));
+        assertEquals(0, replayer.sessionAt(now - 5_000_000));
+        assertEquals(1, replayer.sessionAt(now));
+        assertThrows(IllegalArgumentException.class, () -> replayer.stateAt(now - 8_000_000));
+
+        //Every entry was written just now, so earlier in the first session nothing had happened yet
+        GameState early = replayer.stateAt(now - 5_000_000);
+        assertEquals(now - 7_200_000, early.getSavedAtMillis());
+        assertEquals(0, early.getHealth());
+        assertEquals(describe(replayer.stateAt(Long.MAX_VALUE)), describe(replayer.latest()));
+    }
+
+    /**
+     * Plays a random game the way {@link GameplayGUI} does, writing its journal and noting the game
+     * after each step by the number of entries written.
+     */
+    private void play(long start, long seed, int steps, SplittableRandom choices, Map<Integer, String> expected) throws Exception {
+        ActionJournal journal = ActionJournal.open(directory, start, seed, 50);
+        RewardRandom random = new RewardRandom(seed);
+        Inventory inventory = new Inventory(catalog, random);
+        inventory.fillDefault();
+        PetSimulationEngine engine = PetSimulationEngine.getDefault();
+        int[] stats = new int[PetSimulationEngine.STAT_COUNT];
+
+        long pet = PetState.pack(0, 70, 100, 70, 70);
+        journal.append(ActionJournal.START, 2, 0L, pet);
+        for (int id = 0; id < catalog.size(); id++) {
+            journal.appendHolding(id, inventory.getQuantity(id));
+        }
+        expected.put((int) journal.size(), describe(pet, 2, inventory));
+
+        for (int step = 0; step < steps; step++) {
+            long before = pet;
+            PetState.unpack(before, stats);
+            switch (choices.nextInt(5)) {
+                case 0:
+                    PetAction action = PetAction.values()[choices.nextInt(PetAction.values().length)];
+                    int gained = engine.apply(action, stats);
+                    pet = PetState.pack(PetState.score(before) + gained, stats);
+                    journal.append(ActionJournal.ACTION, action.ordinal(), before, pet);
+                    break;
+                case 1:
+                    int[] held = inventory.heldIds(choices.nextBoolean() ? ItemCatalog.FOOD : ItemCatalog.GIFT);
+                    if (held.length > 0) {
+                        ItemCatalog.ItemDefinition item = inventory.use(held[choices.nextInt(held.length)]);
+                        engine.applyItem(item.getStat(), item.getAmount(), stats);
+                        pet = PetState.pack(PetState.score(before), stats);
+                        journal.append(ActionJournal.ITEM, item.getId(), before, pet);
+                    }
+                    break;
+                case 2:
+                    boolean food = choices.nextBoolean();
+                    String name = inventory.addRandom(food ? ItemCatalog.FOOD : ItemCatalog.GIFT);
+                    journal.append(food ? ActionJournal.FOOD_REWARD : ActionJournal.GIFT_REWARD,
+                            name.isEmpty() ? -1 : catalog.find(name), pet);
+                    break;
+                default:
+                    for (int stat = 0; stat < stats.length; stat++) {
+                        stats[stat] = Math.max(0, stats[stat] - choices.nextInt(2));
+                    }
+                    pet = PetState.pack(PetState.score(before), stats);
+                    journal.append(ActionJournal.DECAY, 0, before, pet);
+            }
+            expected.put((int) journal.size(), describe(pet, 2, inventory));
+        }
+        journal.close();
+    }
+
+    private static String describe(long pet, int petNumber, Inventory inventory) {
+        GameState state = new GameState();
+        state.setScore(PetState.score(pet));
+        state.setHappiness(PetState.stat(pet, PetSimulationEngine.HAPPINESS));
+        state.setHealth(PetState.stat(pet, PetSimulationEngine.HEALTH));
+        state.setSleep(PetState.stat(pet, PetSimulationEngine.SLEEP));
+        state.setHunger(PetState.stat(pet, PetSimulationEngine.HUNGER));
+        state.setPetNumber(petNumber);
+        state.setInventory(inventory.toItemStacks());
+        return describe(state);
+    }
+
+    private static String describe(GameState state) {
+        StringBuilder text = new StringBuilder().append(state.getScore()).append(' ').append(state.getHappiness()).append(' ')
+                .append(state.getHealth()).append(' ').append(state.getSleep()).append(' ').append(state.getHunger())
+                .append(" pet ").append(state.getPetNumber());
+        for (GameState.ItemStack item : state.getInventory()) {
+            text.append(", ").append(item.getName()).append(" x").append(item.getQuantity());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,92 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for {@link PetGameServer}, talking to a server on a free local port.
+ */
+public class PetGameServerTest {
+
+    private Path saves;
+    private PetGameServer server;
+    private HttpClient client;
+    private String base;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        saves = Files.createTempDirectory("pet-server-test");
+        server = new PetGameServer(0, GameConfig.get(), saves);
+        client = HttpClient.newHttpClient();
+        base = "http://localhost:" + server.getPort() + "/sessions";
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        server.stop();
+        try (var files = Files.list(saves)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(saves);
+    }
+
+    /**
+     * Tests a session from creation to deletion: acting, cooling down, using an item and saving.
+     */
+    @Test
+    public void testSessionLifecycle() throws Exception {
+        HttpResponse<String> created = send("POST", base + "?pet=2");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"petNumber\": 2"), created.body());
+        assertTrue(created.headers().firstValue("Server-Timing").orElse("").startsWith("app;dur="));
+        assertEquals(1, server.getSessionCount());
+
+        String session = base + "/1";
+        HttpResponse<String> fed = send("POST", session + "/feed");
+        assertEquals(200, fed.statusCode());
+        assertTrue(fed.body().contains("\"hunger\": 80"), fed.body());
+
+        HttpResponse<String> again = send("POST", session + "/feed");
+        assertEquals(429, again.statusCode());
+        assertTrue(again.body().contains("remainingMillis"), again.body());
+
+        assertEquals(200, send("GET", session + "/inventory").statusCode());
+        assertEquals(400, send("POST", session + "/use").statusCode());
+        assertEquals(409, send("POST", session + "/use?item=Not%20an%20item").statusCode());
+
+        assertEquals(200, send("POST", session + "/save").statusCode());
+        GameState saved = SaveFile.read(saves.resolve("session1.dat"));
+        assertEquals(2, saved.getPetNumber());
+        assertEquals(20, saved.getScore());
+
+        assertEquals(200, send("DELETE", session).statusCode());
+        assertEquals(0, server.getSessionCount());
+        assertEquals(404, send("GET", session).statusCode());
+    }
+
+    /**
+     * Tests that unknown sessions, operations and methods are refused.
+     */
+    @Test
+    public void testBadRequests() throws Exception {
+        assertEquals(404, send("GET", base + "/42").statusCode());
+        assertEquals(404, send("GET", base + "/abc").statusCode());
+        assertEquals(405, send("GET", base).statusCode());
+        assertEquals(400, send("POST", base + "?pet=x").statusCode());
+
+        send("POST", base);
+        assertEquals(404, send("POST", base + "/1/dance").statusCode());
+    }
+
+    private HttpResponse<String> send(String method, String uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
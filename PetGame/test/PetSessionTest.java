@@ -0,0 +1,85 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for {@link PetSession}.
+ */
+public class PetSessionTest {
+
+    private long nowNanos;
+    private PetSession session;
+
+    @BeforeEach
+    public void setUp() {
+        nowNanos = 5_000_000_000L;
+        session = new PetSession(1, 1, GameConfig.get(), () -> nowNanos);
+    }
+
+    /**
+     * Tests that an action is refused while it cools down and allowed again once the cooldown has passed.
+     */
+    @Test
+    public void testCooldownBlocksRepeatedAction() {
+        long cooldownMillis = GameConfig.get().getCooldown(PetAction.FEED.getKey()) * 1000L;
+
+        assertTrue(session.perform(PetAction.FEED));
+        assertFalse(session.perform(PetAction.FEED));
+        assertEquals(cooldownMillis, session.getRemainingMillis(PetAction.FEED));
+        assertTrue(session.perform(PetAction.PLAY), "Other actions have their own cooldowns");
+
+        nowNanos += cooldownMillis * 1_000_000L;
+        assertEquals(0, session.getRemainingMillis(PetAction.FEED));
+        assertTrue(session.perform(PetAction.FEED));
+    }
+
+    /**
+     * Tests that an idle session catches up on decay exactly as if it had ticked every second.
+     */
+    @Test
+    public void testIdleSessionCatchesUpOnDecay() {
+        StatDecay decay = StatDecay.fromConfig(GameConfig.get());
+        int[] expected = {70, 100, 70, 70};
+        long seconds = 0;
+        for (long step : new long[] {1, 29, 600, 3, 7200}) {
+            nowNanos += step * 1_000_000_000L;
+            for (long i = 0; i < step; i++) {
+                decay.tick(++seconds, expected);
+            }
+
+            GameState state = session.toGameState();
+            assertEquals(expected[PetSimulationEngine.HAPPINESS], state.getHappiness(), "After " + seconds + " s");
+            assertEquals(expected[PetSimulationEngine.HEALTH], state.getHealth(), "After " + seconds + " s");
+            assertEquals(expected[PetSimulationEngine.SLEEP], state.getSleep(), "After " + seconds + " s");
+            assertEquals(expected[PetSimulationEngine.HUNGER], state.getHunger(), "After " + seconds + " s");
+        }
+    }
+
+    /**
+     * Tests that a pet that has died can not do anything.
+     */
+    @Test
+    public void testDeadPetDoesNothing() {
+        nowNanos += 365L * 24 * 3600 * 1_000_000_000L;
+        assertTrue(session.isDead());
+        assertFalse(session.perform(PetAction.VET));
+        assertNull(session.useItem("Apple"));
+    }
+
+    /**
+     * Tests that using an item takes it from the session's inventory and applies it to the pet.
+     */
+    @Test
+    public void testUseItem() {
+        Inventory inventory = session.getInventory();
+        int apple = inventory.getCatalog().find("Apple");
+        inventory.add(apple, 1);
+        int held = inventory.getQuantity(apple);
+        int hunger = session.toGameState().getHunger();
+
+        ItemCatalog.ItemDefinition used = session.useItem("apple");
+        assertNotNull(used);
+        assertEquals(held - 1, inventory.getQuantity(apple));
+        assertEquals(Math.min(PetSimulationEngine.MAX_STAT, hunger + used.getAmount()), session.toGameState().getHunger());
+        assertNull(session.useItem("Not an item"));
+    }
+}
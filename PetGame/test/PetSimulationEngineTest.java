@@ -0,0 +1,81 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the {@link PetSimulationEngine} class.
+ *
+ * <p>The engine has no Swing dependency, so these tests run without creating any windows.
+ */
+public class PetSimulationEngineTest {
+
+    private PetSimulationEngine engine;
+
+    /**
+     * Uses the game's default rules for every test.
+     */
+    @BeforeEach
+    public void setUp() {
+        engine = PetSimulationEngine.getDefault();
+    }
+
+    /**
+     * Tests that feeding applies the feed screen's stat changes and score.
+     */
+    @Test
+    public void testFeedAppliesDeltas() {
+        int[] stats = {70, 50, 70, 70};
+        int score = engine.apply(PetAction.FEED, stats);
+
+        assertArrayEquals(new int[] {72, 58, 69, 80}, stats, "Feed should change happiness, health, sleep and hunger");
+        assertEquals(20, score, "Every action should be worth 20 points");
+    }
+
+    /**
+     * Tests that stats never leave the 0-100 range.
+     */
+    @Test
+    public void testStatsAreClamped() {
+        int[] stats = {95, 95, 100, 98};
+        engine.apply(PetAction.FEED, stats);
+        assertEquals(97, stats[PetSimulationEngine.HAPPINESS]);
+        assertEquals(100, stats[PetSimulationEngine.HEALTH], "Health should stop at 100");
+        assertEquals(100, stats[PetSimulationEngine.HUNGER], "Hunger should stop at 100");
+
+        int[] low = {5, 100, 5, 5};
+        engine.apply(PetAction.PLAY, low);
+        assertEquals(0, low[PetSimulationEngine.SLEEP], "Sleep should stop at 0");
+        assertEquals(0, low[PetSimulationEngine.HUNGER], "Hunger should stop at 0");
+    }
+
+    /**
+     * Tests that health is lost when another stat has run out.
+     */
+    @Test
+    public void testZeroStatPenalty() {
+        int[] stats = {50, 50, 5, 50};
+        engine.apply(PetAction.PLAY, stats);
+
+        // -10 from playing and -10 because sleep ran out
+        assertEquals(30, stats[PetSimulationEngine.HEALTH]);
+    }
+
+    /**
+     * Tests that items only raise the stat they affect.
+     */
+    @Test
+    public void testApplyItem() {
+        int[] stats = {50, 50, 50, 95};
+        engine.applyItem(PetSimulationEngine.HUNGER, 10, stats);
+
+        assertArrayEquals(new int[] {50, 50, 50, 100}, stats);
+    }
+
+    /**
+     * Tests that the pet is only dead once health reaches 0.
+     */
+    @Test
+    public void testIsDead() {
+        assertFalse(engine.isDead(new int[] {0, 1, 0, 0}));
+        assertTrue(engine.isDead(new int[] {100, 0, 100, 100}));
+    }
+}
@@ -0,0 +1,81 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Unit tests for {@link PetState}.
+ */
+public class PetStateTest {
+
+    /**
+     * Tests that the score and every stat come back out of the packed long unchanged.
+     */
+    @Test
+    public void testPackAndUnpack() {
+        long packed = PetState.pack(123_456, 1, 100, 0, 55);
+
+        assertEquals(123_456, PetState.score(packed));
+        assertArrayEquals(new int[] {1, 100, 0, 55}, PetState.unpack(packed, new int[PetSimulationEngine.STAT_COUNT]));
+        assertEquals(-5, PetState.score(PetState.withScore(packed, -5)), "Negative scores keep their sign");
+        assertEquals(55, PetState.stat(PetState.withScore(packed, -5), PetSimulationEngine.HUNGER));
+    }
+
+    /**
+     * Tests that stats outside 0-100 are clamped instead of spilling into the next stat.
+     */
+    @Test
+    public void testStatsAreClamped() {
+        long packed = PetState.pack(0, 300, -4, 70, 70);
+
+        assertEquals(100, PetState.stat(packed, PetSimulationEngine.HAPPINESS));
+        assertEquals(0, PetState.stat(packed, PetSimulationEngine.HEALTH));
+        assertEquals(70, PetState.stat(packed, PetSimulationEngine.SLEEP));
+    }
+
+    /**
+     * Tests that setting the stats keeps the score and adding to the score keeps the stats.
+     */
+    @Test
+    public void testUpdatesKeepTheOtherHalf() {
+        PetState state = new PetState(40, 70, 100, 70, 70);
+
+        state.setStats(10, 20, 30, 40);
+        state.addScore(5);
+
+        assertEquals(PetState.pack(45, 10, 20, 30, 40), state.get());
+    }
+
+    /**
+     * Tests that score added from many threads at once is never lost.
+     */
+    @Test
+    public void testConcurrentUpdatesAreNotLost() throws InterruptedException {
+        PetState state = new PetState(0, 70, 100, 70, 70);
+        int threads = 4;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    state.addScore(1);
+                    state.setStats(70, 100, 70, 70);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, PetState.score(state.get()));
+    }
+}
@@ -0,0 +1,179 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for {@link PlaytimeRestrictions} and {@link PlaytimeGuard}, using a fake clock so no test has to wait.
+ */
+public class PlaytimeRestrictionsTest {
+
+    /**
+     * Tests that a restriction blocks its minutes on its day and nothing else.
+     */
+    @Test
+    public void testRestrictionBlocksItsMinutes() {
+        PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder().block("Monday", "12:00", "13:00").build();
+
+        assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 11 * 60 + 59)));
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 12 * 60)));
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 12 * 60 + 59)));
+        assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 13 * 60)));
+        assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.TUESDAY, 12 * 60 + 30)));
+    }
+
+    /**
+     * Tests every day restrictions, the old one hour form, 12 hour times and restrictions past midnight.
+     */
+    @Test
+    public void testRestrictionForms() {
+        PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder()
+                .block(null, "9:00 PM", "7:00 AM")
+                .block("Sun", "12:00 PM", null)
+                .build();
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(day, 22 * 60)), day + " night");
+            assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(day, 6 * 60)), day + " morning");
+            assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(day, 7 * 60)), day + " day");
+        }
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.SUNDAY, 12 * 60 + 59)));
+        assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.SUNDAY, 13 * 60)));
+
+        assertEquals(0, PlaytimeRestrictions.parseTime("12:00 AM"));
+        assertEquals(12 * 60, PlaytimeRestrictions.parseTime("12:00 PM"));
+        assertThrows(IllegalArgumentException.class, () -> PlaytimeRestrictions.parseTime("25:00"));
+        assertThrows(IllegalArgumentException.class, () -> new PlaytimeRestrictions.Builder().block("Someday", "1:00", null));
+    }
+
+    /**
+     * Tests that the next change is found within a day, across the end of the week, and not at all without restrictions.
+     */
+    @Test
+    public void testMinutesUntilChange() {
+        PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder().block("Monday", "12:00", "13:00").build();
+        int noon = PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 12 * 60);
+
+        assertEquals(60, restrictions.minutesUntilChange(noon - 60));
+        assertEquals(60, restrictions.minutesUntilChange(noon));
+        assertEquals(1, restrictions.minutesUntilChange(noon + 59));
+        //From Monday 13:00 round the whole week to the next Monday noon
+        assertEquals(PlaytimeRestrictions.MINUTES_PER_WEEK - 60, restrictions.minutesUntilChange(noon + 60));
+        assertEquals(-1, PlaytimeRestrictions.none().minutesUntilChange(noon));
+    }
+
+    /**
+     * Tests that the next change is found by the word scan exactly where checking every minute finds it.
+     */
+    @Test
+    public void testMinutesUntilChangeMatchesMinuteByMinute() {
+        PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder()
+                .block(PlaytimeRestrictions.MINUTES_PER_WEEK - 10, 20)
+                .block(63, 2)
+                .block(5000, 700)
+                .build();
+
+        for (int minute = 0; minute < PlaytimeRestrictions.MINUTES_PER_WEEK; minute++) {
+            int expected = 1;
+            while (restrictions.isAllowed((minute + expected) % PlaytimeRestrictions.MINUTES_PER_WEEK) == restrictions.isAllowed(minute)) {
+                expected++;
+            }
+            assertEquals(expected, restrictions.minutesUntilChange(minute), "From minute " + minute);
+        }
+    }
+
+    /**
+     * Tests that the minute of the week worked out from a moment matches the calendar.
+     */
+    @Test
+    public void testMinuteOfWeekFromMillis() {
+        LocalDateTime time = LocalDateTime.of(2024, 3, 6, 17, 45);
+        long millis = time.toInstant(ZoneOffset.ofHours(-5)).toEpochMilli();
+
+        assertEquals(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.WEDNESDAY, 17 * 60 + 45),
+                PlaytimeRestrictions.minuteOfWeek(millis, -5 * 3600 * 1000));
+    }
+
+    /**
+     * Tests that the configuration's restrictions, in both forms, are compiled.
+     */
+    @Test
+    public void testFromConfig() {
+        GameConfig config = GameConfig.parse("{\"parentalControls\": {\"playTimeRestrictions\": ["
+                + "{\"day\": \"Monday\", \"time\": \"12:00\"},"
+                + "{\"day\": \"Friday\", \"start\": \"18:00\", \"end\": \"20:00\"},"
+                + "{\"day\": \"Friday\", \"start\": \"never\"}]}}");
+
+        PlaytimeRestrictions restrictions = PlaytimeRestrictions.fromConfig(config);
+
+        assertEquals(3, config.getPlayTimeRestrictions().size());
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 12 * 60 + 30)));
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.FRIDAY, 19 * 60)));
+        assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.FRIDAY, 20 * 60)));
+        assertTrue(PlaytimeRestrictions.fromConfig(GameConfig.defaults()).isEmpty());
+    }
+
+    /**
+     * Tests that a saved daily restriction is added to the configuration's when the restrictions are loaded again.
+     */
+    @Test
+    public void testDailyRestrictionIsSaved(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve(PlaytimeRestrictions.DAILY_FILE);
+        GameConfig config = GameConfig.parse("{\"parentalControls\": {\"playTimeRestrictions\": ["
+                + "{\"day\": \"Monday\", \"start\": \"8:00\", \"end\": \"9:00\"}]}}");
+        assertTrue(PlaytimeRestrictions.load(GameConfig.defaults(), file).isEmpty(), "Nothing is blocked before a restriction is saved");
+
+        PlaytimeRestrictions.saveDaily(file, "3:00 PM", "5:00 PM");
+        PlaytimeRestrictions.saveDaily(file, "1:00 PM", "2:00 PM");
+        PlaytimeRestrictions restrictions = PlaytimeRestrictions.load(config, file);
+
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.MONDAY, 8 * 60 + 30)));
+        assertFalse(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.SUNDAY, 13 * 60 + 30)));
+        assertTrue(restrictions.isAllowed(PlaytimeRestrictions.minuteOfWeek(DayOfWeek.SUNDAY, 15 * 60 + 30)), "The earlier restriction was replaced");
+        assertThrows(IllegalArgumentException.class, () -> PlaytimeRestrictions.saveDaily(file, "noon", "1:00 PM"));
+
+        Files.writeString(file, "garbage");
+        assertTrue(PlaytimeRestrictions.load(GameConfig.defaults(), file).isEmpty(), "A damaged file is skipped");
+    }
+
+    /**
+     * Tests that the guard follows the clock, wakes up at the next boundary and tells listeners only when play is locked or unlocked.
+     */
+    @Test
+    public void testGuardLocksAndUnlocksAtBoundaries() {
+        ZoneId zone = ZoneOffset.UTC;
+        AtomicLong clock = new AtomicLong(LocalDateTime.of(2024, 3, 4, 11, 30).toInstant(ZoneOffset.UTC).toEpochMilli());
+        PlaytimeRestrictions restrictions = new PlaytimeRestrictions.Builder().block("Monday", "12:00", "13:00").build();
+        PlaytimeGuard guard = new PlaytimeGuard(restrictions, zone, clock::get, false);
+        List<Boolean> changes = new ArrayList<>();
+        guard.addListener(changes::add);
+
+        assertTrue(guard.isPlayAllowed());
+        assertEquals(clock.get() + 30 * 60_000L, guard.getNextWakeUpMillis());
+
+        clock.addAndGet(10 * 60_000L);
+        guard.refresh();
+        assertTrue(changes.isEmpty(), "Nothing changed before the boundary");
+
+        clock.addAndGet(20 * 60_000L);
+        assertFalse(guard.isPlayAllowed());
+        guard.refresh();
+        assertEquals(List.of(false), changes);
+        assertEquals(clock.get() + 60 * 60_000L, guard.getNextWakeUpMillis());
+
+        guard.setRestrictions(PlaytimeRestrictions.none());
+        assertTrue(guard.isPlayAllowed());
+        assertEquals(List.of(false, true), changes);
+        assertEquals(-1, guard.getNextWakeUpMillis());
+    }
+}
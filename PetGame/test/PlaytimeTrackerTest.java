@@ -0,0 +1,155 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link PlaytimeTracker}, using fake clocks so no test has to wait.
+ */
+public class PlaytimeTrackerTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long DAY = 24 * 60 * MINUTE;
+
+    private Path directory;
+    private Path file;
+    private AtomicLong wallClock;
+    private AtomicLong nanoClock;
+    private PlaytimeTracker tracker;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("playtime-test");
+        file = directory.resolve(PlaytimeTracker.FILE);
+        //Wednesday 6 March 2024, 10:00
+        wallClock = new AtomicLong(LocalDateTime.of(2024, 3, 6, 10, 0).toInstant(ZoneOffset.UTC).toEpochMilli());
+        nanoClock = new AtomicLong(1_000_000_000L);
+        tracker = open(0);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        tracker.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Tests that a session's time is counted by the monotonic clock, even when the wall clock jumps.
+     */
+    @Test
+    public void testSessionTimeIsCounted() {
+        PlaytimeTracker.Session session = tracker.startSession();
+        play(25 * MINUTE);
+        wallClock.addAndGet(-3 * 3_600_000L);
+        session.stop();
+        session.stop();
+        play(60 * MINUTE);
+
+        assertEquals(25 * MINUTE, tracker.getTodayMillis());
+        assertEquals(25 * MINUTE, tracker.getTotalMillis());
+        assertEquals(1, tracker.getSessionCount());
+    }
+
+    /**
+     * Tests that overlapping sessions count their shared time once.
+     */
+    @Test
+    public void testOverlappingSessionsCountOnce() {
+        PlaytimeTracker.Session first = tracker.startSession();
+        play(10 * MINUTE);
+        PlaytimeTracker.Session second = tracker.startSession();
+        play(10 * MINUTE);
+        first.stop();
+        play(5 * MINUTE);
+        second.stop();
+
+        assertEquals(25 * MINUTE, tracker.getTotalMillis());
+    }
+
+    /**
+     * Tests that checkpoints are kept in the file, so a game that crashes without stopping its session
+     * only loses the time since the last checkpoint.
+     */
+    @Test
+    public void testCheckpointsSurviveACrash() throws IOException {
+        tracker.startSession();
+        play(15 * MINUTE);
+        tracker.checkpoint();
+        play(4_000);
+
+        //Opened again without closing, as after a crash
+        PlaytimeTracker reopened = open(0);
+        try {
+            assertEquals(15 * MINUTE, reopened.getTotalMillis());
+            assertEquals(1, reopened.getSessionCount());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    /**
+     * Tests that the day starts at the reset time, the week on Monday, and the rolling total drops days older than 30.
+     */
+    @Test
+    public void testDaysWeeksAndRollingTotal() throws IOException {
+        tracker.close();
+        //The play day starts at 6:00
+        tracker = open(6 * 60);
+        tracker.addMillis(30 * MINUTE);
+
+        //Thursday 5:00 is still Wednesday's play day
+        wallClock.addAndGet(19 * 3_600_000L);
+        tracker.addMillis(10 * MINUTE);
+        assertEquals(40 * MINUTE, tracker.getTodayMillis());
+
+        //Thursday 6:00 starts a new day in the same week
+        wallClock.addAndGet(3_600_000L);
+        assertEquals(0, tracker.getTodayMillis());
+        tracker.addMillis(20 * MINUTE);
+        assertEquals(60 * MINUTE, tracker.getWeekMillis());
+
+        //The next Monday starts a new week
+        wallClock.addAndGet(4 * DAY);
+        assertEquals(0, tracker.getWeekMillis());
+        assertEquals(60 * MINUTE, tracker.getRollingMillis());
+
+        //29 days after Wednesday it has left the rolling total, and Thursday leaves the day after
+        wallClock.addAndGet(25 * DAY);
+        assertEquals(20 * MINUTE, tracker.getRollingMillis());
+        wallClock.addAndGet(DAY);
+        assertEquals(0, tracker.getRollingMillis());
+        assertEquals(60 * MINUTE, tracker.getTotalMillis());
+    }
+
+    /**
+     * Tests that the average a day only counts the days since the game was first played.
+     */
+    @Test
+    public void testAverageDaily() {
+        tracker.addMillis(60 * MINUTE);
+        wallClock.addAndGet(DAY);
+        tracker.addMillis(30 * MINUTE);
+
+        assertEquals(45 * MINUTE, tracker.getAverageDailyMillis());
+
+        wallClock.addAndGet(100 * DAY);
+        assertEquals(0, tracker.getAverageDailyMillis());
+    }
+
+    private PlaytimeTracker open(int resetMinute) throws IOException {
+        return new PlaytimeTracker(file, resetMinute, ZoneOffset.UTC, wallClock::get, nanoClock::get);
+    }
+
+    private void play(long millis) {
+        nanoClock.addAndGet(millis * 1_000_000L);
+    }
+}
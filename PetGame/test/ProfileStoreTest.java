@@ -0,0 +1,195 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Unit tests for {@link ProfileStore}, with the store and any old save slots in a temporary folder.
+ */
+public class ProfileStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private ProfileStore store;
+
+    @BeforeEach
+    public void setUp() {
+        file = tempDir.resolve("profiles.store");
+        store = new ProfileStore(file, ProfileStore.COMPACT_MIN_BYTES);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        store.close();
+    }
+
+    /**
+     * Tests that profiles are saved, listed by name and loaded, and that they are all there after opening the file again.
+     */
+    @Test
+    public void testSaveLoadAndReopen() throws IOException {
+        store.save("Maya", state(1240, 2));
+        store.save("ali", state(80, 1));
+        store.save("Maya", state(1300, 2));
+
+        assertEquals(1300, store.load("Maya").getScore());
+        assertNull(store.load("Sam"));
+
+        store.close();
+        ProfileStore reopened = new ProfileStore(file, ProfileStore.COMPACT_MIN_BYTES);
+        try {
+            List<ProfileStore.Profile> profiles = reopened.profiles();
+            assertEquals(2, profiles.size());
+            assertEquals("ali", profiles.get(0).getName());
+            assertEquals("Maya", profiles.get(1).getName());
+            assertEquals(1300, profiles.get(1).getHeader().getScore());
+            assertEquals(1, profiles.get(1).getNumber(), "A profile keeps its first number");
+            assertEquals(80, reopened.load("ali").getScore());
+            assertEquals(3, reopened.numberOf("Sam"), "New names get the next number");
+        } finally {
+            reopened.close();
+        }
+    }
+
+    /**
+     * Tests that replaced and deleted records are compacted away once there are enough of them.
+     */
+    @Test
+    public void testDeadRecordsAreCompacted() throws IOException {
+        store = new ProfileStore(file, 1_000);
+        store.save("Keep", state(1, 1));
+        for (int i = 0; i < 50; i++) {
+            store.save("Busy", state(i, 3));
+            assertTrue(store.getDeadBytes() < 1_000 + 200, "Compacted before the dead space grows far past the limit");
+        }
+        assertTrue(store.delete("Busy"));
+        assertFalse(store.delete("Busy"));
+        store.compact();
+
+        assertEquals(0, store.getDeadBytes());
+        assertEquals(1, store.size());
+        assertEquals(1, store.load("Keep").getScore());
+        assertTrue(Files.size(file) < 200, "Only the live record is left");
+
+        store.close();
+        assertNull(store.load("Busy"), "The delete is kept after opening again");
+    }
+
+    /**
+     * Tests that a record cut short by a crash is dropped and the store carries on after the last good record.
+     */
+    @Test
+    public void testDamagedEndIsCutOff() throws IOException {
+        store.save("First", state(10, 1));
+        long good = Files.size(file);
+        store.save("Second", state(20, 1));
+        store.close();
+
+        //Lose the end of the last record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 3);
+        }
+
+        assertEquals(1, store.size());
+        assertEquals(good, Files.size(file));
+        store.save("Third", state(30, 1));
+        store.close();
+        assertEquals(30, store.load("Third").getScore());
+        assertEquals(10, store.load("First").getScore());
+    }
+
+    /**
+     * Tests that a record failing its checksum in the middle of the file is skipped, keeping the profiles after it.
+     */
+    @Test
+    public void testDamagedRecordIsSkipped() throws IOException {
+        store.save("First", state(10, 1));
+        long second = Files.size(file);
+        store.save("Second", state(20, 1));
+        store.save("Third", state(30, 1));
+        store.close();
+
+        //Flip a byte inside the second record's save
+        byte[] data = Files.readAllBytes(file);
+        data[(int) second + 20] ^= 0x55;
+        Files.write(file, data);
+
+        assertEquals(2, store.size());
+        assertNull(store.load("Second"));
+        assertEquals(30, store.load("Third").getScore());
+        assertEquals(data.length, Files.size(file), "Nothing is cut off");
+        assertTrue(Files.exists(tempDir.resolve("profiles.store.damaged")));
+    }
+
+    /**
+     * Tests that a store whose record length is damaged is not opened, so the records after it are not lost.
+     */
+    @Test
+    public void testDamagedLengthRefusesToOpen() throws IOException {
+        store.save("First", state(10, 1));
+        long second = Files.size(file);
+        store.save("Second", state(20, 1));
+        store.close();
+
+        byte[] data = Files.readAllBytes(file);
+        data[(int) second] = 0x7F;
+        Files.write(file, data);
+
+        assertThrows(IOException.class, () -> store.size());
+        assertArrayEquals(data, Files.readAllBytes(file));
+        assertArrayEquals(data, Files.readAllBytes(tempDir.resolve("profiles.store.damaged")));
+    }
+
+    /**
+     * Tests that games on the old save slots are copied in when the store is first made.
+     */
+    @Test
+    public void testOldSlotsAreImported() throws IOException {
+        SaveFile.write(tempDir.resolve("save1.dat"), state(500, 2));
+        Files.write(tempDir.resolve("save3.txt"), "75\n60\n90\n40\n30\n3\nApple,food,Restores 10 hunger\n".getBytes(StandardCharsets.UTF_8));
+
+        List<ProfileStore.Profile> profiles = store.profiles();
+
+        assertEquals(2, profiles.size());
+        assertEquals(ProfileStore.SLOT_PROFILE + 1, profiles.get(0).getName());
+        assertEquals(500, profiles.get(0).getHeader().getScore());
+        assertEquals(1, store.load(ProfileStore.SLOT_PROFILE + 3).getInventory().size());
+
+        //Only when the store is made, so a deleted slot profile stays deleted
+        store.delete(ProfileStore.SLOT_PROFILE + 1);
+        store.close();
+        assertEquals(1, store.size());
+    }
+
+    /**
+     * Tests that blank, padded and overly long names are refused.
+     */
+    @Test
+    public void testNamesAreChecked() {
+        assertThrows(IllegalArgumentException.class, () -> store.save(" ", state(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> store.save(" Maya", state(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> store.save("x".repeat(ProfileStore.MAX_NAME_BYTES + 1), state(1, 1)));
+        ProfileStore.checkName("x".repeat(ProfileStore.MAX_NAME_BYTES));
+    }
+
+    private static GameState state(int score, int petNumber) {
+        GameState state = new GameState();
+        state.setScore(score);
+        state.setHappiness(50);
+        state.setHealth(90);
+        state.setSleep(40);
+        state.setHunger(30);
+        state.setPetNumber(petNumber);
+        state.setSavedAtMillis(1_700_000_000_000L);
+        return state;
+    }
+}
@@ -0,0 +1,219 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Unit tests for the {@link SaveFile} binary save format.
+ */
+public class SaveFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a saved game with one stack of each item type.
+     */
+    private GameState sampleState() {
+        GameState state = new GameState();
+        state.setScore(1240);
+        state.setHappiness(72);
+        state.setHealth(100);
+        state.setSleep(0);
+        state.setHunger(55);
+        state.setPetNumber(3);
+
+        List<GameState.ItemStack> inventory = new ArrayList<>();
+        inventory.add(new GameState.ItemStack("Apple", "food", "Restores 10 hunger", 3));
+        inventory.add(new GameState.ItemStack("Teddy Bear", "gift", "Increases happiness +15", 200));
+        state.setInventory(inventory);
+        return state;
+    }
+
+    /**
+     * Tests that the time left on each action's cooldown survives a write and read.
+     */
+    @Test
+    public void testRoundTripKeepsCooldowns() throws IOException {
+        GameState state = sampleState();
+        state.setCooldownMillis(new long[] {0, 4200, 0, 900});
+
+        GameState loaded = SaveFile.decode(SaveFile.encode(state));
+
+        assertArrayEquals(new long[] {0, 4200, 0, 900}, loaded.getCooldownMillis());
+    }
+
+    /**
+     * Tests that the save time survives a write and read, and saves from before it was saved load without one.
+     */
+    @Test
+    public void testSaveTimeRoundTrip() throws IOException {
+        GameState state = sampleState();
+        state.setSavedAtMillis(1_700_000_000_123L);
+        byte[] current = SaveFile.encode(state);
+
+        assertEquals(1_700_000_000_123L, SaveFile.decode(current).getSavedAtMillis());
+        assertEquals(1_700_000_000_123L, SaveFile.decode(encodeOld(state, 3)).getSavedAtMillis());
+        assertEquals(0, SaveFile.decode(encodeOld(state, 2)).getSavedAtMillis());
+    }
+
+    /**
+     * Tests that saves from before cooldowns were saved still load, with every action ready.
+     */
+    @Test
+    public void testVersionOneSaveStillLoads() throws IOException {
+        GameState loaded = SaveFile.decode(encodeOld(sampleState(), 1));
+
+        assertEquals(1240, loaded.getScore());
+        assertEquals(200, loaded.getInventory().get(1).getQuantity());
+        assertEquals(0, loaded.getCooldownMillis().length);
+    }
+
+    /**
+     * Tests that every field, including item quantities, survives a write and read.
+     */
+    @Test
+    public void testRoundTripKeepsQuantities() throws IOException {
+        Path file = tempDir.resolve("save1.dat");
+        SaveFile.write(file, sampleState());
+        GameState loaded = SaveFile.read(file);
+
+        assertEquals(1240, loaded.getScore());
+        assertEquals(72, loaded.getHappiness());
+        assertEquals(100, loaded.getHealth());
+        assertEquals(0, loaded.getSleep());
+        assertEquals(55, loaded.getHunger());
+        assertEquals(3, loaded.getPetNumber());
+
+        assertEquals(2, loaded.getInventory().size());
+        assertEquals("Teddy Bear", loaded.getInventory().get(1).getName());
+        assertEquals("gift", loaded.getInventory().get(1).getType());
+        assertEquals(200, loaded.getInventory().get(1).getQuantity(), "Quantities should no longer be dropped");
+    }
+
+    /**
+     * Tests that a damaged file is reported instead of loaded.
+     */
+    @Test
+    public void testCorruptFileIsRejected() {
+        byte[] data = SaveFile.encode(sampleState());
+        data[10] ^= 0x01;
+
+        assertThrows(IOException.class, () -> SaveFile.decode(data));
+        assertThrows(IOException.class, () -> SaveFile.decode("100\n".getBytes()));
+    }
+
+    /**
+     * Tests that old text saves are read, with repeated items counted as quantity.
+     */
+    @Test
+    public void testParseLegacyTextSave() throws IOException {
+        String text = "20\n72\n90\n65\n80\n2\n"
+            + "Apple,food,Restores 10 hunger\n"
+            + "Apple,food,Restores 10 hunger\n"
+            + "Toy,gift,Increases happiness +10\n";
+        GameState state = SaveFile.parseLegacy(text);
+
+        assertEquals(20, state.getScore());
+        assertEquals(2, state.getPetNumber());
+        assertEquals(2, state.getInventory().size());
+        assertEquals(2, state.getInventory().get(0).getQuantity());
+        assertEquals("gift", state.getInventory().get(1).getType());
+    }
+
+    /**
+     * Tests that files larger than the save limit are not read into memory.
+     */
+    @Test
+    public void testOversizedFileIsRejected() throws IOException {
+        Path file = tempDir.resolve("huge.dat");
+        Files.write(file, new byte[SaveFile.MAX_SIZE + 1]);
+
+        assertThrows(IOException.class, () -> SaveFile.read(file));
+    }
+
+    /**
+     * Tests that the header describes the save from its first bytes alone.
+     */
+    @Test
+    public void testHeaderIsReadWithoutTheRest() throws IOException {
+        GameState state = sampleState();
+        state.setSavedAtMillis(1_700_000_000_123L);
+        byte[] data = SaveFile.encode(state);
+
+        //Only the header is written, so reading any further would fail
+        Path file = tempDir.resolve("save1.dat");
+        Files.write(file, Arrays.copyOf(data, SaveFile.HEADER_SIZE));
+        SaveFile.Header header = SaveFile.readHeader(file);
+
+        assertEquals(1240, header.getScore());
+        assertEquals(72, header.getHappiness());
+        assertEquals(100, header.getHealth());
+        assertEquals(0, header.getSleep());
+        assertEquals(55, header.getHunger());
+        assertEquals(3, header.getPetNumber());
+        assertEquals(1_700_000_000_123L, header.getSavedAtMillis());
+        assertEquals(203, header.getItemTotal());
+    }
+
+    /**
+     * Tests that a damaged header is reported, and that saves from before the header are read in full.
+     */
+    @Test
+    public void testHeaderChecksAndOldSaves() throws IOException {
+        byte[] data = SaveFile.encode(sampleState());
+        data[12] ^= 0x01;
+        assertThrows(IOException.class, () -> SaveFile.decodeHeader(data));
+
+        Path file = tempDir.resolve("save2.dat");
+        Files.write(file, encodeOld(sampleState(), 2));
+        assertEquals(203, SaveFile.readHeader(file).getItemTotal());
+    }
+
+    /**
+     * Encodes a game the way versions 1 to 3 did, before the header held the save time and item total.
+     */
+    private static byte[] encodeOld(GameState state, int version) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.putInt(SaveFile.MAGIC).put((byte) version).putInt(state.getScore());
+        buffer.put((byte) state.getHappiness()).put((byte) state.getHealth()).put((byte) state.getSleep());
+        buffer.put((byte) state.getHunger()).put((byte) state.getPetNumber());
+
+        //Every count and length in the sample fits in one varint byte, apart from the quantity of 200
+        buffer.put((byte) state.getInventory().size());
+        for (GameState.ItemStack item : state.getInventory()) {
+            buffer.put((byte) item.getName().length()).put(item.getName().getBytes());
+            buffer.put((byte) ("gift".equals(item.getType()) ? 1 : 0));
+            buffer.put((byte) item.getEffect().length()).put(item.getEffect().getBytes());
+            int quantity = item.getQuantity();
+            if (quantity < 0x80) {
+                buffer.put((byte) quantity);
+            } else {
+                buffer.put((byte) ((quantity & 0x7F) | 0x80)).put((byte) (quantity >>> 7));
+            }
+        }
+        if (version >= 2) {
+            long[] cooldowns = state.getCooldownMillis();
+            buffer.put((byte) cooldowns.length);
+            for (long millis : cooldowns) {
+                buffer.put((byte) millis);
+            }
+        }
+        if (version >= 3) {
+            buffer.putLong(state.getSavedAtMillis());
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
@@ -0,0 +1,69 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the background {@link SaveWriter}.
+ */
+public class SaveWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static GameState stateWithScore(int score) {
+        GameState state = new GameState();
+        state.setScore(score);
+        state.setHealth(100);
+        state.setPetNumber(1);
+        return state;
+    }
+
+    /**
+     * Tests that rapid saves to the same file end with the latest snapshot on disk
+     * and that every caller hears back on the EDT.
+     */
+    @Test
+    public void testRapidSavesKeepLatestSnapshot() throws Exception {
+        Path file = tempDir.resolve("save1.dat");
+        int saves = 50;
+        CountDownLatch done = new CountDownLatch(saves);
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 1; i <= saves; i++) {
+            SaveWriter.get().save(file, stateWithScore(i), error -> {
+                if (error != null || !javax.swing.SwingUtilities.isEventDispatchThread()) {
+                    failures.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Every save should report back");
+        assertEquals(0, failures.get(), "Callbacks should succeed on the EDT");
+        assertEquals(saves, SaveFile.read(file).getScore(), "The last snapshot should win");
+    }
+
+    /**
+     * Tests that a failed write is reported to the caller.
+     */
+    @Test
+    public void testFailedSaveReportsError() throws Exception {
+        Path file = tempDir.resolve("missing-dir").resolve("save1.dat");
+        CountDownLatch done = new CountDownLatch(1);
+        IOException[] result = new IOException[1];
+
+        SaveWriter.get().save(file, stateWithScore(1), error -> {
+            result[0] = error;
+            done.countDown();
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNotNull(result[0], "Writing into a missing directory should fail");
+    }
+}
@@ -0,0 +1,62 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+/**
+ * Unit tests for {@link ScreenNavigator}. The window is only made when a screen is shown, so these
+ * tests only build screens and run without a display.
+ */
+public class ScreenNavigatorTest {
+
+    /** A screen that counts how many times it was built. */
+    static class CountedScreen extends JPanel {
+        static int built;
+
+        CountedScreen() {
+            built++;
+        }
+    }
+
+    /** A second kind of screen. */
+    static class OtherScreen extends JPanel {
+    }
+
+    private ScreenNavigator navigator;
+
+    @BeforeEach
+    public void setUp() {
+        CountedScreen.built = 0;
+        navigator = new ScreenNavigator();
+    }
+
+    /**
+     * Tests that a screen is built the first time it is asked for and the same one is handed back after that.
+     */
+    @Test
+    public void testScreenIsBuiltOnce() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            CountedScreen first = navigator.screen(CountedScreen.class, CountedScreen::new);
+            CountedScreen second = navigator.screen(CountedScreen.class, CountedScreen::new);
+
+            assertSame(first, second);
+            assertEquals(1, CountedScreen.built);
+            assertEquals(1, navigator.getScreenCount());
+        });
+    }
+
+    /**
+     * Tests that each kind of screen gets its own card and nothing is shown until a screen is.
+     */
+    @Test
+    public void testEachKindGetsACard() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            navigator.screen(CountedScreen.class, CountedScreen::new);
+            navigator.screen(OtherScreen.class, OtherScreen::new);
+
+            assertEquals(2, navigator.getScreenCount());
+            assertNull(navigator.getCurrent());
+        });
+    }
+}
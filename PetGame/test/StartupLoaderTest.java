@@ -0,0 +1,97 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for {@link StartupLoader}, with made up loads on a small pool and a fake clock.
+ */
+public class StartupLoaderTest {
+
+    private AtomicLong clock;
+    private StartupLoader loader;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new AtomicLong(5_000_000_000L);
+        loader = new StartupLoader(Executors.newFixedThreadPool(2), clock::get, 100);
+    }
+
+    /**
+     * Tests that the game is only interactive once every load has finished and the first frame is up,
+     * and that the report lists each load and moment.
+     */
+    @Test
+    public void testInteractiveAfterLoadsAndFirstFrame() throws Exception {
+        AtomicInteger ran = new AtomicInteger();
+        Map<String, List<Runnable>> loads = new LinkedHashMap<>();
+        loads.put("config", List.of(ran::incrementAndGet));
+        loads.put("profiles", List.of(ran::incrementAndGet));
+        loads.put("images", List.of(ran::incrementAndGet, ran::incrementAndGet));
+        loader.start(loads);
+
+        Thread.sleep(50);
+        assertEquals(4, ran.get());
+        assertFalse(loader.whenInteractive().isDone(), "Still waiting for the first frame");
+
+        clock.addAndGet(20_000_000L);
+        loader.firstFrame();
+        loader.whenInteractive().get(5, TimeUnit.SECONDS);
+
+        String report = loader.report();
+        assertTrue(report.contains("config"));
+        assertTrue(report.contains("images (2)"));
+        assertTrue(report.contains("profiles"));
+        assertTrue(report.matches("(?s).*120\\.0 +first frame.*"), report);
+        assertTrue(report.indexOf("first frame") < report.indexOf("interactive"));
+    }
+
+    /**
+     * Tests that a load that fails does not stop the game becoming interactive.
+     */
+    @Test
+    public void testFailedLoadStillFinishes() throws Exception {
+        Map<String, List<Runnable>> loads = new LinkedHashMap<>();
+        loads.put("config", List.of(() -> {
+            throw new IllegalStateException("broken file");
+        }));
+        loader.start(loads);
+        loader.firstFrame();
+
+        loader.whenInteractive().get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests that loads are queued in the order given and that starting twice loads once.
+     */
+    @Test
+    public void testLoadsQueuedInOrderOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StringBuffer order = new StringBuffer();
+        Map<String, List<Runnable>> loads = new LinkedHashMap<>();
+        loads.put("busy", List.of(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        loads.put("profiles", List.of(() -> order.append("profiles ")));
+        loads.put("images", List.of(() -> order.append("image "), () -> order.append("image ")));
+        loader = new StartupLoader(Executors.newFixedThreadPool(1), clock::get, 100);
+        loader.start(loads);
+        loader.start(loads);
+
+        release.countDown();
+        loader.firstFrame();
+        loader.whenInteractive().get(5, TimeUnit.SECONDS);
+        assertEquals("profiles image image ", order.toString());
+    }
+}
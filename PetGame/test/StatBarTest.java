@@ -0,0 +1,108 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import javax.swing.SwingUtilities;
+
+/**
+ * Unit tests for {@link StatBar} and {@link AnimationClock}, stepping a fake clock by hand on the
+ * Event Dispatch Thread so no test has to wait.
+ */
+public class StatBarTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private long now;
+    private AnimationClock clock;
+    private StatBar bar;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        now = 1_000 * MILLI;
+        SwingUtilities.invokeAndWait(() -> {
+            clock = new AnimationClock(() -> now);
+            bar = new StatBar(Color.YELLOW, 70, clock);
+            bar.setSize(bar.getPreferredSize());
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        //Finish anything still sliding so the clock's timer stops
+        now += StatBar.TRANSITION_MILLIS * 2 * MILLI;
+        SwingUtilities.invokeAndWait(() -> clock.tick(now));
+    }
+
+    /**
+     * Tests that a new value slides in over the transition and the clock stops when it arrives.
+     */
+    @Test
+    public void testValueSlidesIn() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            bar.setValue(30);
+            assertEquals(30, bar.getValue());
+            assertEquals(70.0, bar.getShownValue(), 1e-9, "Nothing moves before the first frame");
+            assertTrue(clock.isRunning());
+
+            now += StatBar.TRANSITION_MILLIS / 2 * MILLI;
+            clock.tick(now);
+            assertTrue(bar.getShownValue() < 70 && bar.getShownValue() > 30, "Half way through the slide");
+            assertTrue(clock.isRunning());
+
+            now += StatBar.TRANSITION_MILLIS / 2 * MILLI;
+            clock.tick(now);
+            assertEquals(30.0, bar.getShownValue(), 1e-9);
+            assertFalse(clock.isRunning(), "The clock stops once nothing is moving");
+        });
+    }
+
+    /**
+     * Tests that a change in the middle of a slide starts from where the bar is drawn, not where it was going.
+     */
+    @Test
+    public void testChangeDuringSlideStartsFromShownValue() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            bar.setValue(30);
+            now += StatBar.TRANSITION_MILLIS / 2 * MILLI;
+            clock.tick(now);
+            double shown = bar.getShownValue();
+
+            bar.setValue(100);
+            clock.tick(now);
+            assertEquals(shown, bar.getShownValue(), 1e-9);
+        });
+    }
+
+    /**
+     * Tests that values are kept between 0 and 100 and setting the same value does not start the clock.
+     */
+    @Test
+    public void testValuesAreClamped() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            bar.setValue(70);
+            assertFalse(clock.isRunning());
+
+            bar.setValue(250);
+            assertEquals(StatBar.MAX_VALUE, bar.getValue());
+            bar.setValue(-5);
+            assertEquals(0, bar.getValue());
+        });
+    }
+
+    /**
+     * Tests that the bar paints its outline and fills the part of the inside its value covers.
+     */
+    @Test
+    public void testPaintFillsValue() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            BufferedImage image = new BufferedImage(bar.getWidth(), bar.getHeight(), BufferedImage.TYPE_INT_RGB);
+            bar.paint(image.getGraphics());
+
+            int middle = bar.getHeight() / 2;
+            assertEquals(Color.BLACK.getRGB(), image.getRGB(0, middle));
+            assertEquals(Color.YELLOW.getRGB(), image.getRGB(2 + 139, middle), "70 fills 140 of 200 pixels");
+            assertEquals(Color.WHITE.getRGB(), image.getRGB(2 + 140, middle));
+        });
+    }
+}
@@ -0,0 +1,125 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for {@link StatDecay}, ticking by hand so no test has to wait.
+ */
+public class StatDecayTest {
+
+    private StatDecay decay;
+
+    @BeforeEach
+    public void setUp() {
+        //Happiness every 4 ticks, sleep every 3, hunger every 2, health penalty every 5
+        decay = new StatDecay(new int[] {4, 0, 3, 2}, 5, 10);
+    }
+
+    /**
+     * Tests that each stat loses a point on its own interval and health does not decay by itself.
+     */
+    @Test
+    public void testStatsDecayAtTheirRates() {
+        int[] stats = {70, 100, 70, 70};
+        for (long tick = 1; tick <= 12; tick++) {
+            decay.tick(tick, stats);
+        }
+
+        assertArrayEquals(new int[] {67, 100, 66, 64}, stats);
+    }
+
+    /**
+     * Tests that ticks between intervals report no change.
+     */
+    @Test
+    public void testQuietTickReportsNoChange() {
+        int[] stats = {70, 100, 70, 70};
+
+        assertFalse(decay.tick(1, stats));
+        assertTrue(decay.tick(2, stats));
+    }
+
+    /**
+     * Tests that health is only lost while another stat is at 0, and never goes below 0.
+     */
+    @Test
+    public void testHealthPenaltyWhileStatIsEmpty() {
+        int[] stats = {70, 15, 70, 1};
+
+        decay.tick(2, stats);
+        assertEquals(0, stats[PetSimulationEngine.HUNGER]);
+        assertEquals(15, stats[PetSimulationEngine.HEALTH], "No penalty off the penalty interval");
+
+        decay.tick(5, stats);
+        assertEquals(5, stats[PetSimulationEngine.HEALTH]);
+        decay.tick(10, stats);
+        assertEquals(0, stats[PetSimulationEngine.HEALTH]);
+        assertEquals(0, stats[PetSimulationEngine.HUNGER], "Stats do not go below 0");
+    }
+
+    /**
+     * Tests that fast forwarding gives exactly the same stats as ticking, including when stats run out part way.
+     */
+    @Test
+    public void testFastForwardMatchesTicking() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int run = 0; run < 500; run++) {
+            StatDecay rules = new StatDecay(new int[] {random.nextInt(6), 0, random.nextInt(6), random.nextInt(6)},
+                    random.nextInt(8), 1 + random.nextInt(15));
+            int[] start = {random.nextInt(101), 1 + random.nextInt(100), random.nextInt(101), random.nextInt(101)};
+            long fromTick = random.nextInt(50);
+            long seconds = random.nextInt(600);
+
+            int[] ticked = start.clone();
+            for (long tick = fromTick + 1; tick <= fromTick + seconds; tick++) {
+                rules.tick(tick, ticked);
+            }
+            int[] fast = start.clone();
+            rules.fastForward(fromTick, seconds, fast);
+
+            assertArrayEquals(ticked, fast, "Run " + run + " from " + Arrays.toString(start));
+        }
+    }
+
+    /**
+     * Tests that a loaded game is caught up on the time since it was saved, and a clock set back gives no time.
+     */
+    @Test
+    public void testCatchUpOnLoad() {
+        GameState state = new GameState();
+        state.setHappiness(70);
+        state.setHealth(100);
+        state.setSleep(70);
+        state.setHunger(70);
+        state.setCooldownMillis(new long[] {0, 5000, 0, 0});
+        state.setSavedAtMillis(1_000_000L);
+
+        //A week away empties every stat and kills the pet
+        assertEquals(7L * 24 * 60 * 60, decay.catchUp(state, 1_000_000L + 7L * 24 * 60 * 60 * 1000));
+        assertEquals(0, state.getHealth());
+        assertEquals(0, state.getHunger());
+        assertArrayEquals(new long[] {0, 0, 0, 0}, state.getCooldownMillis());
+
+        state.setHealth(100);
+        state.setHunger(70);
+        state.setSavedAtMillis(5_000_000L);
+        assertEquals(0, decay.catchUp(state, 1_000_000L));
+        assertEquals(70, state.getHunger());
+    }
+
+    /**
+     * Tests that the rates are read from the config file's statDecay block.
+     */
+    @Test
+    public void testRatesFromConfig() {
+        GameConfig config = GameConfig.parse("{\"gameSession\": {\"statDecay\": {\"hunger\": 30, \"healthPenalty\": 60}}}");
+        StatDecay fromConfig = StatDecay.fromConfig(config);
+
+        assertEquals(30, fromConfig.getSecondsPerPoint(PetSimulationEngine.HUNGER));
+        assertEquals(0, fromConfig.getSecondsPerPoint(PetSimulationEngine.SLEEP));
+        assertFalse(fromConfig.isIdle());
+        assertTrue(StatDecay.fromConfig(GameConfig.defaults()).isIdle(), "Without a config nothing decays");
+    }
+}
@@ -0,0 +1,102 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Unit tests for {@link TutorialPrefetcher}, with made up steps and executors that queue their work
+ * so each test decides when it runs.
+ */
+public class TutorialPrefetcherTest {
+
+    /** Screens of a made up tutorial. */
+    static class First { }
+    static class Second { }
+    static class Third { }
+
+    private List<String> events;
+    private List<Runnable> backgroundQueue;
+    private List<Runnable> screenQueue;
+    private TutorialPrefetcher prefetcher;
+
+    @BeforeEach
+    public void setUp() {
+        events = new ArrayList<>();
+        backgroundQueue = new ArrayList<>();
+        screenQueue = new ArrayList<>();
+
+        List<TutorialPrefetcher.Step> steps = new ArrayList<>();
+        steps.add(step(First.class, "first", false));
+        steps.add(step(Second.class, "second", false));
+        steps.add(step(Third.class, "third", true));
+
+        Executor background = backgroundQueue::add;
+        Executor screen = screenQueue::add;
+        prefetcher = new TutorialPrefetcher(steps, background, screen);
+    }
+
+    /**
+     * Tests that the next step's assets load in the background and its screen is built afterwards.
+     */
+    @Test
+    public void testNextStepLoadsThenBuilds() {
+        prefetcher.prefetchAfter(First.class);
+        assertTrue(events.isEmpty(), "Nothing runs on the calling thread");
+
+        runAll(backgroundQueue);
+        assertEquals(List.of("second assets"), events);
+
+        runAll(screenQueue);
+        assertEquals(List.of("second assets", "second build"), events);
+    }
+
+    /**
+     * Tests that a step is only fetched once, even if its screen is shown again.
+     */
+    @Test
+    public void testStepIsFetchedOnce() {
+        prefetcher.prefetchAfter(First.class);
+        prefetcher.prefetchAfter(First.class);
+
+        assertEquals(1, backgroundQueue.size());
+    }
+
+    /**
+     * Tests that nothing is fetched after the last step or for a screen that is not in the tutorial.
+     */
+    @Test
+    public void testNothingAfterLastStep() {
+        prefetcher.prefetchAfter(Third.class);
+        prefetcher.prefetchAfter(String.class);
+
+        assertTrue(backgroundQueue.isEmpty());
+    }
+
+    /**
+     * Tests that a step whose assets fail to load is left to be built when it is opened.
+     */
+    @Test
+    public void testFailedAssetsAreNotBuilt() {
+        prefetcher.prefetchAfter(Second.class);
+        runAll(backgroundQueue);
+
+        assertTrue(screenQueue.isEmpty());
+    }
+
+    private TutorialPrefetcher.Step step(Class<?> screen, String name, boolean fail) {
+        return new TutorialPrefetcher.Step(screen, () -> {
+            if (fail) {
+                throw new IllegalStateException("missing " + name);
+            }
+            events.add(name + " assets");
+        }, () -> events.add(name + " build"));
+    }
+
+    private static void runAll(List<Runnable> queue) {
+        List<Runnable> work = new ArrayList<>(queue);
+        queue.clear();
+        work.forEach(Runnable::run);
+    }
+}